@@ -48,6 +48,11 @@ dependencies {
 	// DB
 	runtimeOnly("com.mysql:mysql-connector-j")
 
+	// Hibernate 2차 캐시 (JCache + Caffeine) 및 통계 메트릭
+	implementation("org.hibernate.orm:hibernate-jcache")
+	implementation("com.github.ben-manes.caffeine:jcache")
+	implementation("org.hibernate.orm:hibernate-micrometer")
+
     // Test
 	// 테스트용 H2 데이터베이스
 	testImplementation("com.h2database:h2")
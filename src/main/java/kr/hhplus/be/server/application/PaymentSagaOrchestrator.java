@@ -0,0 +1,307 @@
+package kr.hhplus.be.server.application;
+
+import kr.hhplus.be.server.application.event.ReservationEventPublisher;
+import kr.hhplus.be.server.application.service.PaymentIdempotencyStore;
+import kr.hhplus.be.server.application.service.PaymentSagaStepService;
+import kr.hhplus.be.server.domain.event.ReservationCompletedEvent;
+import kr.hhplus.be.server.domain.model.Concert;
+import kr.hhplus.be.server.domain.model.Payment;
+import kr.hhplus.be.server.domain.model.PaymentSaga;
+import kr.hhplus.be.server.domain.model.PaymentSaga.SagaStatus;
+import kr.hhplus.be.server.domain.model.SeatReservation;
+import kr.hhplus.be.server.domain.port.in.AcceptPaymentUseCase;
+import kr.hhplus.be.server.domain.port.in.ProcessPaymentUseCase.ProcessPaymentCommand;
+import kr.hhplus.be.server.domain.port.out.PaymentGateway;
+import kr.hhplus.be.server.domain.repository.ConcertRepository;
+import kr.hhplus.be.server.domain.repository.PaymentRepository;
+import kr.hhplus.be.server.domain.repository.PaymentSagaRepository;
+import kr.hhplus.be.server.domain.repository.SeatReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongConsumer;
+
+/**
+ * 단계별 비동기 결제 처리 (SAGA 오케스트레이터)
+ *
+ * 접수(요청 스레드) → 잔액 차감 → 게이트웨이 → 좌석 확정/완료 (각 전용 Executor)
+ * 잔액 차감/환불은 설정된 잔액 전략(balance.strategy, 분할 계좌)을 거친다.
+ * 잔액 차감 이후 실패하면 보상 단계에서 환불하고, 게이트웨이 승인이 있었으면 승인 취소 보상을 기록한다.
+ * 각 단계의 상태는 payment_sagas에 기록되며, 멈춘 SAGA는 복구 스케줄러가 이어서 처리한다.
+ * 게이트웨이 호출은 GATEWAY_PENDING 선점에 성공한 한 곳만 보내고,
+ * 결제에 저장된 멱등성 키를 그대로 보내므로 재요청해도 게이트웨이에서 중복 승인되지 않는다.
+ */
+@Slf4j
+@Service
+public class PaymentSagaOrchestrator implements AcceptPaymentUseCase {
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentSagaRepository paymentSagaRepository;
+    private final SeatReservationRepository seatReservationRepository;
+    private final ConcertRepository concertRepository;
+    private final PaymentGateway paymentGateway;
+    private final PaymentSagaStepService stepService;
+    private final ReservationEventPublisher eventPublisher;
+    private final Executor deductExecutor;
+    private final Executor gatewayExecutor;
+    private final Executor confirmExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final PaymentIdempotencyStore idempotencyStore;
+
+    public PaymentSagaOrchestrator(PaymentRepository paymentRepository,
+                                   PaymentSagaRepository paymentSagaRepository,
+                                   SeatReservationRepository seatReservationRepository,
+                                   ConcertRepository concertRepository,
+                                   PaymentGateway paymentGateway,
+                                   PaymentSagaStepService stepService,
+                                   ReservationEventPublisher eventPublisher,
+                                   @Qualifier("paymentDeductExecutor") Executor deductExecutor,
+                                   @Qualifier("paymentGatewayExecutor") Executor gatewayExecutor,
+                                   @Qualifier("paymentConfirmExecutor") Executor confirmExecutor,
+                                   TransactionTemplate transactionTemplate,
+                                   PaymentIdempotencyStore idempotencyStore) {
+        this.paymentRepository = paymentRepository;
+        this.paymentSagaRepository = paymentSagaRepository;
+        this.seatReservationRepository = seatReservationRepository;
+        this.concertRepository = concertRepository;
+        this.paymentGateway = paymentGateway;
+        this.stepService = stepService;
+        this.eventPublisher = eventPublisher;
+        this.deductExecutor = deductExecutor;
+        this.gatewayExecutor = gatewayExecutor;
+        this.confirmExecutor = confirmExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.idempotencyStore = idempotencyStore;
+    }
+
+    /**
+     * 결제 접수: PENDING 결제와 SAGA를 저장하고, 커밋 후 잔액 차감 단계를 시작한다.
+     *
+     * 멱등성 키가 있으면 접수 응답을 Redis에 저장해 재요청은 GET 한 번으로 돌려준다 (트랜잭션/DB 접근 없음).
+     * 결제의 이후 상태는 결제 ID로 조회한다.
+     * 같은 예약의 접수는 트랜잭션 안에서 예약 행을 잠가 직렬화한다.
+     */
+    @Override
+    public Payment acceptPayment(ProcessPaymentCommand command, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return transactionTemplate.execute(status -> accept(command, null));
+        }
+        return idempotencyStore.execute(command.reservationId() + ":" + idempotencyKey, command.userId(),
+                () -> transactionTemplate.execute(status -> accept(command, idempotencyKey)));
+    }
+
+    private Payment accept(ProcessPaymentCommand command, String idempotencyKey) {
+        SeatReservation reservation = seatReservationRepository
+                .findByIdForUpdate(command.reservationId())
+                .orElseThrow(() -> new IllegalArgumentException("예약 정보를 찾을 수 없습니다."));
+
+        // Redis 응답이 만료된 뒤의 재요청 대비 (캐시 미스일 때만 조회)
+        if (idempotencyKey != null) {
+            Optional<Payment> existing = paymentRepository.findByReservationIdAndIdempotencyKey(
+                    command.reservationId(), idempotencyKey);
+            if (existing.isPresent()) {
+                if (!existing.get().getUserId().equals(command.userId())) {
+                    throw new IllegalStateException("다른 사용자의 멱등성 키입니다.");
+                }
+                return existing.get();
+            }
+        }
+
+        command.verifyQueueConcert(reservation.getConcertId());
+        if (!reservation.canBeConfirmed(command.userId())) {
+            throw new IllegalStateException("결제할 수 없는 예약입니다.");
+        }
+
+        if (paymentSagaRepository.existsByReservationIdAndStatusIn(
+                command.reservationId(), SagaStatus.unresolved())) {
+            throw new IllegalStateException("이미 처리 중인 결제입니다.");
+        }
+
+        Payment payment = paymentRepository.save(idempotencyKey != null
+                ? Payment.createWithIdempotency(command.reservationId(), command.userId(), command.amount(), idempotencyKey)
+                : Payment.create(command.reservationId(), command.userId(), command.amount()));
+        PaymentSaga saga = paymentSagaRepository.save(
+                PaymentSaga.start(payment.getId(), reservation, command.userId(), command.amount()));
+
+        log.info("[PaymentSaga] 결제 접수 - sagaId: {}, paymentId: {}, reservationId: {}",
+                saga.getId(), payment.getId(), command.reservationId());
+
+        Long sagaId = saga.getId();
+        runAfterCommit(() -> dispatch(deductExecutor, sagaId, this::runDeduct));
+        return payment;
+    }
+
+    /**
+     * 결제 상태 조회 (주 DB)
+     *
+     * 접수 직후 폴링하므로 복제 지연이 있는 복제본에서 읽으면 방금 만든 결제가 없을 수 있다.
+     * readOnly로 두지 않아 주 DB로 라우팅된다.
+     */
+    @Override
+    @Transactional
+    public Payment getPayment(Long paymentId) {
+        return paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new IllegalArgumentException("결제 정보를 찾을 수 없습니다: " + paymentId));
+    }
+
+    /**
+     * 현재 상태에서 다음 단계를 이어서 실행 (복구 스케줄러용)
+     */
+    public void resume(PaymentSaga saga) {
+        switch (saga.getStatus()) {
+            case ACCEPTED -> dispatch(deductExecutor, saga.getId(), this::runDeduct);
+            case BALANCE_DEDUCTED -> dispatch(gatewayExecutor, saga.getId(), this::runGateway);
+            case GATEWAY_PENDING -> {
+                if (stepService.reclaimStaleGatewayCall(saga)) {
+                    dispatch(gatewayExecutor, saga.getId(), this::callGateway);
+                }
+            }
+            case GATEWAY_APPROVED -> dispatch(confirmExecutor, saga.getId(), this::runConfirm);
+            case COMPENSATING -> dispatch(deductExecutor, saga.getId(), this::runCompensation);
+            default -> { }
+        }
+    }
+
+    private void runDeduct(Long sagaId) {
+        PaymentSaga saga;
+        try {
+            saga = stepService.deductBalance(sagaId);
+        } catch (Exception e) {
+            log.error("[PaymentSaga] 잔액 차감 실패 - sagaId: {}", sagaId, e);
+            stepService.fail(sagaId, "잔액 차감 실패: " + e.getMessage());
+            return;
+        }
+
+        if (saga.getStatus() == SagaStatus.BALANCE_DEDUCTED) {
+            dispatch(gatewayExecutor, sagaId, this::runGateway);
+        }
+    }
+
+    private void runGateway(Long sagaId) {
+        if (!stepService.claimGatewayCall(sagaId)) {
+            log.debug("[PaymentSaga] 게이트웨이 호출 선점 실패 (이미 진행 중) - sagaId: {}", sagaId);
+            return;
+        }
+        callGateway(sagaId);
+    }
+
+    /**
+     * 게이트웨이 호출은 비동기로 보내고, 응답이 오면 게이트웨이 Executor에서 결과를 기록한다.
+     * 응답 대기 동안 스레드와 DB 커넥션을 점유하지 않는다.
+     */
+    private void callGateway(Long sagaId) {
+        CompletableFuture<Payment> result;
+        try {
+            PaymentSaga current = paymentSagaRepository.findById(sagaId)
+                    .orElseThrow(() -> new IllegalArgumentException("결제 SAGA를 찾을 수 없습니다: " + sagaId));
+            result = paymentGateway.processPaymentAsync(getPayment(current.getPaymentId()));
+        } catch (Exception e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        result.whenComplete((processed, error) ->
+                dispatch(gatewayExecutor, sagaId, id -> onGatewayResult(id, processed, error)));
+    }
+
+    private void onGatewayResult(Long sagaId, Payment processed, Throwable error) {
+        PaymentSaga saga;
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            log.error("[PaymentSaga] 게이트웨이 처리 실패 - sagaId: {}", sagaId, cause);
+            saga = stepService.fail(sagaId, "결제 게이트웨이 오류: " + cause.getMessage());
+        } else {
+            saga = stepService.recordGatewayResult(sagaId, processed);
+        }
+
+        next(saga);
+    }
+
+    private void runConfirm(Long sagaId) {
+        PaymentSaga saga;
+        try {
+            saga = stepService.confirmAndComplete(sagaId);
+        } catch (Exception e) {
+            log.error("[PaymentSaga] 좌석 확정 실패 - sagaId: {}", sagaId, e);
+            saga = stepService.fail(sagaId, "좌석 확정 실패: " + e.getMessage());
+        }
+
+        if (saga.getStatus() == SagaStatus.COMPLETED) {
+            log.info("[PaymentSaga] 결제 완료 - sagaId: {}, paymentId: {}", sagaId, saga.getPaymentId());
+            publishReservationCompletedEvent(saga);
+        } else if (saga.getStatus() != SagaStatus.GATEWAY_APPROVED) {
+            // GATEWAY_APPROVED: 좌석은 확정됐지만 완료 기록 실패 → 복구 스케줄러가 다시 완료
+            next(saga);
+        }
+    }
+
+    private void runCompensation(Long sagaId) {
+        try {
+            stepService.compensate(sagaId);
+        } catch (Exception e) {
+            log.error("[PaymentSaga] 보상 실패 (재시도 예정) - sagaId: {}", sagaId, e);
+            stepService.recordRetryFailure(sagaId, "보상 실패: " + e.getMessage());
+        }
+    }
+
+    private void next(PaymentSaga saga) {
+        switch (saga.getStatus()) {
+            case GATEWAY_APPROVED -> dispatch(confirmExecutor, saga.getId(), this::runConfirm);
+            case COMPENSATING -> dispatch(deductExecutor, saga.getId(), this::runCompensation);
+            default -> { }
+        }
+    }
+
+    /**
+     * Executor가 포화되면 SAGA를 현재 상태로 두고 복구 스케줄러에 맡긴다.
+     */
+    private void dispatch(Executor executor, Long sagaId, LongConsumer stage) {
+        try {
+            executor.execute(() -> stage.accept(sagaId));
+        } catch (RejectedExecutionException e) {
+            log.warn("[PaymentSaga] 단계 실행 거부 (복구 대기) - sagaId: {}", sagaId);
+        }
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private void publishReservationCompletedEvent(PaymentSaga saga) {
+        try {
+            Concert concert = concertRepository.findById(saga.getConcertId())
+                    .orElseThrow(() -> new IllegalArgumentException("콘서트를 찾을 수 없습니다."));
+
+            eventPublisher.publish(new ReservationCompletedEvent(
+                    saga.getReservationId(),
+                    saga.getConcertId(),
+                    saga.getUserId(),
+                    saga.getSeatNumber(),
+                    saga.getAmount(),
+                    concert.getTitle(),
+                    saga.getTransactionId()
+            ));
+        } catch (Exception e) {
+            log.error("예약 완료 이벤트 발행 실패 - reservationId: {}", saga.getReservationId(), e);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package kr.hhplus.be.server.application;
+
+import kr.hhplus.be.server.application.event.ReservationEventPublisher;
+import kr.hhplus.be.server.application.service.MoneyLedger;
+import kr.hhplus.be.server.application.service.PaymentIdempotencyStore;
+import kr.hhplus.be.server.application.service.SeatConfirmationBatcher;
+import kr.hhplus.be.server.application.service.StripedBalanceService;
+import kr.hhplus.be.server.domain.event.ReservationCompletedEvent;
+import kr.hhplus.be.server.domain.model.Concert;
+import kr.hhplus.be.server.domain.model.Payment;
+import kr.hhplus.be.server.domain.model.PaymentCompensation;
+import kr.hhplus.be.server.domain.model.SeatReservation;
+import kr.hhplus.be.server.domain.port.in.ProcessPaymentUseCase;
+import kr.hhplus.be.server.domain.port.out.PaymentGateway;
+import kr.hhplus.be.server.domain.repository.ConcertRepository;
+import kr.hhplus.be.server.domain.repository.PaymentCompensationRepository;
+import kr.hhplus.be.server.domain.repository.PaymentRepository;
+import kr.hhplus.be.server.domain.repository.SeatReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 단일 커넥션 결제 서비스
+ *
+ * REQUIRES_NEW 중첩 없이 결제를 짧은 트랜잭션으로 나눠, 결제 1건이 커넥션을 동시에 1개만 점유한다.
+ * - 차감 트랜잭션: 잔액 차감(같은 트랜잭션에서 히스토리, 분할 계정은 분할 계좌), PENDING 결제 저장
+ * - 게이트웨이 승인: 커밋 후 트랜잭션 밖에서 호출해 잔액 행 잠금을 잡은 채 PG 응답을 기다리지 않는다
+ * - 좌석 확정과 잔여석 감소: 좌석 확정 배처가 콘서트별로 묶어 반영
+ * - 확정되면 결제를 완료하고, 차감 이후 실패하면 환불과 (승인 시) 승인 취소 보상 기록 후 결제를 실패 처리한다
+ * - 차감 트랜잭션이 실패하면 롤백으로 DB 변경을 되돌리고 실패 결제만 남긴다
+ * 같은 예약의 결제는 예약 행 잠금과 PENDING 결제 확인으로 한 건만 진행하고,
+ * 멱등성 키가 있으면 완료된 재요청은 Redis에 저장된 응답으로 돌려준다 (트랜잭션/DB 접근 없음).
+ */
+@Slf4j
+@Service("singleConnectionPaymentService")
+public class SingleConnectionPaymentService implements ProcessPaymentUseCase {
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentGateway paymentGateway;
+    private final MoneyLedger balanceLedger;
+    private final StripedBalanceService stripedBalanceService;
+    private final SeatReservationRepository seatReservationRepository;
+    private final ConcertRepository concertRepository;
+    private final SeatConfirmationBatcher seatConfirmationBatcher;
+    private final PaymentCompensationRepository compensationRepository;
+    private final ReservationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final PaymentIdempotencyStore idempotencyStore;
+
+    public SingleConnectionPaymentService(PaymentRepository paymentRepository,
+                                          PaymentGateway paymentGateway,
+                                          @Qualifier("balanceLedger") MoneyLedger balanceLedger,
+                                          StripedBalanceService stripedBalanceService,
+                                          SeatReservationRepository seatReservationRepository,
+                                          ConcertRepository concertRepository,
+                                          SeatConfirmationBatcher seatConfirmationBatcher,
+                                          PaymentCompensationRepository compensationRepository,
+                                          ReservationEventPublisher eventPublisher,
+                                          TransactionTemplate transactionTemplate,
+                                          PaymentIdempotencyStore idempotencyStore) {
+        this.paymentRepository = paymentRepository;
+        this.paymentGateway = paymentGateway;
+        this.balanceLedger = balanceLedger;
+        this.stripedBalanceService = stripedBalanceService;
+        this.seatReservationRepository = seatReservationRepository;
+        this.concertRepository = concertRepository;
+        this.seatConfirmationBatcher = seatConfirmationBatcher;
+        this.compensationRepository = compensationRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.idempotencyStore = idempotencyStore;
+    }
+
+    @Override
+    public Payment processPayment(ProcessPaymentCommand command) {
+        return processPayment(command, null);
+    }
+
+    @Override
+    public Payment processPayment(ProcessPaymentCommand command, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return process(command, null);
+        }
+        return idempotencyStore.execute(command.reservationId() + ":" + idempotencyKey, command.userId(),
+                () -> process(command, idempotencyKey));
+    }
+
+    private Payment process(ProcessPaymentCommand command, String idempotencyKey) {
+        Deduction deduction;
+        try {
+            deduction = transactionTemplate.execute(status -> deduct(command, idempotencyKey));
+        } catch (RuntimeException e) {
+            log.error("[SingleConnectionPayment] 결제 실패 - reservationId: {}, userId: {}",
+                    command.reservationId(), command.userId(), e);
+            return recordFailure(command, idempotencyKey, e);
+        }
+
+        if (deduction.reservation() == null) {
+            return deduction.payment();
+        }
+
+        // 게이트웨이는 트랜잭션 밖에서 호출 (잔액 행 잠금과 커넥션을 잡지 않는다)
+        Payment pendingPayment = deduction.payment();
+        Payment approvedPayment;
+        try {
+            approvedPayment = authorize(pendingPayment);
+        } catch (RuntimeException e) {
+            log.error("[SingleConnectionPayment] 게이트웨이 승인 실패 - reservationId: {}, userId: {}",
+                    command.reservationId(), command.userId(), e);
+            return refund(command, pendingPayment, null, e.getMessage());
+        }
+
+        return confirmAndComplete(command, deduction.reservation(), pendingPayment, approvedPayment);
+    }
+
+    /**
+     * 차감 트랜잭션: 예약 확인 → 잔액 차감 → PENDING 결제 저장
+     *
+     * @return 차감 결과 (같은 키의 기존 결제를 찾았으면 예약 없이 기존 결제만 담는다)
+     */
+    private Deduction deduct(ProcessPaymentCommand command, String idempotencyKey) {
+        SeatReservation reservation = seatReservationRepository.findByIdForUpdate(command.reservationId())
+                .orElseThrow(() -> new IllegalArgumentException("예약 정보를 찾을 수 없습니다."));
+
+        // Redis 응답이 만료된 뒤의 재요청 대비 (캐시 미스일 때만 조회)
+        if (idempotencyKey != null) {
+            Optional<Payment> existing = paymentRepository.findByReservationIdAndIdempotencyKey(
+                    command.reservationId(), idempotencyKey);
+            if (existing.isPresent()) {
+                if (!existing.get().getUserId().equals(command.userId())) {
+                    throw new IllegalStateException("다른 사용자의 멱등성 키입니다.");
+                }
+                return new Deduction(null, existing.get());
+            }
+        }
+
+        command.verifyQueueConcert(reservation.getConcertId());
+        if (!reservation.canBeConfirmed(command.userId())) {
+            throw new IllegalStateException("결제할 수 없는 예약입니다.");
+        }
+        // 승인/좌석 확정은 커밋 이후라, 그 전까지는 PENDING 결제로 같은 예약의 중복 결제를 막는다
+        if (paymentRepository.existsByReservationIdAndStatus(command.reservationId(), Payment.PaymentStatus.PENDING)) {
+            throw new IllegalStateException("이미 처리 중인 결제입니다.");
+        }
+
+        deductBalance(command.userId(), command.amount());
+
+        return new Deduction(reservation, paymentRepository.save(newPayment(command, idempotencyKey)));
+    }
+
+    private Payment authorize(Payment pendingPayment) {
+        Payment processedPayment = paymentGateway.processPayment(pendingPayment);
+        if (processedPayment.getStatus() != Payment.PaymentStatus.COMPLETED) {
+            throw new IllegalStateException(processedPayment.getFailureReason() != null
+                    ? processedPayment.getFailureReason() : "결제 게이트웨이 처리 실패");
+        }
+        return processedPayment;
+    }
+
+    /**
+     * 좌석 확정 배처로 확정한 뒤 결제 완료 (거절되면 환불 후 실패 처리)
+     */
+    private Payment confirmAndComplete(ProcessPaymentCommand command, SeatReservation reservation,
+                                       Payment pendingPayment, Payment approvedPayment) {
+        String rejection;
+        try {
+            rejection = confirmSeat(reservation, command.userId())
+                    ? null : "확정할 수 있는 예약이 없습니다. (만료되었거나 다른 사용자의 예약)";
+        } catch (RuntimeException e) {
+            log.error("[SingleConnectionPayment] 좌석 확정 실패 - reservationId: {}", command.reservationId(), e);
+            rejection = "좌석 확정 실패: " + e.getMessage();
+        }
+        if (rejection != null) {
+            return refund(command, pendingPayment, approvedPayment.getTransactionId(), rejection);
+        }
+
+        Payment completedPayment = transactionTemplate.execute(status -> paymentRepository.save(approvedPayment));
+        publishReservationCompletedEvent(reservation, command, approvedPayment.getTransactionId());
+        return completedPayment;
+    }
+
+    private boolean confirmSeat(SeatReservation reservation, Long userId) {
+        try {
+            return seatConfirmationBatcher.confirm(reservation.getConcertId(), reservation.getSeatNumber(), userId).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 차감 이후 실패: 환불, (게이트웨이 승인 시) 승인 취소 보상 기록, 결제 실패를 한 트랜잭션으로 저장
+     */
+    private Payment refund(ProcessPaymentCommand command, Payment pendingPayment, String transactionId, String reason) {
+        return transactionTemplate.execute(status -> {
+            balanceLedger.credit(command.userId(), command.amount(), "결제 취소 환불");
+            if (transactionId != null) {
+                compensationRepository.save(PaymentCompensation.gatewayCancel(
+                        command.reservationId(),
+                        command.userId(),
+                        command.amount(),
+                        transactionId,
+                        reason));
+                log.warn("[SingleConnectionPayment] 게이트웨이 승인 취소 보상 기록 - reservationId: {}, transactionId: {}",
+                        command.reservationId(), transactionId);
+            }
+            return paymentRepository.save(pendingPayment.fail("결제 처리 중 오류: " + reason));
+        });
+    }
+
+    /**
+     * 본 계좌에서 차감하고, 부족하면 분할 계정인지 확인해 분할 계좌에서 차감 (모두 현재 트랜잭션)
+     */
+    private void deductBalance(Long userId, Long amount) {
+        if (balanceLedger.debit(userId, amount, "잔액 차감").isPresent()) {
+            return;
+        }
+        if (stripedBalanceService.isStriped(userId)) {
+            stripedBalanceService.deductInCurrentTransaction(userId, amount);
+            return;
+        }
+        throw new IllegalStateException("잔액이 부족합니다.");
+    }
+
+    /**
+     * 차감 트랜잭션 롤백 이후 실패 결제 저장
+     */
+    private Payment recordFailure(ProcessPaymentCommand command, String idempotencyKey, RuntimeException cause) {
+        return transactionTemplate.execute(status -> paymentRepository.save(
+                newPayment(command, idempotencyKey).fail("결제 처리 중 오류: " + cause.getMessage())));
+    }
+
+    private static Payment newPayment(ProcessPaymentCommand command, String idempotencyKey) {
+        return idempotencyKey != null
+                ? Payment.createWithIdempotency(command.reservationId(), command.userId(), command.amount(), idempotencyKey)
+                : Payment.create(command.reservationId(), command.userId(), command.amount());
+    }
+
+    private void publishReservationCompletedEvent(SeatReservation reservation, ProcessPaymentCommand command,
+                                                  String transactionId) {
+        try {
+            Concert concert = concertRepository.findById(reservation.getConcertId())
+                    .orElseThrow(() -> new IllegalArgumentException("콘서트를 찾을 수 없습니다."));
+
+            eventPublisher.publish(new ReservationCompletedEvent(
+                    reservation.getId(),
+                    reservation.getConcertId(),
+                    command.userId(),
+                    reservation.getSeatNumber(),
+                    command.amount(),
+                    concert.getTitle(),
+                    transactionId
+            ));
+        } catch (Exception e) {
+            log.error("예약 완료 이벤트 발행 실패 - reservationId: {}", reservation.getId(), e);
+        }
+    }
+
+    /**
+     * 차감 트랜잭션 결과
+     *
+     * @param payment 저장된 PENDING 결제 (같은 키의 기존 결제면 그 결제)
+     */
+    private record Deduction(SeatReservation reservation, Payment payment) {
+    }
+}
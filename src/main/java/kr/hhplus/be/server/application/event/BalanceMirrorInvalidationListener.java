@@ -0,0 +1,35 @@
+package kr.hhplus.be.server.application.event;
+
+import kr.hhplus.be.server.application.service.BalanceHoldLedger;
+import kr.hhplus.be.server.domain.event.UserBalanceChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Redis 잔액 미러 무효화 (balance.strategy=redis-hold 일 때만 동작)
+ *
+ * 분산락 서비스, 원장, 분할 계정 등 홀드 경로 밖에서 user_balances가 바뀌면
+ * 커밋 후 미러를 지워 다음 홀드 때 MySQL에서 다시 적재하게 한다.
+ * 무효화에 실패하면 대사 스케줄러가 불일치를 찾아 다시 무효화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "balance.strategy", havingValue = "redis-hold")
+public class BalanceMirrorInvalidationListener {
+
+    private final BalanceHoldLedger ledger;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBalanceChanged(UserBalanceChangedEvent event) {
+        try {
+            ledger.invalidate(event.userId());
+        } catch (Exception e) {
+            log.error("[BalanceHold] 잔액 미러 무효화 실패 - userId: {}, error: {}", event.userId(), e.getMessage());
+        }
+    }
+}
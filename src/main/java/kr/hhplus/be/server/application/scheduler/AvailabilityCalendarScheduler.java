@@ -0,0 +1,37 @@
+package kr.hhplus.be.server.application.scheduler;
+
+import kr.hhplus.be.server.application.service.AvailabilityCalendarService;
+import kr.hhplus.be.server.infrastructure.lock.LockAcquisitionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 가능 캘린더 전체 재계산 스케줄러
+ *
+ * 기동 시와 주기적으로 실행하되, 재계산 락을 잡은 한 노드만 실제로 재계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailabilityCalendarScheduler {
+
+    private final AvailabilityCalendarService availabilityCalendarService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${concert.calendar.rebuild-millis:600000}",
+            fixedDelayString = "${concert.calendar.rebuild-millis:600000}")
+    public void rebuild() {
+        try {
+            availabilityCalendarService.rebuild();
+        } catch (LockAcquisitionException e) {
+            // 다른 노드가 재계산 락을 보유 중
+            log.debug("[Calendar] 전체 재계산 건너뜀 - {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("[Calendar] 전체 재계산 실패 - 기존 캘린더 유지", e);
+        }
+    }
+}
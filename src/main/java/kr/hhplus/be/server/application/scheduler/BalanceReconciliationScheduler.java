@@ -0,0 +1,144 @@
+package kr.hhplus.be.server.application.scheduler;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.application.service.BalanceHoldLedger;
+import kr.hhplus.be.server.application.service.BalanceHoldLedger.LedgerSnapshot;
+import kr.hhplus.be.server.application.service.BalanceHoldLedger.SettlementEntry;
+import kr.hhplus.be.server.application.service.BalanceSettlementWriter;
+import kr.hhplus.be.server.domain.model.UserBalance;
+import kr.hhplus.be.server.domain.repository.UserBalanceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 잔액 미러 대사 스케줄러 (balance.strategy=redis-hold 일 때만 동작)
+ *
+ * 1. 정산에 실패한 항목을 다시 정산한다 (성공하면 홀드 제거, 실패하면 홀드를 유지해 사용 가능 잔액에서 계속 뺀다)
+ * 2. 미러링 중인 사용자마다 Redis(사용 가능 잔액 + 정산 전 홀드)와 MySQL 잔액을 비교하고,
+ *    불일치한 사용자의 미러를 무효화해 다음 홀드 때 MySQL에서 다시 적재하게 한다.
+ * 정산과 같은 락을 잡아 정산 도중의 중간 상태를 불일치로 보지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "balance.strategy", havingValue = "redis-hold")
+public class BalanceReconciliationScheduler {
+
+    private final BalanceHoldLedger ledger;
+    private final UserBalanceRepository userBalanceRepository;
+    private final BalanceSettlementWriter settlementWriter;
+    private final RedissonClient redissonClient;
+    private final int batchSize;
+
+    private final AtomicLong mismatchedUsers = new AtomicLong();
+    private final AtomicLong totalDrift = new AtomicLong();
+
+    public BalanceReconciliationScheduler(BalanceHoldLedger ledger,
+                                          UserBalanceRepository userBalanceRepository,
+                                          BalanceSettlementWriter settlementWriter,
+                                          RedissonClient redissonClient,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${balance.hold.settlement.batch-size:500}") int batchSize) {
+        this.ledger = ledger;
+        this.userBalanceRepository = userBalanceRepository;
+        this.settlementWriter = settlementWriter;
+        this.redissonClient = redissonClient;
+        this.batchSize = batchSize;
+
+        Gauge.builder("balance.ledger.mismatched.users", mismatchedUsers, AtomicLong::get)
+                .register(meterRegistry);
+        Gauge.builder("balance.ledger.total.drift", totalDrift, AtomicLong::get)
+                .register(meterRegistry);
+        Gauge.builder("balance.hold.settlement.failed.pending", ledger, BalanceHoldLedger::failedCount)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${balance.hold.reconciliation.fixed-delay-millis:300000}")
+    public void reconcile() {
+        RLock lock = redissonClient.getLock(BalanceHoldLedger.SETTLEMENT_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            retryFailedSettlements();
+            reconcileAll();
+        } catch (Exception e) {
+            log.error("[BalanceReconciliation] 대사 실패 - error: {}", e.getMessage(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실패 항목 재정산 (한 번에 batch-size건)
+     *
+     * @return 재정산에 성공한 항목 수
+     */
+    int retryFailedSettlements() {
+        List<SettlementEntry> entries = ledger.peekFailed(batchSize);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        List<SettlementEntry> stillFailed = settlementWriter.settle(entries);
+        List<SettlementEntry> resolved = entries.stream()
+                .filter(entry -> !stillFailed.contains(entry))
+                .toList();
+        ledger.resolveFailed(resolved);
+
+        if (!stillFailed.isEmpty()) {
+            log.error("[BalanceReconciliation] 재정산 실패 항목 - {}건 (홀드 유지)", stillFailed.size());
+        }
+        return resolved.size();
+    }
+
+    /**
+     * @return 불일치 사용자 수
+     */
+    long reconcileAll() {
+        long redisTotal = 0;
+        long mysqlTotal = 0;
+        long mismatched = 0;
+
+        for (String member : ledger.mirroredUsers()) {
+            Long userId = Long.valueOf(member);
+            LedgerSnapshot snapshot = ledger.snapshot(userId);
+            if (snapshot == null) {
+                continue;
+            }
+
+            long persisted = userBalanceRepository.findByUserId(userId)
+                    .map(UserBalance::getBalance)
+                    .orElse(0L);
+            long mirrored = snapshot.available() + snapshot.held();
+
+            redisTotal += mirrored;
+            mysqlTotal += persisted;
+            if (mirrored != persisted) {
+                mismatched++;
+                log.warn("[BalanceReconciliation] 잔액 불일치로 미러 무효화 - userId: {}, redis: {} (가용 {} + 홀드 {}), mysql: {}",
+                        userId, mirrored, snapshot.available(), snapshot.held(), persisted);
+                ledger.invalidate(userId);
+            }
+        }
+
+        mismatchedUsers.set(mismatched);
+        totalDrift.set(redisTotal - mysqlTotal);
+
+        if (mismatched > 0) {
+            log.error("[BalanceReconciliation] 합계 불일치 - redis: {}, mysql: {}, 불일치 사용자: {}",
+                    redisTotal, mysqlTotal, mismatched);
+        } else {
+            log.info("[BalanceReconciliation] 대사 완료 - 합계: {}", mysqlTotal);
+        }
+        return mismatched;
+    }
+}
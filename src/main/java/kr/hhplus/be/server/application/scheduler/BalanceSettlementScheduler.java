@@ -0,0 +1,88 @@
+package kr.hhplus.be.server.application.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.application.service.BalanceHoldLedger;
+import kr.hhplus.be.server.application.service.BalanceHoldLedger.SettlementEntry;
+import kr.hhplus.be.server.application.service.BalanceSettlementWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 잔액 홀드 정산 스케줄러 (balance.strategy=redis-hold 일 때만 동작)
+ *
+ * 정산 대기열 앞에서부터 batch-size건씩 MySQL에 반영한다.
+ * 한 노드만 정산하도록 락을 잡고, 락을 얻지 못하면 이번 주기는 건너뛴다.
+ * 반영에 실패한 항목은 홀드를 남겨 둔 채 실패 목록으로 옮기고 대사 스케줄러가 재정산한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "balance.strategy", havingValue = "redis-hold")
+public class BalanceSettlementScheduler {
+
+    private final BalanceHoldLedger ledger;
+    private final BalanceSettlementWriter settlementWriter;
+    private final RedissonClient redissonClient;
+    private final int batchSize;
+    private final Counter settledCounter;
+    private final Counter failedCounter;
+
+    public BalanceSettlementScheduler(
+            BalanceHoldLedger ledger,
+            BalanceSettlementWriter settlementWriter,
+            RedissonClient redissonClient,
+            MeterRegistry meterRegistry,
+            @Value("${balance.hold.settlement.batch-size:500}") int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("정산 배치 크기는 1 이상이어야 합니다.");
+        }
+        this.ledger = ledger;
+        this.settlementWriter = settlementWriter;
+        this.redissonClient = redissonClient;
+        this.batchSize = batchSize;
+        this.settledCounter = meterRegistry.counter("balance.hold.settlement", "result", "settled");
+        this.failedCounter = meterRegistry.counter("balance.hold.settlement", "result", "failed");
+    }
+
+    @Scheduled(fixedDelayString = "${balance.hold.settlement.fixed-delay-millis:200}")
+    public void settlePendingHolds() {
+        RLock lock = redissonClient.getLock(BalanceHoldLedger.SETTLEMENT_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            settleBatch();
+        } catch (Exception e) {
+            log.error("[BalanceSettlement] 정산 실패 - error: {}", e.getMessage(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 한 배치 정산 (MySQL 커밋 후 Redis 홀드/대기열 정리)
+     *
+     * @return 처리한 항목 수
+     */
+    int settleBatch() {
+        List<SettlementEntry> entries = ledger.peekSettlements(batchSize);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        List<SettlementEntry> claimed = ledger.claimSettlements(entries);
+        List<SettlementEntry> failed = claimed.isEmpty() ? List.of() : settlementWriter.settle(claimed);
+        ledger.completeSettlements(entries, failed);
+
+        settledCounter.increment(claimed.size() - failed.size());
+        failedCounter.increment(failed.size());
+        return entries.size();
+    }
+}
@@ -0,0 +1,32 @@
+package kr.hhplus.be.server.application.scheduler;
+
+import kr.hhplus.be.server.application.service.ExpiredTokenCleanupService;
+import kr.hhplus.be.server.infrastructure.lock.LockAcquisitionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 토큰 정리 스케줄러
+ *
+ * 정리 락을 잡은 한 노드만 실제로 삭제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpiredTokenCleanupScheduler {
+
+    private final ExpiredTokenCleanupService expiredTokenCleanupService;
+
+    // 10분마다 실행
+    @Scheduled(fixedDelayString = "${queue.cleanup.fixed-delay-millis:600000}")
+    public void cleanupExpiredTokens() {
+        try {
+            expiredTokenCleanupService.cleanupExpiredTokens();
+        } catch (LockAcquisitionException e) {
+            // 다른 노드가 정리 락을 보유 중
+            log.debug("[TokenCleanup] 정리 건너뜀 - {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package kr.hhplus.be.server.application.scheduler;
+
+import kr.hhplus.be.server.application.PaymentSagaOrchestrator;
+import kr.hhplus.be.server.application.service.PaymentSagaStepService;
+import kr.hhplus.be.server.domain.model.PaymentSaga;
+import kr.hhplus.be.server.domain.model.PaymentSaga.SagaStatus;
+import kr.hhplus.be.server.domain.repository.PaymentSagaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 멈춘 결제 SAGA 복구 스케줄러
+ *
+ * 서버 재시작이나 Executor 포화로 다음 단계가 실행되지 않은 SAGA를 이어서 처리한다.
+ * 대상은 ID 순으로 batch-size씩 나눠 조회한다.
+ * 잔액 차감/환불 도중 멈췄거나 재시도 한도를 넘긴 SAGA는 NEEDS_MANUAL로 옮기고 한 번만 알린다.
+ */
+@Slf4j
+@Component
+public class PaymentSagaRecoveryScheduler {
+
+    private static final int STALE_MINUTES = 1;
+    private static final int MAX_RETRY_COUNT = 10;
+
+    private final PaymentSagaRepository paymentSagaRepository;
+    private final PaymentSagaOrchestrator paymentSagaOrchestrator;
+    private final PaymentSagaStepService stepService;
+    private final int batchSize;
+
+    public PaymentSagaRecoveryScheduler(PaymentSagaRepository paymentSagaRepository,
+                                        PaymentSagaOrchestrator paymentSagaOrchestrator,
+                                        PaymentSagaStepService stepService,
+                                        @Value("${payment.saga.recovery.batch-size:200}") int batchSize) {
+        this.paymentSagaRepository = paymentSagaRepository;
+        this.paymentSagaOrchestrator = paymentSagaOrchestrator;
+        this.stepService = stepService;
+        this.batchSize = batchSize;
+    }
+
+    // 30초마다 실행
+    @Scheduled(fixedDelay = 30000)
+    public void resumeStaleSagas() {
+        LocalDateTime staleBefore = LocalDateTime.now().minusMinutes(STALE_MINUTES);
+        long lastId = 0L;
+        int total = 0;
+
+        while (true) {
+            List<PaymentSaga> staleSagas = paymentSagaRepository
+                    .findByStatusInAndUpdatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                            SagaStatus.inProgress(), staleBefore, lastId, PageRequest.of(0, batchSize));
+
+            for (PaymentSaga saga : staleSagas) {
+                recover(saga);
+            }
+            total += staleSagas.size();
+
+            if (staleSagas.size() < batchSize) {
+                break;
+            }
+            lastId = staleSagas.get(staleSagas.size() - 1).getId();
+        }
+
+        if (total > 0) {
+            log.info("[PaymentSagaRecovery] 복구 대상 {}건 처리", total);
+        }
+    }
+
+    private void recover(PaymentSaga saga) {
+        if (saga.getRetryCount() >= MAX_RETRY_COUNT) {
+            if (stepService.parkForManualHandling(saga)) {
+                log.error("[CRITICAL] 결제 SAGA 재시도 한도 초과 (수동 처리 대기) - sagaId: {}, status: {}, reason: {}",
+                        saga.getId(), saga.getStatus(), saga.getFailureReason());
+            }
+            return;
+        }
+        if (saga.getStatus().isInDoubt()) {
+            // 잔액 전략 호출 중 중단되어 반영 여부를 알 수 없음 → 잔액 히스토리 확인 후 수동 처리
+            if (stepService.parkForManualHandling(saga)) {
+                log.error("[CRITICAL] 결제 SAGA 잔액 반영 여부 확인 필요 (수동 처리 대기) - sagaId: {}, status: {}, userId: {}, amount: {}",
+                        saga.getId(), saga.getStatus(), saga.getUserId(), saga.getAmount());
+            }
+            return;
+        }
+        paymentSagaOrchestrator.resume(saga);
+    }
+}
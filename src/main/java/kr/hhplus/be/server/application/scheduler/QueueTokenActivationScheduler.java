@@ -0,0 +1,43 @@
+package kr.hhplus.be.server.application.scheduler;
+
+import kr.hhplus.be.server.application.service.QueueTokenActivationService;
+import kr.hhplus.be.server.infrastructure.lock.LockAcquisitionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 토큰 만료/활성화 스케줄러
+ *
+ * 만료 처리를 먼저 해서 빈 자리를 확보한 뒤 대기 토큰을 활성화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueTokenActivationScheduler {
+
+    private final QueueTokenActivationService queueTokenActivationService;
+
+    // 1초마다 실행
+    @Scheduled(fixedDelayString = "${queue.activation.fixed-delay-millis:1000}")
+    public void activate() {
+        try {
+            queueTokenActivationService.expireTokens();
+        } catch (LockAcquisitionException e) {
+            // 다른 노드가 만료 락을 보유 중
+            log.debug("[QueueActivation] 만료 건너뜀 - {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("[QueueActivation] 만료 실패 - error: {}", e.getMessage(), e);
+        }
+
+        try {
+            queueTokenActivationService.activateWaitingTokens();
+        } catch (LockAcquisitionException e) {
+            // 다른 노드가 활성화 락을 보유 중
+            log.debug("[QueueActivation] 활성화 건너뜀 - {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("[QueueActivation] 활성화 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+}
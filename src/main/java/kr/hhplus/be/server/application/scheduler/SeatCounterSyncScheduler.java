@@ -0,0 +1,37 @@
+package kr.hhplus.be.server.application.scheduler;
+
+import kr.hhplus.be.server.domain.repository.ConcertRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 잔여석 분할 카운터 동기화 스케줄러 (seat.counter.sharding.enabled=true 일 때만 동작)
+ *
+ * 카운터 합계를 concerts.available_seats에 주기적으로 반영하고,
+ * 동시 차감으로 놓친 매진 처리를 보정한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "seat.counter.sharding.enabled", havingValue = "true")
+public class SeatCounterSyncScheduler {
+
+    private final ConcertRepository concertRepository;
+
+    public SeatCounterSyncScheduler(ConcertRepository concertRepository) {
+        this.concertRepository = concertRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${seat.counter.sync.fixed-delay-millis:1000}")
+    public void syncAvailableSeats() {
+        try {
+            int updated = concertRepository.syncAvailableSeatsFromCounters();
+            if (updated > 0) {
+                log.debug("[SeatCounter] 잔여석 동기화 - 콘서트: {}건", updated);
+            }
+        } catch (RuntimeException e) {
+            log.error("[SeatCounter] 잔여석 동기화 실패", e);
+        }
+    }
+}
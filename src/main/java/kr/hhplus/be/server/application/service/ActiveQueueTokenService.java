@@ -0,0 +1,136 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.domain.model.QueueToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 활성 대기열 토큰 검증 서비스
+ *
+ * 원본: Redis (queue:active:{token} → "userId:concertId", 토큰 만료 시각까지 TTL)
+ * 토큰은 발급된 콘서트에만 유효하므로 사용자와 함께 콘서트 ID도 돌려준다.
+ * 노드 로컬 캐시: 짧은 TTL 동안 활성 토큰만 보관해 요청마다 Redis를 조회하지 않는다.
+ * 만료/회수된 토큰은 최대 로컬 TTL 동안 허용될 수 있다.
+ */
+@Slf4j
+@Service
+public class ActiveQueueTokenService {
+
+    private static final String ACTIVE_TOKEN_KEY_PREFIX = "queue:active:";
+    private static final String VALUE_DELIMITER = ":";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long localTtlNanos;
+    private final int localMaxSize;
+    private final Map<String, CachedToken> localCache = new ConcurrentHashMap<>();
+
+    public ActiveQueueTokenService(
+            @Qualifier("rankingRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            @Value("${queue.active-token.local-ttl-millis:2000}") long localTtlMillis,
+            @Value("${queue.active-token.local-max-size:100000}") int localMaxSize) {
+        this.redisTemplate = redisTemplate;
+        this.localTtlNanos = Duration.ofMillis(localTtlMillis).toNanos();
+        this.localMaxSize = localMaxSize;
+    }
+
+    /**
+     * 활성 토큰 등록 (토큰 활성화 시 호출)
+     */
+    public void registerActiveToken(QueueToken token) {
+        if (!token.isActive()) {
+            throw new IllegalArgumentException("활성 상태의 토큰만 등록할 수 있습니다.");
+        }
+
+        Duration ttl = Duration.between(LocalDateTime.now(), token.getExpiresAt());
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+
+        redisTemplate.opsForValue().set(activeTokenKey(token.getTokenValue()),
+                token.getUserId() + VALUE_DELIMITER + token.getConcertId(), ttl);
+        log.debug("활성 토큰 등록 - userId: {}, concertId: {}, ttl: {}s",
+                token.getUserId(), token.getConcertId(), ttl.toSeconds());
+    }
+
+    /**
+     * 활성 토큰 회수 (결제 완료/만료 시 호출)
+     */
+    public void revoke(String tokenValue) {
+        localCache.remove(tokenValue);
+        redisTemplate.delete(activeTokenKey(tokenValue));
+    }
+
+    /**
+     * 활성 토큰의 사용자/콘서트 조회 (활성 토큰이 아니면 null)
+     */
+    public ActiveToken findActiveToken(String tokenValue) {
+        if (tokenValue == null || tokenValue.isBlank()) {
+            return null;
+        }
+
+        long now = System.nanoTime();
+        CachedToken cached = localCache.get(tokenValue);
+        if (cached != null && cached.expiresAtNanos() - now > 0) {
+            return cached.token();
+        }
+
+        ActiveToken token = parse(redisTemplate.opsForValue().get(activeTokenKey(tokenValue)));
+        if (token == null) {
+            localCache.remove(tokenValue);
+            return null;
+        }
+
+        cacheLocally(tokenValue, token, now);
+        return token;
+    }
+
+    public boolean isActive(String tokenValue) {
+        return findActiveToken(tokenValue) != null;
+    }
+
+    /**
+     * 저장 값 해석 (콘서트가 없는 이전 형식은 활성 토큰으로 보지 않는다)
+     */
+    private ActiveToken parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        String[] parts = value.split(VALUE_DELIMITER);
+        if (parts.length != 2) {
+            log.debug("콘서트 정보가 없는 활성 토큰 값 무시 - value: {}", value);
+            return null;
+        }
+        return new ActiveToken(Long.valueOf(parts[0]), Long.valueOf(parts[1]));
+    }
+
+    private void cacheLocally(String tokenValue, ActiveToken token, long now) {
+        if (localCache.size() >= localMaxSize) {
+            localCache.values().removeIf(entry -> entry.expiresAtNanos() - now <= 0);
+            if (localCache.size() >= localMaxSize) {
+                localCache.clear();
+            }
+        }
+        localCache.put(tokenValue, new CachedToken(token, now + localTtlNanos));
+    }
+
+    private static String activeTokenKey(String tokenValue) {
+        return ACTIVE_TOKEN_KEY_PREFIX + tokenValue;
+    }
+
+    /**
+     * 활성 토큰 소유자와 발급 콘서트
+     */
+    public record ActiveToken(Long userId, Long concertId) {
+    }
+
+    private record CachedToken(ActiveToken token, long expiresAtNanos) {
+    }
+}
@@ -0,0 +1,309 @@
+package kr.hhplus.be.server.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kr.hhplus.be.server.domain.event.ConcertChangedEvent;
+import kr.hhplus.be.server.domain.model.AvailabilityCalendarEntry;
+import kr.hhplus.be.server.domain.model.Concert;
+import kr.hhplus.be.server.domain.model.ConcertDate;
+import kr.hhplus.be.server.domain.repository.ConcertDateRepository;
+import kr.hhplus.be.server.domain.repository.ConcertRepository;
+import kr.hhplus.be.server.infrastructure.lock.DistributedLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 가능 캘린더 (월별로 미리 계산해 Redis에 보관, 조회는 월 키 1개)
+ *
+ * - concert:calendar:{yyyyMM}  공연 일정 ID → 항목(JSON), 예약 가능한 일정만 담는다
+ * - concert:calendar:members   콘서트 ID → 올라가 있는 "yyyyMM:공연 일정 ID" 목록 (갱신 시 이전 항목 제거용)
+ * - concert:calendar:months    항목이 있는 월 목록 (전체 교체 시 사라진 월 정리용)
+ * 콘서트 변경/잔여석 변경 이벤트로 해당 콘서트를 더티로 표시하고, 짧은 주기로 모아서 콘서트 단위로 다시 계산한다.
+ * 전체 재계산은 한 노드만 staging 키에 페이지 단위로 새로 만든 뒤 한 번에 RENAME으로 교체한다.
+ */
+@Slf4j
+@Service
+public class AvailabilityCalendarService {
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final CalendarKeys LIVE = new CalendarKeys(
+            "concert:calendar:", "concert:calendar:members", "concert:calendar:months");
+    private static final CalendarKeys STAGING = new CalendarKeys(
+            "concert:calendar:staging:", "concert:calendar:staging:members", "concert:calendar:staging:months");
+    private static final String MEMBER_DELIMITER = ",";
+    // 커밋 지연과 DB/애플리케이션 시각 차이를 감안해 재계산 시작 전부터의 변경을 다시 계산한다
+    private static final Duration CHANGE_OVERLAP = Duration.ofSeconds(30);
+
+    /**
+     * staging → live 교체 (사라진 월 삭제 후 월/목록 키를 RENAME, 스크립트 하나로 원자적으로 처리)
+     * KEYS[1] = live 월 목록, KEYS[2] = staging 월 목록, KEYS[3] = live 콘서트 목록, KEYS[4] = staging 콘서트 목록
+     * ARGV[1] = live 월 키 접두사, ARGV[2] = staging 월 키 접두사
+     * @return 교체한 월 수
+     */
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>(
+            "for _, month in ipairs(redis.call('SMEMBERS', KEYS[1])) do " +
+            "  if redis.call('SISMEMBER', KEYS[2], month) == 0 then redis.call('DEL', ARGV[1] .. month) end " +
+            "end " +
+            "local months = redis.call('SMEMBERS', KEYS[2]) " +
+            "for _, month in ipairs(months) do " +
+            "  if redis.call('EXISTS', ARGV[2] .. month) == 1 then " +
+            "    redis.call('RENAME', ARGV[2] .. month, ARGV[1] .. month) " +
+            "  else redis.call('DEL', ARGV[1] .. month) end " +
+            "end " +
+            "for i = 2, 4, 2 do " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then redis.call('RENAME', KEYS[i], KEYS[i - 1]) " +
+            "  else redis.call('DEL', KEYS[i - 1]) end " +
+            "end " +
+            "return #months",
+            Long.class);
+    private static final Comparator<AvailabilityCalendarEntry> BY_DATE_TIME =
+            Comparator.comparing(AvailabilityCalendarEntry::concertDateTime)
+                    .thenComparing(AvailabilityCalendarEntry::concertDateId);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ConcertRepository concertRepository;
+    private final ConcertDateRepository concertDateRepository;
+    private final int pageSize;
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final Set<Long> dirtyConcertIds = ConcurrentHashMap.newKeySet();
+
+    public AvailabilityCalendarService(@Qualifier("rankingRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                       ConcertRepository concertRepository,
+                                       ConcertDateRepository concertDateRepository,
+                                       @Value("${concert.calendar.page-size:1000}") int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("캘린더 재계산 페이지 크기는 1 이상이어야 합니다.");
+        }
+        this.redisTemplate = redisTemplate;
+        this.concertRepository = concertRepository;
+        this.concertDateRepository = concertDateRepository;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * 월별 캘린더 조회 (날짜순, 날짜별로 공연 시각순)
+     */
+    public Map<LocalDate, List<AvailabilityCalendarEntry>> getMonth(YearMonth month) {
+        if (month == null) {
+            throw new IllegalArgumentException("조회할 월은 필수입니다.");
+        }
+        Map<Object, Object> values = redisTemplate.opsForHash().entries(LIVE.monthKey(month));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<AvailabilityCalendarEntry> entries = new ArrayList<>(values.size());
+        for (Object value : values.values()) {
+            AvailabilityCalendarEntry entry = deserialize((String) value);
+            if (entry != null && entry.isBookableAt(now)) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(BY_DATE_TIME);
+        return entries.stream().collect(Collectors.groupingBy(
+                AvailabilityCalendarEntry::date, LinkedHashMap::new, Collectors.toList()));
+    }
+
+    /**
+     * 콘서트 변경 시 더티로만 표시 (잔여석 차감마다 DB를 읽지 않도록 flush에서 모아서 처리)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onConcertChanged(ConcertChangedEvent event) {
+        dirtyConcertIds.add(event.concertId());
+    }
+
+    @Scheduled(fixedDelayString = "${concert.calendar.flush-millis:500}")
+    public void flush() {
+        if (dirtyConcertIds.isEmpty()) {
+            return;
+        }
+        List<Long> concertIds = new ArrayList<>(dirtyConcertIds);
+        dirtyConcertIds.removeAll(concertIds);
+
+        for (Long concertId : concertIds) {
+            try {
+                refresh(concertId);
+            } catch (RuntimeException e) {
+                dirtyConcertIds.add(concertId);
+                log.warn("[Calendar] 캘린더 갱신 실패 - concertId: {}, 원인: {}", concertId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 콘서트 1건의 캘린더 항목을 다시 계산 (삭제된 콘서트면 항목만 제거)
+     */
+    public void refresh(Long concertId) {
+        Optional<Concert> concert = concertRepository.findById(concertId);
+        List<ConcertDate> concertDates = concert.isPresent()
+                ? concertDateRepository.findByConcertId(concertId)
+                : List.of();
+        replace(concertId, concert.map(c -> entriesOf(c, concertDates)).orElse(List.of()));
+    }
+
+    /**
+     * 전체 재계산 (지난 일정 정리 및 누락된 변경 보정)
+     *
+     * 콘서트를 ID 순으로 페이지씩 읽어 staging 키에 만든 뒤 live 키와 한 번에 교체한다 (구축 중에는 기존 캘린더로 조회).
+     * 구축 중 바뀐 콘서트는 이전 값이 들어갔을 수 있으므로 교체 후 더티로 표시해 다시 계산한다.
+     * 스케줄: {@link kr.hhplus.be.server.application.scheduler.AvailabilityCalendarScheduler}
+     *
+     * @return 캘린더 항목 수
+     */
+    @DistributedLock(key = "'concert:calendar:rebuild'", waitTime = 0L, leaseTime = -1)
+    public int rebuild() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime changedSince = LocalDateTime.now().minus(CHANGE_OVERLAP);
+        clearStaging();
+
+        int entryCount = 0;
+        Long afterId = null;
+        List<Concert> page;
+        do {
+            page = concertRepository.findAllAfterId(afterId, pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            Map<Long, List<ConcertDate>> datesByConcert = concertDateRepository
+                    .findByConcertIds(page.stream().map(Concert::getId).toList()).stream()
+                    .collect(Collectors.groupingBy(ConcertDate::getConcertId));
+            for (Concert concert : page) {
+                List<AvailabilityCalendarEntry> entries =
+                        entriesOf(concert, datesByConcert.getOrDefault(concert.getId(), List.of()));
+                write(STAGING, concert.getId(), entries);
+                entryCount += entries.size();
+            }
+            afterId = page.get(page.size() - 1).getId();
+        } while (page.size() == pageSize);
+
+        Long months = redisTemplate.execute(SWAP_SCRIPT,
+                List.of(LIVE.monthsKey(), STAGING.monthsKey(), LIVE.membersKey(), STAGING.membersKey()),
+                LIVE.monthPrefix(), STAGING.monthPrefix());
+
+        dirtyConcertIds.addAll(concertRepository.findIdsUpdatedSince(changedSince));
+        dirtyConcertIds.addAll(concertDateRepository.findConcertIdsUpdatedSince(changedSince));
+        log.info("[Calendar] 전체 재계산 완료 - 항목: {}건, 월: {}개, 소요: {}ms",
+                entryCount, months, System.currentTimeMillis() - startedAt);
+        return entryCount;
+    }
+
+    private List<AvailabilityCalendarEntry> entriesOf(Concert concert, List<ConcertDate> concertDates) {
+        List<AvailabilityCalendarEntry> entries = new ArrayList<>(concertDates.size());
+        for (ConcertDate concertDate : concertDates) {
+            AvailabilityCalendarEntry entry = AvailabilityCalendarEntry.of(concert, concertDate);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 콘서트의 이전 항목을 지우고 새 항목으로 교체
+     */
+    private void replace(Long concertId, List<AvailabilityCalendarEntry> entries) {
+        Object previous = redisTemplate.opsForHash().get(LIVE.membersKey(), concertId.toString());
+        Set<String> current = membersOf(entries);
+
+        if (previous != null) {
+            for (String member : ((String) previous).split(MEMBER_DELIMITER)) {
+                if (!current.contains(member)) {
+                    String[] parts = member.split(":");
+                    redisTemplate.opsForHash().delete(LIVE.monthPrefix() + parts[0], parts[1]);
+                }
+            }
+        }
+
+        if (current.isEmpty()) {
+            redisTemplate.opsForHash().delete(LIVE.membersKey(), concertId.toString());
+        } else {
+            write(LIVE, concertId, entries);
+        }
+        log.debug("[Calendar] 캘린더 갱신 - concertId: {}, 항목: {}건", concertId, entries.size());
+    }
+
+    /**
+     * 콘서트 항목을 월 키에 쓰고 콘서트/월 목록에 기록 (이전 항목은 건드리지 않는다)
+     */
+    private void write(CalendarKeys keys, Long concertId, List<AvailabilityCalendarEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Map<String, Map<String, String>> byMonth = new HashMap<>();
+        for (AvailabilityCalendarEntry entry : entries) {
+            byMonth.computeIfAbsent(entry.month().format(MONTH_FORMAT), key -> new HashMap<>())
+                    .put(entry.concertDateId().toString(), serialize(entry));
+        }
+        byMonth.forEach((month, fields) -> redisTemplate.opsForHash().putAll(keys.monthPrefix() + month, fields));
+
+        redisTemplate.opsForHash().put(keys.membersKey(), concertId.toString(),
+                String.join(MEMBER_DELIMITER, membersOf(entries)));
+        redisTemplate.opsForSet().add(keys.monthsKey(), byMonth.keySet().toArray(String[]::new));
+    }
+
+    /**
+     * 이전 재계산이 중간에 실패해 남은 staging 키 삭제
+     */
+    private void clearStaging() {
+        Set<String> months = redisTemplate.opsForSet().members(STAGING.monthsKey());
+        List<String> keys = new ArrayList<>(List.of(STAGING.monthsKey(), STAGING.membersKey()));
+        if (months != null) {
+            months.forEach(month -> keys.add(STAGING.monthPrefix() + month));
+        }
+        redisTemplate.delete(keys);
+    }
+
+    private static Set<String> membersOf(List<AvailabilityCalendarEntry> entries) {
+        return entries.stream()
+                .map(entry -> entry.month().format(MONTH_FORMAT) + ":" + entry.concertDateId())
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private String serialize(AvailabilityCalendarEntry entry) {
+        try {
+            return objectMapper.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("캘린더 항목 직렬화에 실패했습니다: " + entry.concertDateId(), e);
+        }
+    }
+
+    private AvailabilityCalendarEntry deserialize(String value) {
+        try {
+            return objectMapper.readValue(value, AvailabilityCalendarEntry.class);
+        } catch (JsonProcessingException e) {
+            log.warn("[Calendar] 잘못된 캘린더 항목 무시 - 원인: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private record CalendarKeys(String monthPrefix, String membersKey, String monthsKey) {
+
+        String monthKey(YearMonth month) {
+            return monthPrefix + month.format(MONTH_FORMAT);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.domain.model.BalanceHistoryEntry;
+import kr.hhplus.be.server.domain.model.CursorPage;
+import kr.hhplus.be.server.domain.model.KeysetCursor;
+import kr.hhplus.be.server.domain.repository.UserBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+/**
+ * 잔액 이력 조회 서비스 (키셋 페이지, 조회 비용은 계정 이력 길이와 무관하게 페이지 크기에 비례)
+ */
+@Service
+@RequiredArgsConstructor
+public class BalanceHistoryQueryService {
+
+    private static final int EXPORT_BATCH_SIZE = 500;
+
+    private final UserBalanceRepository userBalanceRepository;
+
+    /**
+     * 이력 페이지 조회 (cursor가 없으면 최신 페이지)
+     */
+    public CursorPage<BalanceHistoryEntry> getHistory(Long userId, String cursor, int size) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다.");
+        }
+        CursorPage.validateSize(size);
+
+        return userBalanceRepository.findHistoryPage(userId, KeysetCursor.decode(cursor), size);
+    }
+
+    /**
+     * 이력 전체 내보내기 (배치 단위로 읽어 consumer에 전달)
+     */
+    public void exportHistory(Long userId, Consumer<BalanceHistoryEntry> consumer) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다.");
+        }
+
+        KeysetCursor cursor = null;
+        do {
+            CursorPage<BalanceHistoryEntry> page = userBalanceRepository.findHistoryPage(userId, cursor, EXPORT_BATCH_SIZE);
+            page.items().forEach(consumer);
+            cursor = KeysetCursor.decode(page.nextCursor());
+        } while (cursor != null);
+    }
+}
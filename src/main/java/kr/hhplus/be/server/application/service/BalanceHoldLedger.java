@@ -0,0 +1,382 @@
+package kr.hhplus.be.server.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Redis 잔액 홀드 원장
+ *
+ * 사용 가능 잔액을 Redis에 미러링하고, 결제 시 Lua 스크립트로 확인/차감/홀드 기록을 원자적으로 처리한다.
+ * - balance:available:{userId}  사용 가능 잔액 (= MySQL 잔액 - 정산 전 홀드 합계)
+ * - balance:holds:{userId}      정산 전 홀드 (holdId → 금액, 확정된 홀드는 "금액:C")
+ * - balance:version:{userId}    미러 무효화 버전 (적재 중 MySQL이 바뀌었는지 확인)
+ * - balance:settlement:queue    확정되어 MySQL 정산을 기다리는 홀드 ("holdId:userId:금액")
+ * - balance:settlement:failed   MySQL 반영에 실패한 항목 (홀드를 유지한 채 대사 때 재정산)
+ * - balance:ledger:users        미러링 중인 사용자 (대사용)
+ * 사용자별 키는 같은 해시 태그를 써서 한 슬롯에 모인다.
+ *
+ * 미러는 정산 락을 잡은 상태에서만 적재한다. 정산 커밋 후 홀드 제거 전의 중간 상태를 읽으면
+ * 이미 MySQL에서 빠진 홀드를 한 번 더 빼게 되기 때문이다.
+ * 홀드 경로 밖에서 MySQL 잔액이 바뀌면 커밋 후 {@link #invalidate}로 미러를 지우고 다시 적재한다.
+ */
+@Slf4j
+@Component
+public class BalanceHoldLedger {
+
+    public static final String SETTLEMENT_LOCK_KEY = "balance:settlement:lock";
+
+    private static final String AVAILABLE_KEY_PREFIX = "balance:available:";
+    private static final String HOLDS_KEY_PREFIX = "balance:holds:";
+    private static final String VERSION_KEY_PREFIX = "balance:version:";
+    private static final String SETTLEMENT_QUEUE_KEY = "balance:settlement:queue";
+    private static final String SETTLEMENT_FAILED_KEY = "balance:settlement:failed";
+    private static final String USERS_KEY = "balance:ledger:users";
+    private static final String CAPTURED_SUFFIX = ":C";
+
+    private static final long NOT_LOADED = -2L;
+    private static final long INSUFFICIENT = -1L;
+
+    /**
+     * 홀드: 잔액 확인 → 차감 → 홀드 기록
+     * KEYS[1] = 사용 가능 잔액, KEYS[2] = 홀드 해시 / ARGV[1] = 금액, ARGV[2] = holdId
+     * @return 차감 후 잔액, -1: 잔액 부족, -2: 미러 미적재
+     */
+    private static final RedisScript<Long> HOLD_SCRIPT = new DefaultRedisScript<>(
+            "local available = redis.call('GET', KEYS[1]) " +
+            "if not available then return " + NOT_LOADED + " end " +
+            "local amount = tonumber(ARGV[1]) " +
+            "if tonumber(available) < amount then return " + INSUFFICIENT + " end " +
+            "redis.call('HSET', KEYS[2], ARGV[2], ARGV[1]) " +
+            "return redis.call('DECRBY', KEYS[1], amount)",
+            Long.class);
+
+    /**
+     * 홀드 해제: 확정되지 않은 홀드만 잔액으로 되돌린다
+     * @return 되돌린 금액, 0: 홀드 없음, -1: 이미 확정됨
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "local hold = redis.call('HGET', KEYS[2], ARGV[1]) " +
+            "if not hold then return 0 end " +
+            "if string.find(hold, '" + CAPTURED_SUFFIX + "', 1, true) then return -1 end " +
+            "redis.call('HDEL', KEYS[2], ARGV[1]) " +
+            "redis.call('INCRBY', KEYS[1], hold) " +
+            "return tonumber(hold)",
+            Long.class);
+
+    /**
+     * 홀드 확정 표시 (해제 불가 상태로 전환)
+     * @return 1: 확정됨, 0: 홀드 없음 (해제되었거나 정산 완료)
+     */
+    private static final RedisScript<Long> CAPTURE_SCRIPT = new DefaultRedisScript<>(
+            "local hold = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not hold then return 0 end " +
+            "if not string.find(hold, '" + CAPTURED_SUFFIX + "', 1, true) then " +
+            "  redis.call('HSET', KEYS[1], ARGV[1], hold .. '" + CAPTURED_SUFFIX + "') " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    /**
+     * 미러 적재: 없을 때만 MySQL 잔액 - 정산 전 홀드 합계로 설정
+     * KEYS[3] = 버전 / ARGV[1] = MySQL 잔액, ARGV[2] = MySQL 조회 전에 읽은 버전
+     * @return 적재된 잔액, -2: 조회 이후 무효화됨 (적재하지 않음)
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "local available = redis.call('GET', KEYS[1]) " +
+            "if available then return tonumber(available) end " +
+            "if (redis.call('GET', KEYS[3]) or '0') ~= ARGV[2] then return " + NOT_LOADED + " end " +
+            "local held = 0 " +
+            "for _, hold in ipairs(redis.call('HVALS', KEYS[2])) do " +
+            "  held = held + tonumber(string.match(hold, '^%d+')) " +
+            "end " +
+            "local value = tonumber(ARGV[1]) - held " +
+            "redis.call('SET', KEYS[1], value) " +
+            "return value",
+            Long.class);
+
+    /**
+     * 미러 무효화: 버전 증가 후 사용 가능 잔액 삭제 (진행 중인 적재는 버전 불일치로 버려진다)
+     */
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "return redis.call('DEL', KEYS[1])",
+            Long.class);
+
+    /**
+     * 대사용 스냅샷 {사용 가능 잔액(없으면 -2), 정산 전 홀드 합계}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SNAPSHOT_SCRIPT = new DefaultRedisScript<>(
+            "local available = redis.call('GET', KEYS[1]) " +
+            "local held = 0 " +
+            "for _, hold in ipairs(redis.call('HVALS', KEYS[2])) do " +
+            "  held = held + tonumber(string.match(hold, '^%d+')) " +
+            "end " +
+            "return {available and tonumber(available) or " + NOT_LOADED + ", held}",
+            List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedissonClient redissonClient;
+    private final long loadWaitMillis;
+
+    public BalanceHoldLedger(@Qualifier("rankingRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                             RedissonClient redissonClient,
+                             @Value("${balance.hold.load-wait-millis:1000}") long loadWaitMillis) {
+        this.redisTemplate = redisTemplate;
+        this.redissonClient = redissonClient;
+        this.loadWaitMillis = loadWaitMillis;
+    }
+
+    /**
+     * 잔액 홀드 (미러가 없으면 MySQL 잔액으로 적재 후 재시도)
+     *
+     * @return 홀드 후 사용 가능 잔액
+     * @throws IllegalStateException 잔액 부족
+     */
+    public long hold(Long userId, String holdId, long amount, LongSupplier persistedBalance) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("차감 금액은 0보다 커야 합니다.");
+        }
+
+        Long result = executeHold(userId, holdId, amount);
+        if (result != null && result == NOT_LOADED) {
+            load(userId, persistedBalance);
+            result = executeHold(userId, holdId, amount);
+        }
+
+        if (result == null || result == NOT_LOADED) {
+            throw new IllegalStateException("잔액 홀드에 실패했습니다.");
+        }
+        if (result == INSUFFICIENT) {
+            throw new IllegalStateException(String.format("잔액이 부족합니다. 차감 요청: %d", amount));
+        }
+        return result;
+    }
+
+    /**
+     * 홀드 확정: 정산 대기열에 등록한 뒤 해제 불가로 표시
+     *
+     * 등록 후 표시 전에 실패하면 호출자가 {@link #release}로 되돌린다.
+     * 해제된 홀드의 대기열 항목은 {@link #claimSettlements}에서 걸러진다.
+     */
+    public void capture(Long userId, String holdId, long amount) {
+        redisTemplate.opsForList().rightPush(SETTLEMENT_QUEUE_KEY,
+                new SettlementEntry(holdId, userId, amount).serialize());
+        redisTemplate.execute(CAPTURE_SCRIPT, List.of(holdsKey(userId)), holdId);
+    }
+
+    /**
+     * 홀드 해제 (결제 실패 시)
+     *
+     * @return 해제 여부 (이미 확정되었거나 정산이 끝나 없는 홀드면 false)
+     */
+    public boolean release(Long userId, String holdId) {
+        Long released = redisTemplate.execute(RELEASE_SCRIPT,
+                List.of(availableKey(userId), holdsKey(userId)), holdId);
+        if (released != null && released == INSUFFICIENT) {
+            log.warn("[BalanceHold] 확정된 홀드는 해제할 수 없습니다 - userId: {}, holdId: {}", userId, holdId);
+        }
+        return released != null && released > 0;
+    }
+
+    /**
+     * 미러 무효화 (홀드 경로 밖의 MySQL 잔액 변경 커밋 후 호출, 다음 홀드 때 다시 적재)
+     */
+    public void invalidate(Long userId) {
+        redisTemplate.execute(INVALIDATE_SCRIPT, List.of(availableKey(userId), versionKey(userId)));
+    }
+
+    /**
+     * 정산 대기 중인 홀드를 앞에서부터 조회 (제거하지 않음)
+     */
+    public List<SettlementEntry> peekSettlements(int limit) {
+        List<String> values = redisTemplate.opsForList().range(SETTLEMENT_QUEUE_KEY, 0, limit - 1);
+        if (values == null) {
+            return List.of();
+        }
+        List<SettlementEntry> entries = new ArrayList<>(values.size());
+        for (String value : values) {
+            entries.add(SettlementEntry.parse(value));
+        }
+        return entries;
+    }
+
+    /**
+     * 정산 대상 확정: 홀드를 해제 불가로 표시하고, 이미 해제된 홀드의 항목은 제외한다
+     * (MySQL 반영 전에 호출, 이후 해제 요청은 거부된다)
+     */
+    public List<SettlementEntry> claimSettlements(List<SettlementEntry> entries) {
+        List<SettlementEntry> claimed = new ArrayList<>(entries.size());
+        for (SettlementEntry entry : entries) {
+            Long result = redisTemplate.execute(CAPTURE_SCRIPT, List.of(holdsKey(entry.userId())), entry.holdId());
+            if (result != null && result > 0) {
+                claimed.add(entry);
+            } else {
+                log.info("[BalanceHold] 해제된 홀드 정산 제외 - userId: {}, holdId: {}", entry.userId(), entry.holdId());
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 정산 완료 처리: 실패 항목은 홀드를 유지한 채 실패 목록으로 옮기고,
+     * 나머지 홀드를 제거한 뒤 대기열 앞의 count건 제거 (MySQL 커밋 이후 호출, 재실행돼도 안전)
+     */
+    public void completeSettlements(List<SettlementEntry> entries, List<SettlementEntry> failed) {
+        if (!failed.isEmpty()) {
+            redisTemplate.opsForList().rightPushAll(SETTLEMENT_FAILED_KEY,
+                    failed.stream().map(SettlementEntry::serialize).toList());
+        }
+        for (SettlementEntry entry : entries) {
+            if (!failed.contains(entry)) {
+                redisTemplate.opsForHash().delete(holdsKey(entry.userId()), entry.holdId());
+            }
+        }
+        redisTemplate.opsForList().trim(SETTLEMENT_QUEUE_KEY, entries.size(), -1);
+    }
+
+    /**
+     * MySQL 반영에 실패한 항목 조회 (제거하지 않음)
+     */
+    public List<SettlementEntry> peekFailed(int limit) {
+        List<String> values = redisTemplate.opsForList().range(SETTLEMENT_FAILED_KEY, 0, limit - 1);
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream().map(SettlementEntry::parse).toList();
+    }
+
+    /**
+     * 재정산된 실패 항목 제거 (홀드 제거 후 실패 목록에서 삭제)
+     */
+    public void resolveFailed(List<SettlementEntry> entries) {
+        for (SettlementEntry entry : entries) {
+            redisTemplate.opsForHash().delete(holdsKey(entry.userId()), entry.holdId());
+            redisTemplate.opsForList().remove(SETTLEMENT_FAILED_KEY, 1, entry.serialize());
+        }
+    }
+
+    /**
+     * 재정산 대기 중인 실패 항목 수
+     */
+    public long failedCount() {
+        Long size = redisTemplate.opsForList().size(SETTLEMENT_FAILED_KEY);
+        return size != null ? size : 0L;
+    }
+
+    /**
+     * 미러링 중인 사용자 목록
+     */
+    public Set<String> mirroredUsers() {
+        Set<String> members = redisTemplate.opsForSet().members(USERS_KEY);
+        return members != null ? members : Set.of();
+    }
+
+    /**
+     * 대사용 스냅샷 (미러가 없으면 null)
+     */
+    public LedgerSnapshot snapshot(Long userId) {
+        List<?> values = redisTemplate.execute(SNAPSHOT_SCRIPT,
+                List.of(availableKey(userId), holdsKey(userId)));
+        if (values == null || values.size() < 2) {
+            return null;
+        }
+        long available = ((Number) values.get(0)).longValue();
+        if (available == NOT_LOADED) {
+            return null;
+        }
+        return new LedgerSnapshot(available, ((Number) values.get(1)).longValue());
+    }
+
+    /**
+     * 정산 락을 잡고 MySQL 잔액 - 정산 전 홀드 합계로 적재
+     * (락을 얻지 못하거나 조회 중 무효화되면 적재하지 않고, 홀드가 실패한다)
+     */
+    private void load(Long userId, LongSupplier persistedBalance) {
+        RLock lock = redissonClient.getLock(SETTLEMENT_LOCK_KEY);
+        boolean locked;
+        try {
+            locked = lock.tryLock(loadWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("잔액 미러 적재가 중단되었습니다.", e);
+        }
+        if (!locked) {
+            log.warn("[BalanceHold] 정산 락 대기 초과로 미러 적재 실패 - userId: {}", userId);
+            return;
+        }
+
+        try {
+            String version = redisTemplate.opsForValue().get(versionKey(userId));
+            Long loaded = redisTemplate.execute(LOAD_SCRIPT,
+                    List.of(availableKey(userId), holdsKey(userId), versionKey(userId)),
+                    String.valueOf(persistedBalance.getAsLong()), version != null ? version : "0");
+            if (loaded != null && loaded == NOT_LOADED) {
+                log.info("[BalanceHold] 적재 중 잔액 변경으로 미러 적재 취소 - userId: {}", userId);
+                return;
+            }
+            redisTemplate.opsForSet().add(USERS_KEY, userId.toString());
+            log.debug("[BalanceHold] 잔액 미러 적재 - userId: {}", userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Long executeHold(Long userId, String holdId, long amount) {
+        return redisTemplate.execute(HOLD_SCRIPT, List.of(availableKey(userId), holdsKey(userId)),
+                String.valueOf(amount), holdId);
+    }
+
+    static String availableKey(Long userId) {
+        return AVAILABLE_KEY_PREFIX + "{" + userId + "}";
+    }
+
+    static String holdsKey(Long userId) {
+        return HOLDS_KEY_PREFIX + "{" + userId + "}";
+    }
+
+    static String versionKey(Long userId) {
+        return VERSION_KEY_PREFIX + "{" + userId + "}";
+    }
+
+    /**
+     * 정산 대기 항목
+     */
+    public record SettlementEntry(String holdId, Long userId, long amount) {
+
+        String serialize() {
+            return holdId + ":" + userId + ":" + amount;
+        }
+
+        static SettlementEntry parse(String value) {
+            String[] parts = value.split(":");
+            if (parts.length != 3) {
+                throw new IllegalStateException("잘못된 정산 항목입니다: " + value);
+            }
+            return new SettlementEntry(parts[0], Long.valueOf(parts[1]), Long.parseLong(parts[2]));
+        }
+
+        public String idempotencyKey() {
+            return "hold:" + holdId;
+        }
+    }
+
+    /**
+     * Redis 측 잔액 스냅샷
+     */
+    public record LedgerSnapshot(long available, long held) {
+    }
+}
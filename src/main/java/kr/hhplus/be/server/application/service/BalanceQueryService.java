@@ -0,0 +1,32 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.domain.model.UserBalance;
+import kr.hhplus.be.server.domain.repository.UserBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 잔액 조회 서비스
+ *
+ * 분할 계정은 본 계좌 잔액이 0이므로 본 계좌와 분할 계좌 합계를 계정 잔액으로 돌려준다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BalanceQueryService {
+
+    private final UserBalanceRepository userBalanceRepository;
+    private final StripedBalanceService stripedBalanceService;
+
+    /**
+     * 계정 잔액 조회 (본 계좌 + 분할 계좌 합계)
+     */
+    public UserBalance getBalance(Long userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다.");
+        }
+        if (userBalanceRepository.findByUserId(userId).isEmpty()) {
+            throw new IllegalArgumentException("잔액 정보를 찾을 수 없습니다.");
+        }
+        return UserBalance.create(userId, stripedBalanceService.getTotalBalance(userId));
+    }
+}
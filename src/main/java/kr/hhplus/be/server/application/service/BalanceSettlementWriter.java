@@ -0,0 +1,71 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.application.service.BalanceHoldLedger.SettlementEntry;
+import kr.hhplus.be.server.domain.model.BalanceHistory;
+import kr.hhplus.be.server.domain.repository.UserBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 잔액 홀드 정산 (Redis → MySQL)
+ *
+ * 확정된 홀드를 한 트랜잭션에서 user_balances와 BalanceHistory에 반영한다.
+ * 사용자별로 합산해 조건부 UPDATE 한 번으로 차감하고, 히스토리는 홀드마다 남긴다.
+ * holdId를 멱등성 키로 쓰므로 같은 항목을 다시 정산해도 중복 차감되지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BalanceSettlementWriter {
+
+    private final UserBalanceRepository userBalanceRepository;
+
+    /**
+     * @return MySQL에 반영하지 못한 항목 (잔액 부족 등)
+     */
+    @Transactional
+    public List<SettlementEntry> settle(List<SettlementEntry> entries) {
+        Map<Long, List<SettlementEntry>> byUser = new LinkedHashMap<>();
+        for (SettlementEntry entry : entries) {
+            if (userBalanceRepository.existsByUserIdAndIdempotencyKey(entry.userId(), entry.idempotencyKey())) {
+                continue;
+            }
+            byUser.computeIfAbsent(entry.userId(), userId -> new ArrayList<>()).add(entry);
+        }
+
+        List<SettlementEntry> failed = new ArrayList<>();
+        for (Map.Entry<Long, List<SettlementEntry>> userEntries : byUser.entrySet()) {
+            Long userId = userEntries.getKey();
+            List<SettlementEntry> holds = userEntries.getValue();
+            long total = holds.stream().mapToLong(SettlementEntry::amount).sum();
+
+            if (!userBalanceRepository.settleHeldBalance(userId, total)) {
+                log.error("[CRITICAL] 잔액 홀드 정산 실패 - userId: {}, 홀드: {}건, 금액: {}",
+                        userId, holds.size(), total);
+                failed.addAll(holds);
+                continue;
+            }
+
+            long balance = userBalanceRepository.findByUserId(userId)
+                    .orElseThrow(() -> new IllegalStateException("잔액 정보를 찾을 수 없습니다."))
+                    .getBalance() + total;
+            for (SettlementEntry hold : holds) {
+                userBalanceRepository.saveHistory(BalanceHistory.createDeductHistory(
+                        userId, hold.amount(), balance, balance - hold.amount(),
+                        hold.idempotencyKey(), "잔액 홀드 정산"));
+                balance -= hold.amount();
+            }
+        }
+
+        log.debug("[BalanceSettlement] 정산 - 항목: {}, 사용자: {}, 실패: {}",
+                entries.size(), byUser.size(), failed.size());
+        return failed;
+    }
+}
@@ -0,0 +1,22 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.domain.model.UserBalance;
+
+/**
+ * 잔액 차감/충전 전략
+ *
+ * 구현체는 호출자와 별도의 트랜잭션(REQUIRES_NEW)에서 반영하며 (redis-hold는 Redis 반영 후 비동기 정산),
+ * 선택은 balance.strategy 설정을 따른다 (lock | conditional-update | redis-hold).
+ */
+public interface BalanceStrategy {
+
+    /**
+     * 잔액 차감 (잔액 부족 시 IllegalStateException)
+     */
+    UserBalance deduct(Long userId, Long amount);
+
+    /**
+     * 잔액 충전 (잔액 정보가 없으면 생성 후 충전)
+     */
+    UserBalance charge(Long userId, Long amount);
+}
@@ -0,0 +1,190 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.domain.model.Concert;
+import kr.hhplus.be.server.domain.model.ConcertStatus;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+
+/**
+ * 콘서트 검색용 메모리 역색인
+ *
+ * 아티스트/장소/제목을 소문자 토큰으로 나눠 필드별 정렬 맵(토큰 → 콘서트 ID)에 넣고,
+ * 검색어의 모든 토큰이 앞부분 일치하는 콘서트를 찾는다 (토큰 간 AND, 필드 간 OR).
+ * 문서와 포스팅을 ID 순으로 유지해 후보를 정렬하지 않고 ID 순으로 훑다가 limit건에서 멈춘다.
+ * 읽기는 락 없이 동시 자료구조를 조회하고, 갱신은 문서 단위로 직렬화한다.
+ */
+public class ConcertSearchIndex {
+
+    private static final Pattern TOKEN_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    public enum Field {
+        ARTIST, VENUE, TITLE
+    }
+
+    private final Map<Field, NavigableMap<String, NavigableSet<Long>>> postings = new EnumMap<>(Field.class);
+    private final NavigableMap<Long, Document> documents = new ConcurrentSkipListMap<>();
+
+    public ConcertSearchIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    /**
+     * 콘서트 색인 (기존 문서가 있으면 교체)
+     *
+     * @param performanceTimes 공연 일시 목록 (날짜 필터용)
+     */
+    public synchronized void upsert(Concert concert, Collection<LocalDateTime> performanceTimes) {
+        remove(concert.getId());
+
+        Map<Field, Set<String>> tokens = new EnumMap<>(Field.class);
+        tokens.put(Field.ARTIST, tokenize(concert.getArtist()));
+        tokens.put(Field.VENUE, tokenize(concert.getVenue()));
+        tokens.put(Field.TITLE, tokenize(concert.getTitle()));
+        tokens.forEach((field, values) -> values.forEach(token ->
+                postings.get(field).computeIfAbsent(token, key -> new ConcurrentSkipListSet<>()).add(concert.getId())));
+
+        List<LocalDateTime> times = performanceTimes.stream().sorted().toList();
+        documents.put(concert.getId(), new Document(concert, times, tokens));
+    }
+
+    /**
+     * 색인에서 제거
+     */
+    public synchronized void remove(Long concertId) {
+        Document previous = documents.remove(concertId);
+        if (previous == null) {
+            return;
+        }
+        previous.tokens().forEach((field, values) -> values.forEach(token ->
+                postings.get(field).computeIfPresent(token, (key, ids) -> {
+                    ids.remove(concertId);
+                    return ids.isEmpty() ? null : ids;
+                })));
+    }
+
+    /**
+     * 검색 (콘서트 ID 오름차순, 최대 limit건)
+     *
+     * @param keyword 검색어 (비어 있으면 필터만 적용)
+     * @param fields  검색 대상 필드 (비어 있으면 전체)
+     */
+    public List<Concert> search(String keyword, Set<Field> fields, ConcertStatus status,
+                                LocalDateTime from, LocalDateTime to, int limit) {
+        Set<Field> targets = fields == null || fields.isEmpty() ? EnumSet.allOf(Field.class) : fields;
+        Set<String> tokens = tokenize(keyword);
+
+        // 가장 긴 토큰(가장 좁은 앞부분 범위)의 포스팅을 ID 순으로 병합해 후보로 쓰고, 나머지 토큰은 문서 토큰으로 확인
+        Iterator<Long> candidates = tokens.stream()
+                .max(Comparator.comparingInt(String::length))
+                .map(token -> mergedPostings(token, targets))
+                .orElseGet(() -> documents.keySet().iterator());
+
+        List<Concert> results = new ArrayList<>(limit);
+        while (results.size() < limit && candidates.hasNext()) {
+            Document document = documents.get(candidates.next());
+            if (document != null
+                    && document.matchesAll(tokens, targets)
+                    && (status == null || document.concert().getStatus() == status)
+                    && document.hasPerformanceBetween(from, to)) {
+                results.add(document.concert());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 토큰으로 시작하는 모든 포스팅을 ID 오름차순으로 병합 (중복 제거, 필요한 만큼만 읽는다)
+     */
+    private Iterator<Long> mergedPostings(String token, Set<Field> targets) {
+        List<Iterator<Long>> sources = new ArrayList<>();
+        for (Field field : targets) {
+            postings.get(field).subMap(token, true, token + Character.MAX_VALUE, false)
+                    .values().forEach(ids -> sources.add(ids.iterator()));
+        }
+        return new MergingIterator(sources);
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    static Set<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Set.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : TOKEN_DELIMITER.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private record Document(Concert concert, List<LocalDateTime> performanceTimes,
+                            Map<Field, Set<String>> tokens) {
+
+        boolean matchesAll(Set<String> keywordTokens, Set<Field> targets) {
+            return keywordTokens.stream().allMatch(keywordToken -> targets.stream()
+                    .anyMatch(field -> tokens.get(field).stream().anyMatch(token -> token.startsWith(keywordToken))));
+        }
+
+        boolean hasPerformanceBetween(LocalDateTime from, LocalDateTime to) {
+            if (from == null && to == null) {
+                return true;
+            }
+            return performanceTimes.stream().anyMatch(time ->
+                    (from == null || !time.isBefore(from)) && (to == null || !time.isAfter(to)));
+        }
+    }
+
+    /**
+     * 정렬된 ID 반복자 k개를 우선순위 큐로 병합
+     */
+    private static final class MergingIterator implements Iterator<Long> {
+
+        private final PriorityQueue<Head> heads = new PriorityQueue<>(Comparator.comparing(Head::id));
+        private Long last;
+
+        MergingIterator(List<Iterator<Long>> sources) {
+            sources.forEach(this::advance);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!heads.isEmpty() && heads.peek().id().equals(last)) {
+                Head duplicate = heads.poll();
+                advance(duplicate.source());
+            }
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public Long next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Head head = heads.poll();
+            advance(head.source());
+            last = head.id();
+            return last;
+        }
+
+        private void advance(Iterator<Long> source) {
+            if (source.hasNext()) {
+                heads.add(new Head(source.next(), source));
+            }
+        }
+
+        private record Head(Long id, Iterator<Long> source) {
+        }
+    }
+}
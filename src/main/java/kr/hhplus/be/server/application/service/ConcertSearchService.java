@@ -0,0 +1,167 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.application.service.ConcertSearchIndex.Field;
+import kr.hhplus.be.server.domain.event.ConcertChangedEvent;
+import kr.hhplus.be.server.domain.model.Concert;
+import kr.hhplus.be.server.domain.model.ConcertDate;
+import kr.hhplus.be.server.domain.model.ConcertStatus;
+import kr.hhplus.be.server.domain.repository.ConcertDateRepository;
+import kr.hhplus.be.server.domain.repository.ConcertRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 콘서트 검색 서비스 (메모리 역색인, 검색 시 DB 조회 없음)
+ *
+ * 기동 시 전체 색인 후 콘서트 변경 이벤트(커밋 이후)로 해당 콘서트만 다시 색인한다.
+ * 잔여석 변경과 다른 노드의 변경은 updated_at 기준 주기적 변경분 재색인으로 맞추고,
+ * 삭제 등 변경분으로 잡히지 않는 차이는 드문 주기의 전체 재색인(ID 키셋 페이지 순회)으로 정리한다.
+ */
+@Slf4j
+@Service
+public class ConcertSearchService {
+
+    public static final int MAX_LIMIT = 100;
+
+    // 커밋 지연과 DB/애플리케이션 시각 차이를 감안해 이전 변경분 조회 구간과 겹치게 조회한다
+    private static final Duration CHANGE_OVERLAP = Duration.ofSeconds(30);
+
+    private final ConcertRepository concertRepository;
+    private final ConcertDateRepository concertDateRepository;
+    private final int pageSize;
+
+    private volatile ConcertSearchIndex index = new ConcertSearchIndex();
+    // 다음 변경분 조회 기준 시각 (전체 색인 전에는 null)
+    private volatile LocalDateTime changedSince;
+
+    public ConcertSearchService(ConcertRepository concertRepository,
+                                ConcertDateRepository concertDateRepository,
+                                @Value("${concert.search.page-size:1000}") int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("색인 페이지 크기는 1 이상이어야 합니다.");
+        }
+        this.concertRepository = concertRepository;
+        this.concertDateRepository = concertDateRepository;
+        this.pageSize = pageSize;
+    }
+
+    public List<Concert> search(String keyword, Set<Field> fields, ConcertStatus status,
+                                LocalDateTime from, LocalDateTime to, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("조회 건수는 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 이전이어야 합니다.");
+        }
+        return index.search(keyword, fields, status, from, to, limit);
+    }
+
+    /**
+     * 전체 재색인: ID 순으로 페이지씩 읽어 새 색인을 만든 뒤 교체한다 (구축 중에도 기존 색인으로 검색)
+     *
+     * 구축 중 변경된 콘서트는 구축 시작 시각부터의 변경분 재색인에서 반영된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${concert.search.full-rebuild-millis:3600000}",
+            fixedDelayString = "${concert.search.full-rebuild-millis:3600000}")
+    public void rebuild() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            LocalDateTime watermark = LocalDateTime.now().minus(CHANGE_OVERLAP);
+
+            ConcertSearchIndex rebuilt = new ConcertSearchIndex();
+            Long afterId = null;
+            List<Concert> page;
+            do {
+                page = concertRepository.findAllAfterId(afterId, pageSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+                Map<Long, List<LocalDateTime>> performanceTimes = performanceTimes(
+                        page.stream().map(Concert::getId).toList());
+                for (Concert concert : page) {
+                    rebuilt.upsert(concert, performanceTimes.getOrDefault(concert.getId(), List.of()));
+                }
+                afterId = page.get(page.size() - 1).getId();
+            } while (page.size() == pageSize);
+
+            index = rebuilt;
+            changedSince = watermark;
+            log.info("[ConcertSearch] 전체 색인 완료 - 콘서트: {}건, 소요: {}ms",
+                    rebuilt.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("[ConcertSearch] 전체 색인 실패 - 기존 색인 유지", e);
+        }
+    }
+
+    /**
+     * 변경분 재색인: 마지막 조회 이후 콘서트/공연 일정이 수정된 콘서트만 다시 색인한다
+     */
+    @Scheduled(initialDelayString = "${concert.search.refresh-millis:60000}",
+            fixedDelayString = "${concert.search.refresh-millis:60000}")
+    public void refresh() {
+        LocalDateTime since = changedSince;
+        if (since == null) {
+            return;
+        }
+        try {
+            LocalDateTime watermark = LocalDateTime.now().minus(CHANGE_OVERLAP);
+            Set<Long> changed = new TreeSet<>(concertRepository.findIdsUpdatedSince(since));
+            changed.addAll(concertDateRepository.findConcertIdsUpdatedSince(since));
+            changed.forEach(this::reindex);
+            changedSince = watermark;
+            if (!changed.isEmpty()) {
+                log.debug("[ConcertSearch] 변경분 색인 완료 - 콘서트: {}건", changed.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("[ConcertSearch] 변경분 색인 실패 - 다음 주기에 재시도, 원인: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 변경된 콘서트만 다시 색인 (트랜잭션 밖에서 발행된 경우 즉시 처리)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onConcertChanged(ConcertChangedEvent event) {
+        if (event.type() == ConcertChangedEvent.ChangeType.SEATS) {
+            return;
+        }
+        try {
+            if (event.type() == ConcertChangedEvent.ChangeType.DELETE) {
+                index.remove(event.concertId());
+                return;
+            }
+            reindex(event.concertId());
+        } catch (RuntimeException e) {
+            log.warn("[ConcertSearch] 색인 갱신 실패 - concertId: {}, 원인: {}", event.concertId(), e.getMessage());
+        }
+    }
+
+    private void reindex(Long concertId) {
+        concertRepository.findById(concertId).ifPresentOrElse(
+                concert -> index.upsert(concert, concertDateRepository.findByConcertId(concertId).stream()
+                        .map(ConcertDate::getConcertDateTime)
+                        .toList()),
+                () -> index.remove(concertId));
+    }
+
+    private Map<Long, List<LocalDateTime>> performanceTimes(List<Long> concertIds) {
+        return concertDateRepository.findByConcertIds(concertIds).stream()
+                .collect(Collectors.groupingBy(ConcertDate::getConcertId,
+                        Collectors.mapping(ConcertDate::getConcertDateTime, Collectors.toList())));
+    }
+}
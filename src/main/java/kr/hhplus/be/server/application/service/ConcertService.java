@@ -2,7 +2,11 @@ package kr.hhplus.be.server.application.service;
 
 import kr.hhplus.be.server.domain.model.Concert;
 import kr.hhplus.be.server.domain.model.ConcertDate;
+import kr.hhplus.be.server.domain.model.ConcertDateSummary;
 import kr.hhplus.be.server.domain.model.ConcertStatus;
+import kr.hhplus.be.server.domain.model.ConcertSummary;
+import kr.hhplus.be.server.domain.model.CursorPage;
+import kr.hhplus.be.server.domain.model.KeysetCursor;
 import kr.hhplus.be.server.domain.repository.ConcertDateRepository;
 import kr.hhplus.be.server.domain.repository.ConcertRepository;
 import org.springframework.stereotype.Service;
@@ -64,6 +68,34 @@ public class ConcertService {
         return concertRepository.findAll();
     }
 
+    // ===== 키셋 페이지 조회 (cursor는 이전 응답의 nextCursor, 없으면 첫 페이지, 목록용 프로젝션) =====
+
+    public CursorPage<ConcertSummary> getConcertPage(String cursor, int size) {
+        CursorPage.validateSize(size);
+        return concertRepository.findPage(KeysetCursor.decode(cursor), size);
+    }
+
+    public CursorPage<ConcertSummary> getAvailableConcertPage(String cursor, int size) {
+        CursorPage.validateSize(size);
+        return concertRepository.findPageByStatus(ConcertStatus.AVAILABLE, KeysetCursor.decode(cursor), size);
+    }
+
+    public CursorPage<ConcertSummary> getConcertPageByArtist(String artist, String cursor, int size) {
+        if (artist == null || artist.trim().isEmpty()) {
+            throw new IllegalArgumentException("아티스트명은 필수입니다.");
+        }
+        CursorPage.validateSize(size);
+        return concertRepository.findPageByArtist(artist, KeysetCursor.decode(cursor), size);
+    }
+
+    public CursorPage<ConcertSummary> getConcertPageByVenue(String venue, String cursor, int size) {
+        if (venue == null || venue.trim().isEmpty()) {
+            throw new IllegalArgumentException("장소명은 필수입니다.");
+        }
+        CursorPage.validateSize(size);
+        return concertRepository.findPageByVenue(venue, KeysetCursor.decode(cursor), size);
+    }
+
     // ===== ConcertDate 일정 관리 =====
 
     public List<ConcertDate> getAvailableDates(int limit) {
@@ -97,4 +129,44 @@ public class ConcertService {
     public List<ConcertDate> getAllConcertDates(int limit) {
         return concertDateRepository.findUpcomingDates(LocalDateTime.now().minusYears(1), limit);
     }
+
+    /**
+     * 예약 가능한 공연 일정 페이지 (공연 일시 오름차순, to가 null이면 끝까지)
+     */
+    public CursorPage<ConcertDateSummary> getAvailableDatePage(LocalDateTime from, LocalDateTime to, String cursor, int size) {
+        validateRange(from, to);
+        CursorPage.validateSize(size);
+        return concertDateRepository.findAvailablePage(from, to, KeysetCursor.decode(cursor), size);
+    }
+
+    public CursorPage<ConcertDateSummary> getAvailableDatePageByMonth(LocalDate month, String cursor, int size) {
+        if (month == null) {
+            throw new IllegalArgumentException("조회할 월은 필수입니다.");
+        }
+        LocalDateTime startOfMonth = month.withDayOfMonth(1).atStartOfDay();
+        return getAvailableDatePage(startOfMonth, startOfMonth.plusMonths(1).minusSeconds(1), cursor, size);
+    }
+
+    /**
+     * 기간 내 공연 일정 페이지 (상태 무관, 공연 일시 오름차순)
+     */
+    public CursorPage<ConcertDateSummary> getDatePage(LocalDateTime from, LocalDateTime to, String cursor, int size) {
+        validateRange(from, to);
+        CursorPage.validateSize(size);
+        return concertDateRepository.findPage(from, to, KeysetCursor.decode(cursor), size);
+    }
+
+    public CursorPage<ConcertDateSummary> getConcertDatePage(Long concertId, String cursor, int size) {
+        CursorPage.validateSize(size);
+        return concertDateRepository.findPageByConcertId(concertId, KeysetCursor.decode(cursor), size);
+    }
+
+    private void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from == null) {
+            throw new IllegalArgumentException("시작 날짜는 필수입니다.");
+        }
+        if (to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 이전이어야 합니다.");
+        }
+    }
 }
\ No newline at end of file
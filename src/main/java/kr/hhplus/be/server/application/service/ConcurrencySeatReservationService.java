@@ -6,25 +6,40 @@ import kr.hhplus.be.server.domain.repository.ConcertRepository;
 import kr.hhplus.be.server.domain.repository.SeatReservationRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
 
 @Service("concurrencySeatReservationService")
 public class ConcurrencySeatReservationService {
 
     private final SeatReservationRepository seatReservationRepository;
     private final ConcertRepository concertRepository;
+    private final SeatConfirmationBatcher confirmationBatcher;
+    private final TransactionTemplate requiresNewTemplate;
+    private final boolean batchConfirmationEnabled;
     private static final Logger log = LoggerFactory.getLogger(SeatExpirationService.class);
 
-    public ConcurrencySeatReservationService(SeatReservationRepository seatReservationRepository, ConcertRepository concertRepository) {
+    public ConcurrencySeatReservationService(SeatReservationRepository seatReservationRepository,
+                                             ConcertRepository concertRepository,
+                                             SeatConfirmationBatcher confirmationBatcher,
+                                             PlatformTransactionManager transactionManager,
+                                             @Value("${seat.confirmation.batch.enabled:true}") boolean batchConfirmationEnabled) {
         this.seatReservationRepository = seatReservationRepository;
         this.concertRepository = concertRepository;
+        this.confirmationBatcher = confirmationBatcher;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchConfirmationEnabled = batchConfirmationEnabled;
     }
 
     /**
@@ -75,10 +90,34 @@ public class ConcurrencySeatReservationService {
 
     /**
      * 좌석 예약 확정 (결제 완료 시)
+     *
+     * 그룹 커밋이 켜져 있으면 같은 콘서트의 확정 요청과 묶어 한 트랜잭션으로 반영하고,
+     * 꺼져 있으면 별도 트랜잭션(REQUIRES_NEW)에서 단건으로 반영한다.
      */
-
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public SeatReservation confirmSeatReservation(Long concertId, Integer seatNumber, Long userId) {
+        if (!batchConfirmationEnabled) {
+            return requiresNewTemplate.execute(status -> confirmSeatReservationImmediately(concertId, seatNumber, userId));
+        }
+
+        boolean confirmed;
+        try {
+            confirmed = confirmationBatcher.confirm(concertId, seatNumber, userId).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        if (!confirmed) {
+            throw new IllegalStateException("확정할 수 있는 예약이 없습니다. (만료되었거나 다른 사용자의 예약)");
+        }
+
+        return seatReservationRepository.findByConcertIdAndSeatNumber(concertId, seatNumber)
+                .orElseThrow(() -> new IllegalStateException("확정된 좌석을 조회할 수 없습니다."));
+    }
+
+    private SeatReservation confirmSeatReservationImmediately(Long concertId, Integer seatNumber, Long userId) {
         int updatedRows = seatReservationRepository.confirmSeatConditionally(concertId, seatNumber, userId);
 
         if (updatedRows == 0) {
@@ -0,0 +1,58 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.domain.model.UserBalance;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.OptionalLong;
+
+/**
+ * 조건부 UPDATE 잔액 전략 (락 없음)
+ *
+ * balance >= :amount 조건의 UPDATE 한 번으로 차감하고, 같은 트랜잭션에서 히스토리를 남긴다.
+ * UPDATE가 잡은 행 잠금이 커밋까지 유지되므로 직후 조회한 잔액이 곧 변경 후 잔액이다.
+ * 처리는 포인트와 같은 원장 엔진(MoneyLedger)을 사용한다.
+ */
+@Slf4j
+@Component
+public class ConditionalUpdateBalanceStrategy implements BalanceStrategy {
+
+    private final MoneyLedger balanceLedger;
+
+    public ConditionalUpdateBalanceStrategy(@Qualifier("balanceLedger") MoneyLedger balanceLedger) {
+        this.balanceLedger = balanceLedger;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public UserBalance deduct(Long userId, Long amount) {
+        validateAmount(amount, "차감 금액은 0보다 커야 합니다.");
+
+        OptionalLong after = balanceLedger.debit(userId, amount, "잔액 차감");
+        if (after.isEmpty()) {
+            long current = balanceLedger.balanceOf(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("잔액 정보를 찾을 수 없습니다."));
+            throw new IllegalStateException(
+                    String.format("잔액이 부족합니다. 현재 잔액: %d, 차감 요청: %d", current, amount)
+            );
+        }
+        return UserBalance.create(userId, after.getAsLong());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public UserBalance charge(Long userId, Long amount) {
+        validateAmount(amount, "충전 금액은 0보다 커야 합니다.");
+
+        return UserBalance.create(userId, balanceLedger.credit(userId, amount, "잔액 충전"));
+    }
+
+    private static void validateAmount(Long amount, String message) {
+        if (amount == null || amount <= 0) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+}
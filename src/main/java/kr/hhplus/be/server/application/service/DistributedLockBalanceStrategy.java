@@ -0,0 +1,27 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.domain.model.UserBalance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분산락 잔액 전략 (기존 방식)
+ *
+ * Redisson 락 안에서 조회 → 검증 → 엔티티 저장
+ */
+@Component
+@RequiredArgsConstructor
+public class DistributedLockBalanceStrategy implements BalanceStrategy {
+
+    private final ConcurrencyUserBalanceService userBalanceService;
+
+    @Override
+    public UserBalance deduct(Long userId, Long amount) {
+        return userBalanceService.deductBalanceWithConditionalUpdate(userId, amount);
+    }
+
+    @Override
+    public UserBalance charge(Long userId, Long amount) {
+        return userBalanceService.chargeBalance(userId, amount);
+    }
+}
@@ -0,0 +1,135 @@
+package kr.hhplus.be.server.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.domain.repository.QueueTokenRepository;
+import kr.hhplus.be.server.domain.repository.ReservationTokenRepository;
+import kr.hhplus.be.server.infrastructure.lock.DistributedLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 만료 토큰 정리 서비스
+ *
+ * 단일 DELETE 대신 ID 키셋 청크 단위로 삭제하고 청크 사이에 쉬어,
+ * 대기열이 사용하는 테이블에 긴 락을 잡지 않는다.
+ * 청크마다 별도의 짧은 트랜잭션으로 처리된다.
+ * 만료/완료 처리가 끝난 토큰만 삭제하며, 여러 노드가 같은 범위를 중복 삭제하지 않도록 한 노드만 실행한다.
+ */
+@Slf4j
+@Service
+public class ExpiredTokenCleanupService {
+
+    private static final String QUEUE_TOKENS = "queue_tokens";
+    private static final String RESERVATION_TOKENS = "reservation_tokens";
+
+    private final QueueTokenRepository queueTokenRepository;
+    private final ReservationTokenRepository reservationTokenRepository;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final long retentionMinutes;
+
+    private final AtomicLong queueTokenProgress = new AtomicLong();
+    private final AtomicLong reservationTokenProgress = new AtomicLong();
+
+    public ExpiredTokenCleanupService(
+            @Qualifier("queueTokenRepositoryImpl") QueueTokenRepository queueTokenRepository,
+            ReservationTokenRepository reservationTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${queue.cleanup.chunk-size:1000}") int chunkSize,
+            @Value("${queue.cleanup.pause-millis:100}") long pauseMillis,
+            @Value("${queue.cleanup.retention-minutes:60}") long retentionMinutes) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("청크 크기는 1 이상이어야 합니다.");
+        }
+        this.queueTokenRepository = queueTokenRepository;
+        this.reservationTokenRepository = reservationTokenRepository;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.retentionMinutes = retentionMinutes;
+
+        // 진행 중인(또는 마지막) 정리 작업에서 삭제한 행 수
+        Gauge.builder("queue.token.cleanup.progress", queueTokenProgress, AtomicLong::get)
+                .tag("table", QUEUE_TOKENS)
+                .register(meterRegistry);
+        Gauge.builder("queue.token.cleanup.progress", reservationTokenProgress, AtomicLong::get)
+                .tag("table", RESERVATION_TOKENS)
+                .register(meterRegistry);
+    }
+
+    @DistributedLock(key = "'queue:cleanup'", waitTime = 0L, leaseTime = -1)
+    public void cleanupExpiredTokens() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(retentionMinutes);
+
+        cleanup(QUEUE_TOKENS, queueTokenProgress, before,
+                queueTokenRepository::findExpiredTokenIds, queueTokenRepository::deleteByIds);
+        cleanup(RESERVATION_TOKENS, reservationTokenProgress, before,
+                reservationTokenRepository::findExpiredTokenIds, reservationTokenRepository::deleteByIds);
+    }
+
+    /**
+     * 한 테이블의 만료 토큰을 청크 단위로 삭제
+     *
+     * @return 삭제한 행 수
+     */
+    long cleanup(String table, AtomicLong progress, LocalDateTime before,
+                 ChunkFinder finder, Function<List<Long>, Integer> deleter) {
+        progress.set(0);
+        Counter deletedCounter = meterRegistry.counter("queue.token.cleanup.deleted", "table", table);
+
+        long afterId = 0L;
+        long totalDeleted = 0L;
+        try {
+            while (true) {
+                List<Long> ids = finder.find(afterId, before, chunkSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                int deleted = deleter.apply(ids);
+                totalDeleted += deleted;
+                progress.addAndGet(deleted);
+                deletedCounter.increment(deleted);
+                afterId = ids.get(ids.size() - 1);
+
+                if (ids.size() < chunkSize) {
+                    break;
+                }
+                pause();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[TokenCleanup] 정리 중단 - table: {}, 삭제: {}건", table, totalDeleted);
+            return totalDeleted;
+        } catch (Exception e) {
+            log.error("[TokenCleanup] 정리 실패 - table: {}, lastId: {}, error: {}", table, afterId, e.getMessage());
+            return totalDeleted;
+        }
+
+        if (totalDeleted > 0) {
+            log.info("[TokenCleanup] 정리 완료 - table: {}, 삭제: {}건", table, totalDeleted);
+        }
+        return totalDeleted;
+    }
+
+    private void pause() throws InterruptedException {
+        if (pauseMillis > 0) {
+            Thread.sleep(pauseMillis);
+        }
+    }
+
+    @FunctionalInterface
+    interface ChunkFinder {
+        List<Long> find(Long afterId, LocalDateTime before, int limit);
+    }
+}
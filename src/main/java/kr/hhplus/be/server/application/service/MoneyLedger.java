@@ -0,0 +1,71 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.domain.model.TransactionType;
+import kr.hhplus.be.server.domain.repository.LedgerAccountRepository;
+
+import java.util.OptionalLong;
+
+/**
+ * 원장 엔진 (잔액/포인트 공용)
+ *
+ * 조건부 UPDATE → 변경 후 잔액 조회 → 이력 기록 순으로 처리한다.
+ * UPDATE가 잡은 행 잠금이 커밋까지 유지되므로 호출자의 트랜잭션 안에서 사용해야 한다.
+ * 금액은 long 최소 단위이며, 예외 종류는 호출자가 정한다.
+ */
+public class MoneyLedger {
+
+    private final LedgerAccountRepository accounts;
+
+    public MoneyLedger(LedgerAccountRepository accounts) {
+        this.accounts = accounts;
+    }
+
+    /**
+     * 차감
+     * @return 차감 후 잔액, 잔액 부족 또는 계정 없음이면 empty
+     */
+    public OptionalLong debit(Long userId, long amount, String description) {
+        validateAmount(amount);
+        if (!accounts.debitIfSufficient(userId, amount)) {
+            return OptionalLong.empty();
+        }
+        long after = currentBalance(userId);
+        accounts.appendEntry(userId, TransactionType.DEDUCT, amount, after, description);
+        return OptionalLong.of(after);
+    }
+
+    /**
+     * 충전 (계정이 없으면 생성 후 충전)
+     * @return 충전 후 잔액
+     */
+    public long credit(Long userId, long amount, String description) {
+        validateAmount(amount);
+        if (!accounts.credit(userId, amount)) {
+            accounts.openIfAbsent(userId);
+            if (!accounts.credit(userId, amount)) {
+                throw new IllegalStateException("잔액 충전에 실패했습니다.");
+            }
+        }
+        long after = currentBalance(userId);
+        accounts.appendEntry(userId, TransactionType.CHARGE, amount, after, description);
+        return after;
+    }
+
+    public OptionalLong balanceOf(Long userId) {
+        return accounts.findBalance(userId);
+    }
+
+    private long currentBalance(Long userId) {
+        OptionalLong balance = accounts.findBalance(userId);
+        if (balance.isEmpty()) {
+            throw new IllegalStateException("잔액 정보를 찾을 수 없습니다.");
+        }
+        return balance.getAsLong();
+    }
+
+    private static void validateAmount(long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("금액은 0보다 커야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package kr.hhplus.be.server.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.domain.model.Payment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 결제 멱등성 저장소 (Redis)
+ *
+ * 키: payment:idempotency:{scope}
+ * - 처리 중: "IN_FLIGHT:{owner}" (짧은 TTL을 처리하는 동안 주기적으로 연장, 처리 노드 장애 시 자동 해제)
+ * - 처리 완료: 결제 응답 JSON (긴 TTL, 재요청은 GET 한 번으로 응답)
+ * 결제 서비스는 {@link #execute}로 조회/선점/대기/완료 흐름을 한 번에 사용한다.
+ */
+@Slf4j
+@Component
+public class PaymentIdempotencyStore {
+
+    private static final String KEY_PREFIX = "payment:idempotency:";
+    private static final String IN_FLIGHT_PREFIX = "IN_FLIGHT:";
+    private static final long POLL_INTERVAL_MILLIS = 20L;
+    private static final long MAX_POLL_INTERVAL_MILLIS = 200L;
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * 자신이 건 처리 중 표시만 삭제
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    /**
+     * 자신이 건 처리 중 표시만 TTL 연장
+     */
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end return 0",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration inFlightTtl;
+    private final Duration completedTtl;
+    private final ScheduledExecutorService renewalExecutor;
+
+    public PaymentIdempotencyStore(
+            @Qualifier("rankingRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            @Value("${payment.idempotency.in-flight-ttl-seconds:30}") long inFlightTtlSeconds,
+            @Value("${payment.idempotency.completed-ttl-hours:24}") long completedTtlHours) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        this.inFlightTtl = Duration.ofSeconds(inFlightTtlSeconds);
+        this.completedTtl = Duration.ofHours(completedTtlHours);
+        this.renewalExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "payment-idempotency-renewal");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 멱등성 키 기반 결제 실행
+     *
+     * 완료된 재요청은 Redis GET 한 번으로 응답한다 (락/DB 접근 없음).
+     * 동시에 들어온 중복 요청은 처리 중 표시가 완료로 바뀔 때까지 기다리고,
+     * 처리하던 요청이 실패해 표시가 해제되면 이어서 처리한다.
+     * 저장된 응답이 다른 사용자의 결제면 돌려주지 않고 거부한다.
+     *
+     * @param action 처리 권한을 얻은 요청만 실행 (예외 시 처리 중 표시 해제)
+     */
+    public Payment execute(String scope, Long userId, Supplier<Payment> action) {
+        Optional<Payment> completed = findCompleted(scope);
+        if (completed.isPresent()) {
+            return verifyOwner(completed.get(), userId);
+        }
+
+        while (true) {
+            Optional<String> owner = tryStart(scope);
+            if (owner.isPresent()) {
+                return verifyOwner(executeAsOwner(scope, owner.get(), action), userId);
+            }
+
+            Optional<Payment> result = awaitCompletion(scope, WAIT_TIMEOUT);
+            if (result.isPresent()) {
+                return verifyOwner(result.get(), userId);
+            }
+        }
+    }
+
+    private Payment executeAsOwner(String scope, String owner, Supplier<Payment> action) {
+        Payment payment;
+        // 처리하는 동안 처리 중 표시를 연장해 TTL이 지나도 다른 요청이 중복 처리하지 않게 한다
+        try (Renewal ignored = keepAlive(scope, owner)) {
+            payment = action.get();
+        } catch (RuntimeException e) {
+            release(scope, owner);
+            throw e;
+        }
+
+        complete(scope, payment);
+        return payment;
+    }
+
+    private static Payment verifyOwner(Payment payment, Long userId) {
+        if (!payment.getUserId().equals(userId)) {
+            throw new IllegalStateException("다른 사용자의 멱등성 키입니다.");
+        }
+        return payment;
+    }
+
+    /**
+     * 완료된 응답 조회
+     */
+    public Optional<Payment> findCompleted(String scope) {
+        return parseCompleted(redisTemplate.opsForValue().get(key(scope)));
+    }
+
+    /**
+     * 처리 시작 표시 (SET NX)
+     *
+     * @return 소유자 토큰 (이미 처리 중이거나 완료된 경우 empty)
+     */
+    public Optional<String> tryStart(String scope) {
+        String owner = IN_FLIGHT_PREFIX + UUID.randomUUID();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key(scope), owner, inFlightTtl);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(owner) : Optional.empty();
+    }
+
+    /**
+     * 처리 중 표시 유지 (TTL의 1/3 주기로 연장)
+     *
+     * 처리가 TTL보다 오래 걸려도 다른 요청이 중복 처리하지 않는다.
+     * 처리 노드가 죽으면 연장이 멈춰 TTL 후 해제된다.
+     *
+     * @return 처리가 끝나면 닫아서 연장을 멈춘다
+     */
+    public Renewal keepAlive(String scope, String owner) {
+        long periodMillis = Math.max(inFlightTtl.toMillis() / 3, 1L);
+        ScheduledFuture<?> task = renewalExecutor.scheduleAtFixedRate(
+                () -> renew(scope, owner), periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        return () -> task.cancel(false);
+    }
+
+    private void renew(String scope, String owner) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key(scope)), owner,
+                    String.valueOf(inFlightTtl.toMillis()));
+            if (renewed == null || renewed == 0L) {
+                log.warn("멱등성 처리 중 표시 연장 실패 (이미 해제됨) - scope: {}", scope);
+            }
+        } catch (Exception e) {
+            log.warn("멱등성 처리 중 표시 연장 실패 - scope: {}, error: {}", scope, e.getMessage());
+        }
+    }
+
+    /**
+     * 처리 완료 응답 저장
+     */
+    public void complete(String scope, Payment payment) {
+        try {
+            String json = objectMapper.writeValueAsString(PaymentSnapshot.from(payment));
+            redisTemplate.opsForValue().set(key(scope), json, completedTtl);
+        } catch (Exception e) {
+            // 응답 저장 실패 시에도 DB의 멱등성 키로 중복 결제는 막힌다
+            log.error("멱등성 응답 저장 실패 - scope: {}", scope, e);
+        }
+    }
+
+    /**
+     * 처리 실패 시 처리 중 표시 해제 (다른 요청이 이어서 처리할 수 있도록)
+     */
+    public void release(String scope, String owner) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(key(scope)), owner);
+    }
+
+    /**
+     * 다른 요청이 처리 중일 때 완료를 기다린다.
+     *
+     * @return 완료 응답, 처리 중 표시가 사라졌으면 empty (호출 측에서 다시 tryStart)
+     * @throws IllegalStateException 대기 시간 초과
+     */
+    public Optional<Payment> awaitCompletion(String scope, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long interval = POLL_INTERVAL_MILLIS;
+
+        while (System.nanoTime() < deadline) {
+            String value = redisTemplate.opsForValue().get(key(scope));
+            if (value == null) {
+                return Optional.empty();
+            }
+            Optional<Payment> completed = parseCompleted(value);
+            if (completed.isPresent()) {
+                return completed;
+            }
+
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("결제 처리 대기 중 인터럽트 발생");
+            }
+            interval = Math.min(interval * 2, MAX_POLL_INTERVAL_MILLIS);
+        }
+
+        throw new IllegalStateException("동일한 결제 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewalExecutor.shutdownNow();
+    }
+
+    private Optional<Payment> parseCompleted(String value) {
+        if (value == null || value.startsWith(IN_FLIGHT_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(value, PaymentSnapshot.class).toPayment());
+        } catch (Exception e) {
+            log.warn("멱등성 응답 역직렬화 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static String key(String scope) {
+        return KEY_PREFIX + scope;
+    }
+
+    /**
+     * 처리 중 표시 연장 작업 (try-with-resources로 닫는다)
+     */
+    public interface Renewal extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * 결제 응답 직렬화 형식
+     */
+    record PaymentSnapshot(
+            Long id,
+            Long reservationId,
+            Long userId,
+            Long amount,
+            Payment.PaymentStatus status,
+            String idempotencyKey,
+            String paymentMethod,
+            String transactionId,
+            String failureReason,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            Long version
+    ) {
+        static PaymentSnapshot from(Payment payment) {
+            return new PaymentSnapshot(
+                    payment.getId(), payment.getReservationId(), payment.getUserId(), payment.getAmount(),
+                    payment.getStatus(), payment.getIdempotencyKey(), payment.getPaymentMethod(),
+                    payment.getTransactionId(), payment.getFailureReason(),
+                    payment.getCreatedAt(), payment.getUpdatedAt(), payment.getVersion()
+            );
+        }
+
+        Payment toPayment() {
+            Payment payment = Payment.createWithReservation(reservationId, userId, amount,
+                    paymentMethod, idempotencyKey);
+            payment.assignTechnicalFields(id, createdAt, updatedAt, version);
+
+            if (status == Payment.PaymentStatus.COMPLETED) {
+                return payment.complete(transactionId);
+            }
+            if (status == Payment.PaymentStatus.FAILED) {
+                return payment.fail(failureReason);
+            }
+            return payment;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.domain.model.Payment;
+import kr.hhplus.be.server.domain.model.PaymentCompensation;
+import kr.hhplus.be.server.domain.model.PaymentSaga;
+import kr.hhplus.be.server.domain.model.PaymentSaga.SagaStatus;
+import kr.hhplus.be.server.domain.model.SeatStatus;
+import kr.hhplus.be.server.domain.repository.PaymentCompensationRepository;
+import kr.hhplus.be.server.domain.repository.PaymentRepository;
+import kr.hhplus.be.server.domain.repository.PaymentSagaRepository;
+import kr.hhplus.be.server.domain.repository.SeatReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 결제 SAGA 단계 실행 서비스
+ *
+ * 각 단계는 조건부 UPDATE와 SAGA 상태 변경을 하나의 짧은 트랜잭션으로 묶는다.
+ * 단계 시작 시 SAGA 상태를 확인하므로 같은 단계를 다시 실행해도 중복 반영되지 않는다.
+ * 잔액 차감/환불은 설정된 잔액 전략(히스토리, 분할 계좌, Redis 홀드 포함)을 거치므로
+ * 별도 트랜잭션이며, 호출 전에 SAGA 상태를 선점해 한 번만 호출한다.
+ */
+@Slf4j
+@Service
+public class PaymentSagaStepService {
+
+    private final PaymentSagaRepository paymentSagaRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentCompensationRepository compensationRepository;
+    private final SeatReservationRepository seatReservationRepository;
+    private final BalanceStrategy balanceStrategy;
+    private final SeatConfirmationBatcher seatConfirmationBatcher;
+    private final TransactionTemplate requiresNewTemplate;
+
+    public PaymentSagaStepService(PaymentSagaRepository paymentSagaRepository,
+                                  PaymentRepository paymentRepository,
+                                  PaymentCompensationRepository compensationRepository,
+                                  SeatReservationRepository seatReservationRepository,
+                                  BalanceStrategy balanceStrategy,
+                                  SeatConfirmationBatcher seatConfirmationBatcher,
+                                  PlatformTransactionManager transactionManager) {
+        this.paymentSagaRepository = paymentSagaRepository;
+        this.paymentRepository = paymentRepository;
+        this.compensationRepository = compensationRepository;
+        this.seatReservationRepository = seatReservationRepository;
+        this.balanceStrategy = balanceStrategy;
+        this.seatConfirmationBatcher = seatConfirmationBatcher;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 잔액 차감 단계: ACCEPTED → BALANCE_DEDUCTING → BALANCE_DEDUCTED (잔액 부족 시 FAILED)
+     *
+     * 잔액 전략은 자체 트랜잭션이라 예외가 나면 차감되지 않은 것이다.
+     * 차감 후 상태 기록에 실패하면 환불하고 예외를 던진다 (호출자가 FAILED 처리).
+     */
+    public PaymentSaga deductBalance(Long sagaId) {
+        if (!claim(sagaId, SagaStatus.ACCEPTED, SagaStatus.BALANCE_DEDUCTING)) {
+            return getSaga(sagaId);
+        }
+        PaymentSaga saga = getSaga(sagaId);
+
+        try {
+            balanceStrategy.deduct(saga.getUserId(), saga.getAmount());
+        } catch (RuntimeException e) {
+            return requiresNewTemplate.execute(status -> {
+                PaymentSaga failed = getSaga(sagaId);
+                failed.fail(e.getMessage());
+                failPayment(failed);
+                return paymentSagaRepository.save(failed);
+            });
+        }
+
+        try {
+            return requiresNewTemplate.execute(status -> {
+                PaymentSaga deducted = getSaga(sagaId);
+                deducted.markBalanceDeducted();
+                return paymentSagaRepository.save(deducted);
+            });
+        } catch (RuntimeException e) {
+            try {
+                balanceStrategy.charge(saga.getUserId(), saga.getAmount());
+            } catch (RuntimeException refundError) {
+                log.error("[CRITICAL] 결제 SAGA 차감 환불 실패 - sagaId: {}, userId: {}, amount: {}",
+                        sagaId, saga.getUserId(), saga.getAmount(), refundError);
+                e.addSuppressed(refundError);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 게이트웨이 호출 선점: BALANCE_DEDUCTED → GATEWAY_PENDING
+     *
+     * 조건부 UPDATE라 복구 스케줄러와 원래 흐름이 겹쳐도 한 곳만 호출 권한을 얻는다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean claimGatewayCall(Long sagaId) {
+        return paymentSagaRepository.transitionStatus(sagaId,
+                SagaStatus.BALANCE_DEDUCTED, SagaStatus.GATEWAY_PENDING, LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * 응답 없이 멈춘 게이트웨이 호출 재선점 (복구 스케줄러용, 같은 멱등성 키로 재요청)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean reclaimStaleGatewayCall(PaymentSaga staleSaga) {
+        return paymentSagaRepository.touchIfUnchanged(staleSaga.getId(),
+                SagaStatus.GATEWAY_PENDING, staleSaga.getVersion(), LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * 자동 복구 중단: 조회한 상태 그대로면 NEEDS_MANUAL로 전환 (복구 스케줄러용)
+     *
+     * @return 이번 호출로 전환했으면 true (이미 전환됐거나 그 사이 진행됐으면 false)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean parkForManualHandling(PaymentSaga staleSaga) {
+        return paymentSagaRepository.parkIfUnchanged(staleSaga.getId(),
+                staleSaga.getStatus(), staleSaga.getVersion(), LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * 게이트웨이 결과 기록: GATEWAY_PENDING → GATEWAY_APPROVED (실패 시 COMPENSATING)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public PaymentSaga recordGatewayResult(Long sagaId, Payment processedPayment) {
+        PaymentSaga saga = getSaga(sagaId);
+        if (saga.getStatus() != SagaStatus.GATEWAY_PENDING) {
+            return saga;
+        }
+
+        if (processedPayment.getStatus() == Payment.PaymentStatus.COMPLETED) {
+            saga.markGatewayApproved(processedPayment.getTransactionId());
+        } else {
+            saga.fail(processedPayment.getFailureReason() != null
+                    ? processedPayment.getFailureReason() : "결제 게이트웨이 처리 실패");
+        }
+        return paymentSagaRepository.save(saga);
+    }
+
+    /**
+     * 좌석 확정 + 결제 완료: GATEWAY_APPROVED → COMPLETED
+     *
+     * 좌석 확정과 잔여석 감소는 좌석 확정 배처가 콘서트별로 묶어 반영한다.
+     * 확정이 거절되면 예외를 던지고 (호출자가 보상), 이미 이 사용자에게 확정된 좌석이면
+     * 앞선 시도가 완료 기록 전에 멈춘 것이므로 완료만 기록한다.
+     * 좌석 확정 이후 완료 기록이 실패하면 보상하지 않고 GATEWAY_APPROVED로 남겨 복구 스케줄러가 다시 완료한다.
+     */
+    public PaymentSaga confirmAndComplete(Long sagaId) {
+        PaymentSaga saga = getSaga(sagaId);
+        if (saga.getStatus() != SagaStatus.GATEWAY_APPROVED) {
+            return saga;
+        }
+
+        if (!confirmSeat(saga) && !isConfirmedFor(saga)) {
+            throw new IllegalStateException("확정할 수 있는 예약이 없습니다. (만료되었거나 다른 사용자의 예약)");
+        }
+
+        try {
+            return requiresNewTemplate.execute(status -> {
+                PaymentSaga confirmed = getSaga(sagaId);
+                if (confirmed.getStatus() != SagaStatus.GATEWAY_APPROVED) {
+                    return confirmed;
+                }
+                Payment payment = getPayment(confirmed);
+                paymentRepository.save(payment.complete(confirmed.getTransactionId()));
+                confirmed.markCompleted();
+                return paymentSagaRepository.save(confirmed);
+            });
+        } catch (RuntimeException e) {
+            log.error("[PaymentSaga] 좌석 확정 후 완료 기록 실패 (재시도 예정) - sagaId: {}", sagaId, e);
+            recordRetryFailure(sagaId, "완료 기록 실패: " + e.getMessage());
+            return getSaga(sagaId);
+        }
+    }
+
+    private boolean confirmSeat(PaymentSaga saga) {
+        try {
+            return seatConfirmationBatcher.confirm(saga.getConcertId(), saga.getSeatNumber(), saga.getUserId()).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private boolean isConfirmedFor(PaymentSaga saga) {
+        return seatReservationRepository.findByConcertIdAndSeatNumber(saga.getConcertId(), saga.getSeatNumber())
+                .filter(seat -> seat.getStatus() == SeatStatus.SOLD && saga.getUserId().equals(seat.getUserId()))
+                .isPresent();
+    }
+
+    /**
+     * 단계 실패 기록 (차감 전이면 FAILED + 결제 실패, 이후면 COMPENSATING)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public PaymentSaga fail(Long sagaId, String reason) {
+        PaymentSaga saga = getSaga(sagaId);
+        saga.fail(reason);
+        if (saga.getStatus() == SagaStatus.FAILED) {
+            failPayment(saga);
+        }
+        return paymentSagaRepository.save(saga);
+    }
+
+    /**
+     * 보상 단계: COMPENSATING → REFUNDING → COMPENSATED
+     *
+     * 잔액 전략으로 환불한 뒤 결제 실패 처리와 함께, 게이트웨이 승인이 있었으면 승인 취소 보상을 기록한다.
+     * 환불이 실패하면 COMPENSATING으로 되돌려 복구 스케줄러가 다시 시도한다.
+     */
+    public PaymentSaga compensate(Long sagaId) {
+        if (!claim(sagaId, SagaStatus.COMPENSATING, SagaStatus.REFUNDING)) {
+            return getSaga(sagaId);
+        }
+        PaymentSaga saga = getSaga(sagaId);
+
+        try {
+            balanceStrategy.charge(saga.getUserId(), saga.getAmount());
+        } catch (RuntimeException e) {
+            claim(sagaId, SagaStatus.REFUNDING, SagaStatus.COMPENSATING);
+            throw e;
+        }
+
+        return requiresNewTemplate.execute(status -> {
+            PaymentSaga refunded = getSaga(sagaId);
+            if (refunded.getTransactionId() != null) {
+                compensationRepository.save(PaymentCompensation.gatewayCancel(
+                        refunded.getReservationId(),
+                        refunded.getUserId(),
+                        refunded.getAmount(),
+                        refunded.getTransactionId(),
+                        refunded.getFailureReason()));
+                log.warn("[PaymentSaga] 게이트웨이 승인 취소 보상 기록 - sagaId: {}, transactionId: {}",
+                        sagaId, refunded.getTransactionId());
+            }
+            failPayment(refunded);
+            refunded.markCompensated();
+            log.info("[PaymentSaga] 보상 완료 - sagaId: {}, userId: {}, amount: {}",
+                    sagaId, refunded.getUserId(), refunded.getAmount());
+            return paymentSagaRepository.save(refunded);
+        });
+    }
+
+    /**
+     * 단계 재시도 실패 기록 (복구 스케줄러가 다시 시도)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordRetryFailure(Long sagaId, String reason) {
+        PaymentSaga saga = getSaga(sagaId);
+        saga.recordRetryFailure(reason);
+        paymentSagaRepository.save(saga);
+    }
+
+    private boolean claim(Long sagaId, SagaStatus expected, SagaStatus next) {
+        Integer updated = requiresNewTemplate.execute(status ->
+                paymentSagaRepository.transitionStatus(sagaId, expected, next, LocalDateTime.now()));
+        return updated != null && updated == 1;
+    }
+
+    private void failPayment(PaymentSaga saga) {
+        Payment payment = getPayment(saga);
+        if (payment.isPending()) {
+            paymentRepository.save(payment.fail(saga.getFailureReason()));
+        }
+    }
+
+    private PaymentSaga getSaga(Long sagaId) {
+        return paymentSagaRepository.findById(sagaId)
+                .orElseThrow(() -> new IllegalArgumentException("결제 SAGA를 찾을 수 없습니다: " + sagaId));
+    }
+
+    private Payment getPayment(PaymentSaga saga) {
+        return paymentRepository.findById(saga.getPaymentId())
+                .orElseThrow(() -> new IllegalStateException("결제 정보를 찾을 수 없습니다: " + saga.getPaymentId()));
+    }
+}
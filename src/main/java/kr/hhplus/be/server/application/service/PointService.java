@@ -1,46 +1,51 @@
 package kr.hhplus.be.server.application.service;
 
 import kr.hhplus.be.server.domain.entity.Point;
-import kr.hhplus.be.server.domain.entity.PointHistory;
+import kr.hhplus.be.server.domain.model.CursorPage;
+import kr.hhplus.be.server.domain.model.KeysetCursor;
+import kr.hhplus.be.server.domain.model.MinorUnits;
+import kr.hhplus.be.server.domain.model.PointHistoryEntry;
 import kr.hhplus.be.server.domain.repository.PointRepository;
 import kr.hhplus.be.server.domain.repository.PointHistoryRepository;
-import kr.hhplus.be.server.infrastructure.lock.DistributedLock;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
- * 포인트 서비스 (분산락 적용)
+ * 포인트 서비스 (조건부 UPDATE, 락 없음)
  *
- * 분산락 적용 이유:
- * - 동시 충전/사용 시 정확한 잔액 보장
- * - DB 비관적 락 제거로 성능 개선
- * - 포인트 히스토리와 잔액 업데이트의 원자성 보장
+ * 잔액과 같은 원장 엔진(MoneyLedger)으로 처리한다.
+ * - 충전/사용은 long 최소 단위로 계산하고 BigDecimal 변환은 API/DB 경계에서만 한다
+ * - 사용은 balance >= :amount 조건의 UPDATE 한 번으로 끝나므로 분산락(point:operation)이 필요 없다
+ * - UPDATE 행 잠금이 커밋까지 유지되어 잔액 변경과 이력 기록이 원자적으로 반영된다
  */
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PointService {
 
+    private static final int EXPORT_BATCH_SIZE = 500;
+
+    private final MoneyLedger pointLedger;
     private final PointRepository pointRepository;
     private final PointHistoryRepository pointHistoryRepository;
 
+    public PointService(@Qualifier("pointLedger") MoneyLedger pointLedger,
+                        PointRepository pointRepository,
+                        PointHistoryRepository pointHistoryRepository) {
+        this.pointLedger = pointLedger;
+        this.pointRepository = pointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+    }
+
     /**
-     * 포인트 충전 (분산락 적용)
-     *
-     * 락 키: point:charge:{userId}
-     * 락 범위: 잔액 조회 → 충전 → 저장 → 히스토리 기록
-     *
-     * 기존 비관적 락(findByUserIdWithLock) 제거
+     * 포인트 충전 (포인트 정보가 없으면 생성 후 충전)
      */
-    @DistributedLock(
-            key = "'point:operation:' + #userId",  // ⭐ 통합된 락 키
-            waitTime = 5L,
-            leaseTime = 3L
-    )
     @Transactional
     public Point chargePoint(Long userId, BigDecimal amount, String description) {
         if (userId == null) {
@@ -51,33 +56,13 @@ public class PointService {
             throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다.");
         }
 
-        // 포인트 조회 (비관적 락 제거됨)
-        Point point = pointRepository.findByUserId(userId)
-                .orElseGet(() -> {
-                    Point newPoint = Point.create(userId);
-                    return pointRepository.save(newPoint);
-                });
-
-        point.charge(amount);
-        Point savedPoint = pointRepository.save(point);
-
-        // 포인트 충전 이력 저장
-        PointHistory history = PointHistory.charge(userId, amount, description);
-        pointHistoryRepository.save(history);
-
-        return savedPoint;
+        pointLedger.credit(userId, MinorUnits.fromDecimal(amount), description);
+        return getPointBalance(userId);
     }
 
     /**
-     * 포인트 사용 (충전과 동일한 락 키 사용)
-     *
-     * 락 키: point:operation:{userId}  ⭐ chargePoint와 동일
+     * 포인트 사용 (잔액이 충분할 때만 차감)
      */
-    @DistributedLock(
-            key = "'point:operation:' + #userId",  // ⭐ 통합된 락 키
-            waitTime = 5L,
-            leaseTime = 3L
-    )
     @Transactional
     public Point usePoint(Long userId, BigDecimal amount, String description) {
         if (userId == null) {
@@ -88,17 +73,13 @@ public class PointService {
             throw new IllegalArgumentException("사용 금액은 0보다 커야 합니다.");
         }
 
-        Point point = pointRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("포인트 정보를 찾을 수 없습니다."));
-
-        point.use(amount);
-        Point savedPoint = pointRepository.save(point);
-
-        // 포인트 사용 이력 저장
-        PointHistory history = PointHistory.use(userId, amount, description);
-        pointHistoryRepository.save(history);
-
-        return savedPoint;
+        if (pointLedger.debit(userId, MinorUnits.fromDecimal(amount), description).isEmpty()) {
+            if (pointLedger.balanceOf(userId).isEmpty()) {
+                throw new IllegalArgumentException("포인트 정보를 찾을 수 없습니다.");
+            }
+            throw new IllegalArgumentException("잔액이 부족합니다.");
+        }
+        return getPointBalance(userId);
     }
 
     /**
@@ -122,13 +103,40 @@ public class PointService {
     }
 
     /**
-     * 포인트 이력 조회 (락 불필요 - 읽기 전용)
+     * 포인트 이력 페이지 조회 (키셋, cursor가 없으면 최신 페이지)
      */
-    public List<PointHistory> getPointHistory(Long userId) {
+    public CursorPage<PointHistoryEntry> getPointHistory(Long userId, String cursor, int size) {
         if (userId == null) {
             throw new IllegalArgumentException("사용자 ID는 필수입니다.");
         }
+        CursorPage.validateSize(size);
+
+        return findPointHistoryPage(userId, KeysetCursor.decode(cursor), size);
+    }
+
+    /**
+     * 포인트 이력 전체 내보내기 (배치마다 짧은 읽기 트랜잭션, 연결을 내보내기 내내 점유하지 않는다)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportPointHistory(Long userId, Consumer<PointHistoryEntry> consumer) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다.");
+        }
+
+        KeysetCursor cursor = null;
+        do {
+            CursorPage<PointHistoryEntry> page = findPointHistoryPage(userId, cursor, EXPORT_BATCH_SIZE);
+            page.items().forEach(consumer);
+            cursor = KeysetCursor.decode(page.nextCursor());
+        } while (cursor != null);
+    }
 
-        return pointHistoryRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    private CursorPage<PointHistoryEntry> findPointHistoryPage(Long userId, KeysetCursor cursor, int size) {
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<PointHistoryEntry> fetched = cursor == null
+                ? pointHistoryRepository.findFirstPage(userId, limit)
+                : pointHistoryRepository.findPageAfter(userId, cursor.at(), cursor.id(), limit);
+        return CursorPage.of(fetched, size, PointHistoryEntry::cursor);
     }
-}
\ No newline at end of file
+}
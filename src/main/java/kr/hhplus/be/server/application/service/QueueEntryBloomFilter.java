@@ -0,0 +1,218 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.domain.event.ConcertChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 콘서트별 대기열 진입자 Bloom 필터
+ *
+ * 원본: Redis 비트맵 (queue:bloom:{concertId})
+ * 로컬 미러: 이 노드가 확인/등록한 비트만 보관 (원본의 부분집합)
+ * - 로컬에서 모든 비트가 켜져 있으면 Redis 조회 없이 "있을 수 있음"
+ * - 그 외에는 Redis 비트맵으로 판정, false면 "확실히 없음"
+ * - 미러는 원본 키 TTL이 지나거나 콘서트가 삭제되면 제거한다
+ */
+@Slf4j
+@Component
+public class QueueEntryBloomFilter {
+
+    private static final String BLOOM_KEY_PREFIX = "queue:bloom:";
+
+    private static final RedisScript<Long> CONTAINS_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #ARGV do " +
+            "  if redis.call('GETBIT', KEYS[1], ARGV[i]) == 0 then return 0 end " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    /**
+     * ARGV[1] = 키 TTL(초), ARGV[2..] = 비트 오프셋
+     */
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "for i = 2, #ARGV do redis.call('SETBIT', KEYS[1], ARGV[i], 1) end " +
+            "if redis.call('TTL', KEYS[1]) < 0 then redis.call('EXPIRE', KEYS[1], ARGV[1]) end " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long bitSize;
+    private final int hashCount;
+    private final long ttlSeconds;
+    private final Map<Long, Mirror> localMirrors = new ConcurrentHashMap<>();
+
+    public QueueEntryBloomFilter(
+            @Qualifier("rankingRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            @Value("${queue.bloom.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${queue.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${queue.bloom.ttl-seconds:86400}") long ttlSeconds) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("예상 등록 수는 1 이상이어야 합니다.");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다.");
+        }
+        this.redisTemplate = redisTemplate;
+        this.bitSize = optimalBitSize(expectedInsertions, falsePositiveRate);
+        this.hashCount = optimalHashCount(expectedInsertions, bitSize);
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 대기열에 있을 수 있는지 판정 (false = 확실히 없음)
+     */
+    public boolean mightContain(Long concertId, Long userId) {
+        long[] offsets = offsetsOf(userId);
+        AtomicLongArray mirror = mirrorOf(concertId);
+        if (allSet(mirror, offsets)) {
+            return true;
+        }
+
+        Long result = redisTemplate.execute(CONTAINS_SCRIPT, List.of(bloomKey(concertId)), toArgs(offsets, false));
+        boolean contains = result != null && result == 1L;
+        if (contains) {
+            setAll(mirror, offsets);
+        }
+        return contains;
+    }
+
+    /**
+     * 대기열 진입자 등록
+     */
+    public void put(Long concertId, Long userId) {
+        long[] offsets = offsetsOf(userId);
+        redisTemplate.execute(ADD_SCRIPT, List.of(bloomKey(concertId)), toArgs(offsets, true));
+        setAll(mirrorOf(concertId), offsets);
+    }
+
+    /**
+     * 로컬 미러 제거 (콘서트 종료 시)
+     */
+    public void clearLocal(Long concertId) {
+        localMirrors.remove(concertId);
+    }
+
+    /**
+     * 삭제된 콘서트의 미러 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onConcertChanged(ConcertChangedEvent event) {
+        if (event.type() == ConcertChangedEvent.ChangeType.DELETE) {
+            clearLocal(event.concertId());
+        }
+    }
+
+    /**
+     * 원본 키 TTL보다 오래된 미러 제거
+     *
+     * 종료된 콘서트는 더 이상 조회되지 않으므로 TTL이 지나면 미러도 정리된다.
+     *
+     * @return 제거한 미러 수
+     */
+    @Scheduled(fixedDelayString = "${queue.bloom.mirror-eviction-delay-millis:600000}")
+    public int evictExpiredMirrors() {
+        long now = System.nanoTime();
+        long ttlNanos = ttlSeconds * 1_000_000_000L;
+        int before = localMirrors.size();
+        localMirrors.values().removeIf(mirror -> now - mirror.createdAtNanos() >= ttlNanos);
+        int evicted = before - localMirrors.size();
+        if (evicted > 0) {
+            log.info("[QueueBloom] 만료 미러 제거 - {}건", evicted);
+        }
+        return evicted;
+    }
+
+    public int getMirrorCount() {
+        return localMirrors.size();
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Kirsch-Mitzenmacher 이중 해싱: h1 + i * h2
+     */
+    private long[] offsetsOf(Long userId) {
+        long h1 = mix(userId);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        long[] offsets = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            offsets[i] = Math.floorMod(h1 + i * h2, bitSize);
+        }
+        return offsets;
+    }
+
+    private Object[] toArgs(long[] offsets, boolean withTtl) {
+        List<String> args = new ArrayList<>(offsets.length + 1);
+        if (withTtl) {
+            args.add(String.valueOf(ttlSeconds));
+        }
+        for (long offset : offsets) {
+            args.add(String.valueOf(offset));
+        }
+        return args.toArray();
+    }
+
+    private AtomicLongArray mirrorOf(Long concertId) {
+        return localMirrors.computeIfAbsent(concertId,
+                id -> new Mirror(new AtomicLongArray((int) ((bitSize + 63) / 64)), System.nanoTime())).bits();
+    }
+
+    private static boolean allSet(AtomicLongArray bits, long[] offsets) {
+        for (long offset : offsets) {
+            if ((bits.get((int) (offset >>> 6)) & (1L << offset)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void setAll(AtomicLongArray bits, long[] offsets) {
+        for (long offset : offsets) {
+            int index = (int) (offset >>> 6);
+            long mask = 1L << offset;
+            bits.getAndAccumulate(index, mask, (current, m) -> current | m);
+        }
+    }
+
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long optimalBitSize(long n, double p) {
+        return Math.max(64, (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2))));
+    }
+
+    private static int optimalHashCount(long n, long m) {
+        return Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    }
+
+    private static String bloomKey(Long concertId) {
+        return BLOOM_KEY_PREFIX + concertId;
+    }
+
+    private record Mirror(AtomicLongArray bits, long createdAtNanos) {
+    }
+}
@@ -0,0 +1,124 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.domain.model.QueueStatus;
+import kr.hhplus.be.server.domain.model.QueueToken;
+import kr.hhplus.be.server.domain.repository.QueueTokenRepository;
+import kr.hhplus.be.server.infrastructure.persistence.WaitingNumberAllocator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * 대기열 진입 서비스
+ *
+ * Bloom 필터가 "확실히 없음"으로 판정하면 DB 조회 없이 바로 토큰을 발급하고,
+ * "있을 수 있음"일 때만 findByUserIdAndConcertId로 정확히 확인한다.
+ *
+ * (user_id, concert_id)는 유니크 키이므로 사용자당 콘서트별 토큰 행은 하나다.
+ * 만료/완료된 토큰으로 재진입하면 같은 행을 새 대기 토큰으로 덮어쓴다.
+ * 새 대기 토큰은 샤딩된 대기열({@link ShardedWaitingQueueService})의 맨 뒤에 세우고,
+ * 대기 번호({@link WaitingNumberAllocator})를 부여해 대기열 유실 시 DB 보충 순서로 쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueueEntryService {
+
+    private final QueueTokenRepository queueTokenRepository;
+    private final QueueEntryBloomFilter queueEntryBloomFilter;
+    private final ShardedWaitingQueueService shardedWaitingQueueService;
+    private final WaitingNumberAllocator waitingNumberAllocator;
+
+    /**
+     * 대기열 진입 (이미 유효한 토큰이 있으면 그대로 반환)
+     *
+     * 저장은 리포지토리 트랜잭션에서 바로 커밋되어, 동시 진입으로 유니크 키가 충돌하면
+     * 먼저 저장된 토큰을 다시 읽어 유효하면 반환하고, 만료/완료된 행이면 새 대기 토큰으로 덮어쓴다.
+     */
+    public QueueToken enter(Long userId, Long concertId) {
+        if (userId == null || concertId == null) {
+            throw new IllegalArgumentException("사용자 ID와 콘서트 ID는 필수입니다.");
+        }
+
+        QueueToken token = QueueToken.createWaitingToken(userId, concertId);
+        if (queueEntryBloomFilter.mightContain(concertId, userId)) {
+            Optional<QueueToken> existing = queueTokenRepository.findByUserIdAndConcertId(userId, concertId);
+            if (existing.isPresent() && isReusable(existing.get())) {
+                log.debug("기존 대기열 토큰 반환 - userId: {}, concertId: {}", userId, concertId);
+                if (existing.get().getStatus() == QueueStatus.WAITING) {
+                    enqueue(concertId, userId, false);
+                }
+                return existing.get();
+            }
+            // 만료/완료된 행을 재사용
+            existing.ifPresent(previous -> token.assignId(previous.getId()));
+        }
+
+        assignWaitingNumber(token);
+        QueueToken saved;
+        try {
+            saved = queueTokenRepository.save(token);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("동시 진입 감지, 기존 토큰 조회 - userId: {}, concertId: {}", userId, concertId);
+            QueueToken existing = queueTokenRepository.findByUserIdAndConcertId(userId, concertId)
+                    .orElseThrow(() -> e);
+            if (isReusable(existing)) {
+                saved = existing;
+            } else {
+                // Bloom 필터가 놓친 만료/완료 행은 새 대기 토큰으로 덮어쓴다
+                token.assignId(existing.getId());
+                saved = queueTokenRepository.save(token);
+            }
+        }
+        queueEntryBloomFilter.put(concertId, userId);
+        enqueue(concertId, userId, saved.getTokenValue().equals(token.getTokenValue()));
+
+        log.info("대기열 진입 - userId: {}, concertId: {}", userId, concertId);
+        return saved;
+    }
+
+    /**
+     * 토큰 값으로 대기열 토큰 조회
+     */
+    public QueueToken getToken(String tokenValue) {
+        return queueTokenRepository.findByTokenValue(tokenValue)
+                .orElseThrow(() -> new IllegalArgumentException("대기열 토큰을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 샤딩된 대기열에 세우기 (실패해도 토큰은 유지, 대기열이 비면 활성화가 DB 순서로 보충한다)
+     *
+     * @param reset 새 토큰이면 true (맨 뒤로), 기존 대기 토큰이면 false (순서 유지, 유실 시 복구)
+     */
+    private void enqueue(Long concertId, Long userId, boolean reset) {
+        try {
+            if (reset) {
+                shardedWaitingQueueService.enqueue(concertId, userId);
+            } else {
+                shardedWaitingQueueService.enqueueIfAbsent(concertId, userId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("대기열 등록 실패 - userId: {}, concertId: {}, error: {}", userId, concertId, e.getMessage());
+        }
+    }
+
+    /**
+     * 대기 번호 부여 (실패해도 진입은 계속, 번호 없는 토큰은 DB 보충 시 생성 시각 순)
+     */
+    private void assignWaitingNumber(QueueToken token) {
+        try {
+            token.assignPosition(Math.toIntExact(waitingNumberAllocator.next()));
+        } catch (RuntimeException e) {
+            log.warn("대기 번호 발급 실패 - userId: {}, concertId: {}, error: {}",
+                    token.getUserId(), token.getConcertId(), e.getMessage());
+        }
+    }
+
+    private boolean isReusable(QueueToken token) {
+        return !token.isExpired()
+                && (token.getStatus() == QueueStatus.WAITING || token.getStatus() == QueueStatus.ACTIVE);
+    }
+}
@@ -0,0 +1,145 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.application.event.ReservationEventListener;
+import kr.hhplus.be.server.domain.event.ReservationCompletedEvent;
+import kr.hhplus.be.server.domain.model.QueueStatus;
+import kr.hhplus.be.server.domain.model.QueueToken;
+import kr.hhplus.be.server.domain.repository.QueueTokenRepository;
+import kr.hhplus.be.server.infrastructure.lock.DistributedLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대기열 토큰 상태 전이 서비스
+ *
+ * WAITING → ACTIVE: 콘서트별 활성 한도까지 샤딩된 대기열의 head 순으로 활성화하고 Redis에 등록
+ *   (대기열이 비었는데 DB에 대기 토큰이 남아 있으면 Redis 유실로 보고 DB의 오래된 순으로 보충)
+ * ACTIVE → COMPLETED: 예약 완료 이벤트 수신 시 완료 처리 후 회수
+ * WAITING/ACTIVE → EXPIRED: 만료 시각이 지나면 만료 처리 후 회수
+ *
+ * DB 상태를 먼저 저장한 뒤 Redis(queue:active:{token})에 반영한다.
+ */
+@Slf4j
+@Service
+public class QueueTokenActivationService implements ReservationEventListener {
+
+    private final QueueTokenRepository queueTokenRepository;
+    private final ActiveQueueTokenService activeQueueTokenService;
+    private final QueueTokenQueryService queueTokenQueryService;
+    private final ShardedWaitingQueueService shardedWaitingQueueService;
+    private final int maxActivePerConcert;
+    private final int expirationBatchSize;
+
+    public QueueTokenActivationService(
+            @Qualifier("queueTokenRepositoryImpl") QueueTokenRepository queueTokenRepository,
+            ActiveQueueTokenService activeQueueTokenService,
+            QueueTokenQueryService queueTokenQueryService,
+            ShardedWaitingQueueService shardedWaitingQueueService,
+            @Value("${queue.activation.max-active-per-concert:100}") int maxActivePerConcert,
+            @Value("${queue.expiration.batch-size:1000}") int expirationBatchSize) {
+        if (maxActivePerConcert <= 0) {
+            throw new IllegalArgumentException("콘서트별 활성 토큰 한도는 1 이상이어야 합니다.");
+        }
+        if (expirationBatchSize <= 0) {
+            throw new IllegalArgumentException("토큰 만료 배치 크기는 1 이상이어야 합니다.");
+        }
+        this.queueTokenRepository = queueTokenRepository;
+        this.activeQueueTokenService = activeQueueTokenService;
+        this.queueTokenQueryService = queueTokenQueryService;
+        this.shardedWaitingQueueService = shardedWaitingQueueService;
+        this.maxActivePerConcert = maxActivePerConcert;
+        this.expirationBatchSize = expirationBatchSize;
+    }
+
+    /**
+     * 콘서트별 빈 자리만큼 대기 토큰 활성화
+     *
+     * 여러 노드가 동시에 활성화하면 한도를 넘길 수 있으므로 한 노드만 실행한다.
+     *
+     * @return 활성화한 토큰 수
+     */
+    @DistributedLock(key = "'queue:activation'", waitTime = 0L, leaseTime = -1)
+    public int activateWaitingTokens() {
+        int activatedCount = 0;
+        for (Long concertId : queueTokenRepository.findConcertIdsWithWaitingTokens()) {
+            long slots = maxActivePerConcert - queueTokenRepository.countActiveTokensByConcertId(concertId);
+            if (slots <= 0) {
+                continue;
+            }
+
+            // 대기열 head 순으로 활성화, 대기 토큰이 없는 사용자(만료/완료)는 대기열에서만 제거
+            List<Long> candidates = shardedWaitingQueueService.peek(concertId, (int) slots);
+            Map<Long, QueueToken> waitingByUser = queueTokenRepository
+                    .findWaitingTokensByUserIds(concertId, candidates).stream()
+                    .collect(Collectors.toMap(QueueToken::getUserId, Function.identity()));
+            int activated = 0;
+            for (Long userId : candidates) {
+                QueueToken waiting = waitingByUser.get(userId);
+                if (waiting != null) {
+                    activate(concertId, waiting);
+                    activated++;
+                }
+            }
+            shardedWaitingQueueService.remove(concertId, candidates);
+
+            if (activated < slots && shardedWaitingQueueService.size(concertId) == 0) {
+                for (QueueToken waiting : queueTokenRepository.findTokensReadyToActivate(concertId, (int) slots - activated)) {
+                    activate(concertId, waiting);
+                    activated++;
+                }
+            }
+            activatedCount += activated;
+        }
+
+        if (activatedCount > 0) {
+            log.info("[QueueActivation] 토큰 활성화 - {}건", activatedCount);
+        }
+        return activatedCount;
+    }
+
+    private void activate(Long concertId, QueueToken waiting) {
+        QueueToken activated = queueTokenRepository.save(waiting.activate());
+        activeQueueTokenService.registerActiveToken(activated);
+        queueTokenQueryService.evictPositionCache(concertId, activated.getTokenValue());
+    }
+
+    /**
+     * 만료 시각이 지난 대기/활성 토큰 만료 처리
+     *
+     * 한 노드만 실행하며, 한 번에 최대 batchSize건을 단일 UPDATE로 만료시킨다 (남은 건은 다음 주기에 처리).
+     * 활성 토큰의 Redis 키는 만료 시각까지의 TTL로 등록되어 있어 별도로 회수하지 않는다.
+     *
+     * @return 만료 처리한 토큰 수
+     */
+    @DistributedLock(key = "'queue:expiration'", waitTime = 0L, leaseTime = -1)
+    public int expireTokens() {
+        int expired = queueTokenRepository.expireTokens(LocalDateTime.now(), expirationBatchSize);
+        if (expired > 0) {
+            log.info("[QueueActivation] 토큰 만료 - {}건", expired);
+        }
+        return expired;
+    }
+
+    /**
+     * 예약 완료 시 활성 토큰 완료 처리 후 회수
+     */
+    @Override
+    public void onReservationCompleted(ReservationCompletedEvent event) {
+        queueTokenRepository.findByUserIdAndConcertId(event.getUserId(), event.getConcertId())
+                .filter(token -> token.getStatus() == QueueStatus.ACTIVE)
+                .ifPresent(token -> {
+                    queueTokenRepository.save(token.complete());
+                    activeQueueTokenService.revoke(token.getTokenValue());
+                    log.info("[QueueActivation] 토큰 완료 - userId: {}, concertId: {}",
+                            token.getUserId(), token.getConcertId());
+                });
+    }
+}
@@ -0,0 +1,60 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.domain.model.UserBalance;
+import kr.hhplus.be.server.domain.repository.UserBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Redis 홀드 잔액 전략 (플래시 세일용)
+ *
+ * 차감은 Redis 홀드 + 확정으로 끝나고 MySQL 반영은 정산 스케줄러가 묶어서 처리한다.
+ * 반환하는 잔액은 Redis의 사용 가능 잔액이다.
+ * 충전은 MySQL에만 반영하고, 커밋 후 잔액 변경 이벤트로 Redis 미러를 무효화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisHoldBalanceStrategy implements BalanceStrategy {
+
+    private final BalanceHoldLedger ledger;
+    private final UserBalanceRepository userBalanceRepository;
+    private final ConditionalUpdateBalanceStrategy conditionalUpdateStrategy;
+
+    @Override
+    public UserBalance deduct(Long userId, Long amount) {
+        if (amount == null || amount <= 0) {
+            throw new IllegalArgumentException("차감 금액은 0보다 커야 합니다.");
+        }
+
+        String holdId = UUID.randomUUID().toString();
+        long available = ledger.hold(userId, holdId, amount, () -> persistedBalance(userId));
+
+        try {
+            ledger.capture(userId, holdId, amount);
+        } catch (RuntimeException e) {
+            if (ledger.release(userId, holdId)) {
+                throw e;
+            }
+            // 정산이 이미 대기열 항목을 가져가 확정했으므로 차감은 유효하다
+            log.warn("[BalanceHold] 확정 실패 후 이미 정산 대상이 된 홀드 - userId: {}, holdId: {}, error: {}",
+                    userId, holdId, e.getMessage());
+        }
+
+        return UserBalance.create(userId, available);
+    }
+
+    @Override
+    public UserBalance charge(Long userId, Long amount) {
+        return conditionalUpdateStrategy.charge(userId, amount);
+    }
+
+    private long persistedBalance(Long userId) {
+        return userBalanceRepository.findByUserId(userId)
+                .orElseThrow(() -> new IllegalArgumentException("잔액 정보를 찾을 수 없습니다."))
+                .getBalance();
+    }
+}
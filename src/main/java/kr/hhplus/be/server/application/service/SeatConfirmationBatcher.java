@@ -0,0 +1,237 @@
+package kr.hhplus.be.server.application.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.domain.model.SeatReservation;
+import kr.hhplus.be.server.domain.repository.ConcertRepository;
+import kr.hhplus.be.server.domain.repository.SeatReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 좌석 확정 그룹 커밋
+ *
+ * 콘서트별로 확정 요청을 짧은 시간(window) 동안 모아 하나의 트랜잭션으로 반영한다.
+ * - 대상 좌석을 좌석 번호 순으로 한 번에 잠그고 확정 가능 여부를 요청별로 판정
+ * - 확정 가능한 좌석만 다건 조건부 UPDATE 한 번으로 SOLD 처리
+ * - 콘서트 잔여 좌석은 available_seats - n 한 번으로 차감
+ * 요청마다 개별 결과(true: 확정, false: 확정 불가)로 future를 완료한다.
+ * 묶음 트랜잭션이 실패하면 요청별 트랜잭션으로 다시 반영해, 실패한 요청만 예외로 완료한다.
+ */
+@Slf4j
+@Component
+public class SeatConfirmationBatcher {
+
+    private final SeatReservationRepository seatReservationRepository;
+    private final ConcertRepository concertRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService flushExecutor;
+    private final Map<Long, PendingBatch> pendingBatches = new ConcurrentHashMap<>();
+
+    public SeatConfirmationBatcher(
+            SeatReservationRepository seatReservationRepository,
+            ConcertRepository concertRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${seat.confirmation.batch.window-millis:5}") long windowMillis,
+            @Value("${seat.confirmation.batch.max-size:64}") int maxBatchSize,
+            @Value("${seat.confirmation.batch.flush-threads:4}") int flushThreads) {
+        if (windowMillis < 0) {
+            throw new IllegalArgumentException("배치 대기 시간은 0 이상이어야 합니다.");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("배치 크기는 1 이상이어야 합니다.");
+        }
+        this.seatReservationRepository = seatReservationRepository;
+        this.concertRepository = concertRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.flushExecutor = Executors.newScheduledThreadPool(flushThreads, runnable -> {
+            Thread thread = new Thread(runnable, "seat-confirm-batch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 좌석 확정 요청
+     *
+     * @return 확정 결과 (true: 확정, false: 만료되었거나 다른 사용자의 예약)
+     */
+    public CompletableFuture<Boolean> confirm(Long concertId, Integer seatNumber, Long userId) {
+        if (concertId == null || seatNumber == null || userId == null) {
+            throw new IllegalArgumentException("콘서트 ID, 좌석 번호, 사용자 ID는 필수입니다.");
+        }
+
+        ConfirmRequest request = new ConfirmRequest(seatNumber, userId, new CompletableFuture<>());
+        while (true) {
+            PendingBatch batch = pendingBatches.get(concertId);
+            if (batch == null) {
+                PendingBatch created = new PendingBatch();
+                batch = pendingBatches.putIfAbsent(concertId, created);
+                if (batch == null) {
+                    batch = created;
+                    PendingBatch scheduled = created;
+                    flushExecutor.schedule(() -> flush(concertId, scheduled), windowMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+
+            int size = batch.add(request);
+            if (size < 0) {
+                // 방금 닫힌 배치 → 다음 배치에 합류
+                continue;
+            }
+            if (size >= maxBatchSize) {
+                PendingBatch full = batch;
+                flushExecutor.execute(() -> flush(concertId, full));
+            }
+            return request.result();
+        }
+    }
+
+    private void flush(Long concertId, PendingBatch batch) {
+        pendingBatches.remove(concertId, batch);
+        List<ConfirmRequest> requests = batch.close();
+        if (requests == null) {
+            return;
+        }
+
+        try {
+            List<Boolean> results = transactionTemplate.execute(status -> apply(concertId, requests));
+            for (int i = 0; i < requests.size(); i++) {
+                requests.get(i).result().complete(results.get(i));
+            }
+        } catch (Exception e) {
+            if (requests.size() == 1) {
+                requests.get(0).result().completeExceptionally(e);
+                return;
+            }
+            log.warn("[SeatConfirmBatch] 일괄 확정 실패, 요청별 재시도 - concertId: {}, 요청: {}, error: {}",
+                    concertId, requests.size(), e.getMessage());
+            requests.forEach(request -> flushSingle(concertId, request));
+        }
+    }
+
+    /**
+     * 요청 하나만 별도 트랜잭션으로 반영 (묶음 실패 시 다른 요청의 결과에 영향을 주지 않도록)
+     */
+    private void flushSingle(Long concertId, ConfirmRequest request) {
+        try {
+            List<Boolean> results = transactionTemplate.execute(status -> apply(concertId, List.of(request)));
+            request.result().complete(results.get(0));
+        } catch (Exception e) {
+            log.error("[SeatConfirmBatch] 좌석 확정 실패 - concertId: {}, seatNumber: {}",
+                    concertId, request.seatNumber(), e);
+            request.result().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 한 트랜잭션 안에서 묶인 요청을 반영 (요청 순서대로 결과 반환)
+     */
+    List<Boolean> apply(Long concertId, List<ConfirmRequest> requests) {
+        Set<Integer> seatNumbers = requests.stream()
+                .map(ConfirmRequest::seatNumber)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<Integer, SeatReservation> lockedSeats = seatReservationRepository
+                .findByConcertIdAndSeatNumbersForUpdate(concertId, seatNumbers)
+                .stream()
+                .collect(Collectors.toMap(SeatReservation::getSeatNumber, Function.identity()));
+
+        List<Boolean> results = new ArrayList<>(requests.size());
+        List<Long> confirmIds = new ArrayList<>();
+        Set<Integer> claimed = new HashSet<>();
+        for (ConfirmRequest request : requests) {
+            SeatReservation seat = lockedSeats.get(request.seatNumber());
+            boolean confirmable = seat != null
+                    && seat.canBeConfirmed(request.userId())
+                    && claimed.add(request.seatNumber());
+            results.add(confirmable);
+            if (confirmable) {
+                confirmIds.add(seat.getId());
+            }
+        }
+
+        if (confirmIds.isEmpty()) {
+            return results;
+        }
+
+        int confirmed = seatReservationRepository.confirmSeatsConditionally(confirmIds);
+        if (confirmed != confirmIds.size()) {
+            throw new IllegalStateException("좌석 일괄 확정 결과가 조회 결과와 일치하지 않습니다.");
+        }
+
+        int decreased = concertRepository.decreaseAvailableSeatsAtomically(concertId, confirmIds.size());
+        if (decreased == 0) {
+            throw new IllegalStateException("좌석 감소 실패 - 잔여 좌석이 부족하거나 존재하지 않는 콘서트");
+        }
+
+        log.debug("[SeatConfirmBatch] 일괄 확정 - concertId: {}, 요청: {}, 확정: {}",
+                concertId, requests.size(), confirmIds.size());
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 예약된 flush는 종료 전에 실행된다
+        flushExecutor.shutdown();
+    }
+
+    record ConfirmRequest(Integer seatNumber, Long userId, CompletableFuture<Boolean> result) {
+    }
+
+    /**
+     * 수집 중인 배치 (닫힌 뒤에는 요청을 받지 않는다)
+     */
+    private static final class PendingBatch {
+
+        private final List<ConfirmRequest> requests = new ArrayList<>();
+        private boolean closed;
+
+        /**
+         * @return 추가 후 배치 크기 (이미 닫혔으면 -1)
+         */
+        synchronized int add(ConfirmRequest request) {
+            if (closed) {
+                return -1;
+            }
+            requests.add(request);
+            return requests.size();
+        }
+
+        /**
+         * @return 수집된 요청 (이미 닫혔으면 null)
+         */
+        synchronized List<ConfirmRequest> close() {
+            if (closed) {
+                return null;
+            }
+            closed = true;
+            return List.copyOf(requests);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.domain.model.Concert;
+import kr.hhplus.be.server.domain.model.SeatSection;
+import kr.hhplus.be.server.domain.repository.ConcertRepository;
+import kr.hhplus.be.server.domain.repository.SeatReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 좌석 재고 일괄 생성
+ *
+ * 좌석을 한 건씩 save하지 않고 구역 단위 JDBC 배치로 적재한다.
+ * - 순차: 전체 구역을 한 트랜잭션으로 적재 (실패 시 전체 롤백)
+ * - 병렬: 구역마다 별도 트랜잭션으로 동시에 적재, 하나라도 실패하면 성공한 구역을 삭제해 되돌린다
+ * 사전 검증은 빠른 실패용이고, 동시 요청의 중복 적재는 (concert_id, seat_number) 유니크 키가 막는다.
+ */
+@Slf4j
+@Service
+public class SeatProvisioningService {
+
+    private final ConcertRepository concertRepository;
+    private final SeatReservationRepository seatReservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+
+    public SeatProvisioningService(ConcertRepository concertRepository,
+                                   SeatReservationRepository seatReservationRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Qualifier("seatProvisioningExecutor") Executor executor) {
+        this.concertRepository = concertRepository;
+        this.seatReservationRepository = seatReservationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+    }
+
+    public ProvisioningResult provision(Long concertId, List<SeatSection> sections, boolean parallel) {
+        if (sections == null || sections.isEmpty()) {
+            throw new IllegalArgumentException("적재할 구역은 1개 이상이어야 합니다.");
+        }
+        Concert concert = concertRepository.findById(concertId)
+                .orElseThrow(() -> new IllegalArgumentException("콘서트를 찾을 수 없습니다: " + concertId));
+        List<SeatSection> ordered = validate(concert, sections);
+
+        long startedAt = System.currentTimeMillis();
+        int seats = parallel ? provisionInParallel(concertId, ordered) : provisionAll(concertId, ordered);
+        long elapsedMillis = System.currentTimeMillis() - startedAt;
+
+        log.info("[SeatProvisioning] 좌석 일괄 적재 완료 - concertId: {}, 구역: {}개, 좌석: {}석, 병렬: {}, 소요: {}ms",
+                concertId, ordered.size(), seats, parallel, elapsedMillis);
+        return new ProvisioningResult(concertId, ordered.size(), seats, elapsedMillis);
+    }
+
+    /**
+     * 구역이 겹치지 않고 총 좌석 수 안에 있으며 아직 좌석이 없는지 확인
+     */
+    private List<SeatSection> validate(Concert concert, List<SeatSection> sections) {
+        List<SeatSection> ordered = new ArrayList<>(sections);
+        ordered.sort(Comparator.comparingInt(SeatSection::firstSeatNumber));
+
+        for (int i = 0; i < ordered.size(); i++) {
+            SeatSection section = ordered.get(i);
+            if (section.lastSeatNumber() > concert.getTotalSeats()) {
+                throw new IllegalArgumentException(String.format(
+                        "좌석 번호가 총 좌석 수를 넘습니다. 구역: %s, 마지막 번호: %d, 총 좌석: %d",
+                        section.name(), section.lastSeatNumber(), concert.getTotalSeats()));
+            }
+            if (i > 0 && ordered.get(i - 1).overlaps(section)) {
+                throw new IllegalArgumentException(String.format(
+                        "구역의 좌석 번호가 겹칩니다: %s, %s", ordered.get(i - 1).name(), section.name()));
+            }
+            if (seatReservationRepository.countByConcertIdAndSeatNumberBetween(
+                    concert.getId(), section.firstSeatNumber(), section.lastSeatNumber()) > 0) {
+                throw new IllegalStateException("이미 좌석이 생성된 구역입니다: " + section.name());
+            }
+        }
+        return ordered;
+    }
+
+    private int provisionAll(Long concertId, List<SeatSection> sections) {
+        Integer seats;
+        try {
+            seats = transactionTemplate.execute(status -> {
+                int inserted = 0;
+                for (SeatSection section : sections) {
+                    inserted += seatReservationRepository.insertAvailableSeats(concertId, section);
+                }
+                return inserted;
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("다른 요청이 이미 좌석을 생성했습니다. concertId: " + concertId, e);
+        }
+        return seats != null ? seats : 0;
+    }
+
+    private int provisionInParallel(Long concertId, List<SeatSection> sections) {
+        List<CompletableFuture<Integer>> futures = sections.stream()
+                .map(section -> CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status ->
+                        seatReservationRepository.insertAvailableSeats(concertId, section)), executor))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            compensate(concertId, sections, futures);
+            throw new IllegalStateException("좌석 일괄 적재에 실패했습니다. concertId: " + concertId, e.getCause());
+        }
+        return futures.stream().mapToInt(CompletableFuture::join).sum();
+    }
+
+    /**
+     * 커밋된 구역만 삭제 (allOf 완료 후 호출되므로 모든 구역의 결과가 확정된 상태)
+     */
+    private void compensate(Long concertId, List<SeatSection> sections, List<CompletableFuture<Integer>> futures) {
+        for (int i = 0; i < sections.size(); i++) {
+            if (futures.get(i).isCompletedExceptionally()) {
+                continue;
+            }
+            SeatSection section = sections.get(i);
+            Integer deleted = transactionTemplate.execute(status -> seatReservationRepository.deleteAvailableSeats(
+                    concertId, section.firstSeatNumber(), section.lastSeatNumber()));
+            log.warn("[SeatProvisioning] 적재 실패로 구역 삭제 - concertId: {}, 구역: {}, 삭제: {}석",
+                    concertId, section.name(), deleted);
+        }
+    }
+
+    public record ProvisioningResult(Long concertId, int sections, int seats, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,224 @@
+package kr.hhplus.be.server.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 샤딩된 대기열 서비스 (Redis Sorted Set 활용)
+ *
+ * 콘서트별 대기열을 K개 샤드로 분산한다.
+ * - 샤드 키: queue:waiting:{concertId:shard} (해시 태그로 샤드마다 다른 클러스터 슬롯에 배치)
+ * - 진입: userId 해시로 샤드 선택, 샤드별 시퀀스로 스탬프를 발급해 score로 사용
+ * - 입장: 각 샤드의 head를 스탬프 순으로 병합 (근사 FIFO)
+ *
+ * 토큰 행(queue_tokens)이 원본이고 이 대기열은 입장 순서만 담는다.
+ * 진입: {@link QueueEntryService}, 입장: {@link QueueTokenActivationService}
+ */
+@Slf4j
+@Service
+public class ShardedWaitingQueueService {
+
+    private static final String QUEUE_KEY_PREFIX = "queue:waiting:";
+    private static final String SEQUENCE_KEY_PREFIX = "queue:waiting:seq:";
+
+    /**
+     * 스탬프 = 진입 시각(ms) * 1000 + 샤드 시퀀스 하위 3자리
+     * 같은 ms 안에서는 샤드 내 순서를 유지하고, 샤드 간에는 시각으로 정렬된다.
+     */
+    private static final long SEQUENCE_SLOTS = 1000L;
+
+    /**
+     * 새 스탬프를 발급해 등록 (ARGV[3]이 0이면 이미 대기 중일 때 기존 스탬프 유지)
+     * KEYS[1] = 샤드 ZSET, KEYS[2] = 샤드 시퀀스 (같은 해시 태그 → 같은 슬롯)
+     */
+    private static final RedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "local existing = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if existing and ARGV[3] == '0' then return tonumber(existing) end " +
+            "local seq = redis.call('INCR', KEYS[2]) " +
+            "local stamp = tonumber(ARGV[2]) * " + SEQUENCE_SLOTS + " + (seq % " + SEQUENCE_SLOTS + ") " +
+            "redis.call('ZADD', KEYS[1], stamp, ARGV[1]) " +
+            "return stamp",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int shardCount;
+
+    public ShardedWaitingQueueService(
+            @Qualifier("rankingRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            @Value("${queue.waiting.shard-count:8}") int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("샤드 수는 1 이상이어야 합니다.");
+        }
+        this.redisTemplate = redisTemplate;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * 대기열 진입 (새 대기 토큰 발급 시, 이전 순서는 버리고 맨 뒤에 선다)
+     *
+     * @return 발급된 스탬프
+     */
+    public long enqueue(Long concertId, Long userId) {
+        return enqueue(concertId, userId, true);
+    }
+
+    /**
+     * 대기 중이 아니면 진입 (기존 대기 토큰으로 재진입 시, 유실된 순서 복구용)
+     *
+     * @return 기존 스탬프 (없었으면 새 스탬프)
+     */
+    public long enqueueIfAbsent(Long concertId, Long userId) {
+        return enqueue(concertId, userId, false);
+    }
+
+    private long enqueue(Long concertId, Long userId, boolean reset) {
+        validate(concertId, userId);
+
+        int shard = shardOf(userId);
+        Long stamp = redisTemplate.execute(
+                ENQUEUE_SCRIPT,
+                List.of(queueKey(concertId, shard), sequenceKey(concertId, shard)),
+                userId.toString(),
+                String.valueOf(System.currentTimeMillis()),
+                reset ? "1" : "0");
+
+        if (stamp == null) {
+            throw new IllegalStateException("대기열 진입에 실패했습니다.");
+        }
+
+        log.debug("대기열 진입 - concertId: {}, userId: {}, shard: {}, stamp: {}",
+                concertId, userId, shard, stamp);
+        return stamp;
+    }
+
+    /**
+     * 대기 순번 조회 (1부터 시작, 대기열에 없으면 null)
+     *
+     * 모든 샤드에서 자신보다 스탬프가 작은 인원을 합산한 근사값
+     */
+    public Long getPosition(Long concertId, Long userId) {
+        validate(concertId, userId);
+
+        Double stamp = redisTemplate.opsForZSet()
+                .score(queueKey(concertId, shardOf(userId)), userId.toString());
+        if (stamp == null) {
+            return null;
+        }
+
+        long ahead = 0;
+        for (int shard = 0; shard < shardCount; shard++) {
+            Long count = redisTemplate.opsForZSet()
+                    .count(queueKey(concertId, shard), Double.NEGATIVE_INFINITY, Math.nextDown(stamp));
+            ahead += count != null ? count : 0;
+        }
+        return ahead + 1;
+    }
+
+    /**
+     * 입장 후보 조회 (제거하지 않음)
+     *
+     * 샤드별 head를 최대 count개씩 읽어 스탬프 순으로 병합한다.
+     * 활성화 후 {@link #remove}로 지우므로, 중간에 실패해도 대기열에서 사라지지 않는다.
+     *
+     * @return 사용자 ID (스탬프 순, 최대 count명)
+     */
+    public List<Long> peek(Long concertId, int count) {
+        if (concertId == null) {
+            throw new IllegalArgumentException("콘서트 ID는 필수입니다.");
+        }
+        if (count <= 0) {
+            return List.of();
+        }
+
+        PriorityQueue<ShardHead> heads = new PriorityQueue<>(Comparator.comparingDouble(ShardHead::stamp));
+        for (int shard = 0; shard < shardCount; shard++) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                    .rangeWithScores(queueKey(concertId, shard), 0, count - 1);
+            if (tuples == null) {
+                continue;
+            }
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                if (tuple.getValue() != null && tuple.getScore() != null) {
+                    heads.add(new ShardHead(shard, tuple.getValue(), tuple.getScore()));
+                }
+            }
+        }
+
+        List<Long> candidates = new ArrayList<>(count);
+        while (candidates.size() < count && !heads.isEmpty()) {
+            candidates.add(Long.valueOf(heads.poll().userId()));
+        }
+        return candidates;
+    }
+
+    /**
+     * 입장 처리된 사용자 제거
+     */
+    public void remove(Long concertId, Collection<Long> userIds) {
+        if (concertId == null) {
+            throw new IllegalArgumentException("콘서트 ID는 필수입니다.");
+        }
+        for (Long userId : userIds) {
+            redisTemplate.opsForZSet().remove(queueKey(concertId, shardOf(userId)), userId.toString());
+        }
+    }
+
+    /**
+     * 대기열 이탈
+     */
+    public boolean leave(Long concertId, Long userId) {
+        validate(concertId, userId);
+        Long removed = redisTemplate.opsForZSet()
+                .remove(queueKey(concertId, shardOf(userId)), userId.toString());
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * 전체 대기 인원 (샤드 합산)
+     */
+    public long size(Long concertId) {
+        long total = 0;
+        for (int shard = 0; shard < shardCount; shard++) {
+            Long size = redisTemplate.opsForZSet().zCard(queueKey(concertId, shard));
+            total += size != null ? size : 0;
+        }
+        return total;
+    }
+
+    int shardOf(Long userId) {
+        return Math.floorMod(Long.hashCode(userId * 0x9E3779B97F4A7C15L), shardCount);
+    }
+
+    static String queueKey(Long concertId, int shard) {
+        return QUEUE_KEY_PREFIX + "{" + concertId + ":" + shard + "}";
+    }
+
+    static String sequenceKey(Long concertId, int shard) {
+        return SEQUENCE_KEY_PREFIX + "{" + concertId + ":" + shard + "}";
+    }
+
+    private void validate(Long concertId, Long userId) {
+        if (concertId == null) {
+            throw new IllegalArgumentException("콘서트 ID는 필수입니다.");
+        }
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다.");
+        }
+    }
+
+    private record ShardHead(int shard, String userId, double stamp) {
+    }
+}
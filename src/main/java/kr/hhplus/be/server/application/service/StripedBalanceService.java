@@ -0,0 +1,265 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.domain.model.BalanceHistory;
+import kr.hhplus.be.server.domain.model.BalanceStripe;
+import kr.hhplus.be.server.domain.model.UserBalance;
+import kr.hhplus.be.server.domain.repository.UserBalanceRepository;
+import kr.hhplus.be.server.domain.repository.UserBalanceStripeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 분할 계좌 잔액 서비스 (법인/프로모션처럼 동시 차감이 몰리는 핫 계정용)
+ *
+ * 잔액을 K개 분할 계좌로 나눠 두고, 차감은 임의의 분할 계좌부터 조건부 UPDATE를 시도한다.
+ * 각 시도는 짧은 별도 트랜잭션이라 한 번에 행 하나만 잠그며, 경합이 K개 행으로 분산된다.
+ * 어느 분할 계좌도 단독으로 부족하면 본 계좌 → 분할 계좌 순으로 모두 잠근 뒤 재분배하며 차감한다.
+ * 계정 잔액은 본 계좌 + 분할 계좌 합계다.
+ */
+@Slf4j
+@Service
+public class StripedBalanceService {
+
+    private final UserBalanceRepository userBalanceRepository;
+    private final UserBalanceStripeRepository stripeRepository;
+    private final TransactionTemplate requiresNewTemplate;
+    private final int defaultStripeCount;
+    private final List<Long> configuredAccounts;
+    private final boolean stripingEnabled;
+
+    // 분할 계좌가 확인된 사용자 → 분할 수
+    private final Map<Long, Integer> stripeCounts = new ConcurrentHashMap<>();
+
+    public StripedBalanceService(UserBalanceRepository userBalanceRepository,
+                                 UserBalanceStripeRepository stripeRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${balance.striping.stripe-count:8}") int defaultStripeCount,
+                                 @Value("${balance.striping.accounts:}") List<Long> configuredAccounts,
+                                 @Value("${balance.striping.enabled:false}") boolean stripingEnabled) {
+        if (defaultStripeCount <= 0) {
+            throw new IllegalArgumentException("분할 수는 0보다 커야 합니다.");
+        }
+        this.userBalanceRepository = userBalanceRepository;
+        this.stripeRepository = stripeRepository;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.defaultStripeCount = defaultStripeCount;
+        this.configuredAccounts = configuredAccounts;
+        this.stripingEnabled = stripingEnabled;
+    }
+
+    /**
+     * 설정된 핫 계정을 기동 시 분할 (이미 분할된 계정은 그대로 둔다)
+     *
+     * balance.striping.enabled가 꺼져 있으면 분할 계좌로 라우팅되지 않으므로 분할하지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void enableConfiguredAccounts() {
+        if (!stripingEnabled) {
+            if (!configuredAccounts.isEmpty()) {
+                log.info("[StripedBalance] 분할 계정 비활성화 상태 - 설정된 계정 분할 건너뜀: {}", configuredAccounts);
+            }
+            return;
+        }
+        for (Long userId : configuredAccounts) {
+            try {
+                enableStriping(userId);
+            } catch (RuntimeException e) {
+                log.warn("[StripedBalance] 계정 분할 실패 - userId: {}, 원인: {}", userId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 계정 분할: 본 계좌 잔액을 분할 계좌로 균등 이전
+     *
+     * @return 분할 수
+     */
+    public int enableStriping(Long userId) {
+        Integer stripeCount = requiresNewTemplate.execute(status -> {
+            UserBalance main = userBalanceRepository.findByUserIdWithLock(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("잔액 정보를 찾을 수 없습니다."));
+
+            List<BalanceStripe> existing = stripeRepository.findByUserIdForUpdate(userId);
+            if (!existing.isEmpty()) {
+                return existing.size();
+            }
+
+            moveMainBalanceOut(userId, main.getBalance());
+            stripeRepository.saveAll(BalanceStripe.split(userId, main.getBalance(), defaultStripeCount));
+            log.info("[StripedBalance] 계정 분할 - userId: {}, 분할 수: {}, 잔액: {}",
+                    userId, defaultStripeCount, main.getBalance());
+            return defaultStripeCount;
+        });
+        stripeCounts.put(userId, stripeCount);
+        return stripeCount;
+    }
+
+    /**
+     * 분할 계정 여부 (확인된 계정만 캐시, DB 조회 결과 0이면 캐시하지 않는다)
+     */
+    public boolean isStriped(Long userId) {
+        return stripeCount(userId) > 0;
+    }
+
+    /**
+     * 이 인스턴스에서 분할 계정으로 확인된 적이 있는지 (DB 조회 없음)
+     */
+    public boolean isKnownStriped(Long userId) {
+        return stripeCounts.containsKey(userId);
+    }
+
+    /**
+     * 잔액 차감: 임의의 분할 계좌부터 시도 → 모두 부족하면 재분배 후 차감
+     *
+     * @return 차감 후 계정 잔액 (본 계좌 + 분할 계좌 합계)
+     * @throws IllegalStateException 계정 잔액 부족
+     */
+    public UserBalance deduct(Long userId, Long amount) {
+        if (amount == null || amount <= 0) {
+            throw new IllegalArgumentException("차감 금액은 0보다 커야 합니다.");
+        }
+        int stripeCount = requireStripeCount(userId);
+
+        int start = ThreadLocalRandom.current().nextInt(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            int stripeNo = (start + i) % stripeCount;
+            Long total = requiresNewTemplate.execute(status -> deductFromStripe(userId, stripeNo, amount));
+            if (total != null) {
+                return UserBalance.create(userId, total);
+            }
+        }
+
+        return UserBalance.create(userId, requiresNewTemplate.execute(status -> rebalanceAndDeduct(userId, amount)));
+    }
+
+    /**
+     * 호출자 트랜잭션 안에서 차감 (단일 커넥션 결제용)
+     *
+     * 분할 계좌를 차례로 시도하고 모두 부족하면 재분배 후 차감한다.
+     * 잡은 행 잠금은 호출자 트랜잭션이 끝날 때까지 유지된다.
+     *
+     * @return 차감 후 계정 잔액
+     * @throws IllegalStateException 계정 잔액 부족
+     */
+    public long deductInCurrentTransaction(Long userId, long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("차감 금액은 0보다 커야 합니다.");
+        }
+        int stripeCount = requireStripeCount(userId);
+
+        int start = ThreadLocalRandom.current().nextInt(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            Long total = deductFromStripe(userId, (start + i) % stripeCount, amount);
+            if (total != null) {
+                return total;
+            }
+        }
+        return rebalanceAndDeduct(userId, amount);
+    }
+
+    /**
+     * 잔액 충전: 임의의 분할 계좌에 반영
+     *
+     * @return 충전 후 계정 잔액
+     */
+    public UserBalance charge(Long userId, Long amount) {
+        if (amount == null || amount <= 0) {
+            throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다.");
+        }
+        int stripeNo = ThreadLocalRandom.current().nextInt(requireStripeCount(userId));
+
+        Long total = requiresNewTemplate.execute(status -> {
+            if (!stripeRepository.charge(userId, stripeNo, amount)) {
+                throw new IllegalStateException("잔액 충전에 실패했습니다.");
+            }
+            long after = getTotalBalance(userId);
+            userBalanceRepository.saveHistory(BalanceHistory.createChargeHistory(
+                    userId, amount, after - amount, after, null, "잔액 충전"));
+            return after;
+        });
+        return UserBalance.create(userId, total);
+    }
+
+    /**
+     * 계정 잔액 (본 계좌 + 분할 계좌 합계)
+     */
+    public long getTotalBalance(Long userId) {
+        long main = userBalanceRepository.findByUserId(userId)
+                .map(UserBalance::getBalance)
+                .orElse(0L);
+        return main + stripeRepository.sumBalance(userId);
+    }
+
+    private Long deductFromStripe(Long userId, int stripeNo, long amount) {
+        if (!stripeRepository.deductConditionally(userId, stripeNo, amount)) {
+            return null;
+        }
+        long after = getTotalBalance(userId);
+        userBalanceRepository.saveHistory(BalanceHistory.createDeductHistory(
+                userId, amount, after + amount, after, null, "잔액 차감"));
+        return after;
+    }
+
+    /**
+     * 본 계좌 → 분할 계좌 순으로 잠그고, 합계에서 차감한 나머지를 분할 계좌에 다시 균등 분배
+     */
+    private long rebalanceAndDeduct(Long userId, long amount) {
+        long main = userBalanceRepository.findByUserIdWithLock(userId)
+                .map(UserBalance::getBalance)
+                .orElse(0L);
+        List<BalanceStripe> stripes = stripeRepository.findByUserIdForUpdate(userId);
+        long total = main + BalanceStripe.total(stripes);
+
+        if (total < amount) {
+            throw new IllegalStateException(
+                    String.format("잔액이 부족합니다. 현재 잔액: %d, 차감 요청: %d", total, amount));
+        }
+
+        long after = total - amount;
+        moveMainBalanceOut(userId, main);
+        stripeRepository.saveAll(BalanceStripe.split(userId, after, stripes.size()));
+        userBalanceRepository.saveHistory(BalanceHistory.createDeductHistory(
+                userId, amount, total, after, null, "잔액 차감"));
+
+        log.debug("[StripedBalance] 재분배 후 차감 - userId: {}, 차감: {}, 잔액: {}", userId, amount, after);
+        return after;
+    }
+
+    private void moveMainBalanceOut(Long userId, long mainBalance) {
+        if (mainBalance > 0 && !userBalanceRepository.deductBalanceConditionally(userId, mainBalance)) {
+            throw new IllegalStateException("본 계좌 잔액 이전에 실패했습니다.");
+        }
+    }
+
+    private int stripeCount(Long userId) {
+        Integer cached = stripeCounts.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        int count = stripeRepository.countByUserId(userId);
+        if (count > 0) {
+            stripeCounts.put(userId, count);
+        }
+        return count;
+    }
+
+    private int requireStripeCount(Long userId) {
+        int count = stripeCount(userId);
+        if (count == 0) {
+            throw new IllegalArgumentException("분할 계정이 아닙니다: " + userId);
+        }
+        return count;
+    }
+}
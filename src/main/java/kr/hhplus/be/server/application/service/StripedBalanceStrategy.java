@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.application.service;
+
+import kr.hhplus.be.server.domain.model.UserBalance;
+
+/**
+ * 분할 계좌 라우팅 전략 (balance.striping.enabled)
+ *
+ * 분할 계정은 StripedBalanceService로, 나머지는 선택된 잔액 전략으로 보낸다.
+ * 분할된 계정의 본 계좌는 잔액이 0이므로, 다른 인스턴스에서 분할된 계정은
+ * 기본 전략의 잔액 부족 예외를 받은 뒤 분할 여부를 확인해 분할 계좌로 재시도한다.
+ */
+public class StripedBalanceStrategy implements BalanceStrategy {
+
+    private final BalanceStrategy delegate;
+    private final StripedBalanceService stripedBalanceService;
+
+    public StripedBalanceStrategy(BalanceStrategy delegate, StripedBalanceService stripedBalanceService) {
+        this.delegate = delegate;
+        this.stripedBalanceService = stripedBalanceService;
+    }
+
+    @Override
+    public UserBalance deduct(Long userId, Long amount) {
+        if (stripedBalanceService.isKnownStriped(userId)) {
+            return stripedBalanceService.deduct(userId, amount);
+        }
+        try {
+            return delegate.deduct(userId, amount);
+        } catch (IllegalStateException e) {
+            if (stripedBalanceService.isStriped(userId)) {
+                return stripedBalanceService.deduct(userId, amount);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public UserBalance charge(Long userId, Long amount) {
+        if (stripedBalanceService.isKnownStriped(userId)) {
+            return stripedBalanceService.charge(userId, amount);
+        }
+        return delegate.charge(userId, amount);
+    }
+}
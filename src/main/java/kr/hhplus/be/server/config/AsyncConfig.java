@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.config;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.retry.annotation.EnableRetry;
@@ -31,6 +32,46 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * 결제 SAGA 단계별 전용 Executor
+     * 느린 게이트웨이가 잔액 차감/좌석 확정 단계의 스레드를 잠식하지 않도록 분리한다.
+     */
+    @Bean(name = "paymentDeductExecutor")
+    public Executor paymentDeductExecutor() {
+        return paymentStageExecutor("payment-deduct-", 4, 8, 500);
+    }
+
+    @Bean(name = "paymentGatewayExecutor")
+    public Executor paymentGatewayExecutor() {
+        return paymentStageExecutor("payment-gateway-", 8, 32, 1000);
+    }
+
+    @Bean(name = "paymentConfirmExecutor")
+    public Executor paymentConfirmExecutor() {
+        return paymentStageExecutor("payment-confirm-", 4, 8, 500);
+    }
+
+    /**
+     * 좌석 일괄 적재 구역별 병렬 실행용 Executor (동시 적재 구역 수 = 커넥션 점유 수)
+     */
+    @Bean(name = "seatProvisioningExecutor")
+    public Executor seatProvisioningExecutor(@Value("${seat.provisioning.parallelism:4}") int parallelism) {
+        return paymentStageExecutor("seat-provisioning-", parallelism, parallelism, 1000);
+    }
+
+    private Executor paymentStageExecutor(String threadNamePrefix, int corePoolSize,
+                                          int maxPoolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
     @Override
     public Executor getAsyncExecutor() {
         return eventAsyncExecutor(); // 위에서 만든 Bean을 재사용
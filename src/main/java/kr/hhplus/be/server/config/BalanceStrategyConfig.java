@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.config;
+
+import kr.hhplus.be.server.application.service.BalanceStrategy;
+import kr.hhplus.be.server.application.service.ConditionalUpdateBalanceStrategy;
+import kr.hhplus.be.server.application.service.DistributedLockBalanceStrategy;
+import kr.hhplus.be.server.application.service.RedisHoldBalanceStrategy;
+import kr.hhplus.be.server.application.service.StripedBalanceService;
+import kr.hhplus.be.server.application.service.StripedBalanceStrategy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 잔액 전략 선택 (balance.strategy: lock | conditional-update | redis-hold)
+ * balance.striping.enabled이면 분할 계정 라우팅으로 감싼다.
+ */
+@Slf4j
+@Configuration
+public class BalanceStrategyConfig {
+
+    @Bean
+    @Primary
+    public BalanceStrategy balanceStrategy(
+            @Value("${balance.strategy:lock}") String strategy,
+            @Value("${balance.striping.enabled:false}") boolean stripingEnabled,
+            DistributedLockBalanceStrategy lockStrategy,
+            ConditionalUpdateBalanceStrategy conditionalUpdateStrategy,
+            RedisHoldBalanceStrategy redisHoldStrategy,
+            StripedBalanceService stripedBalanceService) {
+        BalanceStrategy selected = switch (strategy) {
+            case "lock" -> lockStrategy;
+            case "conditional-update" -> conditionalUpdateStrategy;
+            case "redis-hold" -> redisHoldStrategy;
+            default -> throw new IllegalArgumentException("지원하지 않는 잔액 전략입니다: " + strategy);
+        };
+        log.info("[BalanceStrategy] 잔액 전략: {}, 분할 계정: {}", strategy, stripingEnabled);
+        return stripingEnabled ? new StripedBalanceStrategy(selected, stripedBalanceService) : selected;
+    }
+}
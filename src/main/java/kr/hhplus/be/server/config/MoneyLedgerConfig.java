@@ -0,0 +1,31 @@
+package kr.hhplus.be.server.config;
+
+import kr.hhplus.be.server.application.service.MoneyLedger;
+import kr.hhplus.be.server.domain.repository.PointHistoryRepository;
+import kr.hhplus.be.server.domain.repository.PointRepository;
+import kr.hhplus.be.server.domain.repository.UserBalanceRepository;
+import kr.hhplus.be.server.infrastructure.persistence.PointLedgerAccountRepository;
+import kr.hhplus.be.server.infrastructure.persistence.UserBalanceLedgerAccountRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 원장 엔진 설정 (잔액/포인트가 같은 엔진을 계정 저장소만 바꿔 사용)
+ */
+@Configuration
+public class MoneyLedgerConfig {
+
+    @Bean
+    public MoneyLedger balanceLedger(UserBalanceRepository userBalanceRepository,
+                                     PlatformTransactionManager transactionManager) {
+        return new MoneyLedger(new UserBalanceLedgerAccountRepository(userBalanceRepository, transactionManager));
+    }
+
+    @Bean
+    public MoneyLedger pointLedger(PointRepository pointRepository, PointHistoryRepository pointHistoryRepository,
+                                   PlatformTransactionManager transactionManager) {
+        return new MoneyLedger(new PointLedgerAccountRepository(pointRepository, pointHistoryRepository,
+                transactionManager));
+    }
+}
@@ -0,0 +1,29 @@
+package kr.hhplus.be.server.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.application.service.ActiveQueueTokenService;
+import kr.hhplus.be.server.interfaces.web.QueueTokenFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 대기열 토큰 필터 등록
+ *
+ * 대상: /api/v1/reservations/** (예약, 결제 - 조회 제외)
+ */
+@Configuration
+public class QueueTokenFilterConfig {
+
+    @Bean
+    public FilterRegistrationBean<QueueTokenFilter> queueTokenFilter(ActiveQueueTokenService activeQueueTokenService,
+                                                                     ObjectMapper objectMapper) {
+        FilterRegistrationBean<QueueTokenFilter> registration =
+                new FilterRegistrationBean<>(new QueueTokenFilter(activeQueueTokenService, objectMapper));
+        registration.addUrlPatterns("/api/v1/reservations/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        registration.setName("queueTokenFilter");
+        return registration;
+    }
+}
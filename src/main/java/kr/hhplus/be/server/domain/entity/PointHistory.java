@@ -4,7 +4,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "point_histories")
+@Table(name = "point_histories", indexes = {
+        // 키셋 페이지 조회용 인덱스 (description은 페이지 크기만큼만 행 조회)
+        @Index(name = "idx_point_histories_user_created",
+                columnList = "user_id, created_at, id, type, amount")
+})
 public class PointHistory {
 
     @Id
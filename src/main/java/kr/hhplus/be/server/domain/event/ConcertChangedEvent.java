@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.domain.event;
+
+/**
+ * 콘서트 변경 이벤트
+ *
+ * 발행 시점: 콘서트/공연 일정 저장, 콘서트 삭제, 매진 처리, 잔여석 차감
+ * 목적: 검색 인덱스, 예약 가능 캘린더 등 읽기 전용 사본 갱신
+ */
+public record ConcertChangedEvent(Long concertId, ChangeType type) {
+
+    public enum ChangeType {
+        UPSERT,   // 생성/수정
+        DELETE,   // 삭제
+        SEATS     // 잔여석 변경
+    }
+
+    public static ConcertChangedEvent upserted(Long concertId) {
+        return new ConcertChangedEvent(concertId, ChangeType.UPSERT);
+    }
+
+    public static ConcertChangedEvent deleted(Long concertId) {
+        return new ConcertChangedEvent(concertId, ChangeType.DELETE);
+    }
+
+    public static ConcertChangedEvent seatsChanged(Long concertId) {
+        return new ConcertChangedEvent(concertId, ChangeType.SEATS);
+    }
+}
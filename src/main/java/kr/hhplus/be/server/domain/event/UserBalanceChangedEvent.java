@@ -0,0 +1,10 @@
+package kr.hhplus.be.server.domain.event;
+
+/**
+ * 잔액 변경 이벤트
+ *
+ * 발행 시점: user_balances 행 생성/차감/충전 (잔액 홀드 정산 차감 제외)
+ * 목적: Redis 잔액 미러 무효화
+ */
+public record UserBalanceChangedEvent(Long userId) {
+}
@@ -0,0 +1,43 @@
+package kr.hhplus.be.server.domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 예약 가능 캘린더 항목 (공연 일정 1건 + 화면에 필요한 콘서트 정보)
+ *
+ * 잔여석은 공연 일정과 콘서트 잔여석 중 작은 값 (좌석 차감은 콘서트 단위로 일어난다)
+ */
+public record AvailabilityCalendarEntry(Long concertDateId, Long concertId, String title, String venue,
+                                        LocalDateTime concertDateTime, LocalDateTime startTime,
+                                        LocalDateTime endTime, int totalSeats, int availableSeats, long price) {
+
+    /**
+     * 예약 가능한 일정만 항목으로 만든다 (불가하면 null)
+     */
+    public static AvailabilityCalendarEntry of(Concert concert, ConcertDate concertDate) {
+        if (concert.getStatus() != ConcertStatus.AVAILABLE || !concertDate.isBookable()) {
+            return null;
+        }
+        int availableSeats = Math.min(concertDate.getAvailableSeats(), concert.getAvailableSeats());
+        if (availableSeats <= 0) {
+            return null;
+        }
+        return new AvailabilityCalendarEntry(concertDate.getId(), concert.getId(), concert.getTitle(),
+                concert.getVenue(), concertDate.getConcertDateTime(), concertDate.getStartTime(),
+                concertDate.getEndTime(), concertDate.getTotalSeats(), availableSeats, concert.getPrice());
+    }
+
+    public LocalDate date() {
+        return concertDateTime.toLocalDate();
+    }
+
+    public YearMonth month() {
+        return YearMonth.from(concertDateTime);
+    }
+
+    public boolean isBookableAt(LocalDateTime now) {
+        return availableSeats > 0 && concertDateTime.isAfter(now);
+    }
+}
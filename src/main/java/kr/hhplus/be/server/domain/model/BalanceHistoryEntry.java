@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 잔액 이력 목록용 프로젝션 (커버링 인덱스 컬럼만 조회)
+ */
+public record BalanceHistoryEntry(Long id, TransactionType type, Long amount, Long balanceAfter,
+                                  LocalDateTime createdAt) {
+
+    public KeysetCursor cursor() {
+        return new KeysetCursor(createdAt, id);
+    }
+}
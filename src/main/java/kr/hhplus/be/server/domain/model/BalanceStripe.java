@@ -0,0 +1,54 @@
+package kr.hhplus.be.server.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 잔액 분할 계좌
+ *
+ * 동시 차감이 몰리는 계정의 잔액을 K개 행으로 나눠 보관한다. 계정 잔액은 본 계좌 + 분할 계좌 합계다.
+ */
+public class BalanceStripe {
+
+    private final Long userId;
+    private final int stripeNo;
+    private final long balance;
+
+    private BalanceStripe(Long userId, int stripeNo, long balance) {
+        if (balance < 0) {
+            throw new IllegalArgumentException("잔액은 음수가 될 수 없습니다.");
+        }
+        this.userId = userId;
+        this.stripeNo = stripeNo;
+        this.balance = balance;
+    }
+
+    public static BalanceStripe of(Long userId, int stripeNo, long balance) {
+        return new BalanceStripe(userId, stripeNo, balance);
+    }
+
+    /**
+     * 총액을 stripeCount개로 균등 분배 (나머지는 앞 번호부터 1씩)
+     */
+    public static List<BalanceStripe> split(Long userId, long total, int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("분할 수는 0보다 커야 합니다.");
+        }
+        long share = total / stripeCount;
+        long remainder = total % stripeCount;
+
+        List<BalanceStripe> stripes = new ArrayList<>(stripeCount);
+        for (int stripeNo = 0; stripeNo < stripeCount; stripeNo++) {
+            stripes.add(new BalanceStripe(userId, stripeNo, share + (stripeNo < remainder ? 1 : 0)));
+        }
+        return stripes;
+    }
+
+    public static long total(List<BalanceStripe> stripes) {
+        return stripes.stream().mapToLong(BalanceStripe::getBalance).sum();
+    }
+
+    public Long getUserId() { return userId; }
+    public int getStripeNo() { return stripeNo; }
+    public long getBalance() { return balance; }
+}
@@ -41,6 +41,30 @@ public class Concert {
         return new Concert(title, artist, venue, totalSeats, price);
     }
 
+    /**
+     * 저장된 상태 그대로 복원 (Infrastructure 전용)
+     *
+     * 상태 전이 메서드를 재실행하지 않으므로 좌석 수와 무관하게 O(1)이다.
+     */
+    public static Concert reconstitute(Long id, String title, String artist, String venue,
+                                       Integer totalSeats, Integer availableSeats, Long price,
+                                       ConcertStatus status, LocalDateTime bookingOpenAt, LocalDateTime soldOutAt,
+                                       LocalDateTime createdAt, LocalDateTime updatedAt) {
+        if (availableSeats == null || availableSeats < 0 || availableSeats > totalSeats) {
+            throw new IllegalStateException(
+                    String.format("잘못된 잔여 좌석 수입니다. 콘서트 ID: %d, 잔여: %s, 총: %d", id, availableSeats, totalSeats));
+        }
+        Concert concert = new Concert(title, artist, venue, totalSeats, price);
+        concert.id = id;
+        concert.availableSeats = availableSeats;
+        concert.status = status;
+        concert.bookingOpenAt = bookingOpenAt;
+        concert.soldOutAt = soldOutAt;
+        concert.createdAt = createdAt;
+        concert.updatedAt = updatedAt;
+        return concert;
+    }
+
     // 기존 비즈니스 규칙
     public boolean isBookingAvailable() {
         return status == ConcertStatus.AVAILABLE && availableSeats > 0;
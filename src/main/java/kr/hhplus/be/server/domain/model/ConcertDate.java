@@ -46,6 +46,28 @@ public class ConcertDate {
         return new ConcertDate(concertId, concertDateTime, startTime, endTime, totalSeats);
     }
 
+    /**
+     * 저장된 상태 그대로 복원 (Infrastructure 전용)
+     *
+     * 생성 검증(미래 날짜 등)과 상태 전이를 거치지 않으므로 지난 공연도 복원되며 좌석 수와 무관하게 O(1)이다.
+     */
+    public static ConcertDate reconstitute(Long id, Long concertId, LocalDateTime concertDateTime,
+                                           LocalDateTime startTime, LocalDateTime endTime,
+                                           Integer totalSeats, Integer availableSeats, ConcertDateStatus status,
+                                           LocalDateTime createdAt, LocalDateTime updatedAt) {
+        if (availableSeats == null || availableSeats < 0 || availableSeats > totalSeats) {
+            throw new IllegalStateException(
+                    String.format("잘못된 잔여 좌석 수입니다. 공연 일정 ID: %d, 잔여: %s, 총: %d", id, availableSeats, totalSeats));
+        }
+        ConcertDate concertDate = new ConcertDate(concertId, concertDateTime, startTime, endTime, totalSeats);
+        concertDate.id = id;
+        concertDate.availableSeats = availableSeats;
+        concertDate.status = status;
+        concertDate.createdAt = createdAt;
+        concertDate.updatedAt = updatedAt;
+        return concertDate;
+    }
+
     // 비즈니스 규칙
     public boolean isBookingAvailable() {
         return status == ConcertDateStatus.AVAILABLE &&
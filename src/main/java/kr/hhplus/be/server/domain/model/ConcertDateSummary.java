@@ -0,0 +1,24 @@
+package kr.hhplus.be.server.domain.model;
+
+import kr.hhplus.be.server.domain.model.ConcertDate.ConcertDateStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공연 일정 목록용 프로젝션 (엔티티/도메인 객체 없이 조회 컬럼만 담는다)
+ */
+public record ConcertDateSummary(Long id, Long concertId, LocalDateTime concertDateTime,
+                                 LocalDateTime startTime, LocalDateTime endTime,
+                                 Integer totalSeats, Integer availableSeats, ConcertDateStatus status,
+                                 LocalDateTime createdAt) {
+
+    public boolean isBookingAvailable() {
+        return status == ConcertDateStatus.AVAILABLE &&
+                availableSeats > 0 &&
+                concertDateTime.isAfter(LocalDateTime.now());
+    }
+
+    public KeysetCursor cursor() {
+        return new KeysetCursor(concertDateTime, id);
+    }
+}
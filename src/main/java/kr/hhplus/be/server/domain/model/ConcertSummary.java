@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 콘서트 목록용 프로젝션 (엔티티/도메인 객체 없이 조회 컬럼만 담는다)
+ */
+public record ConcertSummary(Long id, String title, String artist, String venue,
+                             Integer totalSeats, Integer availableSeats, Long price, ConcertStatus status,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    public boolean isBookingAvailable() {
+        return status == ConcertStatus.AVAILABLE && availableSeats > 0;
+    }
+
+    public KeysetCursor cursor() {
+        return new KeysetCursor(createdAt, id);
+    }
+}
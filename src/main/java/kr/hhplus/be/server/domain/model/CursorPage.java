@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.domain.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지 (nextCursor가 null이면 마지막 페이지)
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public static final int MAX_SIZE = 100;
+
+    public static void validateSize(int size) {
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    /**
+     * size + 1건을 조회한 결과로 페이지 구성 (초과분이 있으면 다음 커서 생성)
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, KeysetCursor> cursorOf) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, size);
+        return new CursorPage<>(List.copyOf(items), cursorOf.apply(items.get(size - 1)).encode());
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
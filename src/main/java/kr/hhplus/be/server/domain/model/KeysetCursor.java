@@ -0,0 +1,76 @@
+package kr.hhplus.be.server.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 커서 (마지막으로 본 행의 정렬 시각, id)
+ *
+ * 다음 페이지는 (정렬 시각, id)가 커서 다음인 행부터 읽는다.
+ * 이력/콘서트는 createdAt 최신순, 공연 일정은 공연 일시 오름차순이다.
+ */
+public record KeysetCursor(LocalDateTime at, Long id) {
+
+    private static final String SEPARATOR = "|";
+    // DB DATETIME 범위 안의 경계값 (첫 페이지 기준)
+    private static final LocalDateTime MIN_TIME = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    public KeysetCursor {
+        if (at == null || id == null) {
+            throw new IllegalArgumentException("커서 값은 필수입니다.");
+        }
+    }
+
+    /**
+     * 최신순 첫 페이지 기준 (모든 행보다 뒤)
+     */
+    public static KeysetCursor latest() {
+        return new KeysetCursor(MAX_TIME, Long.MAX_VALUE);
+    }
+
+    /**
+     * 오름차순 첫 페이지 기준 (at 이후 모든 행보다 앞)
+     */
+    public static KeysetCursor startingAt(LocalDateTime at) {
+        return new KeysetCursor(at, 0L);
+    }
+
+    /**
+     * 오름차순 첫 페이지 기준 (모든 행보다 앞)
+     */
+    public static KeysetCursor earliest() {
+        return startingAt(MIN_TIME);
+    }
+
+    public static LocalDateTime maxTime() {
+        return MAX_TIME;
+    }
+
+    public String encode() {
+        String raw = at + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 복원 (null/빈 값이면 첫 페이지로 보고 null 반환)
+     */
+    public static KeysetCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + encoded);
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + encoded);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package kr.hhplus.be.server.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * 금액 최소 단위 변환 (소수점 2자리 금액 ↔ long)
+ *
+ * 충전/사용 경로는 long 최소 단위로만 계산하고, BigDecimal 변환은 API/DB 경계에서만 한다.
+ */
+public final class MinorUnits {
+
+    public static final int SCALE = 2;
+
+    private MinorUnits() {
+    }
+
+    /**
+     * 금액 → 최소 단위 (소수점 2자리를 넘거나 long 범위를 벗어나면 예외)
+     */
+    public static long fromDecimal(BigDecimal amount) {
+        if (amount == null) {
+            throw new IllegalArgumentException("금액은 필수입니다.");
+        }
+        try {
+            return amount.movePointRight(SCALE).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("금액은 소수점 " + SCALE + "자리까지만 허용됩니다: " + amount);
+        }
+    }
+
+    /**
+     * 최소 단위 → 금액
+     */
+    public static BigDecimal toDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+}
@@ -0,0 +1,101 @@
+package kr.hhplus.be.server.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 보상 기록
+ *
+ * 단일 트랜잭션 결제에서 게이트웨이 승인 이후 DB 반영이 롤백된 경우,
+ * 되돌릴 수 없는 외부 승인을 취소하기 위해 남기는 기록.
+ * PENDING → RESOLVED (취소 완료) / FAILED (수동 처리 필요)
+ */
+@Entity
+@Table(
+        name = "payment_compensations",
+        indexes = {
+                @Index(name = "idx_payment_compensation_status_created", columnList = "status, created_at"),
+                @Index(name = "idx_payment_compensation_reservation", columnList = "reservation_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentCompensation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private CompensationType type;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Column(name = "transaction_id", length = 100)
+    private String transactionId;
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CompensationStatus status = CompensationStatus.PENDING;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "resolved_at")
+    private LocalDateTime resolvedAt;
+
+    public enum CompensationType {
+        GATEWAY_CANCEL
+    }
+
+    public enum CompensationStatus {
+        PENDING, RESOLVED, FAILED
+    }
+
+    /**
+     * 게이트웨이 승인 취소 기록 생성
+     */
+    public static PaymentCompensation gatewayCancel(Long reservationId, Long userId, Long amount,
+                                                    String transactionId, String failureReason) {
+        PaymentCompensation compensation = new PaymentCompensation();
+        compensation.type = CompensationType.GATEWAY_CANCEL;
+        compensation.reservationId = reservationId;
+        compensation.userId = userId;
+        compensation.amount = amount;
+        compensation.transactionId = transactionId;
+        compensation.failureReason = truncate(failureReason);
+        return compensation;
+    }
+
+    public void markResolved() {
+        this.status = CompensationStatus.RESOLVED;
+        this.resolvedAt = LocalDateTime.now();
+    }
+
+    public void markFailed() {
+        this.status = CompensationStatus.FAILED;
+        this.resolvedAt = LocalDateTime.now();
+    }
+
+    private static String truncate(String reason) {
+        if (reason == null || reason.length() <= 500) {
+            return reason;
+        }
+        return reason.substring(0, 500);
+    }
+}
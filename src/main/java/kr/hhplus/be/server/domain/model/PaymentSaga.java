@@ -0,0 +1,174 @@
+package kr.hhplus.be.server.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 결제 SAGA 상태
+ *
+ * ACCEPTED → BALANCE_DEDUCTING → BALANCE_DEDUCTED → GATEWAY_PENDING → GATEWAY_APPROVED → COMPLETED
+ * BALANCE_DEDUCTING, GATEWAY_PENDING, REFUNDING은 외부 호출(잔액 전략, 게이트웨이) 권한을
+ * 조건부 UPDATE로 선점한 상태 (한 곳만 호출)
+ * 잔액 차감 이후 실패 시: → COMPENSATING → REFUNDING → COMPENSATED
+ * 잔액 차감 전 실패 시: → FAILED
+ */
+@Entity
+@Table(
+        name = "payment_sagas",
+        indexes = {
+                @Index(name = "idx_payment_saga_payment", columnList = "payment_id"),
+                @Index(name = "idx_payment_saga_reservation_status", columnList = "reservation_id, status"),
+                @Index(name = "idx_payment_saga_status_updated", columnList = "status, updated_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentSaga {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "payment_id", nullable = false)
+    private Long paymentId;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "concert_id", nullable = false)
+    private Long concertId;
+
+    @Column(name = "seat_number", nullable = false)
+    private Integer seatNumber;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SagaStatus status = SagaStatus.ACCEPTED;
+
+    @Column(name = "transaction_id", length = 100)
+    private String transactionId;
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
+    @Column(name = "retry_count", nullable = false)
+    private Integer retryCount = 0;
+
+    @Version
+    private Long version;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    public enum SagaStatus {
+        ACCEPTED, BALANCE_DEDUCTING, BALANCE_DEDUCTED, GATEWAY_PENDING, GATEWAY_APPROVED, COMPLETED,
+        COMPENSATING, REFUNDING, COMPENSATED, FAILED,
+        // 잔액 반영 여부를 알 수 없거나 재시도 한도를 넘어 자동 복구를 멈춘 상태 (수동 처리 대기)
+        NEEDS_MANUAL;
+
+        public boolean isTerminal() {
+            return this == COMPLETED || this == COMPENSATED || this == FAILED;
+        }
+
+        public static Set<SagaStatus> inProgress() {
+            return EnumSet.of(ACCEPTED, BALANCE_DEDUCTING, BALANCE_DEDUCTED, GATEWAY_PENDING, GATEWAY_APPROVED,
+                    COMPENSATING, REFUNDING);
+        }
+
+        /**
+         * 아직 끝나지 않은 상태 (진행 중 + 수동 처리 대기, 같은 예약의 새 결제 접수를 막는다)
+         */
+        public static Set<SagaStatus> unresolved() {
+            Set<SagaStatus> statuses = inProgress();
+            statuses.add(NEEDS_MANUAL);
+            return statuses;
+        }
+
+        /**
+         * 잔액 전략 호출 도중 멈춘 상태 (반영 여부를 알 수 없어 자동 재시도하지 않는다)
+         */
+        public boolean isInDoubt() {
+            return this == BALANCE_DEDUCTING || this == REFUNDING;
+        }
+    }
+
+    public static PaymentSaga start(Long paymentId, SeatReservation reservation, Long userId, Long amount) {
+        PaymentSaga saga = new PaymentSaga();
+        saga.paymentId = paymentId;
+        saga.reservationId = reservation.getId();
+        saga.concertId = reservation.getConcertId();
+        saga.seatNumber = reservation.getSeatNumber();
+        saga.userId = userId;
+        saga.amount = amount;
+        return saga;
+    }
+
+    public void markBalanceDeducted() {
+        transition(SagaStatus.BALANCE_DEDUCTING, SagaStatus.BALANCE_DEDUCTED);
+    }
+
+    public void markGatewayApproved(String transactionId) {
+        transition(SagaStatus.GATEWAY_PENDING, SagaStatus.GATEWAY_APPROVED);
+        this.transactionId = transactionId;
+    }
+
+    public void markCompleted() {
+        transition(SagaStatus.GATEWAY_APPROVED, SagaStatus.COMPLETED);
+    }
+
+    /**
+     * 실패 처리: 잔액 차감 전(또는 차감이 반영되지 않은 차감 중)이면 FAILED, 이후면 보상 단계로 전환
+     */
+    public void fail(String reason) {
+        if (status.isTerminal() || status == SagaStatus.COMPENSATING || status == SagaStatus.REFUNDING
+                || status == SagaStatus.NEEDS_MANUAL) {
+            return;
+        }
+        this.failureReason = reason;
+        this.status = status == SagaStatus.ACCEPTED || status == SagaStatus.BALANCE_DEDUCTING
+                ? SagaStatus.FAILED : SagaStatus.COMPENSATING;
+        touch();
+    }
+
+    public void markCompensated() {
+        transition(SagaStatus.REFUNDING, SagaStatus.COMPENSATED);
+    }
+
+    public void recordRetryFailure(String reason) {
+        this.retryCount++;
+        this.failureReason = reason;
+        touch();
+    }
+
+    public boolean requiresCompensation() {
+        return status == SagaStatus.COMPENSATING;
+    }
+
+    private void transition(SagaStatus expected, SagaStatus next) {
+        if (status != expected) {
+            throw new IllegalStateException(
+                    String.format("결제 SAGA 상태 전이 불가: %s → %s (현재: %s)", expected, next, status));
+        }
+        this.status = next;
+        touch();
+    }
+
+    private void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
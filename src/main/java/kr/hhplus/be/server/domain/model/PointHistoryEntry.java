@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.domain.model;
+
+import kr.hhplus.be.server.domain.entity.PointTransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 이력 목록용 프로젝션
+ */
+public record PointHistoryEntry(Long id, PointTransactionType type, BigDecimal amount, String description,
+                                LocalDateTime createdAt) {
+
+    public KeysetCursor cursor() {
+        return new KeysetCursor(createdAt, id);
+    }
+}
@@ -5,7 +5,7 @@ import java.util.UUID;
 
 public class QueueToken {
     private Long id;
-    private Integer position;
+    private Integer position; // 대기 번호 (진입 순서)
 
     private final String tokenValue;
     private final Long userId;
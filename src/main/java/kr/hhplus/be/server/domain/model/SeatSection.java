@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.domain.model;
+
+/**
+ * 좌석 구역 (연속된 좌석 번호 구간과 구역 가격)
+ */
+public record SeatSection(String name, int firstSeatNumber, int lastSeatNumber, long price) {
+
+    public SeatSection {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("구역명은 필수입니다.");
+        }
+        if (firstSeatNumber < 1 || lastSeatNumber < firstSeatNumber) {
+            throw new IllegalArgumentException(
+                    String.format("잘못된 좌석 번호 구간입니다. 구역: %s, 구간: %d~%d", name, firstSeatNumber, lastSeatNumber));
+        }
+        if (price <= 0) {
+            throw new IllegalArgumentException("가격은 0보다 커야 합니다.");
+        }
+    }
+
+    public int seatCount() {
+        return lastSeatNumber - firstSeatNumber + 1;
+    }
+
+    public boolean overlaps(SeatSection other) {
+        return firstSeatNumber <= other.lastSeatNumber && other.firstSeatNumber <= lastSeatNumber;
+    }
+}
@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.domain.port.in;
+
+import kr.hhplus.be.server.domain.model.Payment;
+import kr.hhplus.be.server.domain.port.in.ProcessPaymentUseCase.ProcessPaymentCommand;
+
+/**
+ * 비동기 결제 접수 (결제 ID만 즉시 반환, 이후 단계는 백그라운드 처리)
+ */
+public interface AcceptPaymentUseCase {
+    /**
+     * @param idempotencyKey 클라이언트 멱등성 키 (없으면 null, 같은 키의 재요청은 기존 결제를 반환)
+     */
+    Payment acceptPayment(ProcessPaymentCommand command, String idempotencyKey);
+
+    Payment getPayment(Long paymentId);
+}
@@ -5,6 +5,27 @@ import kr.hhplus.be.server.domain.model.Payment;
 public interface ProcessPaymentUseCase {
     Payment processPayment(ProcessPaymentCommand command);
 
-    record ProcessPaymentCommand(Long reservationId, Long userId, Long amount) {
+    /**
+     * @param idempotencyKey 클라이언트 멱등성 키 (없으면 null, 같은 키의 재요청은 저장된 응답을 반환)
+     */
+    Payment processPayment(ProcessPaymentCommand command, String idempotencyKey);
+
+    /**
+     * @param queueConcertId 요청에 사용된 대기열 토큰의 콘서트 ID (있으면 예약의 콘서트와 같아야 한다, 내부 호출은 null)
+     */
+    record ProcessPaymentCommand(Long reservationId, Long userId, Long amount, Long queueConcertId) {
+
+        public ProcessPaymentCommand(Long reservationId, Long userId, Long amount) {
+            this(reservationId, userId, amount, null);
+        }
+
+        /**
+         * 대기열 토큰이 다른 콘서트용이면 거부
+         */
+        public void verifyQueueConcert(Long reservationConcertId) {
+            if (queueConcertId != null && !queueConcertId.equals(reservationConcertId)) {
+                throw new IllegalStateException("대기열 토큰의 콘서트와 예약의 콘서트가 다릅니다.");
+            }
+        }
     }
 }
@@ -2,6 +2,16 @@ package kr.hhplus.be.server.domain.port.out;
 
 import kr.hhplus.be.server.domain.model.Payment;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface PaymentGateway {
     Payment processPayment(Payment payment);
+
+    /**
+     * 비동기 결제 요청
+     * 승인/거절은 결과 Payment 상태로, 게이트웨이 장애(타임아웃, 서킷 오픈 등)는 예외로 완료된다.
+     */
+    default CompletableFuture<Payment> processPaymentAsync(Payment payment) {
+        return CompletableFuture.completedFuture(processPayment(payment));
+    }
 }
@@ -2,8 +2,12 @@ package kr.hhplus.be.server.domain.repository;
 
 import kr.hhplus.be.server.domain.model.ConcertDate;
 import kr.hhplus.be.server.domain.model.ConcertDate.ConcertDateStatus;
+import kr.hhplus.be.server.domain.model.ConcertDateSummary;
+import kr.hhplus.be.server.domain.model.CursorPage;
+import kr.hhplus.be.server.domain.model.KeysetCursor;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +36,8 @@ public interface ConcertDateRepository {
 
     // 도메인 특화 메서드들
     List<ConcertDate> findByConcertId(Long concertId);
+    List<ConcertDate> findByConcertIds(Collection<Long> concertIds);
+    List<Long> findConcertIdsUpdatedSince(LocalDateTime since);
     Optional<ConcertDate> findByConcertIdAndDateTime(Long concertId, LocalDateTime dateTime);
     List<ConcertDate> findAvailableDatesByMonth(LocalDate month, int limit);
     List<ConcertDate> findAllAvailableDates(int limit);
@@ -39,6 +45,11 @@ public interface ConcertDateRepository {
     List<ConcertDate> findByDateRange(LocalDateTime startDate, LocalDateTime endDate);
     List<ConcertDate> findUpcomingDates(LocalDateTime fromDate, int limit);
 
+    // 키셋 페이지 (공연 일시 오름차순, from~to, cursor가 null이면 from부터, to가 null이면 끝까지, 목록용 프로젝션)
+    CursorPage<ConcertDateSummary> findAvailablePage(LocalDateTime from, LocalDateTime to, KeysetCursor cursor, int size);
+    CursorPage<ConcertDateSummary> findPage(LocalDateTime from, LocalDateTime to, KeysetCursor cursor, int size);
+    CursorPage<ConcertDateSummary> findPageByConcertId(Long concertId, KeysetCursor cursor, int size);
+
     // 배치 업데이트 메서드들
     int bulkUpdateStatus(ConcertDateStatus newStatus, ConcertDateStatus oldStatus);
     int bulkUpdateAvailableSeats(Long concertId, int newAvailableSeats);
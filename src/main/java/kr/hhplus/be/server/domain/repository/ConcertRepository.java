@@ -3,6 +3,9 @@ package kr.hhplus.be.server.domain.repository;
 import kr.hhplus.be.server.domain.model.Concert;
 import kr.hhplus.be.server.domain.model.ConcertDate;
 import kr.hhplus.be.server.domain.model.ConcertStatus;
+import kr.hhplus.be.server.domain.model.ConcertSummary;
+import kr.hhplus.be.server.domain.model.CursorPage;
+import kr.hhplus.be.server.domain.model.KeysetCursor;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -32,6 +35,21 @@ public interface ConcertRepository {
     // 신규: 매진된 콘서트 조회
     List<Concert> findSoldOutConcerts();
 
+    // 키셋 페이지 (createdAt 최신순, cursor가 null이면 첫 페이지, 목록용 프로젝션)
+    CursorPage<ConcertSummary> findPage(KeysetCursor cursor, int size);
+
+    CursorPage<ConcertSummary> findPageByStatus(ConcertStatus status, KeysetCursor cursor, int size);
+
+    CursorPage<ConcertSummary> findPageByArtist(String artist, KeysetCursor cursor, int size);
+
+    CursorPage<ConcertSummary> findPageByVenue(String venue, KeysetCursor cursor, int size);
+
+    // ID 오름차순 키셋 페이지 (afterId보다 큰 ID부터 size건, afterId가 null이면 처음부터, 전체 순회용)
+    List<Concert> findAllAfterId(Long afterId, int size);
+
+    // since 이후 수정된 콘서트 ID
+    List<Long> findIdsUpdatedSince(LocalDateTime since);
+
     @Transactional
     void delete(Concert concert);
 
@@ -43,4 +61,10 @@ public interface ConcertRepository {
     long count();
 
     int decreaseAvailableSeatsAtomically(Long concertId);
+
+    // 잔여 좌석을 count만큼 원자적으로 차감 (부족하면 0 반환)
+    int decreaseAvailableSeatsAtomically(Long concertId, int count);
+
+    // 분할 카운터 합계를 concerts.available_seats에 반영 (반영된 콘서트 수 반환)
+    int syncAvailableSeatsFromCounters();
 }
@@ -0,0 +1,35 @@
+package kr.hhplus.be.server.domain.repository;
+
+import kr.hhplus.be.server.domain.model.TransactionType;
+
+import java.util.OptionalLong;
+
+/**
+ * 원장 계정 저장소 (잔액/포인트 공용, 금액은 long 최소 단위)
+ *
+ * 차감/충전은 조건부 UPDATE 한 번으로 반영하며 락을 잡지 않는다.
+ */
+public interface LedgerAccountRepository {
+
+    /**
+     * 조건부 차감 (잔액이 충분할 때만)
+     * @return true: 차감 성공, false: 잔액 부족 또는 계정 없음
+     */
+    boolean debitIfSufficient(Long userId, long amount);
+
+    /**
+     * 충전
+     * @return true: 충전 성공, false: 계정 없음
+     */
+    boolean credit(Long userId, long amount);
+
+    /**
+     * 계정 생성 (동시 생성은 한쪽만 성공)
+     * @return 생성 여부
+     */
+    boolean openIfAbsent(Long userId);
+
+    OptionalLong findBalance(Long userId);
+
+    void appendEntry(Long userId, TransactionType type, long amount, long balanceAfter, String description);
+}
@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.domain.repository;
+
+import kr.hhplus.be.server.domain.model.PaymentCompensation;
+import kr.hhplus.be.server.domain.model.PaymentCompensation.CompensationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface PaymentCompensationRepository extends JpaRepository<PaymentCompensation, Long> {
+
+    List<PaymentCompensation> findByStatusOrderByCreatedAtAsc(CompensationStatus status);
+
+    List<PaymentCompensation> findByReservationId(Long reservationId);
+}
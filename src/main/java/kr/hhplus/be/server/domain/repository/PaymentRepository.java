@@ -14,6 +14,9 @@ public interface PaymentRepository {
 
     Optional<Payment> findByReservationId(Long reservationId);
 
+    // 같은 예약의 처리 중 결제 확인 (좌석 확정 전 중복 결제 방지)
+    boolean existsByReservationIdAndStatus(Long reservationId, PaymentStatus status);
+
     List<Payment> findByUserId(Long userId);
 
     List<Payment> findByUserIdAndStatus(Long userId, PaymentStatus status);
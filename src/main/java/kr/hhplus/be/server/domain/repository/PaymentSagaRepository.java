@@ -0,0 +1,67 @@
+package kr.hhplus.be.server.domain.repository;
+
+import kr.hhplus.be.server.domain.model.PaymentSaga;
+import kr.hhplus.be.server.domain.model.PaymentSaga.SagaStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentSagaRepository extends JpaRepository<PaymentSaga, Long> {
+
+    Optional<PaymentSaga> findByPaymentId(Long paymentId);
+
+    boolean existsByReservationIdAndStatusIn(Long reservationId, Collection<SagaStatus> statuses);
+
+    // 멈춘 SAGA 복구용 (ID 기준 페이지 조회)
+    List<PaymentSaga> findByStatusInAndUpdatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+            Collection<SagaStatus> statuses, LocalDateTime before, Long afterId, Pageable pageable);
+
+    // 단계 선점: 현재 상태가 expected일 때만 next로 전이 (성공한 한 곳만 1 반환)
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE PaymentSaga s
+        SET s.status = :next, s.updatedAt = :now, s.version = s.version + 1
+        WHERE s.id = :id
+        AND s.status = :expected
+        """)
+    int transitionStatus(@Param("id") Long id,
+                         @Param("expected") SagaStatus expected,
+                         @Param("next") SagaStatus next,
+                         @Param("now") LocalDateTime now);
+
+    // 멈춘 단계 재선점: 조회한 버전 그대로일 때만 갱신 (여러 노드의 복구 중 한 곳만 성공)
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE PaymentSaga s
+        SET s.updatedAt = :now, s.version = s.version + 1
+        WHERE s.id = :id
+        AND s.status = :status
+        AND s.version = :version
+        """)
+    int touchIfUnchanged(@Param("id") Long id,
+                         @Param("status") SagaStatus status,
+                         @Param("version") Long version,
+                         @Param("now") LocalDateTime now);
+
+    // 자동 복구 중단: 조회한 상태/버전 그대로일 때만 수동 처리 대기로 전환 (여러 노드 중 한 곳만 성공)
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE PaymentSaga s
+        SET s.status = kr.hhplus.be.server.domain.model.PaymentSaga.SagaStatus.NEEDS_MANUAL,
+            s.updatedAt = :now, s.version = s.version + 1
+        WHERE s.id = :id
+        AND s.status = :status
+        AND s.version = :version
+        """)
+    int parkIfUnchanged(@Param("id") Long id,
+                        @Param("status") SagaStatus status,
+                        @Param("version") Long version,
+                        @Param("now") LocalDateTime now);
+}
@@ -3,6 +3,7 @@ package kr.hhplus.be.server.domain.repository;
 
 import kr.hhplus.be.server.domain.entity.PointHistory;
 import kr.hhplus.be.server.domain.entity.PointTransactionType;
+import kr.hhplus.be.server.domain.model.PointHistoryEntry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,10 +15,26 @@ import java.util.List;
 
 public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
 
-    List<PointHistory> findByUserIdOrderByCreatedAtDesc(Long userId);
-
     Page<PointHistory> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
+    // 첫 페이지 (최신순, 프로젝션)
+    @Query("SELECT new kr.hhplus.be.server.domain.model.PointHistoryEntry(" +
+            "ph.id, ph.type, ph.amount, ph.description, ph.createdAt) " +
+            "FROM PointHistory ph WHERE ph.userId = :userId " +
+            "ORDER BY ph.createdAt DESC, ph.id DESC")
+    List<PointHistoryEntry> findFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    // 다음 페이지 (키셋: 커서의 (createdAt, id)보다 이전 행)
+    @Query("SELECT new kr.hhplus.be.server.domain.model.PointHistoryEntry(" +
+            "ph.id, ph.type, ph.amount, ph.description, ph.createdAt) " +
+            "FROM PointHistory ph WHERE ph.userId = :userId " +
+            "AND (ph.createdAt < :createdAt OR (ph.createdAt = :createdAt AND ph.id < :id)) " +
+            "ORDER BY ph.createdAt DESC, ph.id DESC")
+    List<PointHistoryEntry> findPageAfter(@Param("userId") Long userId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
     @Query("SELECT ph FROM PointHistory ph WHERE ph.userId = :userId AND ph.type = :type ORDER BY ph.createdAt DESC")
     List<PointHistory> findByUserIdAndType(@Param("userId") Long userId,
                                            @Param("type") PointTransactionType type);
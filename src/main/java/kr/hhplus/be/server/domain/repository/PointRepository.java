@@ -3,10 +3,13 @@ package kr.hhplus.be.server.domain.repository;
 import kr.hhplus.be.server.domain.entity.Point;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface PointRepository extends JpaRepository<Point, Long> {
@@ -16,4 +19,25 @@ public interface PointRepository extends JpaRepository<Point, Long> {
     Optional<Point> findByUserIdWithLock(@Param("userId") Long userId);
 
     Optional<Point> findByUserId(Long userId);
+
+    /**
+     * 조건부 UPDATE - 포인트 사용 (잔액이 충분할 때만)
+     * @return 업데이트된 행 수 (성공 시 1, 실패 시 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Point p SET p.balance = p.balance - :amount, p.updatedAt = :now " +
+            "WHERE p.userId = :userId AND p.balance >= :amount")
+    int useConditionally(@Param("userId") Long userId,
+                         @Param("amount") BigDecimal amount,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * 조건부 UPDATE - 포인트 충전
+     * @return 업데이트된 행 수 (성공 시 1, 포인트 정보 없음 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Point p SET p.balance = p.balance + :amount, p.updatedAt = :now WHERE p.userId = :userId")
+    int chargeConditionally(@Param("userId") Long userId,
+                            @Param("amount") BigDecimal amount,
+                            @Param("now") LocalDateTime now);
 }
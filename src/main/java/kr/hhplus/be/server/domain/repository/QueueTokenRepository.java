@@ -3,6 +3,7 @@ package kr.hhplus.be.server.domain.repository;
 import kr.hhplus.be.server.domain.model.QueueToken;
 import kr.hhplus.be.server.domain.model.QueueStatus;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,14 +20,17 @@ public interface QueueTokenRepository {
 
     // 상태별 조회
     List<QueueToken> findByStatus(QueueStatus status);
-    List<QueueToken> findExpiredTokens(LocalDateTime currentTime);
 
     // 토큰 활성화 관리
     List<QueueToken> findTokensReadyToActivate(Long concertId, int limit);
+    List<QueueToken> findWaitingTokensByUserIds(Long concertId, Collection<Long> userIds);
+    List<Long> findConcertIdsWithWaitingTokens();
     Long countActiveTokensByConcertId(Long concertId);
     Long countWaitingTokensByConcertId(Long concertId);
 
     // 배치 처리용
+    int expireTokens(LocalDateTime currentTime, int limit);
     void deleteExpiredTokens(LocalDateTime beforeDate);
-    void updateTokenPositions(Long concertId);
+    List<Long> findExpiredTokenIds(Long afterId, LocalDateTime before, int limit);
+    int deleteByIds(List<Long> ids);
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package kr.hhplus.be.server.domain.repository;
 import kr.hhplus.be.server.domain.model.ReservationToken;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReservationTokenRepository {
@@ -21,4 +23,6 @@ public interface ReservationTokenRepository {
 
     // 만료된 토큰 정리
     void deleteExpiredTokens();
+    List<Long> findExpiredTokenIds(Long afterId, LocalDateTime before, int limit);
+    int deleteByIds(List<Long> ids);
 }
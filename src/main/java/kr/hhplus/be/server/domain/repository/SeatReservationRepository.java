@@ -1,9 +1,11 @@
 package kr.hhplus.be.server.domain.repository;
 
 import kr.hhplus.be.server.domain.model.SeatReservation;
+import kr.hhplus.be.server.domain.model.SeatSection;
 import kr.hhplus.be.server.domain.model.SeatStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +34,11 @@ public interface SeatReservationRepository {
 
     Optional<SeatReservation> findByConcertIdAndSeatNumberForUpdate(Long concertId, Integer seatNumber);
 
+    /**
+     * 예약 ID로 비관적 락 조회 (같은 예약의 결제 접수를 직렬화)
+     */
+    Optional<SeatReservation> findByIdForUpdate(Long id);
+
     List<SeatReservation> findAll();
 
     /**
@@ -49,10 +56,39 @@ public interface SeatReservationRepository {
      */
     int confirmSeatConditionally(Long concertId, Integer seatNumber, Long userId);
 
+    /**
+     * 여러 좌석을 비관적 락으로 조회 (좌석 번호 오름차순)
+     */
+    List<SeatReservation> findByConcertIdAndSeatNumbersForUpdate(Long concertId, Collection<Integer> seatNumbers);
+
+    /**
+     * 여러 좌석을 조건부로 일괄 확정 (원자적 연산)
+     * RESERVED 상태이면서 만료되지 않은 예약만 SOLD로 변경
+     *
+     * @return 업데이트된 행 수
+     */
+    int confirmSeatsConditionally(Collection<Long> reservationIds);
+
     /**
      * 만료된 예약을 일괄 해제 (배치 처리용)
      *
      * @return 해제된 예약 수
      */
     int releaseExpiredReservationsBatch(LocalDateTime now);
-}
\ No newline at end of file
+
+    /**
+     * 구역 좌석을 AVAILABLE 상태로 일괄 적재 (JDBC 배치)
+     *
+     * @return 적재한 좌석 수
+     */
+    int insertAvailableSeats(Long concertId, SeatSection section);
+
+    long countByConcertIdAndSeatNumberBetween(Long concertId, int firstSeatNumber, int lastSeatNumber);
+
+    /**
+     * 구간 내 AVAILABLE 좌석 삭제 (일괄 적재 실패 시 보상용)
+     *
+     * @return 삭제된 좌석 수
+     */
+    int deleteAvailableSeats(Long concertId, int firstSeatNumber, int lastSeatNumber);
+}
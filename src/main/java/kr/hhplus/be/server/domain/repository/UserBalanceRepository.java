@@ -2,6 +2,9 @@ package kr.hhplus.be.server.domain.repository;
 
 import kr.hhplus.be.server.domain.model.UserBalance;
 import kr.hhplus.be.server.domain.model.BalanceHistory;
+import kr.hhplus.be.server.domain.model.BalanceHistoryEntry;
+import kr.hhplus.be.server.domain.model.CursorPage;
+import kr.hhplus.be.server.domain.model.KeysetCursor;
 import kr.hhplus.be.server.domain.model.TransactionType;
 import java.util.List;
 import java.util.Optional;
@@ -15,7 +18,8 @@ public interface UserBalanceRepository {
 
     // 잔액 히스토리 관리
     BalanceHistory saveHistory(BalanceHistory history);
-    List<BalanceHistory> findHistoriesByUserId(Long userId);
+    // 키셋 페이지 조회 (cursor가 null이면 첫 페이지)
+    CursorPage<BalanceHistoryEntry> findHistoryPage(Long userId, KeysetCursor cursor, int size);
     List<BalanceHistory> findHistoriesByUserIdAndType(Long userId, TransactionType type);
 
     // 멱등성 보장을 위한 중복 체크
@@ -33,6 +37,13 @@ public interface UserBalanceRepository {
      */
     boolean deductBalanceConditionally(Long userId, Long amount);
 
+    /**
+     * 잔액 홀드 정산 차감 (조건부, 잔액 변경 이벤트를 발행하지 않음)
+     * Redis 미러는 홀드를 걸 때 이미 차감했으므로 무효화하지 않는다.
+     * @return true: 차감 성공, false: 잔액 부족으로 실패
+     */
+    boolean settleHeldBalance(Long userId, Long amount);
+
     /**
      * 조건부 잔액 충전 (원자적 연산)
      * @return true: 충전 성공, false: 사용자 없음으로 실패
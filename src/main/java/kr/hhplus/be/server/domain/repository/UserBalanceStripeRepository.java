@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.domain.repository;
+
+import kr.hhplus.be.server.domain.model.BalanceStripe;
+
+import java.util.List;
+
+public interface UserBalanceStripeRepository {
+
+    /**
+     * 분할 계좌 전체 조회 (비관적 락, stripe_no 순)
+     */
+    List<BalanceStripe> findByUserIdForUpdate(Long userId);
+
+    int countByUserId(Long userId);
+
+    long sumBalance(Long userId);
+
+    /**
+     * 조건부 차감 (해당 분할 계좌 잔액이 충분할 때만)
+     * @return true: 차감 성공, false: 잔액 부족
+     */
+    boolean deductConditionally(Long userId, int stripeNo, long amount);
+
+    /**
+     * 분할 계좌 충전
+     * @return true: 충전 성공, false: 분할 계좌 없음
+     */
+    boolean charge(Long userId, int stripeNo, long amount);
+
+    /**
+     * 분할 계좌 잔액 저장 (없는 stripe_no는 생성)
+     */
+    void saveAll(List<BalanceStripe> stripes);
+}
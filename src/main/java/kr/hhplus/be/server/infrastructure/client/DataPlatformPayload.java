@@ -1,13 +1,17 @@
 package kr.hhplus.be.server.infrastructure.client;
 import kr.hhplus.be.server.domain.event.ReservationCompletedEvent;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import java.time.LocalDateTime;
 
 /**
  * 데이터 플랫폼 전송 DTO
  */
 public record DataPlatformPayload(
+        // TSID (2^53 초과)는 문자열로 전송
         @JsonProperty("reservation_id")
+        @JsonSerialize(using = ToStringSerializer.class)
         Long reservationId,
 
         @JsonProperty("concert_id")
@@ -0,0 +1,106 @@
+package kr.hhplus.be.server.infrastructure.client;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 결제 게이트웨이용 서킷 브레이커
+ *
+ * CLOSED: 최근 windowSize 호출 중 실패율이 임계치 이상이면 OPEN
+ * OPEN: openDuration 동안 호출 차단, 이후 HALF_OPEN
+ * HALF_OPEN: 시험 호출 1건만 허용, 성공 시 CLOSED / 실패 시 다시 OPEN
+ */
+public class GatewayCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicLong openedAt = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    public GatewayCircuitBreaker(int windowSize, double failureRateThreshold, long openDurationMillis) {
+        this(windowSize, failureRateThreshold, openDurationMillis, System::nanoTime);
+    }
+
+    GatewayCircuitBreaker(int windowSize, double failureRateThreshold, long openDurationMillis,
+                          LongSupplier nanoClock) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("윈도우 크기는 1 이상이어야 합니다.");
+        }
+        this.windowSize = windowSize;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationMillis * 1_000_000L;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 호출 허용 여부
+     */
+    public boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && nanoClock.getAsLong() - openedAt.get() >= openDurationNanos) {
+            // 시험 호출은 한 스레드만 통과
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    public void onSuccess() {
+        if (state.get() == State.HALF_OPEN) {
+            reset(State.CLOSED);
+            return;
+        }
+        record(false);
+    }
+
+    public void onFailure() {
+        if (state.get() == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    private void record(boolean failed) {
+        int failureCount = failed ? failures.incrementAndGet() : failures.get();
+        int callCount = calls.incrementAndGet();
+        if (callCount < windowSize) {
+            return;
+        }
+
+        if ((double) failureCount / callCount >= failureRateThreshold) {
+            open();
+        } else {
+            calls.set(0);
+            failures.set(0);
+        }
+    }
+
+    private void open() {
+        openedAt.set(nanoClock.getAsLong());
+        reset(State.OPEN);
+    }
+
+    private void reset(State next) {
+        calls.set(0);
+        failures.set(0);
+        state.set(next);
+    }
+}
@@ -0,0 +1,154 @@
+package kr.hhplus.be.server.infrastructure.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 결제 게이트웨이 비동기 HTTP 클라이언트
+ *
+ * - JDK HttpClient sendAsync (커넥션 풀 재사용, 응답 대기 중 스레드 점유 없음)
+ * - 호출별 타임아웃
+ * - 벌크헤드: 동시 호출 수 제한, 초과 시 대기 없이 즉시 실패
+ * - 서킷 브레이커: 5xx/타임아웃 비율이 높으면 일정 시간 호출 차단
+ *
+ * 결제 거절(4xx)은 정상 응답으로 취급하며 서킷 브레이커 실패로 집계하지 않는다.
+ */
+@Slf4j
+@Component
+public class PaymentGatewayClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI approvalUri;
+    private final Duration requestTimeout;
+    private final Semaphore bulkhead;
+    private final GatewayCircuitBreaker circuitBreaker;
+
+    public PaymentGatewayClient(
+            @Value("${payment.gateway.base-url:http://localhost:8080/api/mock/payment-gateway}") String baseUrl,
+            @Value("${payment.gateway.connect-timeout-millis:1000}") long connectTimeoutMillis,
+            @Value("${payment.gateway.request-timeout-millis:3000}") long requestTimeoutMillis,
+            @Value("${payment.gateway.max-concurrent-calls:64}") int maxConcurrentCalls,
+            @Value("${payment.gateway.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${payment.gateway.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${payment.gateway.circuit-breaker.open-duration-millis:10000}") long openDurationMillis) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+        this.objectMapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.approvalUri = URI.create(baseUrl + "/payments");
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.circuitBreaker = new GatewayCircuitBreaker(windowSize, failureRateThreshold, openDurationMillis);
+    }
+
+    /**
+     * 결제 승인 요청
+     *
+     * 요청 생성 → 벌크헤드 → 서킷 브레이커 순으로 확인한다.
+     * 서킷 브레이커를 통과한 호출은 반드시 결과를 보고하므로 HALF_OPEN 시험 호출이 멈추지 않는다.
+     */
+    public CompletableFuture<PaymentGatewayResponse> requestApproval(PaymentGatewayRequest request) {
+        HttpRequest httpRequest;
+        try {
+            httpRequest = HttpRequest.newBuilder(approvalUri)
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .header("Idempotency-Key", request.idempotencyKey())
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(request)))
+                    .build();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new PaymentGatewayException("결제 요청 생성 실패", e));
+        }
+
+        if (!bulkhead.tryAcquire()) {
+            return CompletableFuture.failedFuture(new PaymentGatewayException("결제 게이트웨이 동시 호출 한도 초과"));
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            bulkhead.release();
+            return CompletableFuture.failedFuture(new PaymentGatewayException("결제 게이트웨이 서킷 오픈"));
+        }
+
+        CompletableFuture<HttpResponse<String>> sent;
+        try {
+            sent = httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString());
+        } catch (RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+
+        return sent
+                .orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApply(this::toResponse)
+                .whenComplete((response, error) -> {
+                    bulkhead.release();
+                    if (error == null) {
+                        circuitBreaker.onSuccess();
+                    } else {
+                        circuitBreaker.onFailure();
+                        log.warn("결제 게이트웨이 호출 실패 - paymentId: {}, error: {}",
+                                request.paymentId(), rootCause(error).getMessage());
+                    }
+                })
+                .exceptionallyCompose(error -> CompletableFuture.failedFuture(translate(error)));
+    }
+
+    public GatewayCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public int getAvailableConcurrentCalls() {
+        return bulkhead.availablePermits();
+    }
+
+    private PaymentGatewayResponse toResponse(HttpResponse<String> response) {
+        int status = response.statusCode();
+        if (status >= 500) {
+            throw new PaymentGatewayException("결제 게이트웨이 오류 - HTTP " + status);
+        }
+
+        try {
+            PaymentGatewayResponse body = objectMapper.readValue(response.body(), PaymentGatewayResponse.class);
+            if (status >= 400 && body.approved()) {
+                return new PaymentGatewayResponse(false, null, "HTTP " + status);
+            }
+            return body;
+        } catch (Exception e) {
+            throw new PaymentGatewayException("결제 게이트웨이 응답 파싱 실패 - HTTP " + status, e);
+        }
+    }
+
+    private static Throwable translate(Throwable error) {
+        Throwable cause = rootCause(error);
+        if (cause instanceof PaymentGatewayException) {
+            return cause;
+        }
+        if (cause instanceof TimeoutException || cause instanceof java.net.http.HttpTimeoutException) {
+            return new PaymentGatewayException("결제 게이트웨이 타임아웃", cause);
+        }
+        return new PaymentGatewayException("결제 게이트웨이 호출 실패: " + cause.getMessage(), cause);
+    }
+
+    private static Throwable rootCause(Throwable error) {
+        Throwable current = error;
+        while (current instanceof CompletionException && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.infrastructure.client;
+
+/**
+ * 결제 게이트웨이 장애 (타임아웃, 5xx, 서킷 오픈, 동시 호출 한도 초과)
+ *
+ * 결제 거절과 달리 결과를 알 수 없는 상태이므로 호출 측에서 보상/재시도를 판단한다.
+ */
+public class PaymentGatewayException extends RuntimeException {
+
+    public PaymentGatewayException(String message) {
+        super(message);
+    }
+
+    public PaymentGatewayException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,38 @@
+package kr.hhplus.be.server.infrastructure.client;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.hhplus.be.server.domain.model.Payment;
+
+/**
+ * 결제 게이트웨이 요청 DTO
+ *
+ * 멱등성 키는 필수이며, 결제에 저장된 키를 그대로 보내 재요청해도 게이트웨이에서 중복 승인되지 않는다.
+ */
+public record PaymentGatewayRequest(
+        @JsonProperty("payment_id")
+        Long paymentId,
+
+        @JsonProperty("user_id")
+        Long userId,
+
+        @JsonProperty("amount")
+        Long amount,
+
+        @JsonProperty("idempotency_key")
+        String idempotencyKey
+) {
+    public PaymentGatewayRequest {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            throw new IllegalArgumentException("결제 게이트웨이 요청에는 멱등성 키가 필요합니다.");
+        }
+    }
+
+    public static PaymentGatewayRequest from(Payment payment) {
+        return new PaymentGatewayRequest(
+                payment.getId(),
+                payment.getUserId(),
+                payment.getAmount(),
+                payment.getIdempotencyKey()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.infrastructure.client;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 결제 게이트웨이 응답 DTO
+ */
+public record PaymentGatewayResponse(
+        @JsonProperty("approved")
+        boolean approved,
+
+        @JsonProperty("transaction_id")
+        String transactionId,
+
+        @JsonProperty("message")
+        String message
+) {
+}
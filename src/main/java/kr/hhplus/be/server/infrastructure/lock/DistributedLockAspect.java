@@ -55,7 +55,7 @@ public class DistributedLockAspect {
                         key,
                         distributedLock.waitTime(),
                         distributedLock.timeUnit());
-                throw new IllegalStateException("락 획득 실패: " + key);
+                throw new LockAcquisitionException("락 획득 실패: " + key);
             }
 
             log.debug("락 획득 성공: key={}", key);
@@ -2,8 +2,11 @@ package kr.hhplus.be.server.infrastructure.lock;
 
 /**
  * 분산락 획득 실패 예외
+ *
+ * 기존 호출부 호환을 위해 IllegalStateException을 상속한다.
+ * 스케줄러는 이 예외만 "다른 노드가 실행 중"으로 보고 건너뛴다.
  */
-public class LockAcquisitionException extends RuntimeException {
+public class LockAcquisitionException extends IllegalStateException {
 
     public LockAcquisitionException(String message) {
         super(message);
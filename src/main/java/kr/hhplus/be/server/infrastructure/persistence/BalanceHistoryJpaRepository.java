@@ -1,6 +1,8 @@
 package kr.hhplus.be.server.infrastructure.persistence;
 import kr.hhplus.be.server.infrastructure.persistence.entity.BalanceHistoryEntity;
+import kr.hhplus.be.server.domain.model.BalanceHistoryEntry;
 import kr.hhplus.be.server.domain.model.TransactionType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,8 +12,23 @@ import java.util.Optional;
 
 public interface BalanceHistoryJpaRepository extends JpaRepository<BalanceHistoryEntity, Long> {
 
-    // 사용자별 히스토리 조회 (최신순)
-    List<BalanceHistoryEntity> findByUserIdOrderByCreatedAtDesc(Long userId);
+    // 사용자별 히스토리 첫 페이지 (최신순, 프로젝션)
+    @Query("SELECT new kr.hhplus.be.server.domain.model.BalanceHistoryEntry(" +
+            "h.id, h.type, h.amount, h.balanceAfter, h.createdAt) " +
+            "FROM BalanceHistoryEntity h WHERE h.userId = :userId " +
+            "ORDER BY h.createdAt DESC, h.id DESC")
+    List<BalanceHistoryEntry> findFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    // 사용자별 히스토리 다음 페이지 (키셋: 커서의 (createdAt, id)보다 이전 행)
+    @Query("SELECT new kr.hhplus.be.server.domain.model.BalanceHistoryEntry(" +
+            "h.id, h.type, h.amount, h.balanceAfter, h.createdAt) " +
+            "FROM BalanceHistoryEntity h WHERE h.userId = :userId " +
+            "AND (h.createdAt < :createdAt OR (h.createdAt = :createdAt AND h.id < :id)) " +
+            "ORDER BY h.createdAt DESC, h.id DESC")
+    List<BalanceHistoryEntry> findPageAfter(@Param("userId") Long userId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
 
     // 사용자별 + 타입별 히스토리 조회
     List<BalanceHistoryEntity> findByUserIdAndTypeOrderByCreatedAtDesc(Long userId, TransactionType type);
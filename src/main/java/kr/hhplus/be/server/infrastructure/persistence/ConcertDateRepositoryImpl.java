@@ -1,10 +1,17 @@
 package kr.hhplus.be.server.infrastructure.persistence;
 
+import kr.hhplus.be.server.domain.event.ConcertChangedEvent;
 import kr.hhplus.be.server.domain.model.ConcertDate;
 import kr.hhplus.be.server.domain.model.ConcertDate.ConcertDateStatus;
+import kr.hhplus.be.server.domain.model.ConcertDateSummary;
+import kr.hhplus.be.server.domain.model.CursorPage;
+import kr.hhplus.be.server.domain.model.KeysetCursor;
 import kr.hhplus.be.server.domain.repository.ConcertDateRepository;
 import kr.hhplus.be.server.infrastructure.persistence.entity.ConcertDateEntity;
 import kr.hhplus.be.server.infrastructure.persistence.entity.ConcertEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -13,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -24,10 +32,15 @@ public class ConcertDateRepositoryImpl implements ConcertDateRepository {
 
     private final SpringDataConcertDateRepository jpaRepository;
     private final SpringDataConcertRepository concertJpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
-    public ConcertDateRepositoryImpl(SpringDataConcertDateRepository jpaRepository, SpringDataConcertRepository concertJpaRepository) {
+    public ConcertDateRepositoryImpl(SpringDataConcertDateRepository jpaRepository, SpringDataConcertRepository concertJpaRepository,
+                                     ApplicationEventPublisher eventPublisher, EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.concertJpaRepository = concertJpaRepository;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -35,6 +48,7 @@ public class ConcertDateRepositoryImpl implements ConcertDateRepository {
     public ConcertDate save(ConcertDate concertDate) {
         ConcertDateEntity entity = toEntity(concertDate);
         ConcertDateEntity savedEntity = jpaRepository.save(entity);
+        eventPublisher.publishEvent(ConcertChangedEvent.upserted(savedEntity.getConcertId()));
         return toDomain(savedEntity);
     }
 
@@ -70,9 +84,32 @@ public class ConcertDateRepositoryImpl implements ConcertDateRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<ConcertDate> findByConcertIds(Collection<Long> concertIds) {
+        if (concertIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByConcert_IdIn(concertIds)
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Long> findConcertIdsUpdatedSince(LocalDateTime since) {
+        return jpaRepository.findConcertIdsUpdatedSince(since);
+    }
+
+    /**
+     * 자연 키 조회 (자연 키 캐시 → 엔티티 캐시 순으로 확인, 둘 다 없을 때만 DB 조회)
+     */
     @Override
     public Optional<ConcertDate> findByConcertIdAndDateTime(Long concertId, LocalDateTime dateTime) {
-        return jpaRepository.findByConcert_IdAndConcertDateTime(concertId, dateTime)
+        Session session = entityManager.unwrap(Session.class);
+        return session.byNaturalId(ConcertDateEntity.class)
+                .using("concert", session.getReference(ConcertEntity.class, concertId))
+                .using("concertDateTime", dateTime)
+                .loadOptional()
                 .map(this::toDomain);
     }
 
@@ -125,6 +162,31 @@ public class ConcertDateRepositoryImpl implements ConcertDateRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPage<ConcertDateSummary> findAvailablePage(LocalDateTime from, LocalDateTime to, KeysetCursor cursor, int size) {
+        KeysetCursor after = cursor != null ? cursor : KeysetCursor.startingAt(from);
+        return CursorPage.of(jpaRepository.findAvailablePageAfter(upperBound(to), after.at(), after.id(),
+                PageRequest.of(0, size + 1)), size, ConcertDateSummary::cursor);
+    }
+
+    @Override
+    public CursorPage<ConcertDateSummary> findPage(LocalDateTime from, LocalDateTime to, KeysetCursor cursor, int size) {
+        KeysetCursor after = cursor != null ? cursor : KeysetCursor.startingAt(from);
+        return CursorPage.of(jpaRepository.findPageAfter(upperBound(to), after.at(), after.id(),
+                PageRequest.of(0, size + 1)), size, ConcertDateSummary::cursor);
+    }
+
+    @Override
+    public CursorPage<ConcertDateSummary> findPageByConcertId(Long concertId, KeysetCursor cursor, int size) {
+        KeysetCursor after = cursor != null ? cursor : KeysetCursor.earliest();
+        return CursorPage.of(jpaRepository.findPageByConcertIdAfter(concertId, after.at(), after.id(),
+                PageRequest.of(0, size + 1)), size, ConcertDateSummary::cursor);
+    }
+
+    private static LocalDateTime upperBound(LocalDateTime to) {
+        return to != null ? to : KeysetCursor.maxTime();
+    }
+
     @Override
     public int bulkUpdateStatus(ConcertDateStatus newStatus, ConcertDateStatus oldStatus) {
         return 0;
@@ -214,53 +276,17 @@ public class ConcertDateRepositoryImpl implements ConcertDateRepository {
     }
 
     private ConcertDate toDomain(ConcertDateEntity entity) {
-        ConcertDate domain = ConcertDate.create(
-                entity.getConcertId(), // 편의 메서드 사용
+        return ConcertDate.reconstitute(
+                entity.getId(),
+                entity.getConcertId(),
                 entity.getConcertDateTime(),
                 entity.getStartTime(),
                 entity.getEndTime(),
-                entity.getTotalSeats()
-        );
-
-        // 기술적 필드 할당
-        domain.assignTechnicalFields(
-                entity.getId(),
+                entity.getTotalSeats(),
+                entity.getAvailableSeats(),
+                entity.getStatus(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
         );
-
-        // 상태 복원
-        if (entity.getStatus() != ConcertDateStatus.SCHEDULED) {
-            // 상태에 따른 적절한 메서드 호출
-            switch (entity.getStatus()) {
-                case AVAILABLE:
-                    domain.openBooking();
-                    break;
-                case CANCELLED:
-                    domain.cancel();
-                    break;
-                case COMPLETED:
-                    // 완료 상태는 시간 체크 때문에 직접 설정하기 어려움
-                    // 필요시 별도 메서드 추가
-                    break;
-                case SOLD_OUT:
-                    // availableSeats 조정으로 자동 처리됨
-                    break;
-            }
-        }
-
-        // availableSeats 복원
-        int seatDifference = entity.getAvailableSeats() - domain.getAvailableSeats();
-        if (seatDifference < 0) {
-            for (int i = 0; i < Math.abs(seatDifference); i++) {
-                domain.decreaseAvailableSeats();
-            }
-        } else if (seatDifference > 0) {
-            for (int i = 0; i < seatDifference; i++) {
-                domain.increaseAvailableSeats();
-            }
-        }
-
-        return domain;
     }
 }
\ No newline at end of file
@@ -2,6 +2,9 @@ package kr.hhplus.be.server.infrastructure.persistence;
 
 import kr.hhplus.be.server.domain.model.ConcertDate;
 import kr.hhplus.be.server.domain.model.ConcertDate.ConcertDateStatus;
+import kr.hhplus.be.server.domain.model.ConcertDateSummary;
+import kr.hhplus.be.server.domain.model.CursorPage;
+import kr.hhplus.be.server.domain.model.KeysetCursor;
 import kr.hhplus.be.server.domain.repository.ConcertDateRepository;
 import kr.hhplus.be.server.infrastructure.persistence.entity.ConcertDateEntity;
 import org.springframework.data.domain.PageRequest;
@@ -11,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -65,6 +69,22 @@ public class ConcertJpaRepository implements ConcertDateRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<ConcertDate> findByConcertIds(Collection<Long> concertIds) {
+        if (concertIds.isEmpty()) {
+            return List.of();
+        }
+        return concertDateRepo.findByConcert_IdIn(concertIds)
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Long> findConcertIdsUpdatedSince(LocalDateTime since) {
+        return concertDateRepo.findConcertIdsUpdatedSince(since);
+    }
+
     @Override
     public Optional<ConcertDate> findByConcertIdAndDateTime(Long concertId, LocalDateTime dateTime) {
         return concertDateRepo.findByConcert_IdAndConcertDateTime(concertId, dateTime)
@@ -122,6 +142,31 @@ public class ConcertJpaRepository implements ConcertDateRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPage<ConcertDateSummary> findAvailablePage(LocalDateTime from, LocalDateTime to, KeysetCursor cursor, int size) {
+        KeysetCursor after = cursor != null ? cursor : KeysetCursor.startingAt(from);
+        return CursorPage.of(concertDateRepo.findAvailablePageAfter(upperBound(to), after.at(), after.id(),
+                PageRequest.of(0, size + 1)), size, ConcertDateSummary::cursor);
+    }
+
+    @Override
+    public CursorPage<ConcertDateSummary> findPage(LocalDateTime from, LocalDateTime to, KeysetCursor cursor, int size) {
+        KeysetCursor after = cursor != null ? cursor : KeysetCursor.startingAt(from);
+        return CursorPage.of(concertDateRepo.findPageAfter(upperBound(to), after.at(), after.id(),
+                PageRequest.of(0, size + 1)), size, ConcertDateSummary::cursor);
+    }
+
+    @Override
+    public CursorPage<ConcertDateSummary> findPageByConcertId(Long concertId, KeysetCursor cursor, int size) {
+        KeysetCursor after = cursor != null ? cursor : KeysetCursor.earliest();
+        return CursorPage.of(concertDateRepo.findPageByConcertIdAfter(concertId, after.at(), after.id(),
+                PageRequest.of(0, size + 1)), size, ConcertDateSummary::cursor);
+    }
+
+    private static LocalDateTime upperBound(LocalDateTime to) {
+        return to != null ? to : KeysetCursor.maxTime();
+    }
+
     @Override
     public int bulkUpdateStatus(ConcertDateStatus newStatus, ConcertDateStatus oldStatus) {
         return 0;
@@ -190,58 +235,18 @@ public class ConcertJpaRepository implements ConcertDateRepository {
     }
 
     private ConcertDate toDomain(ConcertDateEntity entity) {
-        ConcertDate domain = ConcertDate.create(
-                entity.getConcertId(), // Long 타입
+        return ConcertDate.reconstitute(
+                entity.getId(),
+                entity.getConcertId(),
                 entity.getConcertDateTime(),
                 entity.getStartTime(),
                 entity.getEndTime(),
-                entity.getTotalSeats()
-        );
-
-        domain.assignTechnicalFields(
-                entity.getId(),
+                entity.getTotalSeats(),
+                entity.getAvailableSeats(),
+                entity.getStatus(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
         );
-
-        // 상태 및 좌석 수 복원
-        restoreDomainState(domain, entity);
-
-        return domain;
-    }
-
-    private void restoreDomainState(ConcertDate domain, ConcertDateEntity entity) {
-        if (entity.getStatus() != ConcertDateStatus.SCHEDULED) {
-            switch (entity.getStatus()) {
-                case AVAILABLE:
-                    if (domain.getStatus() == ConcertDateStatus.SCHEDULED) {
-                        domain.openBooking();
-                    }
-                    break;
-                case CANCELLED:
-                    domain.cancel();
-                    break;
-                case COMPLETED:
-                    domain.complete();
-                    break;
-                case SOLD_OUT:
-                    // availableSeats 조정으로 자동 처리됨
-                    break;
-            }
-        }
-
-        int currentAvailable = domain.getAvailableSeats();
-        int targetAvailable = entity.getAvailableSeats();
-
-        if (targetAvailable < currentAvailable) {
-            for (int i = 0; i < currentAvailable - targetAvailable; i++) {
-                domain.decreaseAvailableSeats();
-            }
-        } else if (targetAvailable > currentAvailable) {
-            for (int i = 0; i < targetAvailable - currentAvailable; i++) {
-                domain.increaseAvailableSeats();
-            }
-        }
     }
 
     @Override
@@ -1,9 +1,16 @@
 package kr.hhplus.be.server.infrastructure.persistence;
 
+import kr.hhplus.be.server.domain.event.ConcertChangedEvent;
 import kr.hhplus.be.server.domain.model.Concert;
 import kr.hhplus.be.server.domain.model.ConcertStatus;
+import kr.hhplus.be.server.domain.model.ConcertSummary;
+import kr.hhplus.be.server.domain.model.CursorPage;
+import kr.hhplus.be.server.domain.model.KeysetCursor;
 import kr.hhplus.be.server.domain.repository.ConcertRepository;
 import kr.hhplus.be.server.infrastructure.persistence.entity.ConcertEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,9 +24,18 @@ import java.util.stream.Collectors;
 public class ConcertRepositoryImpl implements ConcertRepository {
 
     private final SpringDataConcertRepository jpaRepository;
-
-    public ConcertRepositoryImpl(SpringDataConcertRepository jpaRepository) {
+    private final ShardedSeatCounter seatCounter;
+    private final boolean counterShardingEnabled;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ConcertRepositoryImpl(SpringDataConcertRepository jpaRepository,
+                                 ShardedSeatCounter seatCounter,
+                                 @Value("${seat.counter.sharding.enabled:false}") boolean counterShardingEnabled,
+                                 ApplicationEventPublisher eventPublisher) {
         this.jpaRepository = jpaRepository;
+        this.seatCounter = seatCounter;
+        this.counterShardingEnabled = counterShardingEnabled;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -30,20 +46,62 @@ public class ConcertRepositoryImpl implements ConcertRepository {
                     .orElseThrow(() -> new IllegalArgumentException(
                             "수정하려는 콘서트를 찾을 수 없습니다. ID: " + concert.getId()));
 
+            int seatDelta = concert.getAvailableSeats() - existingEntity.getAvailableSeats();
             updateEntity(existingEntity, concert);
+            if (counterShardingEnabled && seatDelta != 0) {
+                applySeatChangeToCounters(existingEntity, seatDelta);
+            }
             ConcertEntity savedEntity = jpaRepository.save(existingEntity);
+            eventPublisher.publishEvent(ConcertChangedEvent.upserted(savedEntity.getId()));
             return toDomain(savedEntity);
         }
 
         ConcertEntity entity = toEntity(concert);
         ConcertEntity savedEntity = jpaRepository.save(entity);
+        eventPublisher.publishEvent(ConcertChangedEvent.upserted(savedEntity.getId()));
         return toDomain(savedEntity);
     }
 
     @Override
     @Transactional
     public int decreaseAvailableSeatsAtomically(Long concertId) {
-        return jpaRepository.decreaseAvailableSeatsAtomically(concertId);
+        int updated = counterShardingEnabled
+                ? seatCounter.decrement(concertId, 1)
+                : jpaRepository.decreaseAvailableSeatsAtomically(concertId);
+        publishSeatsChanged(concertId, updated);
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public int decreaseAvailableSeatsAtomically(Long concertId, int count) {
+        int updated = counterShardingEnabled
+                ? seatCounter.decrement(concertId, count)
+                : jpaRepository.decreaseAvailableSeatsBy(concertId, count);
+        publishSeatsChanged(concertId, updated);
+        return updated;
+    }
+
+    /**
+     * 잔여석 변경을 분할 카운터에 반영 (반영하지 않으면 다음 동기화가 변경을 덮어쓴다)
+     */
+    private void applySeatChangeToCounters(ConcertEntity entity, int seatDelta) {
+        Integer remaining = seatCounter.adjust(entity.getId(), seatDelta, entity.getTotalSeats());
+        if (remaining != null) {
+            entity.setAvailableSeats(remaining);
+        }
+    }
+
+    private void publishSeatsChanged(Long concertId, int updated) {
+        if (updated > 0) {
+            eventPublisher.publishEvent(ConcertChangedEvent.seatsChanged(concertId));
+        }
+    }
+
+    @Override
+    @Transactional
+    public int syncAvailableSeatsFromCounters() {
+        return seatCounter.syncAll();
     }
 
     /**
@@ -89,38 +147,20 @@ public class ConcertRepositoryImpl implements ConcertRepository {
      * Entity to Domain
      */
     private Concert toDomain(ConcertEntity entity) {
-        Concert concert = Concert.create(
+        return Concert.reconstitute(
+                entity.getId(),
                 entity.getTitle(),
                 entity.getArtist(),
                 entity.getVenue(),
                 entity.getTotalSeats(),
-                entity.getPrice()
-        );
-
-        concert.assignTechnicalFields(
-                entity.getId(),
+                entity.getAvailableSeats(),
+                entity.getPrice(),
+                entity.getStatus(),
+                entity.getBookingOpenAt(),
+                entity.getSoldOutAt(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
         );
-
-        concert.assignSoldOutFields(
-                entity.getBookingOpenAt(),
-                entity.getSoldOutAt()
-        );
-
-        if (entity.getStatus() != concert.getStatus()) {
-            concert.updateStatus(entity.getStatus());
-        }
-
-        if (entity.getAvailableSeats() != null &&
-                !entity.getAvailableSeats().equals(entity.getTotalSeats())) {
-            int difference = entity.getTotalSeats() - entity.getAvailableSeats();
-            for (int i = 0; i < difference; i++) {
-                concert.decreaseAvailableSeats();
-            }
-        }
-
-        return concert;
     }
 
     @Override
@@ -185,11 +225,51 @@ public class ConcertRepositoryImpl implements ConcertRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPage<ConcertSummary> findPage(KeysetCursor cursor, int size) {
+        KeysetCursor after = cursor != null ? cursor : KeysetCursor.latest();
+        return CursorPage.of(jpaRepository.findPageBefore(after.at(), after.id(), PageRequest.of(0, size + 1)),
+                size, ConcertSummary::cursor);
+    }
+
+    @Override
+    public CursorPage<ConcertSummary> findPageByStatus(ConcertStatus status, KeysetCursor cursor, int size) {
+        KeysetCursor after = cursor != null ? cursor : KeysetCursor.latest();
+        return CursorPage.of(jpaRepository.findPageByStatusBefore(status, after.at(), after.id(),
+                PageRequest.of(0, size + 1)), size, ConcertSummary::cursor);
+    }
+
+    @Override
+    public CursorPage<ConcertSummary> findPageByArtist(String artist, KeysetCursor cursor, int size) {
+        KeysetCursor after = cursor != null ? cursor : KeysetCursor.latest();
+        return CursorPage.of(jpaRepository.findPageByArtistBefore(artist, after.at(), after.id(),
+                PageRequest.of(0, size + 1)), size, ConcertSummary::cursor);
+    }
+
+    @Override
+    public CursorPage<ConcertSummary> findPageByVenue(String venue, KeysetCursor cursor, int size) {
+        KeysetCursor after = cursor != null ? cursor : KeysetCursor.latest();
+        return CursorPage.of(jpaRepository.findPageByVenueBefore(venue, after.at(), after.id(),
+                PageRequest.of(0, size + 1)), size, ConcertSummary::cursor);
+    }
+
+    @Override
+    public List<Concert> findAllAfterId(Long afterId, int size) {
+        return jpaRepository.findAllAfterId(afterId != null ? afterId : 0L, PageRequest.of(0, size)).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Long> findIdsUpdatedSince(LocalDateTime since) {
+        return jpaRepository.findIdsUpdatedSince(since);
+    }
+
     @Override
     @Transactional
     public void delete(Concert concert) {
         if (concert.getId() != null) {
-            jpaRepository.deleteById(concert.getId());
+            deleteById(concert.getId());
         }
     }
 
@@ -197,6 +277,7 @@ public class ConcertRepositoryImpl implements ConcertRepository {
     @Transactional
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
+        eventPublisher.publishEvent(ConcertChangedEvent.deleted(id));
     }
 
     @Override
@@ -0,0 +1,54 @@
+package kr.hhplus.be.server.infrastructure.persistence;
+
+import jakarta.persistence.LockModeType;
+import kr.hhplus.be.server.infrastructure.persistence.entity.ConcertSeatCounterEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ConcertSeatCounterJpaRepository extends JpaRepository<ConcertSeatCounterEntity, Long> {
+
+    long countByConcertId(Long concertId);
+
+    @Query("SELECT c.remaining FROM ConcertSeatCounterEntity c WHERE c.concertId = :concertId AND c.shardNo = :shardNo")
+    Optional<Integer> findRemaining(@Param("concertId") Long concertId, @Param("shardNo") Integer shardNo);
+
+    @Query("SELECT COALESCE(SUM(c.remaining), 0) FROM ConcertSeatCounterEntity c WHERE c.concertId = :concertId")
+    Long sumRemaining(@Param("concertId") Long concertId);
+
+    // 콘서트별 잔여석 합계 (concerts 행 동기화용) [concertId, sum]
+    @Query("SELECT c.concertId, SUM(c.remaining) FROM ConcertSeatCounterEntity c GROUP BY c.concertId")
+    List<Object[]> sumRemainingByConcert();
+
+    // 기준 시각 이후 카운터가 바뀐 콘서트만 잔여석 합계 [concertId, sum]
+    @Query("SELECT c.concertId, SUM(c.remaining) FROM ConcertSeatCounterEntity c " +
+            "WHERE c.concertId IN (SELECT d.concertId FROM ConcertSeatCounterEntity d WHERE d.updatedAt >= :since) " +
+            "GROUP BY c.concertId")
+    List<Object[]> sumRemainingByConcertChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 분할 카운터 전체 조회 (비관적 락, shard_no 순서로 잠가 교착 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ConcertSeatCounterEntity c WHERE c.concertId = :concertId ORDER BY c.shardNo")
+    List<ConcertSeatCounterEntity> findAllByConcertIdWithLock(@Param("concertId") Long concertId);
+
+    /**
+     * 조건부 UPDATE - 분할 카운터 한 행에서만 차감
+     * @return 업데이트된 행 수 (성공 시 1, 부족 시 0)
+     */
+    @Modifying
+    @Query("UPDATE ConcertSeatCounterEntity c " +
+            "SET c.remaining = c.remaining - :count, c.updatedAt = :now " +
+            "WHERE c.concertId = :concertId AND c.shardNo = :shardNo AND c.remaining >= :count")
+    int decrement(@Param("concertId") Long concertId,
+                  @Param("shardNo") Integer shardNo,
+                  @Param("count") int count,
+                  @Param("now") LocalDateTime now);
+}
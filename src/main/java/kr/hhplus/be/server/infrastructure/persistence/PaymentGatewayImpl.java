@@ -2,44 +2,56 @@ package kr.hhplus.be.server.infrastructure.persistence;
 
 import kr.hhplus.be.server.domain.model.Payment;
 import kr.hhplus.be.server.domain.port.out.PaymentGateway;
+import kr.hhplus.be.server.infrastructure.client.PaymentGatewayClient;
+import kr.hhplus.be.server.infrastructure.client.PaymentGatewayRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @Component
 @Profile("!test")
 public class PaymentGatewayImpl implements PaymentGateway {
 
     private static final Logger logger = LoggerFactory.getLogger(PaymentGatewayImpl.class);
 
+    private final PaymentGatewayClient paymentGatewayClient;
+
+    public PaymentGatewayImpl(PaymentGatewayClient paymentGatewayClient) {
+        this.paymentGatewayClient = paymentGatewayClient;
+    }
+
+    /**
+     * 동기 결제 (기존 호출부 호환용) - 게이트웨이 장애도 실패 Payment로 반환
+     */
     @Override
     public Payment processPayment(Payment payment) {
         try {
-            // 실제 결제 게이트웨이 연동 로직
-            // 예: RestTemplate, WebClient 등을 사용한 외부 API 호출
-
-            // TODO: 실제 PG사 API 연동 구현
-            // PaymentResponse response = paymentClient.process(payment);
-
-            logger.info("결제 처리 시작. reservationId: {}, amount: {}",
-                    payment.getReservationId(), payment.getAmount());
-
-            // 시뮬레이션을 제거하고 바로 성공 처리
-            // 실제로는 외부 API 응답에 따라 처리
-            String transactionId = generateTransactionId();
-
-            logger.info("결제 처리 완료. transactionId: {}", transactionId);
-            return payment.complete(transactionId);
-
-        } catch (Exception e) {
-            logger.error("결제 처리 실패. reservationId: {}", payment.getReservationId(), e);
-            return payment.fail("결제 처리 실패: " + e.getMessage());
+            return processPaymentAsync(payment).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            logger.error("결제 처리 실패. reservationId: {}", payment.getReservationId(), cause);
+            return payment.fail("결제 처리 실패: " + cause.getMessage());
         }
     }
 
-    private String generateTransactionId() {
-        return "txn-" + System.currentTimeMillis() + "-" +
-                String.format("%04d", (int)(Math.random() * 10000));
+    @Override
+    public CompletableFuture<Payment> processPaymentAsync(Payment payment) {
+        logger.info("결제 처리 시작. reservationId: {}, amount: {}",
+                payment.getReservationId(), payment.getAmount());
+
+        return paymentGatewayClient.requestApproval(PaymentGatewayRequest.from(payment))
+                .thenApply(response -> {
+                    if (response.approved()) {
+                        logger.info("결제 처리 완료. transactionId: {}", response.transactionId());
+                        return payment.complete(response.transactionId());
+                    }
+                    logger.info("결제 거절. reservationId: {}, reason: {}",
+                            payment.getReservationId(), response.message());
+                    return payment.fail("결제 거절: " + response.message());
+                });
     }
-}
\ No newline at end of file
+}
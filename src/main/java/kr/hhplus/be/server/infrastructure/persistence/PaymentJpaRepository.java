@@ -14,6 +14,8 @@ public interface PaymentJpaRepository extends JpaRepository<PaymentEntity, Long>
 
     Optional<PaymentEntity> findByReservationId(Long reservationId);
 
+    boolean existsByReservationIdAndStatus(Long reservationId, PaymentStatus status);
+
     List<PaymentEntity> findByUserId(Long userId);
 
     List<PaymentEntity> findByUserIdAndStatus(Long userId, PaymentStatus status);
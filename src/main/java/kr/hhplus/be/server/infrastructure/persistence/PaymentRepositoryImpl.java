@@ -42,6 +42,11 @@ public class PaymentRepositoryImpl implements PaymentRepository {
                 .map(this::toDomain);
     }
 
+    @Override
+    public boolean existsByReservationIdAndStatus(Long reservationId, PaymentStatus status) {
+        return jpaRepository.existsByReservationIdAndStatus(reservationId, status);
+    }
+
     @Override
     public List<Payment> findByUserId(Long userId) {
         return jpaRepository.findByUserId(userId)
@@ -132,6 +137,7 @@ public class PaymentRepositoryImpl implements PaymentRepository {
 
     private Payment toDomain(PaymentEntity entity) {
         Payment domain;
+        String idempotencyKey = entity.getIdempotencyKey();
 
         // 상태에 따른 도메인 객체 생성
         if (entity.getReservationId() != null) {
@@ -140,14 +146,14 @@ public class PaymentRepositoryImpl implements PaymentRepository {
                     entity.getUserId(),
                     entity.getAmount(),
                     entity.getPaymentMethod() != null ? entity.getPaymentMethod() : "DEFAULT",
-                    entity.getIdempotencyKey()
+                    idempotencyKey
             );
         } else {
             domain = Payment.createPending(
                     entity.getUserId(),
                     entity.getAmount(),
                     entity.getPaymentMethod() != null ? entity.getPaymentMethod() : "DEFAULT",
-                    entity.getIdempotencyKey()
+                    idempotencyKey
             );
         }
 
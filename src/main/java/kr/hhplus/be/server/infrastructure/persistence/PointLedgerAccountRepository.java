@@ -0,0 +1,77 @@
+package kr.hhplus.be.server.infrastructure.persistence;
+
+import kr.hhplus.be.server.domain.entity.Point;
+import kr.hhplus.be.server.domain.entity.PointHistory;
+import kr.hhplus.be.server.domain.model.MinorUnits;
+import kr.hhplus.be.server.domain.model.TransactionType;
+import kr.hhplus.be.server.domain.repository.LedgerAccountRepository;
+import kr.hhplus.be.server.domain.repository.PointHistoryRepository;
+import kr.hhplus.be.server.domain.repository.PointRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.OptionalLong;
+
+/**
+ * 포인트(points) 원장 계정 (DECIMAL 컬럼과의 변환은 여기서만 한다)
+ *
+ * 계정 생성은 별도 트랜잭션(REQUIRES_NEW)이라, 동시 생성으로 중복 키 오류가 나도
+ * 충전 중인 호출자의 트랜잭션은 rollback-only가 되지 않는다.
+ */
+public class PointLedgerAccountRepository implements LedgerAccountRepository {
+
+    private final PointRepository pointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final TransactionTemplate requiresNewTemplate;
+
+    public PointLedgerAccountRepository(PointRepository pointRepository,
+                                        PointHistoryRepository pointHistoryRepository,
+                                        PlatformTransactionManager transactionManager) {
+        this.pointRepository = pointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public boolean debitIfSufficient(Long userId, long amount) {
+        return pointRepository.useConditionally(userId, MinorUnits.toDecimal(amount), LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public boolean credit(Long userId, long amount) {
+        return pointRepository.chargeConditionally(userId, MinorUnits.toDecimal(amount), LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public boolean openIfAbsent(Long userId) {
+        if (pointRepository.findByUserId(userId).isPresent()) {
+            return false;
+        }
+        try {
+            requiresNewTemplate.executeWithoutResult(status -> pointRepository.saveAndFlush(Point.create(userId)));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 동시 생성으로 인한 중복 키 오류
+            return false;
+        }
+    }
+
+    @Override
+    public OptionalLong findBalance(Long userId) {
+        return pointRepository.findByUserId(userId)
+                .map(point -> OptionalLong.of(MinorUnits.fromDecimal(point.getBalance())))
+                .orElseGet(OptionalLong::empty);
+    }
+
+    @Override
+    public void appendEntry(Long userId, TransactionType type, long amount, long balanceAfter, String description) {
+        PointHistory history = type == TransactionType.CHARGE
+                ? PointHistory.charge(userId, MinorUnits.toDecimal(amount), description)
+                : PointHistory.use(userId, MinorUnits.toDecimal(amount), description);
+        pointHistoryRepository.save(history);
+    }
+}
@@ -2,12 +2,14 @@ package kr.hhplus.be.server.infrastructure.persistence;
 
 import kr.hhplus.be.server.domain.model.QueueStatus;
 import kr.hhplus.be.server.infrastructure.persistence.entity.QueueTokenEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,17 +23,58 @@ public interface QueueTokenJpaRepository extends JpaRepository<QueueTokenEntity,
 
     List<QueueTokenEntity> findByConcertIdAndStatus(Long concertId, QueueStatus status);
 
-    List<QueueTokenEntity> findByStatus(QueueStatus status);
+    List<QueueTokenEntity> findByConcertIdAndStatusAndUserIdIn(Long concertId, QueueStatus status,
+                                                               Collection<Long> userIds);
 
-    List<QueueTokenEntity> findByExpiresAtBeforeAndStatusIn(
-            LocalDateTime expiresAt,
-            List<QueueStatus> statuses
-    );
+    List<QueueTokenEntity> findByStatus(QueueStatus status);
 
     Long countByConcertIdAndStatus(Long concertId, QueueStatus status);
 
     void deleteByExpiresAtBeforeAndStatus(LocalDateTime beforeDate, QueueStatus status);
 
+    // 만료 시각이 지난 대기/활성 토큰 ID (idx_queue_token_status_expires)
+    @Query("""
+        SELECT q.id
+        FROM QueueTokenEntity q
+        WHERE q.status IN :statuses
+        AND q.expiresAt < :now
+        """)
+    List<Long> findExpirableTokenIds(@Param("now") LocalDateTime now,
+                                     @Param("statuses") List<QueueStatus> statuses,
+                                     Pageable pageable);
+
+    // 일괄 만료 (조회 후 완료/만료된 토큰은 건너뛴다)
+    @Modifying
+    @Query("""
+        UPDATE QueueTokenEntity q
+        SET q.status = kr.hhplus.be.server.domain.model.QueueStatus.EXPIRED
+        WHERE q.id IN :ids
+        AND q.status IN :statuses
+        AND q.expiresAt < :now
+        """)
+    int expireByIds(@Param("ids") List<Long> ids,
+                    @Param("now") LocalDateTime now,
+                    @Param("statuses") List<QueueStatus> statuses);
+
+    // 정리 대상 토큰 ID 조회 (키셋 청크, 만료/완료 처리된 토큰만)
+    @Query("""
+        SELECT q.id
+        FROM QueueTokenEntity q
+        WHERE q.id > :afterId
+        AND q.expiresAt < :before
+        AND q.status IN :statuses
+        ORDER BY q.id ASC
+        """)
+    List<Long> findExpiredTokenIds(@Param("afterId") Long afterId,
+                                   @Param("before") LocalDateTime before,
+                                   @Param("statuses") List<QueueStatus> statuses,
+                                   Pageable pageable);
+
+    // ID 목록 일괄 삭제 (청크 단위)
+    @Modifying
+    @Query("DELETE FROM QueueTokenEntity q WHERE q.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
+
     // 대기 순번 조회
     @Query("""
         SELECT COUNT(q) + 1 
@@ -47,30 +90,22 @@ public interface QueueTokenJpaRepository extends JpaRepository<QueueTokenEntity,
     Integer getWaitingPosition(@Param("concertId") Long concertId,
                                @Param("tokenValue") String tokenValue);
 
-    // 활성화할 토큰 조회 (오래된 대기열부터)
+    // 최대 대기 번호 (대기 번호 할당기 시드용)
+    @Query("SELECT COALESCE(MAX(q.position), 0) FROM QueueTokenEntity q")
+    Integer findMaxPosition();
+
+    // 활성화할 토큰 조회 (대기 번호 순, 번호가 없는 이전 토큰이 먼저)
     @Query(value = """
         SELECT * FROM queue_tokens 
         WHERE concert_id = :concertId 
         AND status = 'WAITING' 
-        ORDER BY created_at ASC 
+        ORDER BY position ASC, created_at ASC 
         LIMIT :limit
         """, nativeQuery = true)
     List<QueueTokenEntity> findTokensReadyToActivate(@Param("concertId") Long concertId,
                                                      @Param("limit") int limit);
 
-    // 대기 순번 업데이트 (배치용)
-    @Modifying
-    @Query("""
-        UPDATE QueueTokenEntity q 
-        SET q.position = (
-            SELECT COUNT(q2) 
-            FROM QueueTokenEntity q2 
-            WHERE q2.concertId = q.concertId 
-            AND q2.status = 'WAITING' 
-            AND q2.createdAt <= q.createdAt
-        ) 
-        WHERE q.concertId = :concertId 
-        AND q.status = 'WAITING'
-        """)
-    void updateTokenPositions(@Param("concertId") Long concertId);
+    // 해당 상태의 토큰이 있는 콘서트 ID (활성화 스케줄러용)
+    @Query("SELECT DISTINCT q.concertId FROM QueueTokenEntity q WHERE q.status = :status")
+    List<Long> findConcertIdsByStatus(@Param("status") QueueStatus status);
 }
\ No newline at end of file
@@ -4,10 +4,12 @@ import kr.hhplus.be.server.domain.model.QueueToken;
 import kr.hhplus.be.server.domain.model.QueueStatus;
 import kr.hhplus.be.server.domain.repository.QueueTokenRepository;
 import kr.hhplus.be.server.infrastructure.persistence.entity.QueueTokenEntity;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -79,25 +81,31 @@ public class QueueTokenRepositoryImpl implements QueueTokenRepository {
                 .collect(Collectors.toList());
     }
 
+    // 토큰 활성화 관리
     @Override
-    public List<QueueToken> findExpiredTokens(LocalDateTime currentTime) {
-        return jpaRepository.findByExpiresAtBeforeAndStatusIn(
-                        currentTime,
-                        List.of(QueueStatus.WAITING, QueueStatus.ACTIVE)
-                ).stream()
+    public List<QueueToken> findTokensReadyToActivate(Long concertId, int limit) {
+        return jpaRepository.findTokensReadyToActivate(concertId, limit)
+                .stream()
                 .map(this::toDomain)
                 .collect(Collectors.toList());
     }
 
-    // 토큰 활성화 관리
     @Override
-    public List<QueueToken> findTokensReadyToActivate(Long concertId, int limit) {
-        return jpaRepository.findTokensReadyToActivate(concertId, limit)
+    public List<QueueToken> findWaitingTokensByUserIds(Long concertId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByConcertIdAndStatusAndUserIdIn(concertId, QueueStatus.WAITING, userIds)
                 .stream()
                 .map(this::toDomain)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Long> findConcertIdsWithWaitingTokens() {
+        return jpaRepository.findConcertIdsByStatus(QueueStatus.WAITING);
+    }
+
     @Override
     public Long countActiveTokensByConcertId(Long concertId) {
         return jpaRepository.countByConcertIdAndStatus(concertId, QueueStatus.ACTIVE);
@@ -109,16 +117,36 @@ public class QueueTokenRepositoryImpl implements QueueTokenRepository {
     }
 
     // 배치 처리용
+    @Override
+    @Transactional
+    public int expireTokens(LocalDateTime currentTime, int limit) {
+        List<QueueStatus> statuses = List.of(QueueStatus.WAITING, QueueStatus.ACTIVE);
+        List<Long> ids = jpaRepository.findExpirableTokenIds(currentTime, statuses, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.expireByIds(ids, currentTime, statuses);
+    }
+
     @Override
     @Transactional
     public void deleteExpiredTokens(LocalDateTime beforeDate) {
         jpaRepository.deleteByExpiresAtBeforeAndStatus(beforeDate, QueueStatus.EXPIRED);
     }
 
+    @Override
+    public List<Long> findExpiredTokenIds(Long afterId, LocalDateTime before, int limit) {
+        return jpaRepository.findExpiredTokenIds(afterId, before,
+                List.of(QueueStatus.EXPIRED, QueueStatus.COMPLETED), PageRequest.of(0, limit));
+    }
+
     @Override
     @Transactional
-    public void updateTokenPositions(Long concertId) {
-        jpaRepository.updateTokenPositions(concertId);
+    public int deleteByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.deleteAllByIdIn(ids);
     }
 
     // Entity ↔ Domain 변환
@@ -147,10 +175,15 @@ public class QueueTokenRepositoryImpl implements QueueTokenRepository {
         // Entity의 상태에 따라 적절한 도메인 객체 생성
         switch (entity.getStatus()) {
             case WAITING:
-                // WAITING 상태는 기존 팩토리 메서드 사용
-                domain = QueueToken.createWaitingToken(
+                // 저장된 토큰 값/시각을 그대로 복원 (새 토큰을 만들지 않는다)
+                domain = QueueToken.createWithStatus(
+                        entity.getTokenValue(),
                         entity.getUserId(),
-                        entity.getConcertId()
+                        entity.getConcertId(),
+                        QueueStatus.WAITING,
+                        entity.getCreatedAt(),
+                        entity.getExpiresAt(),
+                        entity.getEnteredAt()
                 );
                 break;
 
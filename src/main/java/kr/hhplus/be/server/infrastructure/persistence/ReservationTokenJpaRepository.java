@@ -2,6 +2,7 @@ package kr.hhplus.be.server.infrastructure.persistence;
 
 import kr.hhplus.be.server.domain.model.TokenStatus;
 import kr.hhplus.be.server.infrastructure.persistence.entity.ReservationTokenEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -37,6 +38,25 @@ public interface ReservationTokenJpaRepository extends JpaRepository<Reservation
     @Query("DELETE FROM ReservationTokenEntity t WHERE t.expiresAt < :now")
     void deleteExpiredTokens(@Param("now") LocalDateTime now);
 
+    // 정리 대상 토큰 ID 조회 (키셋 청크, 만료/사용 완료된 토큰만)
+    @Query("""
+        SELECT t.id
+        FROM ReservationTokenEntity t
+        WHERE t.id > :afterId
+        AND t.expiresAt < :before
+        AND t.status IN :statuses
+        ORDER BY t.id ASC
+        """)
+    List<Long> findExpiredTokenIds(@Param("afterId") Long afterId,
+                                   @Param("before") LocalDateTime before,
+                                   @Param("statuses") List<TokenStatus> statuses,
+                                   Pageable pageable);
+
+    // ID 목록 일괄 삭제 (청크 단위)
+    @Modifying
+    @Query("DELETE FROM ReservationTokenEntity t WHERE t.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
+
     // 대기 번호의 최댓값 조회
     @Query("SELECT COALESCE(MAX(t.waitingNumber), 0) FROM ReservationTokenEntity t WHERE t.status = 'WAITING'")
     Long findMaxWaitingNumber();
@@ -4,6 +4,7 @@ import kr.hhplus.be.server.domain.model.ReservationToken;
 import kr.hhplus.be.server.domain.model.TokenStatus;
 import kr.hhplus.be.server.domain.repository.ReservationTokenRepository;
 import kr.hhplus.be.server.infrastructure.persistence.entity.ReservationTokenEntity;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -84,10 +85,19 @@ public class ReservationTokenRepositoryImpl implements ReservationTokenRepositor
         jpaRepository.deleteExpiredTokens(LocalDateTime.now());
     }
 
-    // 다음 대기 번호 생성
-    public Long generateNextWaitingNumber() {
-        Long maxNumber = jpaRepository.findMaxWaitingNumber();
-        return maxNumber + 1;
+    @Override
+    public List<Long> findExpiredTokenIds(Long afterId, LocalDateTime before, int limit) {
+        return jpaRepository.findExpiredTokenIds(afterId, before,
+                List.of(TokenStatus.EXPIRED, TokenStatus.USED), PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional
+    public int deleteByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.deleteAllByIdIn(ids);
     }
 
     // Entity → Domain 변환
@@ -0,0 +1,67 @@
+package kr.hhplus.be.server.infrastructure.persistence;
+
+import kr.hhplus.be.server.domain.model.SeatSection;
+import kr.hhplus.be.server.domain.model.SeatStatus;
+import kr.hhplus.be.server.infrastructure.persistence.id.TsidGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+/**
+ * 좌석 재고 일괄 적재 (JDBC 배치)
+ *
+ * 영속성 컨텍스트를 거치지 않고 batchSize 단위로 묶어 전송한다 (ID는 엔티티와 같은 TSID 생성기로 발급).
+ * MySQL은 rewriteBatchedStatements=true 설정 시 드라이버가 다중 행 INSERT로 바꿔 보낸다.
+ */
+@Component
+public class SeatInventoryBulkWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO seat_reservations (id, concert_id, seat_number, status, price, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TsidGenerator idGenerator;
+    private final int batchSize;
+
+    public SeatInventoryBulkWriter(JdbcTemplate jdbcTemplate,
+                                   @Value("${id.tsid.node-id:}") String nodeId,
+                                   @Value("${seat.provisioning.batch-size:1000}") int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("배치 크기는 1 이상이어야 합니다.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.idGenerator = TsidGenerator.forConfiguredNode(nodeId);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 구역의 좌석을 AVAILABLE 상태로 적재 (호출 측 트랜잭션에 참여)
+     *
+     * @return 적재한 좌석 수
+     */
+    public int insertAvailableSeats(Long concertId, SeatSection section) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL,
+                IntStream.rangeClosed(section.firstSeatNumber(), section.lastSeatNumber()).boxed().toList(),
+                batchSize,
+                (ps, seatNumber) -> {
+                    ps.setLong(1, idGenerator.next());
+                    ps.setLong(2, concertId);
+                    ps.setInt(3, seatNumber);
+                    ps.setString(4, SeatStatus.AVAILABLE.name());
+                    ps.setLong(5, section.price());
+                    ps.setTimestamp(6, now);
+                    ps.setTimestamp(7, now);
+                });
+        int inserted = 0;
+        for (int[] batch : results) {
+            inserted += batch.length;
+        }
+        return inserted;
+    }
+}
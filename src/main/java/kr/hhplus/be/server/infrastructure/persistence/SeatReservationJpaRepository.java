@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,6 +48,10 @@ public interface SeatReservationJpaRepository extends JpaRepository<SeatReservat
     @Query("SELECT s.status, COUNT(s) FROM SeatReservationEntity s WHERE s.concertId = :concertId GROUP BY s.status")
     List<Object[]> countSeatsByStatus(@Param("concertId") Long concertId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from SeatReservationEntity s where s.id = :id")
+    Optional<SeatReservationEntity> findAndLockById(@Param("id") Long id);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select s from SeatReservationEntity s where s.concertId = :concertId and s.seatNumber = :seatNumber")
     Optional<SeatReservationEntity> findAndLockByConcertIdAndSeatNumber(@Param("concertId") Long concertId, @Param("seatNumber") Integer seatNumber);
@@ -75,6 +80,21 @@ public interface SeatReservationJpaRepository extends JpaRepository<SeatReservat
                                  @Param("userId") Long userId,
                                  @Param("now") LocalDateTime now);
 
+    // 여러 좌석을 비관적 락으로 조회 (좌석 번호 순으로 잠가 교착 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SeatReservationEntity s " +
+            "WHERE s.concertId = :concertId AND s.seatNumber IN :seatNumbers ORDER BY s.seatNumber ASC")
+    List<SeatReservationEntity> findAllByConcertIdAndSeatNumbersWithLock(@Param("concertId") Long concertId,
+                                                                         @Param("seatNumbers") Collection<Integer> seatNumbers);
+
+    // 다건 조건부 UPDATE - 좌석 일괄 확정 (그룹 커밋용)
+    @Modifying
+    @Query("UPDATE SeatReservationEntity s " +
+            "SET s.status = 'SOLD', s.expiresAt = null, s.updatedAt = :now " +
+            "WHERE s.id IN :ids AND s.status = 'RESERVED' AND s.expiresAt > :now")
+    int confirmSeatsConditionally(@Param("ids") Collection<Long> ids,
+                                  @Param("now") LocalDateTime now);
+
     // 배치 UPDATE - 만료된 예약 해제 (스케줄러용)
     @Modifying
     @Query("UPDATE SeatReservationEntity s " +
@@ -82,4 +102,14 @@ public interface SeatReservationJpaRepository extends JpaRepository<SeatReservat
             "WHERE s.status = 'RESERVED' AND s.expiresAt < :now")
     int releaseExpiredReservationsBatch(@Param("now") LocalDateTime now);
 
+    long countByConcertIdAndSeatNumberBetween(Long concertId, Integer firstSeatNumber, Integer lastSeatNumber);
+
+    // 일괄 적재 보상 - 구간 내 AVAILABLE 좌석 삭제
+    @Modifying
+    @Query("DELETE FROM SeatReservationEntity s " +
+            "WHERE s.concertId = :concertId AND s.seatNumber BETWEEN :first AND :last AND s.status = 'AVAILABLE'")
+    int deleteAvailableSeats(@Param("concertId") Long concertId,
+                             @Param("first") Integer firstSeatNumber,
+                             @Param("last") Integer lastSeatNumber);
+
 }
@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.infrastructure.persistence;
 import kr.hhplus.be.server.domain.model.SeatReservation;
+import kr.hhplus.be.server.domain.model.SeatSection;
 import kr.hhplus.be.server.domain.model.SeatStatus;
 import kr.hhplus.be.server.domain.repository.SeatReservationRepository;
 import kr.hhplus.be.server.infrastructure.persistence.entity.SeatReservationEntity;
@@ -7,6 +8,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -15,9 +17,12 @@ import java.util.stream.Collectors;
 public class SeatReservationRepositoryImpl implements SeatReservationRepository {
 
     private final SeatReservationJpaRepository jpaRepository;
+    private final SeatInventoryBulkWriter bulkWriter;
 
-    public SeatReservationRepositoryImpl(SeatReservationJpaRepository jpaRepository) {
+    public SeatReservationRepositoryImpl(SeatReservationJpaRepository jpaRepository,
+                                         SeatInventoryBulkWriter bulkWriter) {
         this.jpaRepository = jpaRepository;
+        this.bulkWriter = bulkWriter;
     }
 
     @Override
@@ -88,6 +93,12 @@ public class SeatReservationRepositoryImpl implements SeatReservationRepository
                 .map(this::toDomain);
     }
 
+    @Override
+    public Optional<SeatReservation> findByIdForUpdate(Long id) {
+        return jpaRepository.findAndLockById(id)
+                .map(this::toDomain);
+    }
+
     @Override
     public List<SeatReservation> findAll() {
         return jpaRepository.findAll().stream()
@@ -174,9 +185,47 @@ public class SeatReservationRepositoryImpl implements SeatReservationRepository
         return jpaRepository.confirmSeatConditionally(concertId, seatNumber, userId, now);
     }
 
+    @Override
+    @Transactional
+    public List<SeatReservation> findByConcertIdAndSeatNumbersForUpdate(Long concertId, Collection<Integer> seatNumbers) {
+        if (seatNumbers.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllByConcertIdAndSeatNumbersWithLock(concertId, seatNumbers)
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public int confirmSeatsConditionally(Collection<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.confirmSeatsConditionally(reservationIds, LocalDateTime.now());
+    }
+
     @Override
     @Transactional
     public int releaseExpiredReservationsBatch(LocalDateTime now) {
         return jpaRepository.releaseExpiredReservationsBatch(now);
     }
+
+    @Override
+    @Transactional
+    public int insertAvailableSeats(Long concertId, SeatSection section) {
+        return bulkWriter.insertAvailableSeats(concertId, section);
+    }
+
+    @Override
+    public long countByConcertIdAndSeatNumberBetween(Long concertId, int firstSeatNumber, int lastSeatNumber) {
+        return jpaRepository.countByConcertIdAndSeatNumberBetween(concertId, firstSeatNumber, lastSeatNumber);
+    }
+
+    @Override
+    @Transactional
+    public int deleteAvailableSeats(Long concertId, int firstSeatNumber, int lastSeatNumber) {
+        return jpaRepository.deleteAvailableSeats(concertId, firstSeatNumber, lastSeatNumber);
+    }
 }
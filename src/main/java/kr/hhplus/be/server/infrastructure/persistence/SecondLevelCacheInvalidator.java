@@ -0,0 +1,85 @@
+package kr.hhplus.be.server.infrastructure.persistence;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import kr.hhplus.be.server.domain.event.ConcertChangedEvent;
+import kr.hhplus.be.server.infrastructure.persistence.entity.ConcertDateEntity;
+import kr.hhplus.be.server.infrastructure.persistence.entity.ConcertEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 2차 캐시 노드 간 무효화
+ *
+ * Caffeine 2차 캐시는 노드 로컬이라 네이티브 UPDATE(잔여석 차감, 매진)나 엔티티 저장이
+ * 다른 노드의 캐시를 지우지 못한다. 콘서트 변경 이벤트를 커밋 후 Redis 토픽으로 발행하고,
+ * 모든 노드가 구독해 자기 캐시에서 해당 콘서트(일정 변경이면 일정 리전 전체)를 지운다.
+ * Redis Pub/Sub은 최대 1회 전달이므로 메시지를 놓친 노드는 리전 만료(hibernate-jcache.conf)로 보정된다.
+ */
+@Slf4j
+@Component
+public class SecondLevelCacheInvalidator {
+
+    static final String TOPIC = "cache:l2:concert";
+
+    private final Cache cache;
+    private final RTopic topic;
+    private int listenerId = -1;
+
+    public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory, RedissonClient redissonClient) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.topic = redissonClient.getTopic(TOPIC);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerId = topic.addListener(String.class, (channel, message) -> evictLocally(message));
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (listenerId >= 0) {
+            topic.removeListener(listenerId);
+        }
+    }
+
+    /**
+     * 커밋된 콘서트 변경을 모든 노드에 전파 (트랜잭션 밖에서 발행된 경우 즉시 전파)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onConcertChanged(ConcertChangedEvent event) {
+        try {
+            topic.publish(event.type().name() + ":" + event.concertId());
+        } catch (Exception e) {
+            log.warn("[L2Cache] 무효화 전파 실패 - concertId: {}, error: {}", event.concertId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 수신한 변경을 이 노드의 2차 캐시에 반영
+     * 잔여석 변경은 콘서트만, 생성/수정/삭제는 일정이 함께 바뀌었을 수 있어 일정 리전도 비운다.
+     */
+    void evictLocally(String message) {
+        int separator = message.indexOf(':');
+        if (separator < 0) {
+            log.warn("[L2Cache] 잘못된 무효화 메시지: {}", message);
+            return;
+        }
+        ConcertChangedEvent.ChangeType type = ConcertChangedEvent.ChangeType.valueOf(message.substring(0, separator));
+        Long concertId = Long.valueOf(message.substring(separator + 1));
+
+        cache.evictEntityData(ConcertEntity.class, concertId);
+        if (type != ConcertChangedEvent.ChangeType.SEATS) {
+            cache.evictEntityData(ConcertDateEntity.class);
+            cache.evictNaturalIdData(ConcertDateEntity.class);
+        }
+        log.debug("[L2Cache] 2차 캐시 무효화 - concertId: {}, type: {}", concertId, type);
+    }
+}
@@ -0,0 +1,263 @@
+package kr.hhplus.be.server.infrastructure.persistence;
+
+import kr.hhplus.be.server.domain.event.ConcertChangedEvent;
+import kr.hhplus.be.server.infrastructure.persistence.entity.ConcertEntity;
+import kr.hhplus.be.server.infrastructure.persistence.entity.ConcertSeatCounterEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 콘서트 잔여석 분할 카운터
+ *
+ * 잔여석을 K개 카운터 행으로 나눠 두고, 차감은 임의의 카운터부터 조건부 UPDATE를 시도한다.
+ * 동시 차감이 concerts 한 행에 몰리지 않고 K개 행으로 분산된다.
+ * 잔여석은 카운터 합계이며, concerts.available_seats는 주기 동기화와 매진 시점에만 갱신된다.
+ * 카운터는 콘서트별 첫 차감 때 concerts.available_seats를 균등 분할해 만든다.
+ * 관리자가 잔여석을 바꾸면 변경분을 카운터에 반영하고, 동기화는 카운터가 바뀐 콘서트만 다시 합산한다.
+ */
+@Slf4j
+@Component
+public class ShardedSeatCounter {
+
+    private final ConcertSeatCounterJpaRepository counterRepository;
+    private final SpringDataConcertRepository concertRepository;
+    private final TransactionTemplate requiresNewTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int shardCount;
+    private final Duration syncOverlap;
+
+    // 카운터가 확인된 콘서트 → 카운터 수
+    private final Map<Long, Integer> shardCounts = new ConcurrentHashMap<>();
+
+    // 마지막으로 커밋된 동기화의 시작 시각 (null이면 다음 동기화는 전체 합산)
+    private volatile LocalDateTime lastSyncedAt;
+
+    public ShardedSeatCounter(ConcertSeatCounterJpaRepository counterRepository,
+                              SpringDataConcertRepository concertRepository,
+                              PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${seat.counter.sharding.shard-count:16}") int shardCount,
+                              @Value("${seat.counter.sync.overlap-millis:30000}") long syncOverlapMillis) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("카운터 분할 수는 0보다 커야 합니다.");
+        }
+        this.counterRepository = counterRepository;
+        this.concertRepository = concertRepository;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.shardCount = shardCount;
+        this.syncOverlap = Duration.ofMillis(syncOverlapMillis);
+    }
+
+    /**
+     * 잔여석 차감 (호출자 트랜잭션에서 실행, 롤백 시 함께 되돌아간다)
+     *
+     * @return 성공 시 1, 잔여석 부족 시 0
+     */
+    public int decrement(Long concertId, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("차감 좌석 수는 0보다 커야 합니다.");
+        }
+        int shards = shardCountOf(concertId);
+        if (shards == 0) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int start = ThreadLocalRandom.current().nextInt(shards);
+        for (int i = 0; i < shards; i++) {
+            int shardNo = (start + i) % shards;
+            if (counterRepository.decrement(concertId, shardNo, count, now) == 1) {
+                checkSoldOut(concertId, shardNo);
+                return 1;
+            }
+        }
+
+        // 단일 카운터로는 부족: 전체 카운터를 잠그고 합계에서 차감
+        return count > 1 ? drainAcrossShards(concertId, count) : 0;
+    }
+
+    /**
+     * 카운터 합계 (카운터가 없으면 null)
+     */
+    public Integer remaining(Long concertId) {
+        if (counterRepository.countByConcertId(concertId) == 0) {
+            return null;
+        }
+        return counterRepository.sumRemaining(concertId).intValue();
+    }
+
+    /**
+     * 관리자 잔여석 변경을 카운터에 반영 (호출자 트랜잭션에서 실행)
+     *
+     * 카운터 전체를 잠그고 합계에 변경분을 더해 다시 균등 분할한다.
+     * 마지막 동기화 이후의 차감이 남도록 덮어쓰지 않고 변경분만 더한다.
+     *
+     * @return 반영 후 잔여석 (카운터가 없으면 null, 첫 차감 때 concerts 행에서 생성된다)
+     */
+    public Integer adjust(Long concertId, int delta, int totalSeats) {
+        List<ConcertSeatCounterEntity> counters = counterRepository.findAllByConcertIdWithLock(concertId);
+        if (counters.isEmpty()) {
+            return null;
+        }
+
+        int current = counters.stream().mapToInt(ConcertSeatCounterEntity::getRemaining).sum();
+        int remaining = Math.min(Math.max(current + delta, 0), totalSeats);
+        int shards = counters.size();
+        for (ConcertSeatCounterEntity counter : counters) {
+            int shardNo = counter.getShardNo();
+            counter.setRemaining(remaining / shards + (shardNo < remaining % shards ? 1 : 0));
+        }
+        log.info("[SeatCounter] 잔여석 변경 반영 - concertId: {}, 카운터 합계: {} → {}", concertId, current, remaining);
+        return remaining;
+    }
+
+    /**
+     * 카운터 합계를 concerts 행에 반영 (호출자 트랜잭션에서 실행)
+     *
+     * 마지막 동기화 이후 카운터가 바뀐 콘서트만 합산한다.
+     * 커밋이 늦은 차감을 놓치지 않도록 기준 시각을 overlap만큼 앞당기며, 첫 동기화는 전체를 합산한다.
+     *
+     * @return 갱신된 콘서트 수
+     */
+    public int syncAll() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = lastSyncedAt;
+        List<Object[]> rows = since == null
+                ? counterRepository.sumRemainingByConcert()
+                : counterRepository.sumRemainingByConcertChangedSince(since.minus(syncOverlap));
+
+        int updated = 0;
+        for (Object[] row : rows) {
+            Long concertId = (Long) row[0];
+            int remaining = ((Number) row[1]).intValue();
+            if (remaining == 0) {
+                updated += markSoldOut(concertId);
+            } else if (concertRepository.syncAvailableSeats(concertId, remaining) > 0) {
+                eventPublisher.publishEvent(ConcertChangedEvent.seatsChanged(concertId));
+                updated++;
+            }
+        }
+        advanceSyncedAt(startedAt);
+        return updated;
+    }
+
+    // 동기화가 롤백되면 기준 시각을 옮기지 않는다
+    private void advanceSyncedAt(LocalDateTime startedAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            lastSyncedAt = startedAt;
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastSyncedAt = startedAt;
+            }
+        });
+    }
+
+    private int drainAcrossShards(Long concertId, int count) {
+        List<ConcertSeatCounterEntity> counters = counterRepository.findAllByConcertIdWithLock(concertId);
+        int total = counters.stream().mapToInt(ConcertSeatCounterEntity::getRemaining).sum();
+        if (total < count) {
+            return 0;
+        }
+
+        int left = count;
+        for (ConcertSeatCounterEntity counter : counters) {
+            int taken = Math.min(counter.getRemaining(), left);
+            counter.setRemaining(counter.getRemaining() - taken);
+            left -= taken;
+            if (left == 0) {
+                break;
+            }
+        }
+        if (total == count) {
+            markSoldOut(concertId);
+        }
+        return 1;
+    }
+
+    /**
+     * 방금 차감한 카운터가 비었으면 합계를 확인해 매진 처리
+     * (동시에 비워진 경우 놓칠 수 있으며, 주기 동기화가 보정한다)
+     */
+    private void checkSoldOut(Long concertId, int shardNo) {
+        if (counterRepository.findRemaining(concertId, shardNo).orElse(0) > 0) {
+            return;
+        }
+        if (counterRepository.sumRemaining(concertId) == 0) {
+            markSoldOut(concertId);
+        }
+    }
+
+    private int markSoldOut(Long concertId) {
+        int updated = concertRepository.markSoldOut(concertId);
+        if (updated == 1) {
+            eventPublisher.publishEvent(ConcertChangedEvent.upserted(concertId));
+            log.info("[SeatCounter] 매진 처리 - concertId: {}", concertId);
+        }
+        return updated;
+    }
+
+    private int shardCountOf(Long concertId) {
+        Integer cached = shardCounts.get(concertId);
+        if (cached != null) {
+            return cached;
+        }
+        int shards = (int) counterRepository.countByConcertId(concertId);
+        if (shards == 0) {
+            shards = initialize(concertId);
+        }
+        if (shards > 0) {
+            shardCounts.put(concertId, shards);
+        }
+        return shards;
+    }
+
+    /**
+     * 카운터 생성: concerts 행을 잠그고 잔여석을 균등 분할 (나머지는 앞쪽 카운터에)
+     *
+     * @return 카운터 수 (콘서트가 없으면 0)
+     */
+    private int initialize(Long concertId) {
+        Integer created = requiresNewTemplate.execute(status -> {
+            ConcertEntity concert = concertRepository.findByIdForUpdate(concertId).orElse(null);
+            if (concert == null) {
+                return 0;
+            }
+            long existing = counterRepository.countByConcertId(concertId);
+            if (existing > 0) {
+                return (int) existing;
+            }
+
+            int available = concert.getAvailableSeats();
+            List<ConcertSeatCounterEntity> counters = new ArrayList<>(shardCount);
+            for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+                int share = available / shardCount + (shardNo < available % shardCount ? 1 : 0);
+                counters.add(new ConcertSeatCounterEntity(concertId, shardNo, share));
+            }
+            counterRepository.saveAll(counters);
+            log.info("[SeatCounter] 잔여석 카운터 생성 - concertId: {}, 잔여석: {}, 분할: {}",
+                    concertId, available, shardCount);
+            return shardCount;
+        });
+        return created != null ? created : 0;
+    }
+}
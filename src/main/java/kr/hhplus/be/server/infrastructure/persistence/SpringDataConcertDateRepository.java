@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.infrastructure.persistence;
 
 import kr.hhplus.be.server.domain.model.ConcertDate.ConcertDateStatus;
+import kr.hhplus.be.server.domain.model.ConcertDateSummary;
 import kr.hhplus.be.server.infrastructure.persistence.entity.ConcertDateEntity;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +17,11 @@ public interface SpringDataConcertDateRepository extends JpaRepository<ConcertDa
 
     List<ConcertDateEntity> findByConcert_Id(Long concertId);
 
+    List<ConcertDateEntity> findByConcert_IdIn(Collection<Long> concertIds);
+
+    @Query("SELECT DISTINCT cd.concert.id FROM ConcertDateEntity cd WHERE cd.updatedAt >= :since")
+    List<Long> findConcertIdsUpdatedSince(@Param("since") LocalDateTime since);
+
     Optional<ConcertDateEntity> findByConcert_IdAndConcertDateTime(Long concertId, LocalDateTime concertDateTime);
 
     List<ConcertDateEntity> findByStatus(ConcertDateStatus status);
@@ -47,4 +54,40 @@ public interface SpringDataConcertDateRepository extends JpaRepository<ConcertDa
             @Param("fromDate") LocalDateTime fromDate,
             Pageable pageable
     );
+
+    // ===== 키셋 페이지 (공연 일시 오름차순: 커서의 (concertDateTime, id) 다음 행부터 :to까지, 목록용 프로젝션) =====
+
+    @Query("SELECT new kr.hhplus.be.server.domain.model.ConcertDateSummary(" +
+            "cd.id, cd.concert.id, cd.concertDateTime, cd.startTime, cd.endTime, " +
+            "cd.totalSeats, cd.availableSeats, cd.status, cd.createdAt) " +
+            "FROM ConcertDateEntity cd WHERE " +
+            "cd.status = 'AVAILABLE' AND cd.availableSeats > 0 AND cd.concertDateTime <= :to AND " +
+            "(cd.concertDateTime > :at OR (cd.concertDateTime = :at AND cd.id > :id)) " +
+            "ORDER BY cd.concertDateTime ASC, cd.id ASC")
+    List<ConcertDateSummary> findAvailablePageAfter(@Param("to") LocalDateTime to,
+                                                    @Param("at") LocalDateTime at,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+
+    @Query("SELECT new kr.hhplus.be.server.domain.model.ConcertDateSummary(" +
+            "cd.id, cd.concert.id, cd.concertDateTime, cd.startTime, cd.endTime, " +
+            "cd.totalSeats, cd.availableSeats, cd.status, cd.createdAt) " +
+            "FROM ConcertDateEntity cd WHERE cd.concertDateTime <= :to AND " +
+            "(cd.concertDateTime > :at OR (cd.concertDateTime = :at AND cd.id > :id)) " +
+            "ORDER BY cd.concertDateTime ASC, cd.id ASC")
+    List<ConcertDateSummary> findPageAfter(@Param("to") LocalDateTime to,
+                                           @Param("at") LocalDateTime at,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    @Query("SELECT new kr.hhplus.be.server.domain.model.ConcertDateSummary(" +
+            "cd.id, cd.concert.id, cd.concertDateTime, cd.startTime, cd.endTime, " +
+            "cd.totalSeats, cd.availableSeats, cd.status, cd.createdAt) " +
+            "FROM ConcertDateEntity cd WHERE cd.concert.id = :concertId AND " +
+            "(cd.concertDateTime > :at OR (cd.concertDateTime = :at AND cd.id > :id)) " +
+            "ORDER BY cd.concertDateTime ASC, cd.id ASC")
+    List<ConcertDateSummary> findPageByConcertIdAfter(@Param("concertId") Long concertId,
+                                                      @Param("at") LocalDateTime at,
+                                                      @Param("id") Long id,
+                                                      Pageable pageable);
 }
\ No newline at end of file
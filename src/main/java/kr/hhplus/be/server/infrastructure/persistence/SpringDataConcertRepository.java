@@ -1,14 +1,22 @@
 package kr.hhplus.be.server.infrastructure.persistence;
 
 import kr.hhplus.be.server.domain.model.ConcertStatus;
+import kr.hhplus.be.server.domain.model.ConcertSummary;
 import kr.hhplus.be.server.infrastructure.persistence.entity.ConcertEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 // 타입 불일치 해결: JpaRepository<ConcertEntity, Long>
 public interface SpringDataConcertRepository extends JpaRepository<ConcertEntity, Long> {
@@ -19,6 +27,9 @@ public interface SpringDataConcertRepository extends JpaRepository<ConcertEntity
 
     List<ConcertEntity> findByVenue(String venue);
 
+    // 네이티브 UPDATE는 concerts 테이블 스페이스를 지정해 2차 캐시 중 콘서트 리전만 무효화한다
+    // (지정하지 않으면 Hibernate가 모든 리전을 비운다)
+
     @Query("SELECT c FROM ConcertEntity c WHERE c.status = :status AND c.createdAt >= :currentDate ORDER BY c.createdAt ASC")
     List<ConcertEntity> findByStatusAndCreatedAtAfter(
             @Param("status") ConcertStatus status,
@@ -31,15 +42,111 @@ public interface SpringDataConcertRepository extends JpaRepository<ConcertEntity
             @Param("currentDate") LocalDateTime currentDate
     );
 
+    // MySQL은 SET 절을 왼쪽부터 평가하므로 매진 판정을 차감보다 먼저 둔다 (차감 전 값 기준)
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "concerts"))
     @Query(value = """
         UPDATE concerts 
-        SET available_seats = available_seats - 1,
-            status = CASE WHEN available_seats - 1 = 0 THEN 'SOLD_OUT' ELSE status END,
+        SET status = CASE WHEN available_seats - 1 = 0 THEN 'SOLD_OUT' ELSE status END,
             sold_out_at = CASE WHEN available_seats - 1 = 0 THEN NOW() ELSE sold_out_at END,
+            available_seats = available_seats - 1,
             updated_at = NOW()
         WHERE id = :concertId AND available_seats > 0
         """, nativeQuery = true)
     int decreaseAvailableSeatsAtomically(@Param("concertId") Long concertId);
 
+    // 잔여 좌석 일괄 차감 (그룹 커밋용, 차감 후 0이면 매진 처리, 매진 판정을 차감보다 먼저 평가)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "concerts"))
+    @Query(value = """
+        UPDATE concerts 
+        SET status = CASE WHEN available_seats - :count = 0 THEN 'SOLD_OUT' ELSE status END,
+            sold_out_at = CASE WHEN available_seats - :count = 0 THEN NOW() ELSE sold_out_at END,
+            available_seats = available_seats - :count,
+            updated_at = NOW()
+        WHERE id = :concertId AND available_seats >= :count
+        """, nativeQuery = true)
+    int decreaseAvailableSeatsBy(@Param("concertId") Long concertId, @Param("count") int count);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ConcertEntity c WHERE c.id = :concertId")
+    Optional<ConcertEntity> findByIdForUpdate(@Param("concertId") Long concertId);
+
+    // 분할 카운터 합계가 0이 되었을 때 매진 처리 (한 번만 반영)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "concerts"))
+    @Query(value = """
+        UPDATE concerts 
+        SET available_seats = 0,
+            status = 'SOLD_OUT',
+            sold_out_at = COALESCE(sold_out_at, NOW()),
+            updated_at = NOW()
+        WHERE id = :concertId AND status <> 'SOLD_OUT'
+        """, nativeQuery = true)
+    int markSoldOut(@Param("concertId") Long concertId);
+
+    // 분할 카운터 합계를 concerts 행에 주기적으로 반영 (값이 바뀐 경우만)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "concerts"))
+    @Query(value = """
+        UPDATE concerts 
+        SET available_seats = :remaining,
+            updated_at = NOW()
+        WHERE id = :concertId AND status <> 'SOLD_OUT' AND available_seats <> :remaining
+        """, nativeQuery = true)
+    int syncAvailableSeats(@Param("concertId") Long concertId, @Param("remaining") int remaining);
+
+    // ===== 검색 색인용 (ID 오름차순 전체 순회, 변경분 조회) =====
+
+    @Query("SELECT c FROM ConcertEntity c WHERE c.id > :afterId ORDER BY c.id ASC")
+    List<ConcertEntity> findAllAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT c.id FROM ConcertEntity c WHERE c.updatedAt >= :since")
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
+
+    // ===== 키셋 페이지 (최신순: 커서의 (createdAt, id)보다 이전 행, 목록용 프로젝션) =====
+
+    @Query("SELECT new kr.hhplus.be.server.domain.model.ConcertSummary(" +
+            "c.id, c.title, c.artist, c.venue, c.totalSeats, c.availableSeats, c.price, c.status, " +
+            "c.createdAt, c.updatedAt) " +
+            "FROM ConcertEntity c " +
+            "WHERE (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ConcertSummary> findPageBefore(@Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    @Query("SELECT new kr.hhplus.be.server.domain.model.ConcertSummary(" +
+            "c.id, c.title, c.artist, c.venue, c.totalSeats, c.availableSeats, c.price, c.status, " +
+            "c.createdAt, c.updatedAt) " +
+            "FROM ConcertEntity c WHERE c.status = :status " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ConcertSummary> findPageByStatusBefore(@Param("status") ConcertStatus status,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    @Query("SELECT new kr.hhplus.be.server.domain.model.ConcertSummary(" +
+            "c.id, c.title, c.artist, c.venue, c.totalSeats, c.availableSeats, c.price, c.status, " +
+            "c.createdAt, c.updatedAt) " +
+            "FROM ConcertEntity c WHERE c.artist = :artist " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ConcertSummary> findPageByArtistBefore(@Param("artist") String artist,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    @Query("SELECT new kr.hhplus.be.server.domain.model.ConcertSummary(" +
+            "c.id, c.title, c.artist, c.venue, c.totalSeats, c.availableSeats, c.price, c.status, " +
+            "c.createdAt, c.updatedAt) " +
+            "FROM ConcertEntity c WHERE c.venue = :venue " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ConcertSummary> findPageByVenueBefore(@Param("venue") String venue,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
 }
\ No newline at end of file
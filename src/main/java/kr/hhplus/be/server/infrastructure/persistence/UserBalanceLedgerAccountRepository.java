@@ -0,0 +1,62 @@
+package kr.hhplus.be.server.infrastructure.persistence;
+
+import kr.hhplus.be.server.domain.model.BalanceHistory;
+import kr.hhplus.be.server.domain.model.TransactionType;
+import kr.hhplus.be.server.domain.model.UserBalance;
+import kr.hhplus.be.server.domain.repository.LedgerAccountRepository;
+import kr.hhplus.be.server.domain.repository.UserBalanceRepository;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.OptionalLong;
+
+/**
+ * 잔액(user_balances) 원장 계정
+ *
+ * 계정 생성은 별도 트랜잭션(REQUIRES_NEW)이라, 동시 생성으로 중복 키 오류가 나도 호출자의 트랜잭션에 영향이 없다.
+ */
+public class UserBalanceLedgerAccountRepository implements LedgerAccountRepository {
+
+    private final UserBalanceRepository userBalanceRepository;
+    private final TransactionTemplate requiresNewTemplate;
+
+    public UserBalanceLedgerAccountRepository(UserBalanceRepository userBalanceRepository,
+                                              PlatformTransactionManager transactionManager) {
+        this.userBalanceRepository = userBalanceRepository;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public boolean debitIfSufficient(Long userId, long amount) {
+        return userBalanceRepository.deductBalanceConditionally(userId, amount);
+    }
+
+    @Override
+    public boolean credit(Long userId, long amount) {
+        return userBalanceRepository.chargeBalanceConditionally(userId, amount);
+    }
+
+    @Override
+    public boolean openIfAbsent(Long userId) {
+        return Boolean.TRUE.equals(requiresNewTemplate.execute(status ->
+                userBalanceRepository.createInitialBalanceIfNotExists(userId, 0L)));
+    }
+
+    @Override
+    public OptionalLong findBalance(Long userId) {
+        return userBalanceRepository.findByUserId(userId)
+                .map(balance -> OptionalLong.of(balance.getBalance()))
+                .orElseGet(OptionalLong::empty);
+    }
+
+    @Override
+    public void appendEntry(Long userId, TransactionType type, long amount, long balanceAfter, String description) {
+        BalanceHistory history = type == TransactionType.CHARGE
+                ? BalanceHistory.createChargeHistory(userId, amount, balanceAfter - amount, balanceAfter, null, description)
+                : BalanceHistory.createDeductHistory(userId, amount, balanceAfter + amount, balanceAfter, null, description);
+        userBalanceRepository.saveHistory(history);
+    }
+}
@@ -1,13 +1,19 @@
 package kr.hhplus.be.server.infrastructure.persistence;
 
+import kr.hhplus.be.server.domain.event.UserBalanceChangedEvent;
 import kr.hhplus.be.server.domain.model.UserBalance;
 import kr.hhplus.be.server.domain.model.BalanceHistory;
+import kr.hhplus.be.server.domain.model.BalanceHistoryEntry;
+import kr.hhplus.be.server.domain.model.CursorPage;
+import kr.hhplus.be.server.domain.model.KeysetCursor;
 import kr.hhplus.be.server.domain.model.TransactionType;
 import kr.hhplus.be.server.domain.repository.UserBalanceRepository;
 import kr.hhplus.be.server.infrastructure.persistence.entity.UserBalanceEntity;
 import kr.hhplus.be.server.infrastructure.persistence.entity.BalanceHistoryEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +28,7 @@ public class UserBalanceRepositoryImpl implements UserBalanceRepository {
 
     private final UserBalanceJpaRepository balanceJpaRepository;
     private final BalanceHistoryJpaRepository historyJpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -35,6 +42,7 @@ public class UserBalanceRepositoryImpl implements UserBalanceRepository {
             entity.setLastUpdatedAt(balance.getLastUpdatedAt());
 
             UserBalanceEntity saved = balanceJpaRepository.saveAndFlush(entity);
+            eventPublisher.publishEvent(new UserBalanceChangedEvent(saved.getUserId()));
             return toBalanceDomain(saved);
         } else {
             // 신규 엔티티 생성
@@ -44,6 +52,7 @@ public class UserBalanceRepositoryImpl implements UserBalanceRepository {
                     balance.getLastUpdatedAt()
             );
             UserBalanceEntity saved = balanceJpaRepository.saveAndFlush(entity);
+            eventPublisher.publishEvent(new UserBalanceChangedEvent(saved.getUserId()));
             return toBalanceDomain(saved);
         }
     }
@@ -70,11 +79,13 @@ public class UserBalanceRepositoryImpl implements UserBalanceRepository {
     }
 
     @Override
-    public List<BalanceHistory> findHistoriesByUserId(Long userId) {
-        return historyJpaRepository.findByUserIdOrderByCreatedAtDesc(userId)
-                .stream()
-                .map(this::toHistoryDomain)
-                .collect(Collectors.toList());
+    public CursorPage<BalanceHistoryEntry> findHistoryPage(Long userId, KeysetCursor cursor, int size) {
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<BalanceHistoryEntry> fetched = cursor == null
+                ? historyJpaRepository.findFirstPage(userId, limit)
+                : historyJpaRepository.findPageAfter(userId, cursor.at(), cursor.id(), limit);
+        return CursorPage.of(fetched, size, BalanceHistoryEntry::cursor);
     }
 
     @Override
@@ -114,7 +125,14 @@ public class UserBalanceRepositoryImpl implements UserBalanceRepository {
     public boolean deductBalanceConditionally(Long userId, Long amount) {
         LocalDateTime now = LocalDateTime.now();
         int updatedRows = balanceJpaRepository.deductBalanceConditionally(userId, amount, now);
-        return updatedRows > 0;
+        return published(userId, updatedRows > 0);
+    }
+
+    @Override
+    @Transactional
+    public boolean settleHeldBalance(Long userId, Long amount) {
+        LocalDateTime now = LocalDateTime.now();
+        return balanceJpaRepository.deductBalanceConditionally(userId, amount, now) > 0;
     }
 
     @Override
@@ -122,7 +140,7 @@ public class UserBalanceRepositoryImpl implements UserBalanceRepository {
     public boolean chargeBalanceConditionally(Long userId, Long amount) {
         LocalDateTime now = LocalDateTime.now();
         int updatedRows = balanceJpaRepository.chargeBalanceConditionally(userId, amount, now);
-        return updatedRows > 0;
+        return published(userId, updatedRows > 0);
     }
 
     @Override
@@ -130,7 +148,7 @@ public class UserBalanceRepositoryImpl implements UserBalanceRepository {
     public boolean deductBalanceWithOptimisticLock(Long userId, Long amount, Long expectedVersion) {
         LocalDateTime now = LocalDateTime.now();
         int updatedRows = balanceJpaRepository.deductBalanceWithOptimisticLock(userId, amount, expectedVersion, now);
-        return updatedRows > 0;
+        return published(userId, updatedRows > 0);
     }
 
     @Override
@@ -145,13 +163,21 @@ public class UserBalanceRepositoryImpl implements UserBalanceRepository {
         try {
             UserBalanceEntity entity = new UserBalanceEntity(userId, initialBalance, LocalDateTime.now());
             balanceJpaRepository.saveAndFlush(entity);
-            return true;
+            return published(userId, true);
         } catch (DataIntegrityViolationException e) {
             // 동시 생성으로 인한 중복 키 오류
             return false;
         }
     }
 
+    // 변경된 경우에만 잔액 변경 이벤트 발행
+    private boolean published(Long userId, boolean changed) {
+        if (changed) {
+            eventPublisher.publishEvent(new UserBalanceChangedEvent(userId));
+        }
+        return changed;
+    }
+
     // Entity → Domain 변환 (UserBalance)
     private UserBalance toBalanceDomain(UserBalanceEntity entity) {
         UserBalance balance = UserBalance.of(
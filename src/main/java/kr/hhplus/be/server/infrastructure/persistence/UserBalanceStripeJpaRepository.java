@@ -0,0 +1,53 @@
+package kr.hhplus.be.server.infrastructure.persistence;
+
+import jakarta.persistence.LockModeType;
+import kr.hhplus.be.server.infrastructure.persistence.entity.UserBalanceStripeEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UserBalanceStripeJpaRepository extends JpaRepository<UserBalanceStripeEntity, Long> {
+
+    /**
+     * 분할 계좌 전체 조회 (비관적 락, stripe_no 순서로 잠가 교착 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserBalanceStripeEntity s WHERE s.userId = :userId ORDER BY s.stripeNo")
+    List<UserBalanceStripeEntity> findAllByUserIdWithLock(@Param("userId") Long userId);
+
+    long countByUserId(Long userId);
+
+    @Query("SELECT COALESCE(SUM(s.balance), 0) FROM UserBalanceStripeEntity s WHERE s.userId = :userId")
+    Long sumBalanceByUserId(@Param("userId") Long userId);
+
+    /**
+     * 조건부 UPDATE - 분할 계좌 한 행에서만 차감
+     * @return 업데이트된 행 수 (성공 시 1, 잔액 부족 시 0)
+     */
+    @Modifying
+    @Query("UPDATE UserBalanceStripeEntity s " +
+            "SET s.balance = s.balance - :amount, s.lastUpdatedAt = :now, s.version = s.version + 1 " +
+            "WHERE s.userId = :userId AND s.stripeNo = :stripeNo AND s.balance >= :amount")
+    int deductConditionally(@Param("userId") Long userId,
+                            @Param("stripeNo") Integer stripeNo,
+                            @Param("amount") Long amount,
+                            @Param("now") LocalDateTime now);
+
+    /**
+     * 분할 계좌 한 행에 충전
+     * @return 업데이트된 행 수 (성공 시 1, 분할 계좌 없음 0)
+     */
+    @Modifying
+    @Query("UPDATE UserBalanceStripeEntity s " +
+            "SET s.balance = s.balance + :amount, s.lastUpdatedAt = :now, s.version = s.version + 1 " +
+            "WHERE s.userId = :userId AND s.stripeNo = :stripeNo")
+    int charge(@Param("userId") Long userId,
+               @Param("stripeNo") Integer stripeNo,
+               @Param("amount") Long amount,
+               @Param("now") LocalDateTime now);
+}
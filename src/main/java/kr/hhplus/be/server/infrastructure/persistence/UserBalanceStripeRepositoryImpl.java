@@ -0,0 +1,76 @@
+package kr.hhplus.be.server.infrastructure.persistence;
+
+import kr.hhplus.be.server.domain.model.BalanceStripe;
+import kr.hhplus.be.server.domain.repository.UserBalanceStripeRepository;
+import kr.hhplus.be.server.infrastructure.persistence.entity.UserBalanceStripeEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class UserBalanceStripeRepositoryImpl implements UserBalanceStripeRepository {
+
+    private final UserBalanceStripeJpaRepository stripeJpaRepository;
+
+    @Override
+    @Transactional
+    public List<BalanceStripe> findByUserIdForUpdate(Long userId) {
+        return stripeJpaRepository.findAllByUserIdWithLock(userId).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public int countByUserId(Long userId) {
+        return (int) stripeJpaRepository.countByUserId(userId);
+    }
+
+    @Override
+    public long sumBalance(Long userId) {
+        return stripeJpaRepository.sumBalanceByUserId(userId);
+    }
+
+    @Override
+    @Transactional
+    public boolean deductConditionally(Long userId, int stripeNo, long amount) {
+        return stripeJpaRepository.deductConditionally(userId, stripeNo, amount, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    @Transactional
+    public boolean charge(Long userId, int stripeNo, long amount) {
+        return stripeJpaRepository.charge(userId, stripeNo, amount, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<BalanceStripe> stripes) {
+        if (stripes.isEmpty()) {
+            return;
+        }
+        Long userId = stripes.get(0).getUserId();
+        Map<Integer, UserBalanceStripeEntity> existing = stripeJpaRepository.findAllByUserIdWithLock(userId).stream()
+                .collect(Collectors.toMap(UserBalanceStripeEntity::getStripeNo, Function.identity()));
+
+        for (BalanceStripe stripe : stripes) {
+            UserBalanceStripeEntity entity = existing.get(stripe.getStripeNo());
+            if (entity != null) {
+                entity.setBalance(stripe.getBalance());
+            } else {
+                stripeJpaRepository.save(new UserBalanceStripeEntity(userId, stripe.getStripeNo(), stripe.getBalance()));
+            }
+        }
+        stripeJpaRepository.flush();
+    }
+
+    private BalanceStripe toDomain(UserBalanceStripeEntity entity) {
+        return BalanceStripe.of(entity.getUserId(), entity.getStripeNo(), entity.getBalance());
+    }
+}
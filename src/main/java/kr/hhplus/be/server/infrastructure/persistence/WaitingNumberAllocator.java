@@ -0,0 +1,94 @@
+package kr.hhplus.be.server.infrastructure.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 대기 번호 할당기 (hi/lo)
+ *
+ * Redis INCRBY로 blockSize 단위 구간을 예약하고, 구간 안에서는 원격 호출 없이 번호를 발급한다.
+ * - 유일성: 구간이 INCRBY로 배타적으로 예약되므로 노드 간 중복 없음
+ * - 순서: 노드별 구간 안에서는 단조 증가, 노드 간에는 blockSize 이내로 근사 단조
+ * - 시드: hi 키가 없으면 (최초 기동/Redis 유실) DB의 최대 대기 번호로 초기화한 뒤 예약한다.
+ *   존재 확인과 초기화/예약은 Lua 스크립트 안에서 원자적으로 처리해 여러 노드가 동시에 시드해도 안전하다.
+ */
+@Slf4j
+@Component
+public class WaitingNumberAllocator {
+
+    private static final String HI_KEY = "queue:waiting-number:hi";
+
+    /**
+     * hi 키가 있을 때만 구간 예약
+     * KEYS[1]: hi 키, ARGV[1]: blockSize
+     * @return 예약한 구간의 최댓값, 키가 없으면 nil
+     */
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end " +
+            "return redis.call('INCRBY', KEYS[1], ARGV[1])",
+            Long.class);
+
+    /**
+     * hi 키가 없으면 DB 최댓값으로 초기화한 뒤 구간 예약 (이미 있으면 초기화하지 않는다)
+     * KEYS[1]: hi 키, ARGV[1]: blockSize, ARGV[2]: DB 최대 대기 번호
+     * @return 예약한 구간의 최댓값
+     */
+    private static final RedisScript<Long> SEED_AND_RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then redis.call('SET', KEYS[1], ARGV[2]) end " +
+            "return redis.call('INCRBY', KEYS[1], ARGV[1])",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final QueueTokenJpaRepository jpaRepository;
+    private final int blockSize;
+
+    private long next;
+    private long max;
+
+    public WaitingNumberAllocator(
+            @Qualifier("rankingRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            QueueTokenJpaRepository jpaRepository,
+            @Value("${queue.waiting-number.block-size:100}") int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("블록 크기는 1 이상이어야 합니다.");
+        }
+        this.redisTemplate = redisTemplate;
+        this.jpaRepository = jpaRepository;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 다음 대기 번호 발급
+     */
+    public synchronized long next() {
+        if (next == 0 || next > max) {
+            reserveBlock();
+        }
+        return next++;
+    }
+
+    private void reserveBlock() {
+        List<String> keys = List.of(HI_KEY);
+        Long hi = redisTemplate.execute(RESERVE_SCRIPT, keys, String.valueOf(blockSize));
+        if (hi == null) {
+            Integer currentMax = jpaRepository.findMaxPosition();
+            log.info("대기 번호 hi 키 시드 - dbMax: {}", currentMax);
+            hi = redisTemplate.execute(SEED_AND_RESERVE_SCRIPT, keys,
+                    String.valueOf(blockSize), String.valueOf(currentMax != null ? currentMax : 0));
+        }
+        if (hi == null) {
+            throw new IllegalStateException("대기 번호 구간 예약에 실패했습니다.");
+        }
+
+        this.max = hi;
+        this.next = hi - blockSize + 1;
+        log.debug("대기 번호 구간 예약 - [{}, {}]", next, max);
+    }
+}
@@ -1,15 +1,20 @@
 package kr.hhplus.be.server.infrastructure.persistence.entity;
 
 import kr.hhplus.be.server.domain.model.TransactionType;
+import kr.hhplus.be.server.infrastructure.persistence.id.TsidId;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "balance_histories")
+@Table(name = "balance_histories", indexes = {
+        // 키셋 페이지 조회용 커버링 인덱스 (목록 프로젝션 컬럼 포함)
+        @Index(name = "idx_balance_histories_user_created",
+                columnList = "user_id, created_at, id, type, amount, balance_after")
+})
 public class BalanceHistoryEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     @Column(name = "user_id", nullable = false)
@@ -2,7 +2,11 @@ package kr.hhplus.be.server.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
 import kr.hhplus.be.server.domain.model.ConcertDate.ConcertDateStatus;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -13,20 +17,26 @@ import java.time.LocalDateTime;
         indexes = {
                 @Index(name = "idx_concert_date_concert_id", columnList = "concert_id"),
                 @Index(name = "idx_concert_date_datetime", columnList = "concert_date_time"),
-                @Index(name = "idx_concert_date_status", columnList = "status"),
+                @Index(name = "idx_concert_date_status_datetime", columnList = "status, concert_date_time, id"),
                 @Index(name = "idx_concert_date_available", columnList = "concert_id, status, available_seats"),
-                @Index(name = "idx_concert_date_time_range", columnList = "concert_date_time, start_time, end_time")
+                @Index(name = "idx_concert_date_time_range", columnList = "concert_date_time, start_time, end_time"),
+                @Index(name = "idx_concert_date_updated", columnList = "updated_at")
         },
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_concert_datetime", columnNames = {"concert_id", "concert_date_time"})
         }
 )
+// 2차 캐시: ID 조회와 (콘서트, 공연 일시) 자연 키 조회 모두 캐시에서 처리
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "concert-date")
+@NaturalIdCache(region = "concert-date-natural-id")
 public class ConcertDateEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId(mutable = true)
     @Column(name = "concert_date_time", nullable = false)
     private LocalDateTime concertDateTime;
 
@@ -59,6 +69,7 @@ public class ConcertDateEntity {
     private Long version = 0L;
 
     // 연관관계 매핑 (N:1)
+    @NaturalId(mutable = true)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "concert_id", nullable = false, foreignKey = @ForeignKey(name = "fk_concert_date_concert"))
     private ConcertEntity concert;
@@ -11,6 +11,8 @@ import java.util.List;
 
 import jakarta.persistence.*;
 import kr.hhplus.be.server.domain.model.ConcertStatus;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -22,13 +24,18 @@ import java.util.List;
 @Table(
         name = "concerts",
         indexes = {
-                @Index(name = "idx_concert_artist", columnList = "artist"),
-                @Index(name = "idx_concert_status", columnList = "status"),
-                @Index(name = "idx_concert_created", columnList = "created_at"),
+                @Index(name = "idx_concert_created_id", columnList = "created_at, id"),
+                @Index(name = "idx_concert_status_created", columnList = "status, created_at, id"),
+                @Index(name = "idx_concert_artist_created", columnList = "artist, created_at, id"),
+                @Index(name = "idx_concert_venue_created", columnList = "venue, created_at, id"),
                 @Index(name = "idx_concert_artist_status", columnList = "artist, status"),
-                @Index(name = "idx_concert_soldout", columnList = "sold_out_at")
+                @Index(name = "idx_concert_soldout", columnList = "sold_out_at"),
+                @Index(name = "idx_concert_updated", columnList = "updated_at")
         }
 )
+// 2차 캐시: 잔여석 네이티브 UPDATE는 concerts 테이블 스페이스로 동기화되어 이 리전만 무효화된다
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "concert")
 public class ConcertEntity {
 
     @Id
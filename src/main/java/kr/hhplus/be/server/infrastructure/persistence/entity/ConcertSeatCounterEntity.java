@@ -0,0 +1,55 @@
+package kr.hhplus.be.server.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 콘서트 잔여석 분할 카운터 (concerts 행 대신 shard_no별 행에서 차감)
+ */
+@Entity
+@Table(name = "concert_seat_counters",
+        uniqueConstraints = @UniqueConstraint(name = "uk_concert_seat_counters_concert_shard",
+                columnNames = {"concert_id", "shard_no"}),
+        indexes = @Index(name = "idx_concert_seat_counters_updated_at", columnList = "updated_at"))
+public class ConcertSeatCounterEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "concert_id", nullable = false)
+    private Long concertId;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    @Column(nullable = false)
+    private Integer remaining;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // JPA용 기본 생성자
+    protected ConcertSeatCounterEntity() {}
+
+    public ConcertSeatCounterEntity(Long concertId, Integer shardNo, Integer remaining) {
+        this.concertId = concertId;
+        this.shardNo = shardNo;
+        this.remaining = remaining;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public Long getConcertId() { return concertId; }
+    public Integer getShardNo() { return shardNo; }
+    public Integer getRemaining() { return remaining; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    public void setRemaining(Integer remaining) { this.remaining = remaining; }
+}
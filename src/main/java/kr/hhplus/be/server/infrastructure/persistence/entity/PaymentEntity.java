@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.infrastructure.persistence.entity;
 
 import kr.hhplus.be.server.domain.model.Payment.PaymentStatus;
+import kr.hhplus.be.server.infrastructure.persistence.id.TsidId;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -30,7 +31,7 @@ import java.time.LocalDateTime;
 public class PaymentEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     @Column(name = "reservation_id", nullable = true) // null 허용 (예약 없는 충전 등)
@@ -1,15 +1,20 @@
 package kr.hhplus.be.server.infrastructure.persistence.entity;
 
 import kr.hhplus.be.server.domain.model.QueueStatus;
+import kr.hhplus.be.server.infrastructure.persistence.id.TsidId;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "queue_tokens")
+@Table(
+        name = "queue_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_queue_token_user_concert", columnNames = {"user_id", "concert_id"}),
+        indexes = @Index(name = "idx_queue_token_status_expires", columnList = "status, expires_at")
+)
 public class QueueTokenEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     @Column(name = "token_value", unique = true, nullable = false, length = 36)
@@ -73,6 +78,5 @@ public class QueueTokenEntity {
     public void setPosition(Integer position) { this.position = position; }
     public void setEnteredAt(LocalDateTime enteredAt) { this.enteredAt = enteredAt; }
 
-    public void setId(Long id) {
-    }
+    public void setId(Long id) { this.id = id; }
 }
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.infrastructure.persistence.entity;
 
 import kr.hhplus.be.server.domain.model.TokenStatus;
+import kr.hhplus.be.server.infrastructure.persistence.id.TsidId;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -26,7 +27,7 @@ import java.time.LocalDateTime;
 public class ReservationTokenEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     @Column(name = "id")
     private Long id;
 
@@ -2,15 +2,21 @@ package kr.hhplus.be.server.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
 import kr.hhplus.be.server.domain.model.SeatStatus;
+import kr.hhplus.be.server.infrastructure.persistence.id.TsidId;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "seat_reservations")
+@Table(
+        name = "seat_reservations",
+        // 콘서트별 좌석 번호당 한 행 (동시 일괄 적재 중복 방지)
+        uniqueConstraints = @UniqueConstraint(name = "uk_seat_reservation_concert_seat",
+                columnNames = {"concert_id", "seat_number"})
+)
 public class SeatReservationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     @Column(name = "concert_id", nullable = false)
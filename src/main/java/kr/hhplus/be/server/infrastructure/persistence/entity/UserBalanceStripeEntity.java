@@ -0,0 +1,59 @@
+package kr.hhplus.be.server.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 잔액 분할 계좌 (핫 계정의 잔액을 stripe_no별 행으로 나눠 보관)
+ */
+@Entity
+@Table(name = "user_balance_stripes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_balance_stripes_user_stripe",
+                columnNames = {"user_id", "stripe_no"}))
+public class UserBalanceStripeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "stripe_no", nullable = false)
+    private Integer stripeNo;
+
+    @Column(nullable = false)
+    private Long balance;
+
+    @Column(name = "last_updated_at", nullable = false)
+    private LocalDateTime lastUpdatedAt;
+
+    @Version // 낙관적 락
+    private Long version;
+
+    // JPA용 기본 생성자
+    protected UserBalanceStripeEntity() {}
+
+    public UserBalanceStripeEntity(Long userId, Integer stripeNo, Long balance) {
+        this.userId = userId;
+        this.stripeNo = stripeNo;
+        this.balance = balance;
+        this.lastUpdatedAt = LocalDateTime.now();
+        this.version = 0L;
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.lastUpdatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public Long getUserId() { return userId; }
+    public Integer getStripeNo() { return stripeNo; }
+    public Long getBalance() { return balance; }
+    public LocalDateTime getLastUpdatedAt() { return lastUpdatedAt; }
+    public Long getVersion() { return version; }
+
+    public void setBalance(Long balance) { this.balance = balance; }
+}
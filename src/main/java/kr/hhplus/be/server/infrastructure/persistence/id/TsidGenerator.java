@@ -0,0 +1,89 @@
+package kr.hhplus.be.server.infrastructure.persistence.id;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 정렬 64비트 ID 생성기 (Snowflake 방식)
+ *
+ * [부호 1][epoch 이후 밀리초 41][노드 10][시퀀스 12]
+ * - 유일성: 노드 ID가 다르면 겹치지 않고, 같은 노드에서는 밀리초당 4096개까지 시퀀스로 구분
+ * - 정렬: 같은 노드에서는 단조 증가, 노드 간에는 밀리초 단위로 시간순
+ * 시계가 뒤로 가거나 시퀀스가 소진되면 기다리지 않고 마지막 밀리초를 1 앞당겨 이어서 발급한다.
+ */
+public final class TsidGenerator {
+
+    public static final int MAX_NODE_ID = (1 << 10) - 1;
+
+    static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+    private static final Map<Integer, TsidGenerator> NODES = new ConcurrentHashMap<>();
+
+    private final int nodeId;
+    private final LongSupplier clock;
+
+    private long lastMillis = -1L;
+    private long sequence;
+
+    public TsidGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * 노드별 공유 생성기 (같은 노드 ID를 쓰는 모든 엔티티/적재 경로가 한 시퀀스를 쓴다)
+     */
+    public static TsidGenerator forNode(int nodeId) {
+        return NODES.computeIfAbsent(nodeId, id -> new TsidGenerator(id, System::currentTimeMillis));
+    }
+
+    /**
+     * 설정값(id.tsid.node-id)으로 노드별 공유 생성기 조회
+     *
+     * 인스턴스마다 달라야 하므로 기본값을 두지 않는다. 비어 있으면 기동을 중단한다.
+     */
+    public static TsidGenerator forConfiguredNode(Object nodeId) {
+        String value = nodeId != null ? nodeId.toString().trim() : "";
+        if (value.isEmpty()) {
+            throw new IllegalStateException(
+                    "TSID 노드 ID(id.tsid.node-id)가 설정되지 않았습니다. 인스턴스마다 0~" + MAX_NODE_ID + " 사이의 고유 값을 지정하세요.");
+        }
+        try {
+            return forNode(Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("TSID 노드 ID는 정수여야 합니다: " + value, e);
+        }
+    }
+
+    public synchronized long next() {
+        long now = Math.max(clock.getAsLong(), lastMillis);
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                now = lastMillis + 1;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+        return ((now - EPOCH_MILLIS) << TIMESTAMP_SHIFT) | ((long) nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS);
+    }
+
+    public static int nodeIdOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+}
@@ -0,0 +1,94 @@
+package kr.hhplus.be.server.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 복제본 지연 감시
+ *
+ * 주기적으로 복제본의 지연(초)을 조회해 max-lag 이하일 때만 사용 가능으로 본다.
+ * lag-query가 비어 있으면 MySQL SHOW REPLICA STATUS의 Seconds_Behind_Source를 읽고,
+ * 값이 없거나(복제 중단) 조회에 실패하면 주 DB로 폴백한다.
+ * 첫 확인 전에는 사용 불가로 시작한다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final long UNKNOWN = -1L;
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    private final AtomicLong lagSeconds = new AtomicLong(UNKNOWN);
+    private volatile boolean available;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, long maxLagSeconds, MeterRegistry meterRegistry) {
+        if (maxLagSeconds < 0) {
+            throw new IllegalArgumentException("허용 복제 지연은 0 이상이어야 합니다.");
+        }
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        meterRegistry.gauge("datasource.replica.lag.seconds", lagSeconds);
+        meterRegistry.gauge("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds.get();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-millis:1000}")
+    public void check() {
+        long lag;
+        try {
+            lag = queryLagSeconds();
+        } catch (SQLException | RuntimeException e) {
+            lag = UNKNOWN;
+            if (available) {
+                log.warn("[ReplicaRouting] 복제본 지연 조회 실패 - 주 DB로 전환, 원인: {}", e.getMessage());
+            }
+        }
+
+        boolean nowAvailable = lag != UNKNOWN && lag <= maxLagSeconds;
+        if (nowAvailable != available) {
+            log.info("[ReplicaRouting] 복제본 {} - 지연: {}초, 허용: {}초",
+                    nowAvailable ? "사용" : "제외", lag, maxLagSeconds);
+        }
+        lagSeconds.set(lag);
+        available = nowAvailable;
+    }
+
+    private long queryLagSeconds() throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            if (lagQuery != null && !lagQuery.isBlank()) {
+                try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                    return rs.next() ? nonNegative(rs.getObject(1)) : UNKNOWN;
+                }
+            }
+            try (ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                return rs.next() ? nonNegative(rs.getObject("Seconds_Behind_Source")) : UNKNOWN;
+            }
+        }
+    }
+
+    private static long nonNegative(Object value) {
+        if (!(value instanceof Number number)) {
+            return UNKNOWN;
+        }
+        return Math.max(number.longValue(), 0L);
+    }
+}
@@ -0,0 +1,58 @@
+package kr.hhplus.be.server.interfaces.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.application.service.BalanceHistoryQueryService;
+import kr.hhplus.be.server.application.service.BalanceQueryService;
+import kr.hhplus.be.server.interfaces.dto.BalanceHistoryResponse;
+import kr.hhplus.be.server.interfaces.dto.BalanceResponse;
+import kr.hhplus.be.server.interfaces.dto.CursorPageResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1/balances")
+public class BalanceHistoryController {
+
+    private final BalanceHistoryQueryService balanceHistoryQueryService;
+    private final BalanceQueryService balanceQueryService;
+    private final ObjectMapper objectMapper;
+
+    public BalanceHistoryController(BalanceHistoryQueryService balanceHistoryQueryService,
+                                    BalanceQueryService balanceQueryService,
+                                    ObjectMapper objectMapper) {
+        this.balanceHistoryQueryService = balanceHistoryQueryService;
+        this.balanceQueryService = balanceQueryService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 잔액 조회 (분할 계정은 본 계좌 + 분할 계좌 합계)
+     */
+    @GetMapping("/{userId}")
+    public ResponseEntity<BalanceResponse> getBalance(@PathVariable Long userId) {
+        return ResponseEntity.ok(BalanceResponse.from(balanceQueryService.getBalance(userId)));
+    }
+
+    /**
+     * 잔액 이력 조회 (키셋 페이지, 응답의 nextCursor로 다음 페이지 요청)
+     */
+    @GetMapping("/{userId}/histories")
+    public ResponseEntity<CursorPageResponse<BalanceHistoryResponse>> getHistories(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(CursorPageResponse.from(
+                balanceHistoryQueryService.getHistory(userId, cursor, size),
+                BalanceHistoryResponse::from));
+    }
+
+    /**
+     * 잔액 이력 전체 내보내기 (NDJSON 스트리밍)
+     */
+    @GetMapping(value = "/{userId}/histories/export", produces = NdjsonStreams.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportHistories(@PathVariable Long userId) {
+        return NdjsonStreams.response(objectMapper, writer ->
+                balanceHistoryQueryService.exportHistory(userId, entry -> writer.accept(BalanceHistoryResponse.from(entry))));
+    }
+}
@@ -1,23 +1,35 @@
 package kr.hhplus.be.server.interfaces.api;
 
+import kr.hhplus.be.server.application.service.AvailabilityCalendarService;
+import kr.hhplus.be.server.application.service.ConcertSearchIndex;
+import kr.hhplus.be.server.application.service.ConcertSearchService;
 import kr.hhplus.be.server.application.service.ConcertService;
+import kr.hhplus.be.server.application.service.SeatProvisioningService;
+import kr.hhplus.be.server.application.service.SeatProvisioningService.ProvisioningResult;
 import kr.hhplus.be.server.domain.model.Concert;
 import kr.hhplus.be.server.domain.model.ConcertDate;
+import kr.hhplus.be.server.domain.model.ConcertStatus;
+import kr.hhplus.be.server.interfaces.dto.AvailabilityCalendarResponse;
 import kr.hhplus.be.server.interfaces.dto.ConcertResponse;
 import kr.hhplus.be.server.interfaces.dto.ConcertDateResponse;
+import kr.hhplus.be.server.interfaces.dto.CursorPageResponse;
+import kr.hhplus.be.server.interfaces.dto.SeatProvisioningRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Max;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController("concertController")
@@ -26,23 +38,30 @@ import java.util.stream.Collectors;
 public class ConcertController {
 
     private final ConcertService concertService;
-    public ConcertController(ConcertService concertService) {
+    private final ConcertSearchService concertSearchService;
+    private final AvailabilityCalendarService availabilityCalendarService;
+    private final SeatProvisioningService seatProvisioningService;
+
+    public ConcertController(ConcertService concertService, ConcertSearchService concertSearchService,
+                             AvailabilityCalendarService availabilityCalendarService,
+                             SeatProvisioningService seatProvisioningService) {
         this.concertService = concertService;
+        this.concertSearchService = concertSearchService;
+        this.availabilityCalendarService = availabilityCalendarService;
+        this.seatProvisioningService = seatProvisioningService;
     }
 
     // ===== Concert 기본 정보 API =====
 
     /**
-     * 예약 가능한 콘서트 목록 조회
+     * 예약 가능한 콘서트 목록 조회 (키셋 페이지, 응답의 nextCursor로 다음 페이지 요청)
      */
     @GetMapping("/available")
-    public ResponseEntity<List<ConcertResponse>> getAvailableConcerts() {
-        List<Concert> concerts = concertService.getAvailableConcerts();
-        List<ConcertResponse> responses = concerts.stream()
-                .map(ConcertResponse::from)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<CursorPageResponse<ConcertResponse>> getAvailableConcerts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(CursorPageResponse.from(
+                concertService.getAvailableConcertPage(cursor, size), ConcertResponse::from));
     }
 
     /**
@@ -59,23 +78,38 @@ public class ConcertController {
      * 아티스트별 콘서트 조회
      */
     @GetMapping("/search/artist")
-    public ResponseEntity<List<ConcertResponse>> getConcertsByArtist(
-            @RequestParam @NotNull String artist) {
-        List<Concert> concerts = concertService.getConcertsByArtist(artist);
-        List<ConcertResponse> responses = concerts.stream()
-                .map(ConcertResponse::from)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<CursorPageResponse<ConcertResponse>> getConcertsByArtist(
+            @RequestParam @NotNull String artist,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(CursorPageResponse.from(
+                concertService.getConcertPageByArtist(artist, cursor, size), ConcertResponse::from));
     }
 
     /**
      * 장소별 콘서트 조회
      */
     @GetMapping("/search/venue")
-    public ResponseEntity<List<ConcertResponse>> getConcertsByVenue(
-            @RequestParam @NotNull String venue) {
-        List<Concert> concerts = concertService.getConcertsByVenue(venue);
+    public ResponseEntity<CursorPageResponse<ConcertResponse>> getConcertsByVenue(
+            @RequestParam @NotNull String venue,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(CursorPageResponse.from(
+                concertService.getConcertPageByVenue(venue, cursor, size), ConcertResponse::from));
+    }
+
+    /**
+     * 콘서트 통합 검색 (아티스트/장소/제목 앞부분 일치, 자동완성용)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<ConcertResponse>> searchConcerts(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Set<ConcertSearchIndex.Field> fields,
+            @RequestParam(required = false) ConcertStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+        List<Concert> concerts = concertSearchService.search(q, fields, status, from, to, limit);
         List<ConcertResponse> responses = concerts.stream()
                 .map(ConcertResponse::from)
                 .collect(Collectors.toList());
@@ -86,46 +120,49 @@ public class ConcertController {
     // ===== ConcertDate 일정 관리 API =====
 
     /**
-     * 전체 예약 가능한 공연 일정 조회 (최신순)
+     * 전체 예약 가능한 공연 일정 조회 (공연 일시순)
      */
     @GetMapping("/dates/available")
-    public ResponseEntity<List<ConcertDateResponse>> getAvailableDates(
-            @RequestParam(defaultValue = "50") @Min(1) @Max(100) int limit) {
-        List<ConcertDate> concertDates = concertService.getAvailableDates(limit);
-        List<ConcertDateResponse> responses = concertDates.stream()
-                .map(ConcertDateResponse::from)
-                .collect(Collectors.toList());
+    public ResponseEntity<CursorPageResponse<ConcertDateResponse>> getAvailableDates(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(CursorPageResponse.from(
+                concertService.getAvailableDatePage(LocalDateTime.now(), null, cursor, size),
+                ConcertDateResponse::from));
+    }
 
-        return ResponseEntity.ok(responses);
+    /**
+     * 월별 예약 가능 캘린더 조회 (미리 계산된 캘린더, 날짜별 공연/가격/잔여석)
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<AvailabilityCalendarResponse> getAvailabilityCalendar(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        return ResponseEntity.ok(AvailabilityCalendarResponse.from(
+                month, availabilityCalendarService.getMonth(month)));
     }
 
     /**
      * 월별 예약 가능한 공연 일정 조회
      */
     @GetMapping("/dates/monthly")
-    public ResponseEntity<List<ConcertDateResponse>> getAvailableDatesByMonth(
+    public ResponseEntity<CursorPageResponse<ConcertDateResponse>> getAvailableDatesByMonth(
             @RequestParam @DateTimeFormat(pattern = "yyyy-MM") LocalDate month,
-            @RequestParam(defaultValue = "30") @Min(1) @Max(100) int limit) {
-        List<ConcertDate> concertDates = concertService.getAvailableDatesByMonth(month, limit);
-        List<ConcertDateResponse> responses = concertDates.stream()
-                .map(ConcertDateResponse::from)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(responses);
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(CursorPageResponse.from(
+                concertService.getAvailableDatePageByMonth(month, cursor, size), ConcertDateResponse::from));
     }
 
     /**
      * 특정 콘서트의 모든 공연 일정 조회
      */
     @GetMapping("/{concertId}/dates")
-    public ResponseEntity<List<ConcertDateResponse>> getConcertDates(
-            @PathVariable @NotNull @Positive Long concertId) {
-        List<ConcertDate> concertDates = concertService.getConcertDatesByConcertId(concertId);
-        List<ConcertDateResponse> responses = concertDates.stream()
-                .map(ConcertDateResponse::from)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<CursorPageResponse<ConcertDateResponse>> getConcertDates(
+            @PathVariable @NotNull @Positive Long concertId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(CursorPageResponse.from(
+                concertService.getConcertDatePage(concertId, cursor, size), ConcertDateResponse::from));
     }
 
     /**
@@ -143,62 +180,59 @@ public class ConcertController {
      * 날짜 범위로 공연 일정 조회
      */
     @GetMapping("/dates/search/range")
-    public ResponseEntity<List<ConcertDateResponse>> getConcertDatesByRange(
+    public ResponseEntity<CursorPageResponse<ConcertDateResponse>> getConcertDatesByRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
-
-        if (startDate.isAfter(endDate)) {
-            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 이전이어야 합니다.");
-        }
-
-        List<ConcertDate> concertDates = concertService.getConcertDatesByRange(startDate, endDate);
-        List<ConcertDateResponse> responses = concertDates.stream()
-                .map(ConcertDateResponse::from)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(responses);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(CursorPageResponse.from(
+                concertService.getDatePage(startDate, endDate, cursor, size), ConcertDateResponse::from));
     }
 
     /**
      * 향후 예정된 공연 일정 조회
      */
     @GetMapping("/dates/upcoming")
-    public ResponseEntity<List<ConcertDateResponse>> getUpcomingDates(
-            @RequestParam(defaultValue = "30") @Min(1) @Max(100) int limit) {
-        List<ConcertDate> concertDates = concertService.getUpcomingDates(LocalDateTime.now(), limit);
-        List<ConcertDateResponse> responses = concertDates.stream()
-                .map(ConcertDateResponse::from)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<CursorPageResponse<ConcertDateResponse>> getUpcomingDates(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(CursorPageResponse.from(
+                concertService.getDatePage(LocalDateTime.now(), null, cursor, size), ConcertDateResponse::from));
     }
 
     // ===== 관리자용 API =====
 
     /**
-     * 전체 콘서트 조회 (관리자용)
+     * 전체 콘서트 조회 (관리자용, 최신순)
      */
     @GetMapping("/admin/all")
-    public ResponseEntity<List<ConcertResponse>> getAllConcerts() {
-        List<Concert> concerts = concertService.getAllConcerts();
-        List<ConcertResponse> responses = concerts.stream()
-                .map(ConcertResponse::from)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<CursorPageResponse<ConcertResponse>> getAllConcerts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(CursorPageResponse.from(
+                concertService.getConcertPage(cursor, size), ConcertResponse::from));
     }
 
     /**
-     * 전체 공연 일정 조회 (관리자용)
+     * 전체 공연 일정 조회 (관리자용, 최근 1년부터 공연 일시순)
      */
     @GetMapping("/admin/dates/all")
-    public ResponseEntity<List<ConcertDateResponse>> getAllConcertDates(
-            @RequestParam(defaultValue = "100") @Min(1) @Max(500) int limit) {
-        List<ConcertDate> concertDates = concertService.getAllConcertDates(limit);
-        List<ConcertDateResponse> responses = concertDates.stream()
-                .map(ConcertDateResponse::from)
-                .collect(Collectors.toList());
+    public ResponseEntity<CursorPageResponse<ConcertDateResponse>> getAllConcertDates(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(CursorPageResponse.from(
+                concertService.getDatePage(LocalDateTime.now().minusYears(1), null, cursor, size),
+                ConcertDateResponse::from));
+    }
 
-        return ResponseEntity.ok(responses);
+    /**
+     * 좌석 재고 일괄 생성 (관리자용, 구역별 좌석 번호 구간과 가격)
+     */
+    @PostMapping("/admin/{concertId}/seats")
+    public ResponseEntity<ProvisioningResult> provisionSeats(
+            @PathVariable @NotNull @Positive Long concertId,
+            @RequestBody @Valid SeatProvisioningRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(seatProvisioningService.provision(
+                concertId, request.toSections(), request.isParallel()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.interfaces.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * NDJSON 스트리밍 응답 (한 줄에 JSON 한 건, 전체 목록을 메모리에 모으지 않는다)
+ */
+final class NdjsonStreams {
+
+    static final String MEDIA_TYPE = "application/x-ndjson";
+
+    private static final byte NEW_LINE = '\n';
+
+    private NdjsonStreams() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> response(ObjectMapper objectMapper,
+                                                          Consumer<Consumer<Object>> producer) {
+        StreamingResponseBody body = outputStream -> producer.accept(row -> write(objectMapper, outputStream, row));
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(MEDIA_TYPE))
+                .body(body);
+    }
+
+    private static void write(ObjectMapper objectMapper, OutputStream outputStream, Object row) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(row));
+            outputStream.write(NEW_LINE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,26 +1,28 @@
 package kr.hhplus.be.server.interfaces.api;
 
 import kr.hhplus.be.server.application.service.PointService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.hhplus.be.server.domain.entity.Point;
-import kr.hhplus.be.server.domain.entity.PointHistory;
+import kr.hhplus.be.server.interfaces.dto.CursorPageResponse;
 import kr.hhplus.be.server.interfaces.dto.PointChargeRequest;
 import kr.hhplus.be.server.interfaces.dto.PointResponse;
 import kr.hhplus.be.server.interfaces.dto.PointHistoryResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
-import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/points")
 public class PointController {
 
     private final PointService pointService;
+    private final ObjectMapper objectMapper;
 
-    public PointController(PointService pointService) {
+    public PointController(PointService pointService, ObjectMapper objectMapper) {
         this.pointService = pointService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -47,16 +49,25 @@ public class PointController {
     }
 
     /**
-     * 포인트 이력 조회
+     * 포인트 이력 조회 (키셋 페이지, 응답의 nextCursor로 다음 페이지 요청)
      */
     @GetMapping("/history/{userId}")
-    public ResponseEntity<List<PointHistoryResponse>> getPointHistory(@PathVariable Long userId) {
-        List<PointHistory> histories = pointService.getPointHistory(userId);
-        List<PointHistoryResponse> responses = histories.stream()
-                .map(PointHistoryResponse::from)
-                .collect(Collectors.toList());
+    public ResponseEntity<CursorPageResponse<PointHistoryResponse>> getPointHistory(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(CursorPageResponse.from(
+                pointService.getPointHistory(userId, cursor, size),
+                entry -> PointHistoryResponse.from(userId, entry)));
+    }
 
-        return ResponseEntity.ok(responses);
+    /**
+     * 포인트 이력 전체 내보내기 (NDJSON 스트리밍)
+     */
+    @GetMapping(value = "/history/{userId}/export", produces = NdjsonStreams.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportPointHistory(@PathVariable Long userId) {
+        return NdjsonStreams.response(objectMapper, writer ->
+                pointService.exportPointHistory(userId, entry -> writer.accept(PointHistoryResponse.from(userId, entry))));
     }
 
     /**
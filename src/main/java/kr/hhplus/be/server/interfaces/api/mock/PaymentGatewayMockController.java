@@ -0,0 +1,109 @@
+package kr.hhplus.be.server.interfaces.api.mock;
+
+import kr.hhplus.be.server.infrastructure.client.PaymentGatewayRequest;
+import kr.hhplus.be.server.infrastructure.client.PaymentGatewayResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 게이트웨이 Mock API 컨트롤러
+ *
+ * 지연/오류/거절을 주입해 실제 PG 지연 하에서의 결제 처리량을 네트워크 없이 측정한다.
+ * 응답은 지연 실행기로 완료되어 대기 중 서블릿 스레드를 점유하지 않는다.
+ * 실제 PG처럼 같은 Idempotency-Key의 재요청에는 처음 결과를 그대로 돌려준다
+ * (처리 중이면 같은 결과를 기다리고, 일시 오류는 저장하지 않아 재시도할 수 있다).
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/mock/payment-gateway")
+public class PaymentGatewayMockController {
+
+    private static final int MAX_STORED_RESPONSES = 10_000;
+
+    private final long latencyMillis;
+    private final long latencyJitterMillis;
+    private final double errorRate;
+    private final double declineRate;
+    private final Map<String, CompletableFuture<ResponseEntity<PaymentGatewayResponse>>> responses =
+            Collections.synchronizedMap(new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<String, CompletableFuture<ResponseEntity<PaymentGatewayResponse>>> eldest) {
+                    return size() > MAX_STORED_RESPONSES;
+                }
+            });
+
+    public PaymentGatewayMockController(
+            @Value("${payment.gateway.stub.latency-millis:200}") long latencyMillis,
+            @Value("${payment.gateway.stub.latency-jitter-millis:100}") long latencyJitterMillis,
+            @Value("${payment.gateway.stub.error-rate:0.0}") double errorRate,
+            @Value("${payment.gateway.stub.decline-rate:0.0}") double declineRate) {
+        this.latencyMillis = latencyMillis;
+        this.latencyJitterMillis = latencyJitterMillis;
+        this.errorRate = errorRate;
+        this.declineRate = declineRate;
+    }
+
+    @PostMapping("/payments")
+    public CompletableFuture<ResponseEntity<PaymentGatewayResponse>> approve(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody PaymentGatewayRequest request) {
+        if (idempotencyKey == null) {
+            return simulate(request);
+        }
+
+        CompletableFuture<ResponseEntity<PaymentGatewayResponse>> created = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<PaymentGatewayResponse>> stored = responses.putIfAbsent(idempotencyKey, created);
+        if (stored != null) {
+            log.debug("[Mock PG] 멱등성 키 재요청 - 저장된 결과 반환 - paymentId: {}", request.paymentId());
+            return stored;
+        }
+
+        simulate(request).whenComplete((response, error) -> {
+            if (error != null || response.getStatusCode() == HttpStatus.SERVICE_UNAVAILABLE) {
+                responses.remove(idempotencyKey, created);
+            }
+            if (error != null) {
+                created.completeExceptionally(error);
+            } else {
+                created.complete(response);
+            }
+        });
+        return created;
+    }
+
+    private CompletableFuture<ResponseEntity<PaymentGatewayResponse>> simulate(PaymentGatewayRequest request) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = latencyMillis + (latencyJitterMillis > 0 ? random.nextLong(latencyJitterMillis + 1) : 0);
+        double roll = random.nextDouble();
+
+        return CompletableFuture.supplyAsync(() -> {
+            if (roll < errorRate) {
+                log.debug("[Mock PG] 오류 주입 - paymentId: {}", request.paymentId());
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .body(new PaymentGatewayResponse(false, null, "게이트웨이 일시 오류"));
+            }
+            if (roll < errorRate + declineRate) {
+                log.debug("[Mock PG] 결제 거절 - paymentId: {}", request.paymentId());
+                return ResponseEntity.status(HttpStatus.PAYMENT_REQUIRED)
+                        .body(new PaymentGatewayResponse(false, null, "카드 승인 거절"));
+            }
+            return ResponseEntity.ok(new PaymentGatewayResponse(true, "txn-" + UUID.randomUUID(), "승인"));
+        }, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS));
+    }
+}
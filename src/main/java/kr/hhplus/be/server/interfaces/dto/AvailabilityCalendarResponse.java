@@ -0,0 +1,58 @@
+package kr.hhplus.be.server.interfaces.dto;
+
+import kr.hhplus.be.server.domain.model.AvailabilityCalendarEntry;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+public record AvailabilityCalendarResponse(
+        String month,
+        List<Day> days
+) {
+    public static AvailabilityCalendarResponse from(YearMonth month,
+                                                    Map<LocalDate, List<AvailabilityCalendarEntry>> calendar) {
+        return new AvailabilityCalendarResponse(
+                month.toString(),
+                calendar.entrySet().stream()
+                        .map(day -> new Day(day.getKey(), day.getValue().stream().map(Item::from).toList()))
+                        .toList()
+        );
+    }
+
+    public record Day(
+            LocalDate date,
+            List<Item> items
+    ) {
+    }
+
+    public record Item(
+            Long concertDateId,
+            Long concertId,
+            String title,
+            String venue,
+            LocalDateTime concertDateTime,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            int totalSeats,
+            int availableSeats,
+            long price
+    ) {
+        public static Item from(AvailabilityCalendarEntry entry) {
+            return new Item(
+                    entry.concertDateId(),
+                    entry.concertId(),
+                    entry.title(),
+                    entry.venue(),
+                    entry.concertDateTime(),
+                    entry.startTime(),
+                    entry.endTime(),
+                    entry.totalSeats(),
+                    entry.availableSeats(),
+                    entry.price()
+            );
+        }
+    }
+}
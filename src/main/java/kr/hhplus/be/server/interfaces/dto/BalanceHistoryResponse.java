@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.interfaces.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import kr.hhplus.be.server.domain.model.BalanceHistoryEntry;
+import kr.hhplus.be.server.domain.model.TransactionType;
+import java.time.LocalDateTime;
+
+public class BalanceHistoryResponse {
+
+    // TSID는 2^53을 넘으므로 JavaScript 숫자 정밀도 손실을 피하려 문자열로 내보낸다
+    @JsonSerialize(using = ToStringSerializer.class)
+    private final Long id;
+    private final TransactionType type;
+    private final Long amount;
+    private final Long balanceAfter;
+    private final LocalDateTime createdAt;
+
+    private BalanceHistoryResponse(Long id, TransactionType type, Long amount,
+                                   Long balanceAfter, LocalDateTime createdAt) {
+        this.id = id;
+        this.type = type;
+        this.amount = amount;
+        this.balanceAfter = balanceAfter;
+        this.createdAt = createdAt;
+    }
+
+    public static BalanceHistoryResponse from(BalanceHistoryEntry entry) {
+        return new BalanceHistoryResponse(
+                entry.id(),
+                entry.type(),
+                entry.amount(),
+                entry.balanceAfter(),
+                entry.createdAt()
+        );
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public TransactionType getType() { return type; }
+    public Long getAmount() { return amount; }
+    public Long getBalanceAfter() { return balanceAfter; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
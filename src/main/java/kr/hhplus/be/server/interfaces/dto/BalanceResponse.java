@@ -0,0 +1,22 @@
+package kr.hhplus.be.server.interfaces.dto;
+
+import kr.hhplus.be.server.domain.model.UserBalance;
+
+public class BalanceResponse {
+
+    private final Long userId;
+    private final Long balance;
+
+    private BalanceResponse(Long userId, Long balance) {
+        this.userId = userId;
+        this.balance = balance;
+    }
+
+    public static BalanceResponse from(UserBalance balance) {
+        return new BalanceResponse(balance.getUserId(), balance.getBalance());
+    }
+
+    // Getters
+    public Long getUserId() { return userId; }
+    public Long getBalance() { return balance; }
+}
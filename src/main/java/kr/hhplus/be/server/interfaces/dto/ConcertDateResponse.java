@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.interfaces.dto;
 import kr.hhplus.be.server.domain.model.ConcertDate;
 import kr.hhplus.be.server.domain.model.ConcertDate.ConcertDateStatus;
+import kr.hhplus.be.server.domain.model.ConcertDateSummary;
 
 import java.time.LocalDateTime;
 
@@ -30,4 +31,19 @@ public record ConcertDateResponse(
                 concertDate.getCreatedAt()
         );
     }
+
+    public static ConcertDateResponse from(ConcertDateSummary concertDate) {
+        return new ConcertDateResponse(
+                concertDate.id(),
+                concertDate.concertId(),
+                concertDate.concertDateTime(),
+                concertDate.startTime(),
+                concertDate.endTime(),
+                concertDate.totalSeats(),
+                concertDate.availableSeats(),
+                concertDate.status(),
+                concertDate.isBookingAvailable(),
+                concertDate.createdAt()
+        );
+    }
 }
@@ -2,6 +2,7 @@ package kr.hhplus.be.server.interfaces.dto;
 
 import kr.hhplus.be.server.domain.model.Concert;
 import kr.hhplus.be.server.domain.model.ConcertStatus;
+import kr.hhplus.be.server.domain.model.ConcertSummary;
 
 import java.time.LocalDateTime;
 
@@ -33,5 +34,21 @@ public record ConcertResponse(
                 concert.getUpdatedAt()
         );
     }
+
+    public static ConcertResponse from(ConcertSummary concert) {
+        return new ConcertResponse(
+                concert.id(),
+                concert.title(),
+                concert.artist(),
+                concert.venue(),
+                concert.totalSeats(),
+                concert.availableSeats(),
+                concert.price(),
+                concert.status(),
+                concert.isBookingAvailable(),
+                concert.createdAt(),
+                concert.updatedAt()
+        );
+    }
 }
 
@@ -0,0 +1,32 @@
+package kr.hhplus.be.server.interfaces.dto;
+
+import kr.hhplus.be.server.domain.model.CursorPage;
+
+import java.util.List;
+import java.util.function.Function;
+
+public class CursorPageResponse<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    private CursorPageResponse(List<T> items, String nextCursor, boolean hasNext) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    public static <S, T> CursorPageResponse<T> from(CursorPage<S> page, Function<S, T> mapper) {
+        return new CursorPageResponse<>(
+                page.items().stream().map(mapper).toList(),
+                page.nextCursor(),
+                page.hasNext()
+        );
+    }
+
+    // Getters
+    public List<T> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean isHasNext() { return hasNext; }
+}
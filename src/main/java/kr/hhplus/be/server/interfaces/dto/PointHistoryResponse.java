@@ -2,6 +2,7 @@ package kr.hhplus.be.server.interfaces.dto;
 
 import kr.hhplus.be.server.domain.entity.PointHistory;
 import kr.hhplus.be.server.domain.entity.PointTransactionType;
+import kr.hhplus.be.server.domain.model.PointHistoryEntry;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -36,6 +37,17 @@ public class PointHistoryResponse {
         );
     }
 
+    public static PointHistoryResponse from(Long userId, PointHistoryEntry entry) {
+        return new PointHistoryResponse(
+                entry.id(),
+                userId,
+                entry.amount(),
+                entry.type(),
+                entry.description(),
+                entry.createdAt()
+        );
+    }
+
     // Getters
     public Long getId() { return id; }
     public Long getUserId() { return userId; }
@@ -0,0 +1,83 @@
+package kr.hhplus.be.server.interfaces.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import kr.hhplus.be.server.domain.model.SeatSection;
+
+import java.util.List;
+
+public class SeatProvisioningRequest {
+
+    @NotEmpty(message = "구역은 1개 이상이어야 합니다.")
+    private List<@Valid Section> sections;
+
+    // 구역별 병렬 적재 여부
+    private boolean parallel;
+
+    // 기본 생성자
+    public SeatProvisioningRequest() {}
+
+    public SeatProvisioningRequest(List<Section> sections, boolean parallel) {
+        this.sections = sections;
+        this.parallel = parallel;
+    }
+
+    public List<SeatSection> toSections() {
+        return sections.stream()
+                .map(section -> new SeatSection(section.getName(), section.getFirstSeatNumber(),
+                        section.getLastSeatNumber(), section.getPrice()))
+                .toList();
+    }
+
+    // Getters and Setters
+    public List<Section> getSections() { return sections; }
+    public void setSections(List<Section> sections) { this.sections = sections; }
+
+    public boolean isParallel() { return parallel; }
+    public void setParallel(boolean parallel) { this.parallel = parallel; }
+
+    public static class Section {
+
+        @NotBlank(message = "구역명은 필수입니다.")
+        private String name;
+
+        @NotNull(message = "시작 좌석 번호는 필수입니다.")
+        @Min(value = 1, message = "좌석 번호는 1 이상이어야 합니다.")
+        private Integer firstSeatNumber;
+
+        @NotNull(message = "마지막 좌석 번호는 필수입니다.")
+        @Min(value = 1, message = "좌석 번호는 1 이상이어야 합니다.")
+        private Integer lastSeatNumber;
+
+        @NotNull(message = "가격은 필수입니다.")
+        @Positive(message = "가격은 0보다 커야 합니다.")
+        private Long price;
+
+        // 기본 생성자
+        public Section() {}
+
+        public Section(String name, Integer firstSeatNumber, Integer lastSeatNumber, Long price) {
+            this.name = name;
+            this.firstSeatNumber = firstSeatNumber;
+            this.lastSeatNumber = lastSeatNumber;
+            this.price = price;
+        }
+
+        // Getters and Setters
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        public Integer getFirstSeatNumber() { return firstSeatNumber; }
+        public void setFirstSeatNumber(Integer firstSeatNumber) { this.firstSeatNumber = firstSeatNumber; }
+
+        public Integer getLastSeatNumber() { return lastSeatNumber; }
+        public void setLastSeatNumber(Integer lastSeatNumber) { this.lastSeatNumber = lastSeatNumber; }
+
+        public Long getPrice() { return price; }
+        public void setPrice(Long price) { this.price = price; }
+    }
+}
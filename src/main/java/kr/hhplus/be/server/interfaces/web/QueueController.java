@@ -0,0 +1,51 @@
+package kr.hhplus.be.server.interfaces.web;
+
+import kr.hhplus.be.server.application.service.QueueEntryService;
+import kr.hhplus.be.server.application.service.QueueTokenQueryService;
+import kr.hhplus.be.server.domain.model.QueueStatus;
+import kr.hhplus.be.server.domain.model.QueueToken;
+import kr.hhplus.be.server.interfaces.web.dto.EnterQueueRequest;
+import kr.hhplus.be.server.interfaces.web.dto.QueueTokenResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/v1/queue")
+public class QueueController {
+
+    private final QueueEntryService queueEntryService;
+    private final QueueTokenQueryService queueTokenQueryService;
+
+    public QueueController(QueueEntryService queueEntryService,
+                           QueueTokenQueryService queueTokenQueryService) {
+        this.queueEntryService = queueEntryService;
+        this.queueTokenQueryService = queueTokenQueryService;
+    }
+
+    /**
+     * 대기열 진입 (이미 유효한 토큰이 있으면 같은 토큰 반환)
+     */
+    @PostMapping("/tokens")
+    public ResponseEntity<QueueTokenResponse> enter(@RequestBody @Valid EnterQueueRequest request) {
+        QueueToken token = queueEntryService.enter(request.userId(), request.concertId());
+        return ResponseEntity.ok(QueueTokenResponse.from(token, positionOf(token)));
+    }
+
+    /**
+     * 대기열 토큰 상태/순번 조회 (폴링용)
+     */
+    @GetMapping("/tokens/{token}")
+    public ResponseEntity<QueueTokenResponse> getToken(@PathVariable String token) {
+        QueueToken queueToken = queueEntryService.getToken(token);
+        return ResponseEntity.ok(QueueTokenResponse.from(queueToken, positionOf(queueToken)));
+    }
+
+    private Integer positionOf(QueueToken token) {
+        if (token.getStatus() != QueueStatus.WAITING) {
+            return null;
+        }
+        return queueTokenQueryService.getWaitingPosition(token.getConcertId(), token.getTokenValue());
+    }
+}
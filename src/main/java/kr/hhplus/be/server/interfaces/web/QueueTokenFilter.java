@@ -0,0 +1,188 @@
+package kr.hhplus.be.server.interfaces.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.hhplus.be.server.application.service.ActiveQueueTokenService;
+import kr.hhplus.be.server.application.service.ActiveQueueTokenService.ActiveToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * 대기열 토큰 검증 필터
+ *
+ * 예약/결제 요청이 서비스, 락, 트랜잭션에 도달하기 전에 활성 토큰 보유 여부를 확인한다.
+ * 요청 본문의 userId가 토큰 소유자와 다르거나 concertId가 토큰 발급 콘서트와 다르면 거부한다.
+ * 본문에 concertId가 없는 결제 요청은 토큰 콘서트를 요청 속성으로 넘겨 결제 서비스가 예약의 콘서트와 비교한다.
+ * 조회(GET) 요청은 결제 완료로 토큰이 회수된 뒤에도 상태를 확인할 수 있도록 검증하지 않는다.
+ * 등록: {@link kr.hhplus.be.server.config.QueueTokenFilterConfig}
+ */
+@Slf4j
+public class QueueTokenFilter extends OncePerRequestFilter {
+
+    public static final String QUEUE_TOKEN_HEADER = "X-Queue-Token";
+    public static final String ACTIVE_USER_ID_ATTRIBUTE = "queueToken.userId";
+    public static final String ACTIVE_CONCERT_ID_ATTRIBUTE = "queueToken.concertId";
+
+    private static final String USER_ID_FIELD = "userId";
+    private static final String CONCERT_ID_FIELD = "concertId";
+
+    private final ActiveQueueTokenService activeQueueTokenService;
+    private final ObjectMapper objectMapper;
+
+    public QueueTokenFilter(ActiveQueueTokenService activeQueueTokenService, ObjectMapper objectMapper) {
+        this.activeQueueTokenService = activeQueueTokenService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String tokenValue = request.getHeader(QUEUE_TOKEN_HEADER);
+
+        ActiveToken activeToken;
+        try {
+            activeToken = activeQueueTokenService.findActiveToken(tokenValue);
+        } catch (Exception e) {
+            log.error("대기열 토큰 검증 실패 - uri: {}, error: {}", request.getRequestURI(), e.getMessage());
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, "QUEUE_UNAVAILABLE",
+                    "대기열 토큰을 검증할 수 없습니다.");
+            return;
+        }
+
+        if (activeToken == null) {
+            reject(response, HttpStatus.UNAUTHORIZED, "QUEUE_TOKEN_INACTIVE",
+                    "활성화된 대기열 토큰이 필요합니다.");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        JsonNode body = readBody(cachedRequest.body);
+        Long requestedUserId = readLong(body, USER_ID_FIELD);
+        if (requestedUserId != null && !requestedUserId.equals(activeToken.userId())) {
+            log.warn("대기열 토큰 사용자 불일치 - uri: {}, tokenUserId: {}, requestUserId: {}",
+                    request.getRequestURI(), activeToken.userId(), requestedUserId);
+            reject(response, HttpStatus.FORBIDDEN, "QUEUE_TOKEN_USER_MISMATCH",
+                    "대기열 토큰의 사용자와 요청 사용자가 다릅니다.");
+            return;
+        }
+
+        Long requestedConcertId = readLong(body, CONCERT_ID_FIELD);
+        if (requestedConcertId != null && !requestedConcertId.equals(activeToken.concertId())) {
+            log.warn("대기열 토큰 콘서트 불일치 - uri: {}, tokenConcertId: {}, requestConcertId: {}",
+                    request.getRequestURI(), activeToken.concertId(), requestedConcertId);
+            reject(response, HttpStatus.FORBIDDEN, "QUEUE_TOKEN_CONCERT_MISMATCH",
+                    "대기열 토큰의 콘서트와 요청 콘서트가 다릅니다.");
+            return;
+        }
+
+        cachedRequest.setAttribute(ACTIVE_USER_ID_ATTRIBUTE, activeToken.userId());
+        cachedRequest.setAttribute(ACTIVE_CONCERT_ID_ATTRIBUTE, activeToken.concertId());
+        filterChain.doFilter(cachedRequest, response);
+    }
+
+    /**
+     * 본문 JSON (JSON이 아니면 null, 검증은 컨트롤러에 맡긴다)
+     */
+    private JsonNode readBody(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 본문의 숫자 필드 (필드가 없으면 null)
+     */
+    private static Long readLong(JsonNode body, String field) {
+        JsonNode node = body != null ? body.get(field) : null;
+        return node != null && node.canConvertToLong() ? node.asLong() : null;
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status,
+                        String code, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(String.format(
+                "{\"code\":\"%s\",\"message\":\"%s\",\"timestamp\":\"%s\"}",
+                code, message, LocalDateTime.now()));
+    }
+
+    /**
+     * 본문을 미리 읽어 두고 컨트롤러가 다시 읽을 수 있게 하는 요청 래퍼
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream source = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return source.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("비동기 읽기는 지원하지 않습니다.");
+                }
+
+                @Override
+                public int read() {
+                    return source.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return source.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
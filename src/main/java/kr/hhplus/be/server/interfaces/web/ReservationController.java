@@ -1,9 +1,15 @@
 package kr.hhplus.be.server.interfaces.web;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import kr.hhplus.be.server.domain.model.Payment;
 import kr.hhplus.be.server.domain.model.Reservation;
+import kr.hhplus.be.server.domain.port.in.AcceptPaymentUseCase;
 import kr.hhplus.be.server.domain.port.in.ProcessPaymentUseCase;
 import kr.hhplus.be.server.domain.port.in.ReserveSeatUseCase;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,12 +23,18 @@ import java.time.LocalDateTime;
 public class ReservationController {
 
     private final ReserveSeatUseCase reserveSeatUseCase;
-    private final ProcessPaymentUseCase processPaymentUseCase;
+    private final AcceptPaymentUseCase acceptPaymentUseCase;
+    private final ProcessPaymentUseCase singleConnectionPaymentUseCase;
+    private final boolean singleConnectionMode;
 
     public ReservationController(ReserveSeatUseCase reserveSeatUseCase,
-                                 ProcessPaymentUseCase processPaymentUseCase) {
+                                 AcceptPaymentUseCase acceptPaymentUseCase,
+                                 @Qualifier("singleConnectionPaymentService") ProcessPaymentUseCase singleConnectionPaymentUseCase,
+                                 @Value("${payment.execution-mode:saga}") String executionMode) {
         this.reserveSeatUseCase = reserveSeatUseCase;
-        this.processPaymentUseCase = processPaymentUseCase;
+        this.acceptPaymentUseCase = acceptPaymentUseCase;
+        this.singleConnectionPaymentUseCase = singleConnectionPaymentUseCase;
+        this.singleConnectionMode = "single-connection".equalsIgnoreCase(executionMode);
     }
 
     @PostMapping
@@ -38,12 +50,33 @@ public class ReservationController {
     @PostMapping("/{reservationId}/payment")
     public ResponseEntity<PaymentResponse> processPayment(
             @PathVariable Long reservationId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestAttribute(name = QueueTokenFilter.ACTIVE_CONCERT_ID_ATTRIBUTE, required = false) Long queueConcertId,
             @RequestBody @Valid ProcessPaymentRequest request) {
 
         ProcessPaymentUseCase.ProcessPaymentCommand command = new ProcessPaymentUseCase.ProcessPaymentCommand(
-                reservationId, request.getUserId(), request.getAmount());
+                reservationId, request.getUserId(), request.getAmount(), queueConcertId);
 
-        Payment payment = processPaymentUseCase.processPayment(command);
+        // 단일 커넥션 모드: 한 트랜잭션에서 끝까지 처리하고 최종 결과 반환
+        if (singleConnectionMode) {
+            return ResponseEntity.ok(PaymentResponse.from(singleConnectionPaymentUseCase.processPayment(command, idempotencyKey)));
+        }
+
+        // 결제는 접수만 하고 이후 단계는 비동기로 처리 (202 + 결제 ID)
+        Payment payment = acceptPaymentUseCase.acceptPayment(command, idempotencyKey);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(PaymentResponse.from(payment));
+    }
+
+    @GetMapping("/{reservationId}/payment/{paymentId}")
+    public ResponseEntity<PaymentResponse> getPayment(
+            @PathVariable Long reservationId,
+            @PathVariable Long paymentId) {
+
+        Payment payment = acceptPaymentUseCase.getPayment(paymentId);
+        if (!reservationId.equals(payment.getReservationId())) {
+            throw new IllegalArgumentException("예약에 해당하는 결제가 아닙니다.");
+        }
 
         return ResponseEntity.ok(PaymentResponse.from(payment));
     }
@@ -87,7 +120,9 @@ public class ReservationController {
         public void setAmount(Long amount) { this.amount = amount; }
     }
 
+    // 좌석/결제 ID(TSID)는 2^53을 넘으므로 문자열로 내보낸다
     public static class ReservationResponse {
+        @JsonSerialize(using = ToStringSerializer.class)
         private Long id;
         private Long userId;
         private Long concertId;
@@ -130,7 +165,9 @@ public class ReservationController {
     }
 
     public static class PaymentResponse {
+        @JsonSerialize(using = ToStringSerializer.class)
         private Long id;
+        @JsonSerialize(using = ToStringSerializer.class)
         private Long reservationId;
         private Long userId;
         private Long amount;
@@ -0,0 +1,8 @@
+package kr.hhplus.be.server.interfaces.web.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public record EnterQueueRequest(
+        @NotNull Long userId,
+        @NotNull Long concertId
+) {}
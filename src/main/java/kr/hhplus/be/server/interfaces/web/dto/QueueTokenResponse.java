@@ -0,0 +1,23 @@
+package kr.hhplus.be.server.interfaces.web.dto;
+
+import kr.hhplus.be.server.domain.model.QueueToken;
+
+import java.time.LocalDateTime;
+
+public record QueueTokenResponse(
+        String token,
+        Long concertId,
+        String status,
+        Integer position,
+        LocalDateTime expiresAt
+) {
+    public static QueueTokenResponse from(QueueToken token, Integer position) {
+        return new QueueTokenResponse(
+                token.getTokenValue(),
+                token.getConcertId(),
+                token.getStatus().name(),
+                position,
+                token.getExpiresAt()
+        );
+    }
+}
@@ -0,0 +1,93 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.service.ActiveQueueTokenService;
+import kr.hhplus.be.server.application.service.ActiveQueueTokenService.ActiveToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveQueueTokenServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ActiveQueueTokenService activeQueueTokenService;
+
+    @BeforeEach
+    void setUp() {
+        activeQueueTokenService = new ActiveQueueTokenService(redisTemplate, 60_000, 100);
+    }
+
+    @Test
+    @DisplayName("활성 토큰은 로컬 캐시에 보관되어 Redis를 다시 조회하지 않는다")
+    void activeTokenIsCachedLocally() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("queue:active:token-1")).thenReturn("1:100");
+
+        // When
+        ActiveToken first = activeQueueTokenService.findActiveToken("token-1");
+        ActiveToken second = activeQueueTokenService.findActiveToken("token-1");
+
+        // Then
+        assertThat(first).isEqualTo(new ActiveToken(1L, 100L));
+        assertThat(second).isEqualTo(first);
+        verify(valueOperations, times(1)).get("queue:active:token-1");
+    }
+
+    @Test
+    @DisplayName("Redis에 없는 토큰은 캐시하지 않고 매번 원본을 확인한다")
+    void inactiveTokenIsNotCached() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("queue:active:token-2")).thenReturn(null, "2:100");
+
+        // When & Then
+        assertThat(activeQueueTokenService.isActive("token-2")).isFalse();
+        assertThat(activeQueueTokenService.isActive("token-2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("회수된 토큰은 로컬 캐시에서도 제거된다")
+    void revokedTokenIsEvicted() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("queue:active:token-3")).thenReturn("3:100", (String) null);
+        activeQueueTokenService.findActiveToken("token-3");
+
+        // When
+        activeQueueTokenService.revoke("token-3");
+
+        // Then
+        assertThat(activeQueueTokenService.findActiveToken("token-3")).isNull();
+        verify(redisTemplate).delete("queue:active:token-3");
+    }
+
+    @Test
+    @DisplayName("콘서트 정보가 없는 이전 형식의 값은 활성 토큰으로 보지 않는다")
+    void legacyValueWithoutConcertIsRejected() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("queue:active:token-4")).thenReturn("4");
+
+        assertThat(activeQueueTokenService.findActiveToken("token-4")).isNull();
+    }
+
+    @Test
+    @DisplayName("토큰 헤더가 없으면 Redis를 조회하지 않는다")
+    void blankTokenIsRejected() {
+        assertThat(activeQueueTokenService.findActiveToken(" ")).isNull();
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,251 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.service.AvailabilityCalendarService;
+import kr.hhplus.be.server.domain.event.ConcertChangedEvent;
+import kr.hhplus.be.server.domain.model.AvailabilityCalendarEntry;
+import kr.hhplus.be.server.domain.model.Concert;
+import kr.hhplus.be.server.domain.model.ConcertDate;
+import kr.hhplus.be.server.domain.model.ConcertDate.ConcertDateStatus;
+import kr.hhplus.be.server.domain.model.ConcertStatus;
+import kr.hhplus.be.server.domain.repository.ConcertDateRepository;
+import kr.hhplus.be.server.domain.repository.ConcertRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityCalendarServiceTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String MEMBERS_KEY = "concert:calendar:members";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    @Mock
+    private SetOperations<String, String> setOperations;
+    @Mock
+    private ConcertRepository concertRepository;
+    @Mock
+    private ConcertDateRepository concertDateRepository;
+
+    private AvailabilityCalendarService calendarService;
+
+    private final LocalDateTime performance = LocalDateTime.now().plusMonths(1).withHour(19).withMinute(0)
+            .withSecond(0).withNano(0);
+    private final String monthKey = "concert:calendar:" + YearMonth.from(performance).format(MONTH_FORMAT);
+
+    @BeforeEach
+    void setUp() {
+        calendarService = new AvailabilityCalendarService(redisTemplate, concertRepository, concertDateRepository, 2);
+    }
+
+    @Test
+    @DisplayName("예약 가능한 일정만 실제 제목/장소/가격과 함께 월 키에 저장하고 빠진 일정은 지운다")
+    @SuppressWarnings("unchecked")
+    void refreshStoresBookableDatesOnly() {
+        // Given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(concertRepository.findById(CONCERT_ID)).thenReturn(Optional.of(concert(30)));
+        when(concertDateRepository.findByConcertId(CONCERT_ID)).thenReturn(List.of(
+                concertDate(10L, performance, 100, ConcertDateStatus.AVAILABLE),
+                concertDate(11L, performance.plusDays(1), 0, ConcertDateStatus.SOLD_OUT),
+                concertDate(12L, performance.plusDays(2), 100, ConcertDateStatus.CANCELLED)));
+        when(hashOperations.get(MEMBERS_KEY, "1"))
+                .thenReturn(memberOf(performance, 10L) + "," + memberOf(performance.plusDays(1), 11L));
+
+        // When
+        calendarService.refresh(CONCERT_ID);
+
+        // Then
+        ArgumentCaptor<Map<String, String>> fields = ArgumentCaptor.forClass(Map.class);
+        verify(hashOperations).putAll(eq(monthKey), fields.capture());
+        assertThat(fields.getValue()).containsOnlyKeys("10");
+        assertThat(fields.getValue().get("10"))
+                .contains("\"title\":\"Calendar Concert\"", "\"venue\":\"Olympic Hall\"",
+                        "\"price\":99000", "\"availableSeats\":30");
+
+        String soldOutMonthKey = "concert:calendar:" + YearMonth.from(performance.plusDays(1)).format(MONTH_FORMAT);
+        verify(hashOperations).delete(soldOutMonthKey, "11");
+        verify(hashOperations, never()).delete(monthKey, "10");
+        verify(hashOperations).put(MEMBERS_KEY, "1", memberOf(performance, 10L));
+        verify(setOperations).add("concert:calendar:months", YearMonth.from(performance).format(MONTH_FORMAT));
+    }
+
+    @Test
+    @DisplayName("삭제된 콘서트는 캘린더에서 모든 항목을 지운다")
+    void refreshRemovesDeletedConcert() {
+        // Given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(concertRepository.findById(CONCERT_ID)).thenReturn(Optional.empty());
+        when(hashOperations.get(MEMBERS_KEY, "1")).thenReturn(memberOf(performance, 10L));
+
+        // When
+        calendarService.refresh(CONCERT_ID);
+
+        // Then
+        verify(hashOperations).delete(monthKey, "10");
+        verify(hashOperations, never()).putAll(anyString(), anyMap());
+        verify(hashOperations).delete(MEMBERS_KEY, "1");
+        verifyNoInteractions(concertDateRepository);
+    }
+
+    @Test
+    @DisplayName("월 조회는 키 1개를 읽어 날짜별로 공연 시각순으로 묶는다")
+    @SuppressWarnings("unchecked")
+    void getMonthGroupsByDay() {
+        // Given: 같은 콘서트 데이터로 항목을 만들어 저장된 JSON을 그대로 돌려준다
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(concertRepository.findById(CONCERT_ID)).thenReturn(Optional.of(concert(30)));
+        when(concertDateRepository.findByConcertId(CONCERT_ID)).thenReturn(List.of(
+                concertDate(20L, performance.withHour(20), 100, ConcertDateStatus.AVAILABLE),
+                concertDate(21L, performance.withHour(14), 100, ConcertDateStatus.AVAILABLE),
+                concertDate(22L, performance.plusDays(1), 100, ConcertDateStatus.AVAILABLE)));
+        calendarService.refresh(CONCERT_ID);
+
+        Map<Object, Object> stored = new HashMap<>();
+        ArgumentCaptor<Map<String, String>> fields = ArgumentCaptor.forClass(Map.class);
+        verify(hashOperations, atLeastOnce()).putAll(anyString(), fields.capture());
+        fields.getAllValues().forEach(stored::putAll);
+        when(hashOperations.entries(monthKey)).thenReturn(stored);
+
+        // When
+        Map<LocalDate, List<AvailabilityCalendarEntry>> calendar =
+                calendarService.getMonth(YearMonth.from(performance));
+
+        // Then
+        List<AvailabilityCalendarEntry> firstDay = calendar.get(performance.toLocalDate());
+        assertThat(firstDay).extracting(AvailabilityCalendarEntry::concertDateId).containsExactly(21L, 20L);
+        assertThat(firstDay.get(0).title()).isEqualTo("Calendar Concert");
+        assertThat(firstDay.get(0).price()).isEqualTo(99000L);
+        assertThat(calendar.keySet()).first().isEqualTo(performance.toLocalDate());
+    }
+
+    @Test
+    @DisplayName("잔여석 변경 이벤트가 여러 번 와도 flush 때 콘서트당 한 번만 다시 계산한다")
+    void flushCoalescesEvents() {
+        // Given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(concertRepository.findById(CONCERT_ID)).thenReturn(Optional.of(concert(0)));
+        when(concertDateRepository.findByConcertId(CONCERT_ID)).thenReturn(List.of());
+
+        for (int i = 0; i < 5; i++) {
+            calendarService.onConcertChanged(ConcertChangedEvent.seatsChanged(CONCERT_ID));
+        }
+
+        // When
+        calendarService.flush();
+        calendarService.flush();
+
+        // Then
+        verify(concertRepository, times(1)).findById(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("전체 재계산은 ID 페이지 단위로 staging 키에 만든 뒤 스크립트 하나로 live 키와 교체한다")
+    @SuppressWarnings("unchecked")
+    void rebuildPagesIntoStagingAndSwaps() {
+        // Given: 페이지 크기 2, 콘서트 3건
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members("concert:calendar:staging:months")).thenReturn(Set.of("199901"));
+        when(concertRepository.findAllAfterId(null, 2)).thenReturn(List.of(concert(1L, 30), concert(2L, 30)));
+        when(concertRepository.findAllAfterId(2L, 2)).thenReturn(List.of(concert(3L, 30)));
+        when(concertDateRepository.findByConcertIds(List.of(1L, 2L))).thenReturn(List.of(
+                concertDate(10L, 1L, performance, 100, ConcertDateStatus.AVAILABLE)));
+        when(concertDateRepository.findByConcertIds(List.of(3L))).thenReturn(List.of(
+                concertDate(30L, 3L, performance.plusDays(1), 100, ConcertDateStatus.AVAILABLE)));
+        when(concertRepository.findIdsUpdatedSince(any(LocalDateTime.class))).thenReturn(List.of());
+        when(concertDateRepository.findConcertIdsUpdatedSince(any(LocalDateTime.class))).thenReturn(List.of());
+
+        // When
+        int entries = calendarService.rebuild();
+
+        // Then: 남은 staging 키를 지우고 staging에만 쓴 뒤 교체
+        assertThat(entries).isEqualTo(2);
+        verify(redisTemplate).delete(List.of("concert:calendar:staging:months", "concert:calendar:staging:members",
+                "concert:calendar:staging:199901"));
+        String stagingMonthKey = "concert:calendar:staging:" + YearMonth.from(performance).format(MONTH_FORMAT);
+        verify(hashOperations).putAll(eq(stagingMonthKey), argThat(fields -> fields.containsKey("10")));
+        verify(hashOperations).put("concert:calendar:staging:members", "1", memberOf(performance, 10L));
+        verify(hashOperations, never()).putAll(eq(monthKey), anyMap());
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("concert:calendar:months", "concert:calendar:staging:months",
+                        MEMBERS_KEY, "concert:calendar:staging:members")),
+                eq("concert:calendar:"), eq("concert:calendar:staging:"));
+        verify(concertRepository, never()).findAll();
+        verify(concertDateRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("재계산 중 바뀐 콘서트는 교체 후 더티로 표시해 다시 계산한다")
+    void rebuildMarksConcertsChangedDuringBuild() {
+        // Given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(concertRepository.findAllAfterId(null, 2)).thenReturn(List.of());
+        when(concertRepository.findIdsUpdatedSince(any(LocalDateTime.class))).thenReturn(List.of(CONCERT_ID));
+        when(concertDateRepository.findConcertIdsUpdatedSince(any(LocalDateTime.class))).thenReturn(List.of());
+        when(concertRepository.findById(CONCERT_ID)).thenReturn(Optional.empty());
+
+        // When
+        calendarService.rebuild();
+        calendarService.flush();
+
+        // Then
+        verify(concertRepository).findById(CONCERT_ID);
+    }
+
+    private Concert concert(int availableSeats) {
+        return concert(CONCERT_ID, availableSeats);
+    }
+
+    private Concert concert(Long concertId, int availableSeats) {
+        LocalDateTime now = LocalDateTime.now();
+        return Concert.reconstitute(concertId, "Calendar Concert", "Artist", "Olympic Hall",
+                100, availableSeats, 99000L,
+                availableSeats > 0 ? ConcertStatus.AVAILABLE : ConcertStatus.SOLD_OUT,
+                now, null, now, now);
+    }
+
+    private ConcertDate concertDate(Long id, LocalDateTime dateTime, int availableSeats, ConcertDateStatus status) {
+        return concertDate(id, CONCERT_ID, dateTime, availableSeats, status);
+    }
+
+    private ConcertDate concertDate(Long id, Long concertId, LocalDateTime dateTime, int availableSeats,
+                                    ConcertDateStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        return ConcertDate.reconstitute(id, concertId, dateTime, dateTime, dateTime.plusHours(2),
+                100, availableSeats, status, now, now);
+    }
+
+    private static String memberOf(LocalDateTime dateTime, Long concertDateId) {
+        return YearMonth.from(dateTime).format(MONTH_FORMAT) + ":" + concertDateId;
+    }
+}
@@ -0,0 +1,92 @@
+package kr.hhplus.be.server;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.application.scheduler.BalanceReconciliationScheduler;
+import kr.hhplus.be.server.application.scheduler.BalanceSettlementScheduler;
+import kr.hhplus.be.server.application.service.BalanceHoldLedger;
+import kr.hhplus.be.server.application.service.BalanceHoldLedger.LedgerSnapshot;
+import kr.hhplus.be.server.application.service.BalanceHoldLedger.SettlementEntry;
+import kr.hhplus.be.server.application.service.BalanceSettlementWriter;
+import kr.hhplus.be.server.domain.model.UserBalance;
+import kr.hhplus.be.server.domain.repository.UserBalanceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceSettlementSchedulerTest {
+
+    @Mock
+    private BalanceHoldLedger ledger;
+
+    @Mock
+    private BalanceSettlementWriter settlementWriter;
+
+    @Mock
+    private UserBalanceRepository userBalanceRepository;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock lock;
+
+    @Test
+    @DisplayName("해제된 홀드는 정산하지 않고, 실패한 항목은 홀드를 유지한 채 실패 목록으로 옮긴다")
+    void settlesOnlyClaimedHoldsAndKeepsFailedHolds() {
+        // Given
+        SettlementEntry released = new SettlementEntry("h1", 1L, 1000L);
+        SettlementEntry settled = new SettlementEntry("h2", 1L, 2000L);
+        SettlementEntry failed = new SettlementEntry("h3", 2L, 500L);
+        List<SettlementEntry> entries = List.of(released, settled, failed);
+        when(ledger.peekSettlements(500)).thenReturn(entries);
+        when(ledger.claimSettlements(entries)).thenReturn(List.of(settled, failed));
+        when(settlementWriter.settle(List.of(settled, failed))).thenReturn(List.of(failed));
+        when(redissonClient.getLock(BalanceHoldLedger.SETTLEMENT_LOCK_KEY)).thenReturn(lock);
+        when(lock.tryLock()).thenReturn(true);
+        BalanceSettlementScheduler scheduler = new BalanceSettlementScheduler(
+                ledger, settlementWriter, redissonClient, new SimpleMeterRegistry(), 500);
+
+        // When
+        scheduler.settlePendingHolds();
+
+        // Then
+        verify(ledger).completeSettlements(entries, List.of(failed));
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("대사 시 실패 항목을 재정산하고, 불일치한 사용자의 미러를 무효화한다")
+    void reconciliationRetriesFailedAndInvalidatesDrift() {
+        // Given
+        SettlementEntry recovered = new SettlementEntry("h1", 1L, 1000L);
+        SettlementEntry stillFailed = new SettlementEntry("h2", 2L, 500L);
+        when(ledger.peekFailed(500)).thenReturn(List.of(recovered, stillFailed));
+        when(settlementWriter.settle(List.of(recovered, stillFailed))).thenReturn(List.of(stillFailed));
+        when(ledger.mirroredUsers()).thenReturn(Set.of("1"));
+        when(ledger.snapshot(1L)).thenReturn(new LedgerSnapshot(3000L, 0L));
+        when(userBalanceRepository.findByUserId(1L)).thenReturn(Optional.of(UserBalance.create(1L, 2000L)));
+        when(redissonClient.getLock(BalanceHoldLedger.SETTLEMENT_LOCK_KEY)).thenReturn(lock);
+        when(lock.tryLock()).thenReturn(true);
+        BalanceReconciliationScheduler scheduler = new BalanceReconciliationScheduler(
+                ledger, userBalanceRepository, settlementWriter, redissonClient, new SimpleMeterRegistry(), 500);
+
+        // When
+        scheduler.reconcile();
+
+        // Then
+        verify(ledger).resolveFailed(List.of(recovered));
+        verify(ledger).invalidate(1L);
+        verify(lock).unlock();
+    }
+}
@@ -0,0 +1,81 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.service.BalanceHoldLedger.SettlementEntry;
+import kr.hhplus.be.server.application.service.BalanceSettlementWriter;
+import kr.hhplus.be.server.domain.model.BalanceHistory;
+import kr.hhplus.be.server.domain.model.UserBalance;
+import kr.hhplus.be.server.domain.repository.UserBalanceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceSettlementWriterTest {
+
+    @Mock
+    private UserBalanceRepository userBalanceRepository;
+
+    @InjectMocks
+    private BalanceSettlementWriter settlementWriter;
+
+    @Test
+    @DisplayName("사용자별로 합산해 한 번에 차감하고 홀드마다 히스토리를 남긴다")
+    void settlesPerUserWithSingleUpdate() {
+        // Given
+        List<SettlementEntry> entries = List.of(
+                new SettlementEntry("h1", 1L, 1000L),
+                new SettlementEntry("h2", 1L, 2000L),
+                new SettlementEntry("h3", 2L, 500L));
+        when(userBalanceRepository.existsByUserIdAndIdempotencyKey(anyLong(), anyString())).thenReturn(false);
+        when(userBalanceRepository.settleHeldBalance(1L, 3000L)).thenReturn(true);
+        when(userBalanceRepository.settleHeldBalance(2L, 500L)).thenReturn(true);
+        when(userBalanceRepository.findByUserId(1L)).thenReturn(Optional.of(UserBalance.create(1L, 7000L)));
+        when(userBalanceRepository.findByUserId(2L)).thenReturn(Optional.of(UserBalance.create(2L, 0L)));
+
+        // When
+        List<SettlementEntry> failed = settlementWriter.settle(entries);
+
+        // Then
+        assertThat(failed).isEmpty();
+        ArgumentCaptor<BalanceHistory> captor = ArgumentCaptor.forClass(BalanceHistory.class);
+        verify(userBalanceRepository, times(3)).saveHistory(captor.capture());
+        BalanceHistory first = captor.getAllValues().get(0);
+        BalanceHistory second = captor.getAllValues().get(1);
+        assertThat(first.getBalanceBefore()).isEqualTo(10000L);
+        assertThat(first.getBalanceAfter()).isEqualTo(9000L);
+        assertThat(second.getBalanceBefore()).isEqualTo(9000L);
+        assertThat(second.getBalanceAfter()).isEqualTo(7000L);
+        assertThat(second.getIdempotencyKey()).isEqualTo("hold:h2");
+    }
+
+    @Test
+    @DisplayName("이미 정산된 홀드는 건너뛰고, 차감에 실패한 사용자의 홀드는 실패로 돌려준다")
+    void skipsSettledAndReportsFailures() {
+        // Given
+        List<SettlementEntry> entries = List.of(
+                new SettlementEntry("h1", 1L, 1000L),
+                new SettlementEntry("h2", 2L, 500L));
+        when(userBalanceRepository.existsByUserIdAndIdempotencyKey(1L, "hold:h1")).thenReturn(true);
+        when(userBalanceRepository.existsByUserIdAndIdempotencyKey(2L, "hold:h2")).thenReturn(false);
+        when(userBalanceRepository.settleHeldBalance(2L, 500L)).thenReturn(false);
+
+        // When
+        List<SettlementEntry> failed = settlementWriter.settle(entries);
+
+        // Then
+        assertThat(failed).extracting(SettlementEntry::holdId).containsExactly("h2");
+        verify(userBalanceRepository, never()).settleHeldBalance(eq(1L), anyLong());
+        verify(userBalanceRepository, never()).saveHistory(any());
+    }
+}
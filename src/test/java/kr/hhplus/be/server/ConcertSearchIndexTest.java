@@ -0,0 +1,96 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.service.ConcertSearchIndex;
+import kr.hhplus.be.server.application.service.ConcertSearchIndex.Field;
+import kr.hhplus.be.server.domain.model.Concert;
+import kr.hhplus.be.server.domain.model.ConcertStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConcertSearchIndexTest {
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private ConcertSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ConcertSearchIndex();
+        index.upsert(concert(1L, "World Tour Seoul", "BLACKPINK", "고척 스카이돔", ConcertStatus.AVAILABLE),
+                List.of(now.plusDays(10)));
+        index.upsert(concert(2L, "Love Poem", "아이유", "잠실 올림픽 주경기장", ConcertStatus.SOLD_OUT),
+                List.of(now.plusDays(20), now.plusDays(21)));
+        index.upsert(concert(3L, "Black Night", "Black Sabbath", "KSPO DOME", ConcertStatus.AVAILABLE),
+                List.of(now.minusDays(5)));
+    }
+
+    @Test
+    @DisplayName("모든 필드에서 토큰 앞부분 일치로 검색한다 (대소문자 무시)")
+    void prefixSearchAcrossFields() {
+        assertThat(ids(index.search("bla", null, null, null, null, 10))).containsExactly(1L, 3L);
+        assertThat(ids(index.search("올림", null, null, null, null, 10))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("검색어 토큰은 모두 일치해야 하고, 필드를 지정하면 해당 필드만 검색한다")
+    void tokensAreAndedAndFieldScoped() {
+        assertThat(ids(index.search("black sab", null, null, null, null, 10))).containsExactly(3L);
+        assertThat(ids(index.search("black", Set.of(Field.TITLE), null, null, null, 10))).containsExactly(3L);
+        assertThat(index.search("black pink", null, null, null, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상태와 공연 일시 범위로 거른다")
+    void filtersByStatusAndPerformanceTime() {
+        assertThat(ids(index.search(null, null, ConcertStatus.AVAILABLE, null, null, 10))).containsExactly(1L, 3L);
+        assertThat(ids(index.search(null, null, null, now, now.plusDays(20).plusHours(1), 10))).containsExactly(1L, 2L);
+        assertThat(ids(index.search("black", null, null, now, null, 10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("다시 색인하면 이전 토큰은 더 이상 검색되지 않고, 제거하면 결과에서 빠진다")
+    void upsertReplacesAndRemoveDeletes() {
+        index.upsert(concert(1L, "Born Pink", "BLACKPINK", "Olympic Stadium", ConcertStatus.AVAILABLE), List.of());
+
+        assertThat(index.search("고척", null, null, null, null, 10)).isEmpty();
+        assertThat(ids(index.search("olympic", null, null, null, null, 10))).containsExactly(1L);
+
+        index.remove(1L);
+
+        assertThat(ids(index.search("b", null, null, null, null, 10))).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("결과는 limit건으로 자른다")
+    void respectsLimit() {
+        assertThat(ids(index.search(null, null, null, null, null, 2))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("여러 토큰/필드에 걸친 후보도 ID 순으로 중복 없이 병합하고 limit건에서 멈춘다")
+    void mergedCandidatesAreOrderedAndLimited() {
+        index.upsert(concert(0L, "Blue Black", "Blur", "Blackhall", ConcertStatus.AVAILABLE), List.of());
+
+        assertThat(ids(index.search("bl", null, null, null, null, 10))).containsExactly(0L, 1L, 3L);
+        assertThat(ids(index.search("bl", null, null, null, null, 2))).containsExactly(0L, 1L);
+        assertThat(ids(index.search("b black", null, null, null, null, 10))).containsExactly(0L, 1L, 3L);
+    }
+
+    private Concert concert(Long id, String title, String artist, String venue, ConcertStatus status) {
+        int available = status == ConcertStatus.SOLD_OUT ? 0 : 100;
+        return Concert.reconstitute(id, title, artist, venue, 100, available, 50000L, status,
+                null, null, now, now);
+    }
+
+    private List<Long> ids(List<Concert> concerts) {
+        return concerts.stream().map(Concert::getId).toList();
+    }
+}
@@ -0,0 +1,99 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.service.ConcertSearchService;
+import kr.hhplus.be.server.domain.model.Concert;
+import kr.hhplus.be.server.domain.model.ConcertStatus;
+import kr.hhplus.be.server.domain.repository.ConcertDateRepository;
+import kr.hhplus.be.server.domain.repository.ConcertRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcertSearchServiceTest {
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @Mock
+    private ConcertDateRepository concertDateRepository;
+
+    private ConcertSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new ConcertSearchService(concertRepository, concertDateRepository, 2);
+    }
+
+    @Test
+    @DisplayName("전체 재색인은 ID 키셋 페이지로 나눠 읽고 전체 조회를 쓰지 않는다")
+    void rebuildPagesThroughConcerts() {
+        // Given: 페이지 크기 2, 콘서트 3건
+        when(concertRepository.findAllAfterId(null, 2)).thenReturn(List.of(concert(1L, "Alpha"), concert(2L, "Beta")));
+        when(concertRepository.findAllAfterId(2L, 2)).thenReturn(List.of(concert(3L, "Gamma")));
+        when(concertDateRepository.findByConcertIds(anyCollection())).thenReturn(List.of());
+
+        // When
+        searchService.rebuild();
+
+        // Then
+        assertThat(ids(searchService.search(null, null, null, null, null, 10))).containsExactly(1L, 2L, 3L);
+        verify(concertDateRepository).findByConcertIds(List.of(1L, 2L));
+        verify(concertDateRepository).findByConcertIds(List.of(3L));
+        verify(concertRepository, never()).findAll();
+        verify(concertDateRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("변경분 재색인은 수정된 콘서트만 다시 읽고, 사라진 콘서트는 색인에서 뺀다")
+    void refreshReindexesOnlyChangedConcerts() {
+        // Given: 전체 색인 후
+        when(concertRepository.findAllAfterId(null, 2)).thenReturn(List.of(concert(1L, "Alpha"), concert(2L, "Beta")));
+        when(concertRepository.findAllAfterId(2L, 2)).thenReturn(List.of());
+        searchService.rebuild();
+
+        when(concertRepository.findIdsUpdatedSince(any(LocalDateTime.class))).thenReturn(List.of(1L));
+        when(concertDateRepository.findConcertIdsUpdatedSince(any(LocalDateTime.class))).thenReturn(List.of(2L));
+        when(concertRepository.findById(1L)).thenReturn(Optional.of(concert(1L, "Omega")));
+        when(concertRepository.findById(2L)).thenReturn(Optional.empty());
+
+        // When
+        searchService.refresh();
+
+        // Then
+        assertThat(ids(searchService.search("omega", null, null, null, null, 10))).containsExactly(1L);
+        assertThat(searchService.search("alpha", null, null, null, null, 10)).isEmpty();
+        assertThat(searchService.search("beta", null, null, null, null, 10)).isEmpty();
+        verify(concertRepository, never()).findById(3L);
+    }
+
+    @Test
+    @DisplayName("전체 색인 전에는 변경분 재색인을 하지 않는다")
+    void refreshBeforeRebuildIsSkipped() {
+        searchService.refresh();
+
+        verifyNoInteractions(concertRepository, concertDateRepository);
+    }
+
+    private Concert concert(Long id, String title) {
+        return Concert.reconstitute(id, title, "Artist", "Venue", 100, 100, 50000L, ConcertStatus.AVAILABLE,
+                null, null, now, now);
+    }
+
+    private List<Long> ids(List<Concert> concerts) {
+        return concerts.stream().map(Concert::getId).toList();
+    }
+}
@@ -3,7 +3,11 @@ package kr.hhplus.be.server;
 import kr.hhplus.be.server.application.service.ConcertService;
 import kr.hhplus.be.server.domain.model.Concert;
 import kr.hhplus.be.server.domain.model.ConcertDate;
+import kr.hhplus.be.server.domain.model.ConcertDateSummary;
 import kr.hhplus.be.server.domain.model.ConcertStatus;
+import kr.hhplus.be.server.domain.model.ConcertSummary;
+import kr.hhplus.be.server.domain.model.CursorPage;
+import kr.hhplus.be.server.domain.model.KeysetCursor;
 import kr.hhplus.be.server.domain.repository.ConcertDateRepository;
 import kr.hhplus.be.server.domain.repository.ConcertRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -371,4 +375,51 @@ class ConcertServiceTest {
         assertThat(result).hasSize(1);
         verify(concertDateRepository).findUpcomingDates(any(LocalDateTime.class), eq(limit));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("예약 가능한 콘서트 페이지는 커서를 복원해 키셋 조회한다")
+    void getAvailableConcertPage() {
+        // Given
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.now(), 10L);
+        ConcertSummary summary = new ConcertSummary(1L, "Test Concert", "Test Artist", "Test Venue",
+                100, 50, 50000L, ConcertStatus.AVAILABLE, LocalDateTime.now(), LocalDateTime.now());
+        when(concertRepository.findPageByStatus(ConcertStatus.AVAILABLE, cursor, 20))
+                .thenReturn(new CursorPage<>(List.of(summary), null));
+
+        // When
+        CursorPage<ConcertSummary> result = concertService.getAvailableConcertPage(cursor.encode(), 20);
+
+        // Then
+        assertThat(result.items()).containsExactly(summary);
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("월별 공연 일정 페이지는 해당 월의 첫날부터 말일까지 조회한다")
+    void getAvailableDatePageByMonth() {
+        // Given
+        LocalDate month = LocalDate.of(2026, 3, 1);
+        when(concertDateRepository.findAvailablePage(any(), any(), isNull(), eq(30)))
+                .thenReturn(new CursorPage<>(List.<ConcertDateSummary>of(), null));
+
+        // When
+        concertService.getAvailableDatePageByMonth(month, null, 30);
+
+        // Then
+        verify(concertDateRepository).findAvailablePage(
+                LocalDateTime.of(2026, 3, 1, 0, 0), LocalDateTime.of(2026, 3, 31, 23, 59, 59), null, 30);
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 범위를 벗어나거나 커서가 잘못되면 조회하지 않는다")
+    void pageValidation() {
+        assertThatThrownBy(() -> concertService.getConcertPage(null, 101))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> concertService.getConcertPage("not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 커서입니다");
+        assertThatThrownBy(() -> concertService.getDatePage(LocalDateTime.now(), LocalDateTime.now().minusDays(1), null, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(concertRepository, concertDateRepository);
+    }
+}
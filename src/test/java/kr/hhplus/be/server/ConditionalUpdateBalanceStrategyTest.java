@@ -0,0 +1,93 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.service.ConditionalUpdateBalanceStrategy;
+import kr.hhplus.be.server.application.service.MoneyLedger;
+import kr.hhplus.be.server.domain.model.BalanceHistory;
+import kr.hhplus.be.server.domain.model.TransactionType;
+import kr.hhplus.be.server.domain.model.UserBalance;
+import kr.hhplus.be.server.domain.repository.UserBalanceRepository;
+import kr.hhplus.be.server.infrastructure.persistence.UserBalanceLedgerAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalUpdateBalanceStrategyTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private UserBalanceRepository userBalanceRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ConditionalUpdateBalanceStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new ConditionalUpdateBalanceStrategy(
+                new MoneyLedger(new UserBalanceLedgerAccountRepository(userBalanceRepository, transactionManager)));
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE로 차감하고 변경 전/후 잔액으로 히스토리를 남긴다")
+    void deductAppendsHistory() {
+        // Given
+        when(userBalanceRepository.deductBalanceConditionally(USER_ID, 3000L)).thenReturn(true);
+        when(userBalanceRepository.findByUserId(USER_ID)).thenReturn(Optional.of(UserBalance.create(USER_ID, 7000L)));
+
+        // When
+        UserBalance result = strategy.deduct(USER_ID, 3000L);
+
+        // Then
+        assertThat(result.getBalance()).isEqualTo(7000L);
+        ArgumentCaptor<BalanceHistory> captor = ArgumentCaptor.forClass(BalanceHistory.class);
+        verify(userBalanceRepository).saveHistory(captor.capture());
+        assertThat(captor.getValue().getType()).isEqualTo(TransactionType.DEDUCT);
+        assertThat(captor.getValue().getBalanceBefore()).isEqualTo(10000L);
+        assertThat(captor.getValue().getBalanceAfter()).isEqualTo(7000L);
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 히스토리 없이 예외가 발생한다")
+    void deductInsufficientBalance() {
+        // Given
+        when(userBalanceRepository.deductBalanceConditionally(USER_ID, 3000L)).thenReturn(false);
+        when(userBalanceRepository.findByUserId(USER_ID)).thenReturn(Optional.of(UserBalance.create(USER_ID, 1000L)));
+
+        // When & Then
+        assertThatThrownBy(() -> strategy.deduct(USER_ID, 3000L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("잔액이 부족합니다. 현재 잔액: 1000, 차감 요청: 3000");
+        verify(userBalanceRepository, never()).saveHistory(any());
+    }
+
+    @Test
+    @DisplayName("잔액 정보가 없으면 생성한 뒤 충전한다")
+    void chargeCreatesBalanceWhenMissing() {
+        // Given
+        when(userBalanceRepository.chargeBalanceConditionally(USER_ID, 5000L)).thenReturn(false, true);
+        when(userBalanceRepository.findByUserId(USER_ID)).thenReturn(Optional.of(UserBalance.create(USER_ID, 5000L)));
+
+        // When
+        UserBalance result = strategy.charge(USER_ID, 5000L);
+
+        // Then
+        assertThat(result.getBalance()).isEqualTo(5000L);
+        verify(userBalanceRepository).createInitialBalanceIfNotExists(USER_ID, 0L);
+        verify(userBalanceRepository).saveHistory(argThat(history ->
+                history.getType() == TransactionType.CHARGE && history.getBalanceBefore() == 0L));
+    }
+}
@@ -0,0 +1,127 @@
+package kr.hhplus.be.server;
+
+import jakarta.persistence.EntityManager;
+import kr.hhplus.be.server.domain.model.Concert;
+import kr.hhplus.be.server.domain.model.ConcertDate;
+import kr.hhplus.be.server.domain.model.ConcertDate.ConcertDateStatus;
+import kr.hhplus.be.server.domain.model.ConcertStatus;
+import kr.hhplus.be.server.domain.model.Payment.PaymentStatus;
+import kr.hhplus.be.server.domain.model.SeatStatus;
+import kr.hhplus.be.server.infrastructure.persistence.*;
+import kr.hhplus.be.server.infrastructure.persistence.entity.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Entity → Domain 매핑 벤치마크
+ *
+ * 저장소별 findById 1회의 매핑 비용(ns/entity)을 출력하고, 복원된 상태가 저장된 값과 같은지 확인한다.
+ * 5만 석 콘서트도 좌석 수만큼 상태 전이를 재실행하지 않고 한 번에 복원되어야 한다.
+ */
+class DomainMappingBenchmarkTest {
+
+    private static final int STADIUM_SEATS = 50_000;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 20_000;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    @DisplayName("5만 석 콘서트: 판매 좌석 수와 무관하게 잔여석/상태/매진 시각을 그대로 복원한다")
+    void concertMapping() {
+        SpringDataConcertRepository jpaRepository = mock(SpringDataConcertRepository.class);
+        ConcertEntity soldOut = new ConcertEntity("Stadium", "Artist", "Venue",
+                STADIUM_SEATS, 0, 150_000L, ConcertStatus.SOLD_OUT);
+        soldOut.setId(1L);
+        soldOut.setBookingOpenAt(now.minusMinutes(10));
+        soldOut.setSoldOutAt(now);
+        when(jpaRepository.findById(1L)).thenReturn(Optional.of(soldOut));
+
+        ConcertRepositoryImpl repository = new ConcertRepositoryImpl(jpaRepository, mock(ShardedSeatCounter.class), false,
+                mock(ApplicationEventPublisher.class));
+        Concert concert = repository.findById(1L).orElseThrow();
+
+        assertThat(concert.getAvailableSeats()).isZero();
+        assertThat(concert.getStatus()).isEqualTo(ConcertStatus.SOLD_OUT);
+        assertThat(concert.getSoldOutAt()).isEqualTo(now);
+        assertThat(concert.calculateSoldOutDurationSeconds()).isEqualTo(600L);
+
+        report("ConcertRepositoryImpl (50,000석 매진)", () -> repository.findById(1L).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("공연 일정: 지난 공연/완료 상태도 검증 없이 복원한다 (두 저장소 모두)")
+    void concertDateMapping() {
+        SpringDataConcertDateRepository dateRepository = mock(SpringDataConcertDateRepository.class);
+        SpringDataConcertRepository concertRepository = mock(SpringDataConcertRepository.class);
+        ConcertDateEntity completed = new ConcertDateEntity(now.minusDays(1), now.minusDays(1),
+                now.minusDays(1).plusHours(2), STADIUM_SEATS, 120, ConcertDateStatus.COMPLETED);
+        completed.setId(7L);
+        completed.setConcertById(1L);
+        when(dateRepository.findById(7L)).thenReturn(Optional.of(completed));
+
+        ConcertDateRepositoryImpl repository = new ConcertDateRepositoryImpl(dateRepository, concertRepository,
+                mock(ApplicationEventPublisher.class), mock(EntityManager.class));
+        ConcertJpaRepository legacyRepository = new ConcertJpaRepository(dateRepository);
+
+        for (ConcertDate concertDate : new ConcertDate[]{
+                repository.findById(7L).orElseThrow(), legacyRepository.findById(7L).orElseThrow()}) {
+            assertThat(concertDate.getConcertId()).isEqualTo(1L);
+            assertThat(concertDate.getAvailableSeats()).isEqualTo(120);
+            assertThat(concertDate.getStatus()).isEqualTo(ConcertDateStatus.COMPLETED);
+        }
+
+        report("ConcertDateRepositoryImpl (50,000석)", () -> repository.findById(7L).orElseThrow());
+        report("ConcertJpaRepository (50,000석)", () -> legacyRepository.findById(7L).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("좌석 예약/결제/잔액 매핑 비용")
+    void otherRepositories() {
+        SeatReservationJpaRepository seatJpaRepository = mock(SeatReservationJpaRepository.class);
+        SeatReservationEntity seat = new SeatReservationEntity(1L, 10, 1L, SeatStatus.RESERVED,
+                now, now.plusMinutes(5), 150_000L);
+        seat.setId(1L);
+        when(seatJpaRepository.findById(1L)).thenReturn(Optional.of(seat));
+
+        PaymentJpaRepository paymentJpaRepository = mock(PaymentJpaRepository.class);
+        PaymentEntity payment = new PaymentEntity(1L, 1L, 150_000L, PaymentStatus.COMPLETED,
+                "key-1", "CARD", "tx-1", null, now);
+        payment.setId(1L);
+        when(paymentJpaRepository.findById(1L)).thenReturn(Optional.of(payment));
+
+        UserBalanceJpaRepository balanceJpaRepository = mock(UserBalanceJpaRepository.class);
+        when(balanceJpaRepository.findByUserId(1L)).thenReturn(Optional.of(new UserBalanceEntity(1L, 500_000L, now)));
+
+        SeatReservationRepositoryImpl seatRepository = new SeatReservationRepositoryImpl(seatJpaRepository,
+                mock(SeatInventoryBulkWriter.class));
+        PaymentRepositoryImpl paymentRepository = new PaymentRepositoryImpl(paymentJpaRepository);
+        UserBalanceRepositoryImpl balanceRepository =
+                new UserBalanceRepositoryImpl(balanceJpaRepository, mock(BalanceHistoryJpaRepository.class),
+                        mock(ApplicationEventPublisher.class));
+
+        report("SeatReservationRepositoryImpl", () -> seatRepository.findById(1L).orElseThrow());
+        report("PaymentRepositoryImpl", () -> paymentRepository.findById(1L).orElseThrow());
+        report("UserBalanceRepositoryImpl", () -> balanceRepository.findByUserId(1L).orElseThrow());
+    }
+
+    private static void report(String name, Supplier<?> mapping) {
+        for (int i = 0; i < WARMUP; i++) {
+            mapping.get();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(mapping.get()).isNotNull();
+        }
+        long nanosPerEntity = (System.nanoTime() - startedAt) / ITERATIONS;
+        System.out.printf("[매핑 벤치마크] %-40s %,8d ns/entity%n", name, nanosPerEntity);
+    }
+}
@@ -0,0 +1,85 @@
+package kr.hhplus.be.server;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.application.service.ExpiredTokenCleanupService;
+import kr.hhplus.be.server.domain.repository.QueueTokenRepository;
+import kr.hhplus.be.server.domain.repository.ReservationTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiredTokenCleanupServiceTest {
+
+    @Mock
+    private QueueTokenRepository queueTokenRepository;
+
+    @Mock
+    private ReservationTokenRepository reservationTokenRepository;
+
+    private MeterRegistry meterRegistry;
+    private ExpiredTokenCleanupService cleanupService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cleanupService = new ExpiredTokenCleanupService(
+                queueTokenRepository, reservationTokenRepository, meterRegistry, 2, 0, 60);
+    }
+
+    @Test
+    @DisplayName("만료 토큰을 키셋 청크 단위로 삭제하고 진행량을 게이지로 노출한다")
+    void deletesInKeysetChunks() {
+        // Given
+        when(queueTokenRepository.findExpiredTokenIds(eq(0L), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(1L, 2L));
+        when(queueTokenRepository.findExpiredTokenIds(eq(2L), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(5L, 7L));
+        when(queueTokenRepository.findExpiredTokenIds(eq(7L), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(9L));
+        when(queueTokenRepository.deleteByIds(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        when(reservationTokenRepository.findExpiredTokenIds(eq(0L), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of());
+
+        // When
+        cleanupService.cleanupExpiredTokens();
+
+        // Then
+        verify(queueTokenRepository).deleteByIds(List.of(1L, 2L));
+        verify(queueTokenRepository).deleteByIds(List.of(5L, 7L));
+        verify(queueTokenRepository).deleteByIds(List.of(9L));
+        verify(reservationTokenRepository, never()).deleteByIds(anyList());
+        assertThat(meterRegistry.get("queue.token.cleanup.progress").tag("table", "queue_tokens").gauge().value())
+                .isEqualTo(5.0);
+        assertThat(meterRegistry.get("queue.token.cleanup.deleted").tag("table", "queue_tokens").counter().count())
+                .isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("한 테이블 정리가 실패해도 다른 테이블 정리는 진행한다")
+    void continuesAfterFailure() {
+        // Given
+        when(queueTokenRepository.findExpiredTokenIds(anyLong(), any(LocalDateTime.class), anyInt()))
+                .thenThrow(new RuntimeException("DB 오류"));
+        when(reservationTokenRepository.findExpiredTokenIds(eq(0L), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(3L));
+        when(reservationTokenRepository.deleteByIds(List.of(3L))).thenReturn(1);
+
+        // When
+        cleanupService.cleanupExpiredTokens();
+
+        // Then
+        verify(reservationTokenRepository).deleteByIds(List.of(3L));
+    }
+}
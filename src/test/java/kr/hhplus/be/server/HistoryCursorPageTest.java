@@ -0,0 +1,68 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.domain.model.BalanceHistoryEntry;
+import kr.hhplus.be.server.domain.model.CursorPage;
+import kr.hhplus.be.server.domain.model.KeysetCursor;
+import kr.hhplus.be.server.domain.model.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HistoryCursorPageTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_000);
+
+    @Test
+    @DisplayName("커서는 인코딩 후 같은 (createdAt, id)로 복원된다")
+    void cursorRoundTrip() {
+        KeysetCursor cursor = new KeysetCursor(NOW, 42L);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(KeysetCursor.decode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 IllegalArgumentException")
+    void invalidCursor() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 커서입니다");
+    }
+
+    @Test
+    @DisplayName("size + 1건이 조회되면 마지막 항목 기준으로 다음 커서를 만든다")
+    void nextCursorFromLastItem() {
+        List<BalanceHistoryEntry> fetched = List.of(entry(3L), entry(2L), entry(1L));
+
+        CursorPage<BalanceHistoryEntry> page = CursorPage.of(fetched, 2, BalanceHistoryEntry::cursor);
+
+        assertThat(page.items()).extracting(BalanceHistoryEntry::id).containsExactly(3L, 2L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.nextCursor())).isEqualTo(new KeysetCursor(NOW, 2L));
+    }
+
+    @Test
+    @DisplayName("size 이하로 조회되면 마지막 페이지다")
+    void lastPage() {
+        CursorPage<BalanceHistoryEntry> page = CursorPage.of(List.of(entry(1L)), 2, BalanceHistoryEntry::cursor);
+
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 1 이상 최대 크기 이하만 허용한다")
+    void pageSizeBounds() {
+        assertThatThrownBy(() -> CursorPage.validateSize(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorPage.validateSize(CursorPage.MAX_SIZE + 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> CursorPage.validateSize(CursorPage.MAX_SIZE)).doesNotThrowAnyException();
+    }
+
+    private static BalanceHistoryEntry entry(Long id) {
+        return new BalanceHistoryEntry(id, TransactionType.CHARGE, 1000L, 1000L * id, NOW);
+    }
+}
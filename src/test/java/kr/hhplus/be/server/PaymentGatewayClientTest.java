@@ -0,0 +1,147 @@
+package kr.hhplus.be.server;
+
+import com.sun.net.httpserver.HttpServer;
+import kr.hhplus.be.server.infrastructure.client.GatewayCircuitBreaker;
+import kr.hhplus.be.server.infrastructure.client.PaymentGatewayClient;
+import kr.hhplus.be.server.infrastructure.client.PaymentGatewayException;
+import kr.hhplus.be.server.infrastructure.client.PaymentGatewayRequest;
+import kr.hhplus.be.server.infrastructure.client.PaymentGatewayResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PaymentGatewayClientTest {
+
+    private HttpServer server;
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicLong delayMillis = new AtomicLong(0);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private volatile boolean holdRequests;
+    private final AtomicReference<String> receivedIdempotencyKey = new AtomicReference<>();
+
+    private final PaymentGatewayRequest request = new PaymentGatewayRequest(1L, 1L, 50000L, "key-1");
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/pg/payments", exchange -> {
+            receivedIdempotencyKey.set(exchange.getRequestHeaders().getFirst("Idempotency-Key"));
+            try {
+                if (holdRequests) {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+                Thread.sleep(delayMillis.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            int code = status.get();
+            String body = code == 200
+                    ? "{\"approved\":true,\"transaction_id\":\"txn-1\",\"message\":\"승인\"}"
+                    : "{\"approved\":false,\"message\":\"거절\"}";
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(code, bytes.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(bytes);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("승인 응답은 거래 ID와 함께 완료되고, 거절(4xx)은 정상 응답으로 반환된다")
+    void approvedAndDeclined() {
+        PaymentGatewayClient client = client(1000, 4, 20);
+
+        PaymentGatewayResponse approved = client.requestApproval(request).join();
+        status.set(402);
+        PaymentGatewayResponse declined = client.requestApproval(request).join();
+
+        assertThat(approved.approved()).isTrue();
+        assertThat(approved.transactionId()).isEqualTo("txn-1");
+        assertThat(declined.approved()).isFalse();
+        assertThat(client.getCircuitState()).isEqualTo(GatewayCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("결제의 멱등성 키를 Idempotency-Key 헤더로 보내고, 키 없는 요청은 만들 수 없다")
+    void sendsIdempotencyKeyHeader() {
+        PaymentGatewayClient client = client(1000, 4, 20);
+
+        client.requestApproval(request).join();
+
+        assertThat(receivedIdempotencyKey.get()).isEqualTo("key-1");
+        assertThatThrownBy(() -> new PaymentGatewayRequest(1L, 1L, 50000L, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("응답이 타임아웃을 넘기면 게이트웨이 예외로 완료된다")
+    void timeout() {
+        delayMillis.set(500);
+        PaymentGatewayClient client = client(100, 4, 20);
+
+        assertThatThrownBy(() -> client.requestApproval(request).join())
+                .hasCauseInstanceOf(PaymentGatewayException.class)
+                .hasMessageContaining("타임아웃");
+        assertThat(client.getAvailableConcurrentCalls()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 대기하지 않고 즉시 실패한다")
+    void bulkheadRejectsImmediately() {
+        holdRequests = true;
+        PaymentGatewayClient client = client(3000, 1, 20);
+
+        CompletableFuture<PaymentGatewayResponse> inFlight = client.requestApproval(request);
+        CompletableFuture<PaymentGatewayResponse> rejected = client.requestApproval(request);
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::join).hasMessageContaining("동시 호출 한도 초과");
+
+        release.countDown();
+        assertThat(inFlight.join().approved()).isTrue();
+    }
+
+    @Test
+    @DisplayName("5xx가 누적되면 서킷이 열리고 이후 호출은 네트워크 없이 차단된다")
+    void circuitOpensOnServerErrors() {
+        status.set(503);
+        PaymentGatewayClient client = client(1000, 4, 3);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> client.requestApproval(request).join())
+                    .hasCauseInstanceOf(PaymentGatewayException.class);
+        }
+
+        assertThat(client.getCircuitState()).isEqualTo(GatewayCircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> client.requestApproval(request).join())
+                .hasMessageContaining("서킷 오픈");
+    }
+
+    private PaymentGatewayClient client(long requestTimeoutMillis, int maxConcurrentCalls, int windowSize) {
+        String baseUrl = "http://localhost:" + server.getAddress().getPort() + "/pg";
+        return new PaymentGatewayClient(baseUrl, 500, requestTimeoutMillis, maxConcurrentCalls,
+                windowSize, 0.5, 60_000);
+    }
+}
@@ -0,0 +1,47 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.infrastructure.client.PaymentGatewayRequest;
+import kr.hhplus.be.server.infrastructure.client.PaymentGatewayResponse;
+import kr.hhplus.be.server.interfaces.api.mock.PaymentGatewayMockController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PaymentGatewayMockControllerTest {
+
+    private final PaymentGatewayRequest request = new PaymentGatewayRequest(1L, 10L, 50000L, "key-1");
+
+    @Test
+    @DisplayName("같은 멱등성 키로 다시 요청하면 처음 승인 결과를 그대로 돌려준다")
+    void sameIdempotencyKeyReturnsStoredApproval() {
+        // Given
+        PaymentGatewayMockController controller = new PaymentGatewayMockController(0, 0, 0.0, 0.0);
+
+        // When
+        ResponseEntity<PaymentGatewayResponse> first = controller.approve("key-1", request).join();
+        ResponseEntity<PaymentGatewayResponse> retried = controller.approve("key-1", request).join();
+        ResponseEntity<PaymentGatewayResponse> other = controller.approve("key-2", request).join();
+
+        // Then
+        assertThat(retried.getBody()).isEqualTo(first.getBody());
+        assertThat(other.getBody().transactionId()).isNotEqualTo(first.getBody().transactionId());
+    }
+
+    @Test
+    @DisplayName("일시 오류 응답은 저장하지 않아 같은 키로 재시도할 수 있다")
+    void transientErrorIsNotStored() {
+        // Given
+        PaymentGatewayMockController controller = new PaymentGatewayMockController(0, 0, 1.0, 0.0);
+
+        // When
+        ResponseEntity<PaymentGatewayResponse> first = controller.approve("key-1", request).join();
+        ResponseEntity<PaymentGatewayResponse> retried = controller.approve("key-1", request).join();
+
+        // Then
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(retried).isNotSameAs(first);
+    }
+}
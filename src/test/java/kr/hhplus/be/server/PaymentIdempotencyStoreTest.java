@@ -0,0 +1,183 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.service.PaymentIdempotencyStore;
+import kr.hhplus.be.server.domain.model.Payment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentIdempotencyStoreTest {
+
+    private static final String KEY = "payment:idempotency:1:key-1";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private PaymentIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        store = new PaymentIdempotencyStore(redisTemplate, 30, 24);
+    }
+
+    @Test
+    @DisplayName("완료된 응답은 저장 후 그대로 재생된다")
+    void completedResponseIsReplayed() {
+        // Given
+        Payment payment = Payment.createWithIdempotency(1L, 10L, 50000L, "key-1");
+        payment.assignId(7L);
+        Payment completed = payment.complete("txn-1");
+
+        ArgumentCaptor<String> saved = ArgumentCaptor.forClass(String.class);
+        store.complete("1:key-1", completed);
+        verify(valueOperations).set(eq(KEY), saved.capture(), eq(Duration.ofHours(24)));
+        when(valueOperations.get(KEY)).thenReturn(saved.getValue());
+
+        // When
+        Optional<Payment> replayed = store.findCompleted("1:key-1");
+
+        // Then
+        assertThat(replayed).isPresent();
+        assertThat(replayed.get().getId()).isEqualTo(7L);
+        assertThat(replayed.get().getStatus()).isEqualTo(Payment.PaymentStatus.COMPLETED);
+        assertThat(replayed.get().getTransactionId()).isEqualTo("txn-1");
+        assertThat(replayed.get().getIdempotencyKey()).isEqualTo("key-1");
+    }
+
+    @Test
+    @DisplayName("처리 중 표시는 완료 응답으로 취급하지 않는다")
+    void inFlightIsNotCompleted() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(KEY), startsWith("IN_FLIGHT:"), eq(Duration.ofSeconds(30))))
+                .thenReturn(true, false);
+
+        // When
+        Optional<String> first = store.tryStart("1:key-1");
+        Optional<String> second = store.tryStart("1:key-1");
+        when(valueOperations.get(KEY)).thenReturn(first.get());
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(second).isEmpty();
+        assertThat(store.findCompleted("1:key-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("처리하는 동안 처리 중 표시 TTL을 연장하고, 처리가 끝나면 연장을 멈춘다")
+    void inFlightMarkerIsRenewedWhileProcessing() throws Exception {
+        // Given: TTL 1초 → 약 333ms마다 연장
+        PaymentIdempotencyStore shortTtlStore = new PaymentIdempotencyStore(redisTemplate, 1, 24);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), eq("IN_FLIGHT:owner"), eq("1000")))
+                .thenReturn(1L);
+
+        // When
+        try (PaymentIdempotencyStore.Renewal ignored = shortTtlStore.keepAlive("1:key-1", "IN_FLIGHT:owner")) {
+            verify(redisTemplate, timeout(1500).atLeast(2))
+                    .execute(any(RedisScript.class), eq(List.of(KEY)), eq("IN_FLIGHT:owner"), eq("1000"));
+        }
+        clearInvocations(redisTemplate);
+        Thread.sleep(700);
+
+        // Then
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any());
+        shortTtlStore.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기 중 처리 중 표시가 사라지면 빈 결과로 다시 시도하게 한다")
+    void awaitReturnsEmptyWhenMarkerVanishes() {
+        // Given
+        when(valueOperations.get(KEY)).thenReturn("IN_FLIGHT:owner", (String) null);
+
+        // When
+        Optional<Payment> result = store.awaitCompletion("1:key-1", Duration.ofSeconds(1));
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("처리 중 상태가 대기 시간을 넘기면 예외가 발생한다")
+    void awaitTimesOut() {
+        // Given
+        when(valueOperations.get(KEY)).thenReturn("IN_FLIGHT:owner");
+
+        // When & Then
+        assertThatThrownBy(() -> store.awaitCompletion("1:key-1", Duration.ofMillis(100)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("처리 중");
+    }
+
+    @Test
+    @DisplayName("완료된 재요청은 처리하지 않고 저장된 응답을 반환한다")
+    void executeReplaysCompletedResponse() {
+        // Given
+        givenStoredResponse(10L);
+
+        // When
+        Payment replayed = store.execute("1:key-1", 10L, () -> {
+            throw new AssertionError("완료된 요청을 다시 처리하면 안 된다");
+        });
+
+        // Then
+        assertThat(replayed.getId()).isEqualTo(7L);
+        assertThat(replayed.getStatus()).isEqualTo(Payment.PaymentStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("저장된 응답이 다른 사용자의 결제면 돌려주지 않는다")
+    void executeRejectsAnotherUsersResponse() {
+        // Given
+        givenStoredResponse(10L);
+
+        // When & Then
+        assertThatThrownBy(() -> store.execute("1:key-1", 20L, () -> null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("다른 사용자의 멱등성 키입니다.");
+    }
+
+    @Test
+    @DisplayName("처리 권한을 얻은 요청은 처리 후 응답을 저장한다")
+    void executeRunsActionAndStoresResponse() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(KEY), startsWith("IN_FLIGHT:"), any(Duration.class))).thenReturn(true);
+        Payment payment = Payment.createWithIdempotency(1L, 10L, 50000L, "key-1");
+        payment.assignId(7L);
+
+        // When
+        Payment result = store.execute("1:key-1", 10L, () -> payment);
+
+        // Then
+        assertThat(result).isSameAs(payment);
+        verify(valueOperations).set(eq(KEY), contains("\"id\":7"), eq(Duration.ofHours(24)));
+    }
+
+    private void givenStoredResponse(Long userId) {
+        Payment payment = Payment.createWithIdempotency(1L, userId, 50000L, "key-1");
+        payment.assignId(7L);
+        ArgumentCaptor<String> saved = ArgumentCaptor.forClass(String.class);
+        store.complete("1:key-1", payment.complete("txn-1"));
+        verify(valueOperations).set(eq(KEY), saved.capture(), eq(Duration.ofHours(24)));
+        when(valueOperations.get(KEY)).thenReturn(saved.getValue());
+    }
+}
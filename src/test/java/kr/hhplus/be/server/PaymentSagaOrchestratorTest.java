@@ -0,0 +1,268 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.PaymentSagaOrchestrator;
+import kr.hhplus.be.server.application.event.ReservationEventPublisher;
+import kr.hhplus.be.server.application.service.PaymentIdempotencyStore;
+import kr.hhplus.be.server.application.service.PaymentSagaStepService;
+import kr.hhplus.be.server.domain.model.Concert;
+import kr.hhplus.be.server.domain.model.Payment;
+import kr.hhplus.be.server.domain.model.PaymentSaga;
+import kr.hhplus.be.server.domain.model.PaymentSaga.SagaStatus;
+import kr.hhplus.be.server.domain.model.SeatReservation;
+import kr.hhplus.be.server.domain.port.in.ProcessPaymentUseCase.ProcessPaymentCommand;
+import kr.hhplus.be.server.domain.port.out.PaymentGateway;
+import kr.hhplus.be.server.domain.repository.ConcertRepository;
+import kr.hhplus.be.server.domain.repository.PaymentRepository;
+import kr.hhplus.be.server.domain.repository.PaymentSagaRepository;
+import kr.hhplus.be.server.domain.repository.SeatReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentSagaOrchestratorTest {
+
+    private static final Long SAGA_ID = 100L;
+    private static final Long PAYMENT_ID = 10L;
+
+    @Mock private PaymentRepository paymentRepository;
+    @Mock private PaymentSagaRepository paymentSagaRepository;
+    @Mock private SeatReservationRepository seatReservationRepository;
+    @Mock private ConcertRepository concertRepository;
+    @Mock private PaymentGateway paymentGateway;
+    @Mock private PaymentSagaStepService stepService;
+    @Mock private ReservationEventPublisher eventPublisher;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private PaymentIdempotencyStore idempotencyStore;
+
+    private PaymentSagaOrchestrator orchestrator;
+    private SeatReservation reservation;
+    private Payment pendingPayment;
+
+    @BeforeEach
+    void setUp() {
+        Executor direct = Runnable::run;
+        orchestrator = new PaymentSagaOrchestrator(paymentRepository, paymentSagaRepository,
+                seatReservationRepository, concertRepository, paymentGateway, stepService, eventPublisher,
+                direct, direct, direct, transactionTemplate, idempotencyStore);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        reservation = SeatReservation.createTemporaryReservation(1L, 7, 1L, 50000L);
+        reservation.assignId(5L);
+
+        pendingPayment = Payment.create(5L, 1L, 50000L);
+        pendingPayment.assignId(PAYMENT_ID);
+    }
+
+    @Test
+    @DisplayName("결제 접수 후 잔액 차감 → 게이트웨이 → 좌석 확정 순으로 진행되고 완료 이벤트를 발행한다")
+    void acceptRunsAllStages() {
+        // Given
+        givenAccepted();
+        when(stepService.deductBalance(SAGA_ID)).thenReturn(sagaIn(SagaStatus.BALANCE_DEDUCTED));
+        when(stepService.claimGatewayCall(SAGA_ID)).thenReturn(true);
+        when(paymentSagaRepository.findById(SAGA_ID)).thenReturn(Optional.of(sagaIn(SagaStatus.GATEWAY_PENDING)));
+        when(paymentRepository.findById(PAYMENT_ID)).thenReturn(Optional.of(pendingPayment));
+        Payment approved = pendingPayment.complete("txn-1");
+        when(paymentGateway.processPaymentAsync(pendingPayment)).thenReturn(CompletableFuture.completedFuture(approved));
+        when(stepService.recordGatewayResult(SAGA_ID, approved)).thenReturn(sagaIn(SagaStatus.GATEWAY_APPROVED));
+        when(stepService.confirmAndComplete(SAGA_ID)).thenReturn(sagaIn(SagaStatus.COMPLETED));
+        when(concertRepository.findById(1L))
+                .thenReturn(Optional.of(Concert.create("콘서트", "아티스트", "공연장", 50, 50000L)));
+
+        // When
+        Payment accepted = orchestrator.acceptPayment(new ProcessPaymentCommand(5L, 1L, 50000L), null);
+
+        // Then
+        assertThat(accepted.getId()).isEqualTo(PAYMENT_ID);
+        assertThat(accepted.isPending()).isTrue();
+        verify(stepService).confirmAndComplete(SAGA_ID);
+        verify(stepService, never()).compensate(anyLong());
+        verify(eventPublisher).publish(any());
+    }
+
+    @Test
+    @DisplayName("다른 콘서트의 대기열 토큰으로 결제하면 접수하지 않는다")
+    void queueTokenForAnotherConcertIsRejected() {
+        // Given
+        when(seatReservationRepository.findByIdForUpdate(5L)).thenReturn(Optional.of(reservation));
+
+        // When & Then
+        assertThatThrownBy(() -> orchestrator.acceptPayment(new ProcessPaymentCommand(5L, 1L, 50000L, 2L), null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("대기열 토큰의 콘서트");
+        verify(paymentRepository, never()).save(any());
+        verify(paymentSagaRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("게이트웨이가 거절하면 보상 단계에서 환불한다")
+    void gatewayFailureTriggersCompensation() {
+        // Given
+        givenAccepted();
+        when(stepService.deductBalance(SAGA_ID)).thenReturn(sagaIn(SagaStatus.BALANCE_DEDUCTED));
+        when(stepService.claimGatewayCall(SAGA_ID)).thenReturn(true);
+        when(paymentSagaRepository.findById(SAGA_ID)).thenReturn(Optional.of(sagaIn(SagaStatus.GATEWAY_PENDING)));
+        when(paymentRepository.findById(PAYMENT_ID)).thenReturn(Optional.of(pendingPayment));
+        Payment rejected = pendingPayment.fail("카드 한도 초과");
+        when(paymentGateway.processPaymentAsync(pendingPayment)).thenReturn(CompletableFuture.completedFuture(rejected));
+        when(stepService.recordGatewayResult(SAGA_ID, rejected)).thenReturn(sagaIn(SagaStatus.COMPENSATING));
+
+        // When
+        orchestrator.acceptPayment(new ProcessPaymentCommand(5L, 1L, 50000L), null);
+
+        // Then
+        verify(stepService).compensate(SAGA_ID);
+        verify(stepService, never()).confirmAndComplete(anyLong());
+        verify(eventPublisher, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("게이트웨이 호출 선점에 실패하면 (다른 곳에서 진행 중) 게이트웨이를 호출하지 않는다")
+    void gatewayCallIsSkippedWhenNotClaimed() {
+        // Given
+        when(stepService.claimGatewayCall(SAGA_ID)).thenReturn(false);
+
+        // When
+        orchestrator.resume(sagaIn(SagaStatus.BALANCE_DEDUCTED));
+
+        // Then
+        verifyNoInteractions(paymentGateway);
+    }
+
+    @Test
+    @DisplayName("응답 없이 멈춘 게이트웨이 호출은 재선점한 한 곳만 같은 결제(멱등성 키)로 다시 요청한다")
+    void staleGatewayCallIsResentOnlyWhenReclaimed() {
+        // Given
+        PaymentSaga stale = sagaIn(SagaStatus.GATEWAY_PENDING);
+        when(stepService.reclaimStaleGatewayCall(stale)).thenReturn(true, false);
+        when(paymentSagaRepository.findById(SAGA_ID)).thenReturn(Optional.of(stale));
+        when(paymentRepository.findById(PAYMENT_ID)).thenReturn(Optional.of(pendingPayment));
+        Payment approved = pendingPayment.complete("txn-1");
+        when(paymentGateway.processPaymentAsync(pendingPayment)).thenReturn(CompletableFuture.completedFuture(approved));
+        when(stepService.recordGatewayResult(SAGA_ID, approved)).thenReturn(sagaIn(SagaStatus.GATEWAY_APPROVED));
+
+        // When: 두 노드의 복구 스케줄러가 같은 SAGA를 재개
+        orchestrator.resume(stale);
+        orchestrator.resume(stale);
+
+        // Then
+        verify(paymentGateway, times(1)).processPaymentAsync(argThat(payment ->
+                pendingPayment.getIdempotencyKey().equals(payment.getIdempotencyKey())));
+        verify(stepService, never()).claimGatewayCall(anyLong());
+    }
+
+    @Test
+    @DisplayName("보상이 실패하면 재시도 실패를 기록하고 복구 스케줄러에 맡긴다")
+    void compensationFailureIsRecorded() {
+        // Given
+        when(stepService.compensate(SAGA_ID)).thenThrow(new IllegalStateException("잔액 환불 실패"));
+
+        // When
+        orchestrator.resume(sagaIn(SagaStatus.COMPENSATING));
+
+        // Then
+        verify(stepService).recordRetryFailure(eq(SAGA_ID), contains("잔액 환불 실패"));
+    }
+
+    @Test
+    @DisplayName("이미 처리 중인 결제가 있으면 접수하지 않는다")
+    void rejectsDuplicateAcceptance() {
+        // Given
+        when(seatReservationRepository.findByIdForUpdate(5L)).thenReturn(Optional.of(reservation));
+        when(paymentSagaRepository.existsByReservationIdAndStatusIn(eq(5L), any())).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> orchestrator.acceptPayment(new ProcessPaymentCommand(5L, 1L, 50000L), null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 처리 중인 결제입니다.");
+        verify(paymentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("같은 멱등성 키로 다시 접수하면 저장된 응답을 반환하고 DB에 접근하지 않는다")
+    void sameIdempotencyKeyReturnsStoredResponse() {
+        // Given
+        Payment stored = Payment.createWithIdempotency(5L, 1L, 50000L, "key-1");
+        stored.assignId(PAYMENT_ID);
+        when(idempotencyStore.execute(eq("5:key-1"), eq(1L), any())).thenReturn(stored);
+
+        // When
+        Payment accepted = orchestrator.acceptPayment(new ProcessPaymentCommand(5L, 1L, 50000L), "key-1");
+
+        // Then
+        assertThat(accepted).isSameAs(stored);
+        verifyNoInteractions(transactionTemplate, seatReservationRepository, paymentRepository, stepService);
+    }
+
+    @Test
+    @DisplayName("저장된 응답이 만료된 뒤의 재요청은 DB의 같은 키 결제를 반환하고 SAGA를 새로 만들지 않는다")
+    void expiredResponseFallsBackToExistingPayment() {
+        // Given
+        givenStoreRunsAction();
+        when(seatReservationRepository.findByIdForUpdate(5L)).thenReturn(Optional.of(reservation));
+        Payment existing = Payment.createWithIdempotency(5L, 1L, 50000L, "key-1");
+        existing.assignId(PAYMENT_ID);
+        when(paymentRepository.findByReservationIdAndIdempotencyKey(5L, "key-1")).thenReturn(Optional.of(existing));
+
+        // When
+        Payment accepted = orchestrator.acceptPayment(new ProcessPaymentCommand(5L, 1L, 50000L), "key-1");
+
+        // Then
+        assertThat(accepted).isSameAs(existing);
+        verify(paymentRepository, never()).save(any());
+        verify(paymentSagaRepository, never()).save(any());
+        verifyNoInteractions(stepService);
+    }
+
+    @Test
+    @DisplayName("다른 사용자가 같은 멱등성 키로 접수하면 기존 결제를 돌려주지 않는다")
+    void idempotencyKeyOfAnotherUserIsRejected() {
+        // Given
+        givenStoreRunsAction();
+        when(seatReservationRepository.findByIdForUpdate(5L)).thenReturn(Optional.of(reservation));
+        Payment existing = Payment.createWithIdempotency(5L, 2L, 50000L, "key-1");
+        when(paymentRepository.findByReservationIdAndIdempotencyKey(5L, "key-1")).thenReturn(Optional.of(existing));
+
+        // When & Then
+        assertThatThrownBy(() -> orchestrator.acceptPayment(new ProcessPaymentCommand(5L, 1L, 50000L), "key-1"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("다른 사용자의 멱등성 키입니다.");
+        verify(paymentSagaRepository, never()).save(any());
+    }
+
+    private void givenStoreRunsAction() {
+        when(idempotencyStore.execute(anyString(), anyLong(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<Payment>>getArgument(2).get());
+    }
+
+    private void givenAccepted() {
+        when(seatReservationRepository.findByIdForUpdate(5L)).thenReturn(Optional.of(reservation));
+        when(paymentSagaRepository.existsByReservationIdAndStatusIn(eq(5L), any())).thenReturn(false);
+        when(paymentRepository.save(any(Payment.class))).thenReturn(pendingPayment);
+        when(paymentSagaRepository.save(any(PaymentSaga.class))).thenReturn(sagaIn(SagaStatus.ACCEPTED));
+    }
+
+    private PaymentSaga sagaIn(SagaStatus status) {
+        PaymentSaga saga = PaymentSaga.start(PAYMENT_ID, reservation, 1L, 50000L);
+        ReflectionTestUtils.setField(saga, "id", SAGA_ID);
+        ReflectionTestUtils.setField(saga, "status", status);
+        return saga;
+    }
+}
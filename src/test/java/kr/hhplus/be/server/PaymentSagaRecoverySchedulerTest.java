@@ -0,0 +1,94 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.PaymentSagaOrchestrator;
+import kr.hhplus.be.server.application.scheduler.PaymentSagaRecoveryScheduler;
+import kr.hhplus.be.server.application.service.PaymentSagaStepService;
+import kr.hhplus.be.server.domain.model.PaymentSaga;
+import kr.hhplus.be.server.domain.model.PaymentSaga.SagaStatus;
+import kr.hhplus.be.server.domain.model.SeatReservation;
+import kr.hhplus.be.server.domain.repository.PaymentSagaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentSagaRecoverySchedulerTest {
+
+    @Mock
+    private PaymentSagaRepository paymentSagaRepository;
+
+    @Mock
+    private PaymentSagaOrchestrator orchestrator;
+
+    @Mock
+    private PaymentSagaStepService stepService;
+
+    private PaymentSagaRecoveryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new PaymentSagaRecoveryScheduler(paymentSagaRepository, orchestrator, stepService, 2);
+    }
+
+    @Test
+    @DisplayName("복구 대상은 ID 순으로 batch-size씩 나눠 조회한다")
+    void stuckSagasArePaged() {
+        // Given
+        PaymentSaga first = saga(1L, SagaStatus.ACCEPTED, 0);
+        PaymentSaga second = saga(2L, SagaStatus.BALANCE_DEDUCTED, 0);
+        PaymentSaga third = saga(3L, SagaStatus.GATEWAY_APPROVED, 0);
+        when(paymentSagaRepository.findByStatusInAndUpdatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                any(), any(), eq(0L), any(Pageable.class))).thenReturn(List.of(first, second));
+        when(paymentSagaRepository.findByStatusInAndUpdatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                any(), any(), eq(2L), any(Pageable.class))).thenReturn(List.of(third));
+
+        // When
+        scheduler.resumeStaleSagas();
+
+        // Then
+        verify(orchestrator).resume(first);
+        verify(orchestrator).resume(second);
+        verify(orchestrator).resume(third);
+        verify(paymentSagaRepository, times(2)).findByStatusInAndUpdatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                any(), any(), anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("반영 여부를 알 수 없거나 재시도 한도를 넘긴 SAGA는 재개하지 않고 수동 처리 대기로 옮긴다")
+    void terminalSagasAreParked() {
+        // Given
+        PaymentSaga inDoubt = saga(1L, SagaStatus.BALANCE_DEDUCTING, 0);
+        PaymentSaga exhausted = saga(2L, SagaStatus.COMPENSATING, 10);
+        when(paymentSagaRepository.findByStatusInAndUpdatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                any(), any(), anyLong(), any(Pageable.class))).thenReturn(List.of(inDoubt, exhausted), List.of());
+        when(stepService.parkForManualHandling(any())).thenReturn(true);
+
+        // When
+        scheduler.resumeStaleSagas();
+
+        // Then
+        verify(stepService).parkForManualHandling(inDoubt);
+        verify(stepService).parkForManualHandling(exhausted);
+        verifyNoInteractions(orchestrator);
+    }
+
+    private PaymentSaga saga(Long id, SagaStatus status, int retryCount) {
+        SeatReservation reservation = SeatReservation.createTemporaryReservation(1L, 7, 1L, 50000L);
+        reservation.assignId(5L);
+        PaymentSaga saga = PaymentSaga.start(10L, reservation, 1L, 50000L);
+        ReflectionTestUtils.setField(saga, "id", id);
+        ReflectionTestUtils.setField(saga, "status", status);
+        ReflectionTestUtils.setField(saga, "retryCount", retryCount);
+        return saga;
+    }
+}
@@ -0,0 +1,219 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.service.BalanceStrategy;
+import kr.hhplus.be.server.application.service.PaymentSagaStepService;
+import kr.hhplus.be.server.application.service.SeatConfirmationBatcher;
+import kr.hhplus.be.server.domain.model.Payment;
+import kr.hhplus.be.server.domain.model.PaymentCompensation;
+import kr.hhplus.be.server.domain.model.PaymentSaga;
+import kr.hhplus.be.server.domain.model.PaymentSaga.SagaStatus;
+import kr.hhplus.be.server.domain.model.SeatReservation;
+import kr.hhplus.be.server.domain.model.SeatStatus;
+import kr.hhplus.be.server.domain.model.UserBalance;
+import kr.hhplus.be.server.domain.repository.PaymentCompensationRepository;
+import kr.hhplus.be.server.domain.repository.PaymentRepository;
+import kr.hhplus.be.server.domain.repository.PaymentSagaRepository;
+import kr.hhplus.be.server.domain.repository.SeatReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentSagaStepServiceTest {
+
+    private static final Long SAGA_ID = 100L;
+    private static final Long PAYMENT_ID = 10L;
+
+    @Mock private PaymentSagaRepository paymentSagaRepository;
+    @Mock private PaymentRepository paymentRepository;
+    @Mock private PaymentCompensationRepository compensationRepository;
+    @Mock private SeatReservationRepository seatReservationRepository;
+    @Mock private SeatConfirmationBatcher seatConfirmationBatcher;
+    @Mock private BalanceStrategy balanceStrategy;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private PaymentSagaStepService stepService;
+    private SeatReservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        stepService = new PaymentSagaStepService(paymentSagaRepository, paymentRepository, compensationRepository,
+                seatReservationRepository, balanceStrategy, seatConfirmationBatcher, transactionManager);
+
+        reservation = SeatReservation.createTemporaryReservation(1L, 7, 1L, 50000L);
+        reservation.assignId(5L);
+    }
+
+    @Test
+    @DisplayName("잔액 차감은 선점 후 설정된 잔액 전략으로 처리한다 (히스토리/분할 계좌 포함)")
+    void deductGoesThroughBalanceStrategy() {
+        // Given
+        givenClaim(SagaStatus.ACCEPTED, SagaStatus.BALANCE_DEDUCTING, 1);
+        when(paymentSagaRepository.findById(SAGA_ID)).thenAnswer(invocation -> Optional.of(sagaIn(SagaStatus.BALANCE_DEDUCTING)));
+        when(paymentSagaRepository.save(any(PaymentSaga.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        PaymentSaga saga = stepService.deductBalance(SAGA_ID);
+
+        // Then
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.BALANCE_DEDUCTED);
+        verify(balanceStrategy).deduct(1L, 50000L);
+    }
+
+    @Test
+    @DisplayName("차감 선점에 실패하면 (다른 곳에서 처리 중) 잔액 전략을 호출하지 않는다")
+    void deductIsSkippedWhenNotClaimed() {
+        givenClaim(SagaStatus.ACCEPTED, SagaStatus.BALANCE_DEDUCTING, 0);
+        when(paymentSagaRepository.findById(SAGA_ID)).thenReturn(Optional.of(sagaIn(SagaStatus.BALANCE_DEDUCTING)));
+
+        stepService.deductBalance(SAGA_ID);
+
+        verifyNoInteractions(balanceStrategy);
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 SAGA와 결제를 실패 처리한다")
+    void insufficientBalanceFailsSaga() {
+        // Given
+        givenClaim(SagaStatus.ACCEPTED, SagaStatus.BALANCE_DEDUCTING, 1);
+        when(paymentSagaRepository.findById(SAGA_ID)).thenAnswer(invocation -> Optional.of(sagaIn(SagaStatus.BALANCE_DEDUCTING)));
+        when(paymentSagaRepository.save(any(PaymentSaga.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(balanceStrategy.deduct(1L, 50000L)).thenThrow(new IllegalStateException("잔액이 부족합니다."));
+        givenPendingPayment();
+
+        // When
+        PaymentSaga saga = stepService.deductBalance(SAGA_ID);
+
+        // Then
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.FAILED);
+        verify(paymentRepository).save(argThat(payment -> payment.getStatus() == Payment.PaymentStatus.FAILED));
+        verify(balanceStrategy, never()).charge(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("보상은 잔액 전략으로 환불하고, 게이트웨이 승인이 있었으면 승인 취소 보상을 기록한다")
+    void compensationRefundsAndVoidsGatewayApproval() {
+        // Given
+        givenClaim(SagaStatus.COMPENSATING, SagaStatus.REFUNDING, 1);
+        PaymentSaga refunding = sagaIn(SagaStatus.REFUNDING);
+        ReflectionTestUtils.setField(refunding, "transactionId", "txn-1");
+        ReflectionTestUtils.setField(refunding, "failureReason", "좌석 확정 실패");
+        when(paymentSagaRepository.findById(SAGA_ID)).thenReturn(Optional.of(refunding));
+        when(paymentSagaRepository.save(any(PaymentSaga.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(balanceStrategy.charge(1L, 50000L)).thenReturn(UserBalance.create(1L, 50000L));
+        givenPendingPayment();
+
+        // When
+        PaymentSaga saga = stepService.compensate(SAGA_ID);
+
+        // Then
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPENSATED);
+        ArgumentCaptor<PaymentCompensation> captor = ArgumentCaptor.forClass(PaymentCompensation.class);
+        verify(compensationRepository).save(captor.capture());
+        assertThat(captor.getValue().getTransactionId()).isEqualTo("txn-1");
+        assertThat(captor.getValue().getType()).isEqualTo(PaymentCompensation.CompensationType.GATEWAY_CANCEL);
+    }
+
+    @Test
+    @DisplayName("환불이 실패하면 COMPENSATING으로 되돌려 재시도할 수 있게 한다")
+    void failedRefundReleasesClaim() {
+        // Given
+        givenClaim(SagaStatus.COMPENSATING, SagaStatus.REFUNDING, 1);
+        givenClaim(SagaStatus.REFUNDING, SagaStatus.COMPENSATING, 1);
+        when(paymentSagaRepository.findById(SAGA_ID)).thenReturn(Optional.of(sagaIn(SagaStatus.REFUNDING)));
+        when(balanceStrategy.charge(1L, 50000L)).thenThrow(new IllegalStateException("DB 오류"));
+
+        // When & Then
+        assertThatThrownBy(() -> stepService.compensate(SAGA_ID)).isInstanceOf(IllegalStateException.class);
+        verify(paymentSagaRepository).transitionStatus(eq(SAGA_ID), eq(SagaStatus.REFUNDING),
+                eq(SagaStatus.COMPENSATING), any());
+        verifyNoInteractions(compensationRepository);
+    }
+
+    @Test
+    @DisplayName("좌석은 확정 배처로 확정하고, 확정되면 결제와 SAGA를 완료한다")
+    void confirmGoesThroughBatcher() {
+        // Given
+        when(paymentSagaRepository.findById(SAGA_ID)).thenReturn(Optional.of(approvedSaga()));
+        when(paymentSagaRepository.save(any(PaymentSaga.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(seatConfirmationBatcher.confirm(1L, 7, 1L)).thenReturn(CompletableFuture.completedFuture(true));
+        givenPendingPayment();
+
+        // When
+        PaymentSaga saga = stepService.confirmAndComplete(SAGA_ID);
+
+        // Then
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPLETED);
+        verify(paymentRepository).save(argThat(payment -> payment.getStatus() == Payment.PaymentStatus.COMPLETED));
+        verify(seatReservationRepository, never()).confirmSeatConditionally(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("이전 시도에서 이미 이 사용자에게 확정된 좌석이면 완료만 기록한다")
+    void alreadyConfirmedSeatIsCompleted() {
+        // Given
+        when(paymentSagaRepository.findById(SAGA_ID)).thenReturn(Optional.of(approvedSaga()));
+        when(paymentSagaRepository.save(any(PaymentSaga.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(seatConfirmationBatcher.confirm(1L, 7, 1L)).thenReturn(CompletableFuture.completedFuture(false));
+        ReflectionTestUtils.setField(reservation, "status", SeatStatus.SOLD);
+        when(seatReservationRepository.findByConcertIdAndSeatNumber(1L, 7)).thenReturn(Optional.of(reservation));
+        givenPendingPayment();
+
+        // When
+        PaymentSaga saga = stepService.confirmAndComplete(SAGA_ID);
+
+        // Then
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("확정이 거절되면 예외를 던지고 결제를 완료하지 않는다")
+    void rejectedConfirmationThrows() {
+        // Given
+        when(paymentSagaRepository.findById(SAGA_ID)).thenReturn(Optional.of(approvedSaga()));
+        when(seatConfirmationBatcher.confirm(1L, 7, 1L)).thenReturn(CompletableFuture.completedFuture(false));
+        when(seatReservationRepository.findByConcertIdAndSeatNumber(1L, 7)).thenReturn(Optional.of(reservation));
+
+        // When & Then
+        assertThatThrownBy(() -> stepService.confirmAndComplete(SAGA_ID))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("확정할 수 있는 예약이 없습니다.");
+        verify(paymentRepository, never()).save(any());
+    }
+
+    private PaymentSaga approvedSaga() {
+        PaymentSaga saga = sagaIn(SagaStatus.GATEWAY_APPROVED);
+        ReflectionTestUtils.setField(saga, "transactionId", "txn-1");
+        return saga;
+    }
+
+    private void givenClaim(SagaStatus expected, SagaStatus next, int updated) {
+        when(paymentSagaRepository.transitionStatus(eq(SAGA_ID), eq(expected), eq(next), any())).thenReturn(updated);
+    }
+
+    private void givenPendingPayment() {
+        Payment pending = Payment.create(5L, 1L, 50000L);
+        pending.assignId(PAYMENT_ID);
+        when(paymentRepository.findById(PAYMENT_ID)).thenReturn(Optional.of(pending));
+    }
+
+    private PaymentSaga sagaIn(SagaStatus status) {
+        PaymentSaga saga = PaymentSaga.start(PAYMENT_ID, reservation, 1L, 50000L);
+        ReflectionTestUtils.setField(saga, "id", SAGA_ID);
+        ReflectionTestUtils.setField(saga, "status", status);
+        return saga;
+    }
+}
@@ -1,21 +1,25 @@
 package kr.hhplus.be.server;
 
+import kr.hhplus.be.server.application.service.MoneyLedger;
 import kr.hhplus.be.server.application.service.PointService;
 import kr.hhplus.be.server.domain.entity.Point;
 import kr.hhplus.be.server.domain.entity.PointHistory;
+import kr.hhplus.be.server.domain.entity.PointTransactionType;
 import kr.hhplus.be.server.domain.repository.PointRepository;
 import kr.hhplus.be.server.domain.repository.PointHistoryRepository;
+import kr.hhplus.be.server.infrastructure.persistence.PointLedgerAccountRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -31,13 +35,18 @@ class PointServiceTest {
     @Mock
     private PointHistoryRepository pointHistoryRepository;
 
-    @InjectMocks
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private PointService pointService;
 
     private Point testPoint;
 
     @BeforeEach
     void setUp() {
+        MoneyLedger pointLedger = new MoneyLedger(new PointLedgerAccountRepository(pointRepository, pointHistoryRepository,
+                transactionManager));
+        pointService = new PointService(pointLedger, pointRepository, pointHistoryRepository);
         testPoint = Point.create(1L);
     }
 
@@ -48,14 +57,12 @@ class PointServiceTest {
         Long userId = 1L;
         BigDecimal amount = new BigDecimal("10000");
         String description = "테스트 충전";
+        testPoint.charge(amount);
 
-        // ⭐ 중요: findByUserId로 변경 (findByUserIdWithLock 제거)
+        when(pointRepository.chargeConditionally(eq(userId), argThat(value -> value.compareTo(amount) == 0), any()))
+                .thenReturn(1);
         when(pointRepository.findByUserId(userId))
                 .thenReturn(Optional.of(testPoint));
-        when(pointRepository.save(any(Point.class)))
-                .thenReturn(testPoint);
-        when(pointHistoryRepository.save(any(PointHistory.class)))
-                .thenReturn(mock(PointHistory.class));
 
         // When
         Point result = pointService.chargePoint(userId, amount, description);
@@ -65,35 +72,66 @@ class PointServiceTest {
                 .usingComparator(BigDecimal::compareTo)
                 .isEqualTo(amount);
 
-        verify(pointRepository).findByUserId(userId);
-        verify(pointRepository).save(testPoint);
-        verify(pointHistoryRepository).save(any(PointHistory.class));
+        ArgumentCaptor<PointHistory> captor = ArgumentCaptor.forClass(PointHistory.class);
+        verify(pointHistoryRepository).save(captor.capture());
+        assertThat(captor.getValue().getType()).isEqualTo(PointTransactionType.CHARGE);
+        verify(pointRepository, never()).save(any(Point.class));
     }
 
     @Test
-    @DisplayName("포인트가 없는 사용자는 새로운 포인트를 생성한다")
+    @DisplayName("포인트가 없는 사용자는 새로운 포인트를 생성한 뒤 충전한다")
     void chargePoint_NewUser() {
         // Given
         Long userId = 2L;
         BigDecimal amount = new BigDecimal("5000");
         String description = "첫 충전";
-        Point newPoint = Point.create(userId);
+        Point charged = Point.create(userId);
+        charged.charge(amount);
 
+        when(pointRepository.chargeConditionally(eq(userId), any(), any()))
+                .thenReturn(0, 1);
         when(pointRepository.findByUserId(userId))
-                .thenReturn(Optional.empty());
-        when(pointRepository.save(any(Point.class)))
-                .thenReturn(newPoint);
-        when(pointHistoryRepository.save(any(PointHistory.class)))
-                .thenReturn(mock(PointHistory.class));
+                .thenReturn(Optional.empty(), Optional.of(charged));
 
         // When
         Point result = pointService.chargePoint(userId, amount, description);
 
         // Then
-        verify(pointRepository, times(2)).save(any(Point.class)); // 생성 + 충전
+        assertThat(result.getBalance())
+                .usingComparator(BigDecimal::compareTo)
+                .isEqualTo(amount);
+        verify(pointRepository).saveAndFlush(any(Point.class));
         verify(pointHistoryRepository).save(any(PointHistory.class));
     }
 
+    @Test
+    @DisplayName("포인트 생성이 동시 생성과 겹쳐도 별도 트랜잭션에서 처리되어 충전은 이어진다")
+    void chargePoint_ConcurrentCreation() {
+        // Given
+        Long userId = 2L;
+        BigDecimal amount = new BigDecimal("5000");
+        Point charged = Point.create(userId);
+        charged.charge(amount);
+
+        when(pointRepository.chargeConditionally(eq(userId), any(), any()))
+                .thenReturn(0, 1);
+        when(pointRepository.findByUserId(userId))
+                .thenReturn(Optional.empty(), Optional.of(charged));
+        when(pointRepository.saveAndFlush(any(Point.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // When
+        Point result = pointService.chargePoint(userId, amount, "첫 충전");
+
+        // Then
+        assertThat(result.getBalance())
+                .usingComparator(BigDecimal::compareTo)
+                .isEqualTo(amount);
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(transactionManager).rollback(any());
+    }
+
     @Test
     @DisplayName("충전 금액이 0 이하면 예외가 발생한다")
     void chargePoint_InvalidAmount() {
@@ -108,23 +146,29 @@ class PointServiceTest {
                 .hasMessageContaining("충전 금액은 0보다 커야 합니다");
     }
 
+    @Test
+    @DisplayName("소수점 2자리를 넘는 금액은 충전할 수 없다")
+    void chargePoint_TooManyDecimalPlaces() {
+        // When & Then
+        assertThatThrownBy(() -> pointService.chargePoint(1L, new BigDecimal("10.001"), "잘못된 충전"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("소수점 2자리");
+        verifyNoInteractions(pointRepository);
+    }
+
     @Test
     @DisplayName("포인트를 사용할 수 있다")
     void usePoint() {
         // Given
         Long userId = 1L;
-        BigDecimal chargeAmount = new BigDecimal("10000");
         BigDecimal useAmount = new BigDecimal("3000");
         String description = "테스트 사용";
+        testPoint.charge(new BigDecimal("7000"));
 
-        testPoint.charge(chargeAmount);
-
+        when(pointRepository.useConditionally(eq(userId), argThat(value -> value.compareTo(useAmount) == 0), any()))
+                .thenReturn(1);
         when(pointRepository.findByUserId(userId))
                 .thenReturn(Optional.of(testPoint));
-        when(pointRepository.save(any(Point.class)))
-                .thenReturn(testPoint);
-        when(pointHistoryRepository.save(any(PointHistory.class)))
-                .thenReturn(mock(PointHistory.class));
 
         // When
         Point result = pointService.usePoint(userId, useAmount, description);
@@ -132,11 +176,14 @@ class PointServiceTest {
         // Then
         assertThat(result.getBalance())
                 .usingComparator(BigDecimal::compareTo)
-                .isEqualTo(chargeAmount.subtract(useAmount));
+                .isEqualTo(new BigDecimal("7000"));
 
-        verify(pointRepository).findByUserId(userId);
-        verify(pointRepository).save(testPoint);
-        verify(pointHistoryRepository).save(any(PointHistory.class));
+        ArgumentCaptor<PointHistory> captor = ArgumentCaptor.forClass(PointHistory.class);
+        verify(pointHistoryRepository).save(captor.capture());
+        assertThat(captor.getValue().getType()).isEqualTo(PointTransactionType.USE);
+        assertThat(captor.getValue().getAmount())
+                .usingComparator(BigDecimal::compareTo)
+                .isEqualTo(useAmount);
     }
 
     @Test
@@ -147,6 +194,8 @@ class PointServiceTest {
         BigDecimal useAmount = new BigDecimal("10000");
         String description = "잔액 부족 테스트";
 
+        when(pointRepository.useConditionally(eq(userId), any(), any()))
+                .thenReturn(0);
         when(pointRepository.findByUserId(userId))
                 .thenReturn(Optional.of(testPoint));
 
@@ -154,6 +203,24 @@ class PointServiceTest {
         assertThatThrownBy(() -> pointService.usePoint(userId, useAmount, description))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("잔액이 부족합니다");
+        verify(pointHistoryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("포인트 정보가 없으면 사용할 수 없다")
+    void usePoint_NoPoint() {
+        // Given
+        Long userId = 999L;
+
+        when(pointRepository.useConditionally(eq(userId), any(), any()))
+                .thenReturn(0);
+        when(pointRepository.findByUserId(userId))
+                .thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> pointService.usePoint(userId, new BigDecimal("1000"), "없는 사용자"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("포인트 정보를 찾을 수 없습니다");
     }
 
     @Test
@@ -216,4 +283,4 @@ class PointServiceTest {
         // Then
         assertThat(canUse).isTrue();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,104 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.domain.model.Concert;
+import kr.hhplus.be.server.domain.model.ConcertStatus;
+import kr.hhplus.be.server.domain.model.ConcertSummary;
+import kr.hhplus.be.server.infrastructure.persistence.entity.ConcertEntity;
+import kr.hhplus.be.server.interfaces.dto.ConcertResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 목록 조회 매핑 할당량 벤치마크
+ *
+ * 엔티티 → 도메인 → 응답 경로와 프로젝션 → 응답 경로의 요청(페이지)당 할당 바이트를 비교한다.
+ * 엔티티 경로는 Hibernate가 관리 엔티티마다 보관하는 로딩 상태 스냅샷(Object[])까지 포함한다.
+ */
+class ProjectionAllocationBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 5_000;
+    private static final int REQUESTS = 20_000;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    @DisplayName("프로젝션 경로는 엔티티 경로보다 요청당 할당량이 적고 같은 응답을 만든다")
+    void projectionAllocatesLess() {
+        assertThat(ConcertResponse.from(summary(1)))
+                .usingRecursiveComparison()
+                .ignoringFields("createdAt", "updatedAt")
+                .isEqualTo(ConcertResponse.from(toDomain(entity(1))));
+
+        long entityBytes = bytesPerRequest("엔티티 → 도메인 → 응답", row -> {
+            ConcertEntity entity = entity(row);
+            Object[] loadedState = snapshot(entity);
+            return loadedState.length > 0 ? ConcertResponse.from(toDomain(entity)) : null;
+        });
+        long projectionBytes = bytesPerRequest("프로젝션 → 응답", row -> ConcertResponse.from(summary(row)));
+
+        assertThat(projectionBytes).isLessThan(entityBytes);
+    }
+
+    private long bytesPerRequest(String name, IntFunction<ConcertResponse> mapping) {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        List<ConcertResponse> page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < WARMUP; i++) {
+            render(page, mapping);
+        }
+
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < REQUESTS; i++) {
+            render(page, mapping);
+        }
+        long bytesPerRequest = (threadBean.getThreadAllocatedBytes(threadId) - before) / REQUESTS;
+
+        assertThat(page).hasSize(PAGE_SIZE);
+        System.out.printf("[할당 벤치마크] %-24s %,8d bytes/request (%d건, %,d bytes/row)%n",
+                name, bytesPerRequest, PAGE_SIZE, bytesPerRequest / PAGE_SIZE);
+        return bytesPerRequest;
+    }
+
+    private static void render(List<ConcertResponse> page, IntFunction<ConcertResponse> mapping) {
+        page.clear();
+        for (int row = 0; row < PAGE_SIZE; row++) {
+            page.add(mapping.apply(row));
+        }
+    }
+
+    private ConcertEntity entity(int row) {
+        ConcertEntity entity = new ConcertEntity("Concert", "Artist", "Venue",
+                50_000, 1_000 + row, 150_000L, ConcertStatus.AVAILABLE);
+        entity.setId((long) row);
+        entity.setBookingOpenAt(now);
+        return entity;
+    }
+
+    private ConcertSummary summary(int row) {
+        return new ConcertSummary((long) row, "Concert", "Artist", "Venue",
+                50_000, 1_000 + row, 150_000L, ConcertStatus.AVAILABLE, now, now);
+    }
+
+    private static Object[] snapshot(ConcertEntity entity) {
+        return new Object[]{entity.getTitle(), entity.getArtist(), entity.getVenue(), entity.getTotalSeats(),
+                entity.getAvailableSeats(), entity.getPrice(), entity.getStatus(), entity.getBookingOpenAt(),
+                entity.getSoldOutAt(), entity.getCreatedAt(), entity.getUpdatedAt()};
+    }
+
+    private static Concert toDomain(ConcertEntity entity) {
+        return Concert.reconstitute(entity.getId(), entity.getTitle(), entity.getArtist(), entity.getVenue(),
+                entity.getTotalSeats(), entity.getAvailableSeats(), entity.getPrice(), entity.getStatus(),
+                entity.getBookingOpenAt(), entity.getSoldOutAt(), entity.getCreatedAt(), entity.getUpdatedAt());
+    }
+}
@@ -0,0 +1,44 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.service.QueueEntryBloomFilter;
+import kr.hhplus.be.server.domain.event.ConcertChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueueEntryBloomFilterTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Test
+    @DisplayName("삭제된 콘서트의 로컬 미러는 이벤트로 제거된다")
+    void deletedConcertMirrorIsCleared() {
+        QueueEntryBloomFilter filter = new QueueEntryBloomFilter(redisTemplate, 1000, 0.01, 86400);
+        filter.put(1L, 10L);
+        filter.put(2L, 10L);
+
+        filter.onConcertChanged(ConcertChangedEvent.seatsChanged(1L));
+        filter.onConcertChanged(ConcertChangedEvent.deleted(2L));
+
+        assertThat(filter.getMirrorCount()).isEqualTo(1);
+        assertThat(filter.mightContain(1L, 10L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("원본 TTL이 지난 미러는 주기 정리에서 제거된다")
+    void expiredMirrorsAreEvicted() {
+        QueueEntryBloomFilter filter = new QueueEntryBloomFilter(redisTemplate, 1000, 0.01, 0);
+        filter.put(1L, 10L);
+        filter.put(2L, 20L);
+
+        assertThat(filter.evictExpiredMirrors()).isEqualTo(2);
+        assertThat(filter.getMirrorCount()).isZero();
+    }
+}
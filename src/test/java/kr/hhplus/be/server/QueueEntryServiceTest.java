@@ -0,0 +1,155 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.service.QueueEntryBloomFilter;
+import kr.hhplus.be.server.application.service.QueueEntryService;
+import kr.hhplus.be.server.application.service.ShardedWaitingQueueService;
+import kr.hhplus.be.server.domain.model.QueueStatus;
+import kr.hhplus.be.server.domain.model.QueueToken;
+import kr.hhplus.be.server.domain.repository.QueueTokenRepository;
+import kr.hhplus.be.server.infrastructure.persistence.WaitingNumberAllocator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueueEntryServiceTest {
+
+    @Mock
+    private QueueTokenRepository queueTokenRepository;
+
+    @Mock
+    private QueueEntryBloomFilter queueEntryBloomFilter;
+
+    @Mock
+    private ShardedWaitingQueueService shardedWaitingQueueService;
+
+    @Mock
+    private WaitingNumberAllocator waitingNumberAllocator;
+
+    @InjectMocks
+    private QueueEntryService queueEntryService;
+
+    @Test
+    @DisplayName("Bloom 필터가 없다고 판정하면 DB 조회 없이 토큰을 발급한다")
+    void definitelyNotQueuedSkipsLookup() {
+        // Given
+        when(queueEntryBloomFilter.mightContain(1L, 10L)).thenReturn(false);
+        when(queueTokenRepository.save(any(QueueToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(waitingNumberAllocator.next()).thenReturn(42L);
+
+        // When
+        QueueToken token = queueEntryService.enter(10L, 1L);
+
+        // Then
+        assertThat(token.getStatus()).isEqualTo(QueueStatus.WAITING);
+        assertThat(token.getPosition()).isEqualTo(42);
+        verify(queueTokenRepository, never()).findByUserIdAndConcertId(anyLong(), anyLong());
+        verify(queueEntryBloomFilter).put(1L, 10L);
+        verify(shardedWaitingQueueService).enqueue(1L, 10L);
+    }
+
+    @Test
+    @DisplayName("이미 대기 중인 사용자는 기존 토큰을 반환한다")
+    void possibleHitReturnsExistingToken() {
+        // Given
+        QueueToken existing = QueueToken.createWaitingToken(10L, 1L);
+        when(queueEntryBloomFilter.mightContain(1L, 10L)).thenReturn(true);
+        when(queueTokenRepository.findByUserIdAndConcertId(10L, 1L)).thenReturn(Optional.of(existing));
+
+        // When
+        QueueToken token = queueEntryService.enter(10L, 1L);
+
+        // Then
+        assertThat(token).isSameAs(existing);
+        verify(queueTokenRepository, never()).save(any());
+        verify(shardedWaitingQueueService).enqueueIfAbsent(1L, 10L);
+        verify(shardedWaitingQueueService, never()).enqueue(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Bloom 필터 오탐이거나 만료된 토큰이면 새 토큰을 발급한다")
+    void falsePositiveIssuesNewToken() {
+        // Given
+        QueueToken expired = QueueToken.createWithStatus("expired-token", 10L, 1L, QueueStatus.WAITING,
+                LocalDateTime.now().minusHours(2), LocalDateTime.now().minusHours(1), null);
+        expired.assignId(77L);
+        when(queueEntryBloomFilter.mightContain(1L, 10L)).thenReturn(true);
+        when(queueTokenRepository.findByUserIdAndConcertId(10L, 1L)).thenReturn(Optional.of(expired));
+        when(queueTokenRepository.save(any(QueueToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        QueueToken token = queueEntryService.enter(10L, 1L);
+
+        // Then
+        assertThat(token.getTokenValue()).isNotEqualTo("expired-token");
+        assertThat(token.getId()).isEqualTo(77L);   // (user, concert) 행 재사용
+        verify(queueTokenRepository).save(any(QueueToken.class));
+    }
+
+    @Test
+    @DisplayName("대기열 등록이 실패해도 발급된 토큰은 반환한다")
+    void enqueueFailureKeepsToken() {
+        // Given
+        when(queueEntryBloomFilter.mightContain(1L, 10L)).thenReturn(false);
+        when(queueTokenRepository.save(any(QueueToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(shardedWaitingQueueService.enqueue(1L, 10L)).thenThrow(new IllegalStateException("redis down"));
+
+        // When
+        QueueToken token = queueEntryService.enter(10L, 1L);
+
+        // Then
+        assertThat(token.getStatus()).isEqualTo(QueueStatus.WAITING);
+    }
+
+    @Test
+    @DisplayName("동시 진입으로 유니크 키가 충돌하면 먼저 저장된 토큰을 반환한다")
+    void concurrentEntryReturnsWinnerToken() {
+        // Given
+        QueueToken winner = QueueToken.createWaitingToken(10L, 1L);
+        when(queueEntryBloomFilter.mightContain(1L, 10L)).thenReturn(false);
+        when(queueTokenRepository.save(any(QueueToken.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_queue_token_user_concert"));
+        when(queueTokenRepository.findByUserIdAndConcertId(10L, 1L)).thenReturn(Optional.of(winner));
+
+        // When
+        QueueToken token = queueEntryService.enter(10L, 1L);
+
+        // Then
+        assertThat(token).isSameAs(winner);
+        verify(queueEntryBloomFilter).put(1L, 10L);
+    }
+
+    @Test
+    @DisplayName("충돌한 기존 행이 만료/완료 상태면 새 대기 토큰으로 덮어쓴다")
+    void conflictWithStaleRowResetsToWaiting() {
+        // Given
+        QueueToken stale = QueueToken.createWithStatus("old-token", 10L, 1L, QueueStatus.COMPLETED,
+                LocalDateTime.now().minusHours(2), LocalDateTime.now().minusHours(1), LocalDateTime.now().minusHours(1));
+        stale.assignId(7L);
+        when(queueEntryBloomFilter.mightContain(1L, 10L)).thenReturn(false);
+        when(queueTokenRepository.save(any(QueueToken.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_queue_token_user_concert"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(queueTokenRepository.findByUserIdAndConcertId(10L, 1L)).thenReturn(Optional.of(stale));
+
+        // When
+        QueueToken token = queueEntryService.enter(10L, 1L);
+
+        // Then
+        assertThat(token.getId()).isEqualTo(7L);
+        assertThat(token.getStatus()).isEqualTo(QueueStatus.WAITING);
+        assertThat(token.getTokenValue()).isNotEqualTo("old-token");
+        verify(shardedWaitingQueueService).enqueue(1L, 10L);
+    }
+}
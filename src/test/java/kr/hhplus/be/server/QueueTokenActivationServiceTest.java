@@ -0,0 +1,139 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.service.ActiveQueueTokenService;
+import kr.hhplus.be.server.application.service.QueueTokenActivationService;
+import kr.hhplus.be.server.application.service.QueueTokenQueryService;
+import kr.hhplus.be.server.application.service.ShardedWaitingQueueService;
+import kr.hhplus.be.server.domain.event.ReservationCompletedEvent;
+import kr.hhplus.be.server.domain.model.QueueStatus;
+import kr.hhplus.be.server.domain.model.QueueToken;
+import kr.hhplus.be.server.domain.repository.QueueTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueueTokenActivationServiceTest {
+
+    @Mock
+    private QueueTokenRepository queueTokenRepository;
+
+    @Mock
+    private ActiveQueueTokenService activeQueueTokenService;
+
+    @Mock
+    private QueueTokenQueryService queueTokenQueryService;
+
+    @Mock
+    private ShardedWaitingQueueService shardedWaitingQueueService;
+
+    private QueueTokenActivationService activationService;
+
+    @BeforeEach
+    void setUp() {
+        activationService = new QueueTokenActivationService(
+                queueTokenRepository, activeQueueTokenService, queueTokenQueryService, shardedWaitingQueueService, 3, 500);
+    }
+
+    @Test
+    @DisplayName("빈 자리만큼 대기열 head 순으로 활성화하고 활성 토큰으로 등록한 뒤 대기열에서 지운다")
+    void activatesUpToCapacityAndRegisters() {
+        // Given: 한도 3, 이미 활성 2
+        QueueToken waiting = QueueToken.createWaitingToken(10L, 1L);
+        when(queueTokenRepository.findConcertIdsWithWaitingTokens()).thenReturn(List.of(1L));
+        when(queueTokenRepository.countActiveTokensByConcertId(1L)).thenReturn(2L);
+        when(shardedWaitingQueueService.peek(1L, 1)).thenReturn(List.of(10L));
+        when(queueTokenRepository.findWaitingTokensByUserIds(1L, List.of(10L))).thenReturn(List.of(waiting));
+        when(queueTokenRepository.save(any(QueueToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        int activated = activationService.activateWaitingTokens();
+
+        // Then
+        assertThat(activated).isEqualTo(1);
+        ArgumentCaptor<QueueToken> registered = ArgumentCaptor.forClass(QueueToken.class);
+        verify(activeQueueTokenService).registerActiveToken(registered.capture());
+        assertThat(registered.getValue().getStatus()).isEqualTo(QueueStatus.ACTIVE);
+        assertThat(registered.getValue().getTokenValue()).isEqualTo(waiting.getTokenValue());
+        verify(queueTokenQueryService).evictPositionCache(1L, waiting.getTokenValue());
+        verify(shardedWaitingQueueService).remove(1L, List.of(10L));
+        verify(queueTokenRepository, never()).findTokensReadyToActivate(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("대기 토큰이 없는 head는 건너뛰고, 대기열이 비었으면 남은 자리를 DB의 오래된 순으로 보충한다")
+    void skipsStaleHeadsAndFallsBackToDatabase() {
+        // Given: 한도 3, 활성 0, 대기열 head 1명은 이미 만료
+        QueueToken lost = QueueToken.createWaitingToken(30L, 1L);
+        when(queueTokenRepository.findConcertIdsWithWaitingTokens()).thenReturn(List.of(1L));
+        when(queueTokenRepository.countActiveTokensByConcertId(1L)).thenReturn(0L);
+        when(shardedWaitingQueueService.peek(1L, 3)).thenReturn(List.of(20L));
+        when(queueTokenRepository.findWaitingTokensByUserIds(1L, List.of(20L))).thenReturn(List.of());
+        when(shardedWaitingQueueService.size(1L)).thenReturn(0L);
+        when(queueTokenRepository.findTokensReadyToActivate(1L, 3)).thenReturn(List.of(lost));
+        when(queueTokenRepository.save(any(QueueToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        int activated = activationService.activateWaitingTokens();
+
+        // Then
+        assertThat(activated).isEqualTo(1);
+        verify(shardedWaitingQueueService).remove(1L, List.of(20L));
+        verify(activeQueueTokenService).registerActiveToken(argThat(token -> token.getUserId().equals(30L)));
+    }
+
+    @Test
+    @DisplayName("활성 한도가 찬 콘서트는 대기 토큰을 조회하지 않는다")
+    void fullConcertIsSkipped() {
+        when(queueTokenRepository.findConcertIdsWithWaitingTokens()).thenReturn(List.of(1L));
+        when(queueTokenRepository.countActiveTokensByConcertId(1L)).thenReturn(3L);
+
+        assertThat(activationService.activateWaitingTokens()).isZero();
+        verify(queueTokenRepository, never()).findTokensReadyToActivate(anyLong(), anyInt());
+        verifyNoInteractions(activeQueueTokenService);
+    }
+
+    @Test
+    @DisplayName("만료 처리는 배치 크기만큼 일괄 UPDATE하고 토큰을 개별 저장하지 않는다")
+    void expireTokensUsesBoundedBulkUpdate() {
+        // Given
+        when(queueTokenRepository.expireTokens(any(LocalDateTime.class), eq(500))).thenReturn(2);
+
+        // When
+        int expired = activationService.expireTokens();
+
+        // Then
+        assertThat(expired).isEqualTo(2);
+        verify(queueTokenRepository, never()).save(any());
+        verifyNoInteractions(activeQueueTokenService);
+    }
+
+    @Test
+    @DisplayName("예약이 완료되면 활성 토큰을 COMPLETED로 저장하고 회수한다")
+    void reservationCompletedRevokesToken() {
+        // Given
+        QueueToken active = QueueToken.createWithStatus("token-1", 10L, 1L, QueueStatus.ACTIVE,
+                LocalDateTime.now(), LocalDateTime.now().plusMinutes(10), LocalDateTime.now());
+        when(queueTokenRepository.findByUserIdAndConcertId(10L, 1L)).thenReturn(Optional.of(active));
+
+        // When
+        activationService.onReservationCompleted(
+                new ReservationCompletedEvent(100L, 1L, 10L, 5, 50_000L, "Concert", "tx-1"));
+
+        // Then
+        verify(queueTokenRepository).save(argThat(token -> token.getStatus() == QueueStatus.COMPLETED));
+        verify(activeQueueTokenService).revoke("token-1");
+    }
+}
@@ -0,0 +1,122 @@
+package kr.hhplus.be.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.application.service.ActiveQueueTokenService;
+import kr.hhplus.be.server.application.service.ActiveQueueTokenService.ActiveToken;
+import kr.hhplus.be.server.interfaces.web.QueueTokenFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueueTokenFilterTest {
+
+    @Mock
+    private ActiveQueueTokenService activeQueueTokenService;
+
+    private QueueTokenFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new QueueTokenFilter(activeQueueTokenService, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("토큰 소유자와 본문 userId가 같으면 통과하고 컨트롤러가 본문을 다시 읽을 수 있다")
+    void matchingUserPassesWithReadableBody() throws Exception {
+        // Given
+        when(activeQueueTokenService.findActiveToken("token-1")).thenReturn(new ActiveToken(10L, 1L));
+        MockHttpServletRequest request = reservationRequest("{\"userId\":10,\"concertId\":1,\"seatNumber\":5}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(chain.getRequest().getAttribute(QueueTokenFilter.ACTIVE_USER_ID_ATTRIBUTE)).isEqualTo(10L);
+        assertThat(chain.getRequest().getAttribute(QueueTokenFilter.ACTIVE_CONCERT_ID_ATTRIBUTE)).isEqualTo(1L);
+        String forwardedBody = new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(forwardedBody).contains("\"seatNumber\":5");
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 userId로 요청하면 403으로 거부한다")
+    void mismatchedUserIsRejected() throws Exception {
+        // Given
+        when(activeQueueTokenService.findActiveToken("token-1")).thenReturn(new ActiveToken(10L, 1L));
+        MockHttpServletRequest request = reservationRequest("{\"userId\":99,\"concertId\":1,\"seatNumber\":5}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(response.getContentAsString()).contains("QUEUE_TOKEN_USER_MISMATCH");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 콘서트의 토큰으로 요청하면 403으로 거부한다")
+    void mismatchedConcertIsRejected() throws Exception {
+        // Given
+        when(activeQueueTokenService.findActiveToken("token-1")).thenReturn(new ActiveToken(10L, 1L));
+        MockHttpServletRequest request = reservationRequest("{\"userId\":10,\"concertId\":2,\"seatNumber\":5}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(response.getContentAsString()).contains("QUEUE_TOKEN_CONCERT_MISMATCH");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("활성 토큰이 없으면 401로 거부한다")
+    void inactiveTokenIsRejected() throws Exception {
+        when(activeQueueTokenService.findActiveToken("token-1")).thenReturn(null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(reservationRequest("{\"userId\":10}"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    @DisplayName("결제 상태 조회(GET)는 토큰 검증 없이 통과한다")
+    void getRequestIsNotFiltered() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/reservations/1/payment/2");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        verifyNoInteractions(activeQueueTokenService);
+    }
+
+    private MockHttpServletRequest reservationRequest(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/reservations");
+        request.addHeader(QueueTokenFilter.QUEUE_TOKEN_HEADER, "token-1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
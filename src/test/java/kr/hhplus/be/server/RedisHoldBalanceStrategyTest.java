@@ -0,0 +1,73 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.service.BalanceHoldLedger;
+import kr.hhplus.be.server.application.service.ConditionalUpdateBalanceStrategy;
+import kr.hhplus.be.server.application.service.RedisHoldBalanceStrategy;
+import kr.hhplus.be.server.domain.model.UserBalance;
+import kr.hhplus.be.server.domain.repository.UserBalanceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisHoldBalanceStrategyTest {
+
+    @Mock
+    private BalanceHoldLedger ledger;
+
+    @Mock
+    private UserBalanceRepository userBalanceRepository;
+
+    @Mock
+    private ConditionalUpdateBalanceStrategy conditionalUpdateStrategy;
+
+    @InjectMocks
+    private RedisHoldBalanceStrategy strategy;
+
+    @Test
+    @DisplayName("확정에 실패하면 홀드를 해제하고 예외를 전파한다")
+    void captureFailureReleasesHold() {
+        // Given
+        when(ledger.hold(eq(1L), anyString(), eq(1000L), any(LongSupplier.class))).thenReturn(9000L);
+        doThrow(new IllegalStateException("redis down")).when(ledger).capture(eq(1L), anyString(), eq(1000L));
+        when(ledger.release(eq(1L), anyString())).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> strategy.deduct(1L, 1000L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("redis down");
+    }
+
+    @Test
+    @DisplayName("확정 실패 전에 정산이 홀드를 가져갔으면 해제하지 않고 차감을 유지한다")
+    void claimedHoldIsKeptWhenCaptureFails() {
+        // Given
+        when(ledger.hold(eq(1L), anyString(), eq(1000L), any(LongSupplier.class))).thenReturn(9000L);
+        doThrow(new IllegalStateException("redis down")).when(ledger).capture(eq(1L), anyString(), eq(1000L));
+        when(ledger.release(eq(1L), anyString())).thenReturn(false);
+
+        // When
+        UserBalance result = strategy.deduct(1L, 1000L);
+
+        // Then
+        assertThat(result.getBalance()).isEqualTo(9000L);
+    }
+
+    @Test
+    @DisplayName("충전은 MySQL에만 반영하고 미러를 직접 증가시키지 않는다")
+    void chargeOnlyWritesMySql() {
+        when(conditionalUpdateStrategy.charge(1L, 500L)).thenReturn(UserBalance.create(1L, 1500L));
+
+        assertThat(strategy.charge(1L, 500L).getBalance()).isEqualTo(1500L);
+        verifyNoInteractions(ledger);
+    }
+}
@@ -0,0 +1,115 @@
+package kr.hhplus.be.server;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.infrastructure.persistence.routing.ReplicaLagMonitor;
+import kr.hhplus.be.server.infrastructure.persistence.routing.ReplicationRoutingDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 읽기/쓰기 라우팅 테스트 (주 DB/복제본 모두 임베디드 H2)
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private static final String WHOAMI = "SELECT name FROM node";
+
+    private JdbcTemplate replicaJdbc;
+    private ReplicaLagMonitor monitor;
+    private JdbcTemplate routedJdbc;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate writeTx;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = embedded("primary");
+        DataSource replica = embedded("replica");
+        replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.execute("CREATE TABLE replica_lag (seconds BIGINT)");
+        replicaJdbc.update("INSERT INTO replica_lag VALUES (0)");
+
+        monitor = new ReplicaLagMonitor(replica, "SELECT seconds FROM replica_lag", 2, new SimpleMeterRegistry());
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primary, replica, monitor::isAvailable));
+
+        routedJdbc = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        writeTx = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("확인 전에는 복제본을 쓰지 않는다")
+    void primaryUntilFirstCheck() {
+        assertThat(inReadOnly()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 복제본, 쓰기 트랜잭션과 트랜잭션 밖 조회는 주 DB로 간다")
+    void routesReadOnlyToReplica() {
+        monitor.check();
+
+        assertThat(inReadOnly()).isEqualTo("replica");
+        assertThat(inWrite()).isEqualTo("primary");
+        assertThat(whoami()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 주 DB로 폴백하고, 회복되면 다시 복제본을 쓴다")
+    void fallsBackWhenLagging() {
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 5");
+        monitor.check();
+
+        assertThat(monitor.isAvailable()).isFalse();
+        assertThat(monitor.getLagSeconds()).isEqualTo(5L);
+        assertThat(inReadOnly()).isEqualTo("primary");
+
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 1");
+        monitor.check();
+
+        assertThat(inReadOnly()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("지연 조회에 실패하면 (복제 중단/장애) 주 DB로 폴백한다")
+    void fallsBackWhenLagUnknown() {
+        monitor.check();
+        replicaJdbc.execute("DROP TABLE replica_lag");
+        monitor.check();
+
+        assertThat(monitor.isAvailable()).isFalse();
+        assertThat(inReadOnly()).isEqualTo("primary");
+    }
+
+    private String inReadOnly() {
+        return readOnlyTx.execute(status -> whoami());
+    }
+
+    private String inWrite() {
+        return writeTx.execute(status -> whoami());
+    }
+
+    private String whoami() {
+        return routedJdbc.queryForObject(WHOAMI, String.class);
+    }
+
+    private DataSource embedded(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,126 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.service.SeatConfirmationBatcher;
+import kr.hhplus.be.server.domain.model.SeatReservation;
+import kr.hhplus.be.server.domain.repository.ConcertRepository;
+import kr.hhplus.be.server.domain.repository.SeatReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SeatConfirmationBatcherTest {
+
+    private static final Long CONCERT_ID = 1L;
+
+    @Mock
+    private SeatReservationRepository seatReservationRepository;
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SeatConfirmationBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        batcher = new SeatConfirmationBatcher(seatReservationRepository, concertRepository,
+                transactionManager, 50, 3, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 콘서트의 확정 요청을 한 번의 다건 UPDATE와 한 번의 좌석 차감으로 반영한다")
+    void confirmsBatchInSingleTransaction() {
+        // Given
+        when(seatReservationRepository.findByConcertIdAndSeatNumbersForUpdate(eq(CONCERT_ID), anyCollection()))
+                .thenReturn(List.of(reserved(101L, 1, 10L), reserved(102L, 2, 20L), reserved(103L, 3, 30L)));
+        when(seatReservationRepository.confirmSeatsConditionally(anyCollection())).thenReturn(2);
+        when(concertRepository.decreaseAvailableSeatsAtomically(CONCERT_ID, 2)).thenReturn(1);
+
+        // When
+        CompletableFuture<Boolean> first = batcher.confirm(CONCERT_ID, 1, 10L);
+        CompletableFuture<Boolean> otherUser = batcher.confirm(CONCERT_ID, 2, 99L);
+        CompletableFuture<Boolean> third = batcher.confirm(CONCERT_ID, 3, 30L);
+
+        // Then
+        assertThat(first.join()).isTrue();
+        assertThat(otherUser.join()).isFalse();
+        assertThat(third.join()).isTrue();
+        verify(seatReservationRepository).confirmSeatsConditionally(List.of(101L, 103L));
+        verify(concertRepository).decreaseAvailableSeatsAtomically(CONCERT_ID, 2);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("확정 가능한 좌석이 없으면 UPDATE 없이 실패 결과를 돌려준다")
+    void noConfirmableSeats() {
+        // Given
+        when(seatReservationRepository.findByConcertIdAndSeatNumbersForUpdate(eq(CONCERT_ID), anyCollection()))
+                .thenReturn(List.of());
+
+        // When
+        Boolean result = batcher.confirm(CONCERT_ID, 7, 10L).join();
+
+        // Then
+        assertThat(result).isFalse();
+        verify(seatReservationRepository, never()).confirmSeatsConditionally(anyCollection());
+        verify(concertRepository, never()).decreaseAvailableSeatsAtomically(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("묶음 반영이 실패하면 요청별로 다시 반영해 실패한 요청만 예외로 완료한다")
+    void settlesEachRequestSeparatelyWhenBatchFails() {
+        // Given: 잔여 좌석이 1석뿐이라 2석 일괄 차감은 실패
+        when(seatReservationRepository.findByConcertIdAndSeatNumbersForUpdate(eq(CONCERT_ID), anyCollection()))
+                .thenReturn(List.of(reserved(101L, 1, 10L), reserved(102L, 2, 20L)));
+        when(seatReservationRepository.confirmSeatsConditionally(anyCollection())).thenReturn(2, 1, 1);
+        when(concertRepository.decreaseAvailableSeatsAtomically(CONCERT_ID, 2)).thenReturn(0);
+        when(concertRepository.decreaseAvailableSeatsAtomically(CONCERT_ID, 1)).thenReturn(1, 0);
+
+        // When
+        CompletableFuture<Boolean> first = batcher.confirm(CONCERT_ID, 1, 10L);
+        CompletableFuture<Boolean> second = batcher.confirm(CONCERT_ID, 2, 20L);
+
+        // Then
+        assertThat(first.join()).isTrue();
+        assertThatThrownBy(second::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    private SeatReservation reserved(Long id, Integer seatNumber, Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        SeatReservation seat = SeatReservation.createWithTimes(CONCERT_ID, seatNumber, userId, 50000L,
+                now, now.plusMinutes(5));
+        seat.assignId(id);
+        return seat;
+    }
+}
@@ -0,0 +1,168 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.service.SeatProvisioningService;
+import kr.hhplus.be.server.application.service.SeatProvisioningService.ProvisioningResult;
+import kr.hhplus.be.server.domain.model.Concert;
+import kr.hhplus.be.server.domain.model.ConcertStatus;
+import kr.hhplus.be.server.domain.model.SeatSection;
+import kr.hhplus.be.server.domain.repository.ConcertRepository;
+import kr.hhplus.be.server.domain.repository.SeatReservationRepository;
+import kr.hhplus.be.server.infrastructure.persistence.SeatInventoryBulkWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatProvisioningServiceTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final int STADIUM_SEATS = 50_000;
+
+    @Mock
+    private ConcertRepository concertRepository;
+    @Mock
+    private SeatReservationRepository seatReservationRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SeatProvisioningService provisioningService;
+
+    private final SeatSection floor = new SeatSection("FLOOR", 1, 10_000, 150_000L);
+    private final SeatSection stand = new SeatSection("STAND", 10_001, STADIUM_SEATS, 99_000L);
+
+    @BeforeEach
+    void setUp() {
+        provisioningService = new SeatProvisioningService(concertRepository, seatReservationRepository,
+                transactionManager, Executors.newFixedThreadPool(2));
+    }
+
+    @Test
+    @DisplayName("구역별로 일괄 적재하고 적재한 좌석 수를 합산한다")
+    void provisionsSectionsInBulk() {
+        // Given
+        givenConcert();
+        when(seatReservationRepository.insertAvailableSeats(CONCERT_ID, floor)).thenReturn(floor.seatCount());
+        when(seatReservationRepository.insertAvailableSeats(CONCERT_ID, stand)).thenReturn(stand.seatCount());
+
+        // When
+        ProvisioningResult result = provisioningService.provision(CONCERT_ID, List.of(stand, floor), false);
+
+        // Then
+        assertThat(result.seats()).isEqualTo(STADIUM_SEATS);
+        assertThat(result.sections()).isEqualTo(2);
+        verify(seatReservationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("겹치는 구역, 총 좌석 수 초과, 이미 생성된 구역은 적재하지 않는다")
+    void rejectsInvalidSections() {
+        // Given
+        givenConcert();
+
+        // When & Then
+        assertThatThrownBy(() -> provisioningService.provision(CONCERT_ID,
+                List.of(floor, new SeatSection("VIP", 9_000, 12_000, 200_000L)), false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("겹칩니다");
+        assertThatThrownBy(() -> provisioningService.provision(CONCERT_ID,
+                List.of(new SeatSection("EXTRA", 49_000, 60_000, 10_000L)), false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("총 좌석 수");
+
+        when(seatReservationRepository.countByConcertIdAndSeatNumberBetween(CONCERT_ID, 1, 10_000)).thenReturn(3L);
+        assertThatThrownBy(() -> provisioningService.provision(CONCERT_ID, List.of(floor), false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 좌석이 생성된 구역입니다: FLOOR");
+        verify(seatReservationRepository, never()).insertAvailableSeats(any(), any());
+    }
+
+    @Test
+    @DisplayName("검증 이후 다른 요청이 먼저 적재해 유니크 키에 걸리면 중복 적재로 실패한다")
+    void concurrentProvisioningIsRejectedByUniqueKey() {
+        // Given
+        givenConcert();
+        when(seatReservationRepository.insertAvailableSeats(CONCERT_ID, floor))
+                .thenThrow(new DuplicateKeyException("uk_seat_reservation_concert_seat"));
+
+        // When & Then
+        assertThatThrownBy(() -> provisioningService.provision(CONCERT_ID, List.of(floor), false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("이미 좌석을 생성했습니다");
+    }
+
+    @Test
+    @DisplayName("병렬 적재 중 한 구역이 실패하면 커밋된 구역을 삭제하고 실패를 알린다")
+    void parallelFailureCompensates() {
+        // Given
+        givenConcert();
+        when(seatReservationRepository.insertAvailableSeats(CONCERT_ID, floor)).thenReturn(floor.seatCount());
+        when(seatReservationRepository.insertAvailableSeats(CONCERT_ID, stand))
+                .thenThrow(new IllegalStateException("connection reset"));
+
+        // When & Then
+        assertThatThrownBy(() -> provisioningService.provision(CONCERT_ID, List.of(floor, stand), true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("좌석 일괄 적재에 실패했습니다");
+        verify(seatReservationRepository).deleteAvailableSeats(CONCERT_ID, 1, 10_000);
+        verify(seatReservationRepository, never()).deleteAvailableSeats(CONCERT_ID, 10_001, STADIUM_SEATS);
+    }
+
+    @Test
+    @DisplayName("5만 석을 구역 1개로 JDBC 배치 적재한다 (임베디드 H2)")
+    void bulkWriterLoadsStadiumInventory() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE seat_reservations (id BIGINT PRIMARY KEY, " +
+                "concert_id BIGINT NOT NULL, seat_number INT NOT NULL, user_id BIGINT, status VARCHAR(10) NOT NULL, " +
+                "reserved_at TIMESTAMP, expires_at TIMESTAMP, price BIGINT NOT NULL, " +
+                "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL, " +
+                "CONSTRAINT uk_seat_reservation_concert_seat UNIQUE (concert_id, seat_number))");
+        TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        SeatInventoryBulkWriter writer = new SeatInventoryBulkWriter(jdbcTemplate, "0", 1000);
+
+        long startedAt = System.nanoTime();
+        Integer inserted = tx.execute(status -> writer.insertAvailableSeats(CONCERT_ID,
+                new SeatSection("ALL", 1, STADIUM_SEATS, 99_000L)));
+        long batchMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        System.out.printf("[좌석 적재] %,d석 JDBC 배치 적재: %dms%n", STADIUM_SEATS, batchMillis);
+        assertThat(inserted).isEqualTo(STADIUM_SEATS);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM seat_reservations WHERE concert_id = 1 AND status = 'AVAILABLE'", Long.class))
+                .isEqualTo(STADIUM_SEATS);
+
+        // 같은 구역을 다시 적재하면 유니크 키에 걸려 롤백된다
+        assertThatThrownBy(() -> tx.execute(status -> writer.insertAvailableSeats(CONCERT_ID,
+                new SeatSection("DUP", 1, 10, 99_000L))))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    private void givenConcert() {
+        LocalDateTime now = LocalDateTime.now();
+        when(concertRepository.findById(CONCERT_ID)).thenReturn(Optional.of(Concert.reconstitute(CONCERT_ID,
+                "Stadium", "Artist", "Venue", STADIUM_SEATS, STADIUM_SEATS, 99_000L, ConcertStatus.AVAILABLE,
+                now, null, now, now)));
+        lenient().when(seatReservationRepository.countByConcertIdAndSeatNumberBetween(eq(CONCERT_ID), anyInt(), anyInt()))
+                .thenReturn(0L);
+    }
+}
@@ -0,0 +1,190 @@
+package kr.hhplus.be.server;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.model.ConcertDate.ConcertDateStatus;
+import kr.hhplus.be.server.domain.model.ConcertStatus;
+import kr.hhplus.be.server.domain.event.ConcertChangedEvent;
+import kr.hhplus.be.server.infrastructure.persistence.SecondLevelCacheInvalidator;
+import kr.hhplus.be.server.infrastructure.persistence.SpringDataConcertRepository;
+import kr.hhplus.be.server.infrastructure.persistence.entity.ConcertDateEntity;
+import kr.hhplus.be.server.infrastructure.persistence.entity.ConcertEntity;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.stat.HibernateMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SecondLevelCacheTest {
+
+    private final LocalDateTime performance = LocalDateTime.of(2030, 5, 1, 19, 0);
+
+    private String url;
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+    private MeterRegistry meterRegistry;
+    private Long concertId;
+    private Long concertDateId;
+
+    @BeforeEach
+    void setUp() {
+        // 운영 설정(application.yml)과 같은 2차 캐시 설정으로 임베디드 H2 위에 부트스트랩
+        url = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.connection.url", url)
+                .applySetting("hibernate.connection.username", "sa")
+                .applySetting("hibernate.hbm2ddl.auto", "create-drop")
+                .applySetting("hibernate.cache.use_second_level_cache", "true")
+                .applySetting("hibernate.cache.region.factory_class", "jcache")
+                .applySetting("hibernate.javax.cache.provider",
+                        "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider")
+                .applySetting("hibernate.javax.cache.uri", "hibernate-jcache.conf")
+                .applySetting("hibernate.javax.cache.missing_cache_strategy", "fail")
+                .applySetting("hibernate.generate_statistics", "true")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(ConcertEntity.class)
+                .addAnnotatedClass(ConcertDateEntity.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        meterRegistry = new SimpleMeterRegistry();
+        HibernateMetrics.monitor(meterRegistry, sessionFactory, "entityManagerFactory");
+
+        sessionFactory.inTransaction(session -> {
+            ConcertEntity concert = new ConcertEntity("Cached Concert", "Artist", "Olympic Hall",
+                    100, 100, 99_000L, ConcertStatus.AVAILABLE);
+            concert.addConcertDate(new ConcertDateEntity(performance, performance, performance.plusHours(2),
+                    100, 100, ConcertDateStatus.AVAILABLE));
+            session.persist(concert);
+            concertId = concert.getId();
+            concertDateId = concert.getConcertDates().get(0).getId();
+        });
+        sessionFactory.getCache().evictAllRegions();
+        sessionFactory.getStatistics().clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Test
+    @DisplayName("ID 조회는 두 번째 세션부터 DB 대신 2차 캐시에서 읽고 적중/미스가 메트릭으로 잡힌다")
+    void entityLookupHitsCache() {
+        for (int i = 0; i < 3; i++) {
+            sessionFactory.inSession(session -> session.find(ConcertEntity.class, concertId));
+        }
+
+        assertThat(sessionFactory.getStatistics().getEntityLoadCount()).isEqualTo(1);
+        assertThat(cacheRequests("concert", "hit")).isEqualTo(2);
+        assertThat(cacheRequests("concert", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("(콘서트, 공연 일시) 자연 키 조회도 캐시에서 처리한다")
+    void naturalIdLookupHitsCache() {
+        for (int i = 0; i < 3; i++) {
+            Optional<ConcertDateEntity> found = sessionFactory.fromSession(this::findByNaturalKey);
+            assertThat(found).map(ConcertDateEntity::getId).contains(concertDateId);
+        }
+
+        assertThat(sessionFactory.getStatistics().getNaturalIdQueryExecutionCount()).isEqualTo(1);
+        assertThat(sessionFactory.getStatistics().getNaturalIdCacheHitCount()).isEqualTo(2);
+        assertThat(sessionFactory.getStatistics().getEntityLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잔여석 네이티브 UPDATE는 콘서트 리전만 무효화하고 다음 조회는 차감된 값을 읽는다")
+    void nativeSeatUpdateEvictsConcertRegionOnly() {
+        // Given: 두 리전 모두 적재
+        sessionFactory.inSession(session -> {
+            session.find(ConcertEntity.class, concertId);
+            session.find(ConcertDateEntity.class, concertDateId);
+        });
+        assertThat(sessionFactory.getCache().containsEntity(ConcertEntity.class, concertId)).isTrue();
+
+        // When: 운영 코드의 Spring Data 네이티브 UPDATE 그대로 실행
+        sessionFactory.inTransaction(session -> {
+            SpringDataConcertRepository repository =
+                    new JpaRepositoryFactory(session).getRepository(SpringDataConcertRepository.class);
+            assertThat(repository.decreaseAvailableSeatsAtomically(concertId)).isEqualTo(1);
+        });
+
+        // Then
+        assertThat(sessionFactory.getCache().containsEntity(ConcertEntity.class, concertId)).isFalse();
+        assertThat(sessionFactory.getCache().containsEntity(ConcertDateEntity.class, concertDateId)).isTrue();
+        Integer availableSeats = sessionFactory.fromSession(session ->
+                session.find(ConcertEntity.class, concertId).getAvailableSeats());
+        assertThat(availableSeats).isEqualTo(99);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 잔여석 변경은 Redis 토픽 메시지로 이 노드의 콘서트 캐시를 지운다")
+    @SuppressWarnings("unchecked")
+    void remoteChangeEvictsLocalCache() throws Exception {
+        // Given: 이 노드의 캐시에 적재
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        RTopic topic = mock(RTopic.class);
+        when(redissonClient.getTopic(anyString())).thenReturn(topic);
+        SecondLevelCacheInvalidator invalidator = new SecondLevelCacheInvalidator(sessionFactory, redissonClient);
+        invalidator.subscribe();
+        ArgumentCaptor<MessageListener<String>> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic).addListener(eq(String.class), listener.capture());
+        sessionFactory.inSession(session -> {
+            session.find(ConcertEntity.class, concertId);
+            session.find(ConcertDateEntity.class, concertDateId);
+        });
+
+        // When: 다른 노드가 DB를 직접 갱신하고 변경을 발행
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            connection.createStatement().executeUpdate(
+                    "UPDATE concerts SET available_seats = 42 WHERE id = " + concertId);
+        }
+        invalidator.onConcertChanged(ConcertChangedEvent.seatsChanged(concertId));
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(topic).publish(published.capture());
+        listener.getValue().onMessage("cache:l2:concert", published.getValue());
+
+        // Then: 콘서트만 지워지고 다음 조회는 갱신된 값을 읽는다
+        assertThat(sessionFactory.getCache().containsEntity(ConcertEntity.class, concertId)).isFalse();
+        assertThat(sessionFactory.getCache().containsEntity(ConcertDateEntity.class, concertDateId)).isTrue();
+        Integer availableSeats = sessionFactory.fromSession(session ->
+                session.find(ConcertEntity.class, concertId).getAvailableSeats());
+        assertThat(availableSeats).isEqualTo(42);
+    }
+
+    private Optional<ConcertDateEntity> findByNaturalKey(Session session) {
+        return session.byNaturalId(ConcertDateEntity.class)
+                .using("concert", session.getReference(ConcertEntity.class, concertId))
+                .using("concertDateTime", performance)
+                .loadOptional();
+    }
+
+    private double cacheRequests(String region, String result) {
+        return meterRegistry.get("hibernate.second.level.cache.requests")
+                .tags("region", region, "result", result)
+                .functionCounter()
+                .count();
+    }
+}
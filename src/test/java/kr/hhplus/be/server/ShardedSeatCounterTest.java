@@ -0,0 +1,213 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.domain.event.ConcertChangedEvent;
+import kr.hhplus.be.server.domain.model.ConcertStatus;
+import kr.hhplus.be.server.infrastructure.persistence.ConcertSeatCounterJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.ShardedSeatCounter;
+import kr.hhplus.be.server.infrastructure.persistence.SpringDataConcertRepository;
+import kr.hhplus.be.server.infrastructure.persistence.entity.ConcertEntity;
+import kr.hhplus.be.server.infrastructure.persistence.entity.ConcertSeatCounterEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedSeatCounterTest {
+
+    private static final Long CONCERT_ID = 100L;
+    private static final int SHARD_COUNT = 4;
+
+    @Mock
+    private ConcertSeatCounterJpaRepository counterRepository;
+    @Mock
+    private SpringDataConcertRepository concertRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ShardedSeatCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new ShardedSeatCounter(counterRepository, concertRepository, transactionManager,
+                eventPublisher, SHARD_COUNT, 30000);
+    }
+
+    @Test
+    @DisplayName("첫 차감 시 잔여석을 카운터로 균등 분할한다 (나머지는 앞쪽 카운터에)")
+    void initializesCountersOnFirstDecrement() {
+        // Given
+        ConcertEntity concert = new ConcertEntity("Concert", "Artist", "Venue", 10, 10, 50000L, ConcertStatus.AVAILABLE);
+        when(counterRepository.countByConcertId(CONCERT_ID)).thenReturn(0L);
+        when(concertRepository.findByIdForUpdate(CONCERT_ID)).thenReturn(Optional.of(concert));
+        when(counterRepository.decrement(eq(CONCERT_ID), anyInt(), eq(1), any())).thenReturn(1);
+        when(counterRepository.findRemaining(eq(CONCERT_ID), anyInt())).thenReturn(Optional.of(2));
+
+        // When
+        int result = counter.decrement(CONCERT_ID, 1);
+
+        // Then
+        assertThat(result).isEqualTo(1);
+        ArgumentCaptor<List<ConcertSeatCounterEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(counterRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(ConcertSeatCounterEntity::getRemaining)
+                .containsExactly(3, 3, 2, 2);
+        verify(concertRepository, never()).markSoldOut(any());
+    }
+
+    @Test
+    @DisplayName("비어 있는 카운터는 건너뛰고 다른 카운터에서 차감한다")
+    void probesOtherShards() {
+        // Given
+        when(counterRepository.countByConcertId(CONCERT_ID)).thenReturn((long) SHARD_COUNT);
+        when(counterRepository.decrement(eq(CONCERT_ID), anyInt(), eq(1), any())).thenReturn(0, 0, 1);
+        when(counterRepository.findRemaining(eq(CONCERT_ID), anyInt())).thenReturn(Optional.of(5));
+
+        // When
+        int result = counter.decrement(CONCERT_ID, 1);
+
+        // Then
+        assertThat(result).isEqualTo(1);
+        verify(counterRepository, times(3)).decrement(eq(CONCERT_ID), anyInt(), eq(1), any());
+        verify(counterRepository, never()).findAllByConcertIdWithLock(any());
+    }
+
+    @Test
+    @DisplayName("마지막 좌석을 차감해 합계가 0이 되면 매진 처리한다")
+    void marksSoldOutWhenSumReachesZero() {
+        // Given
+        when(counterRepository.countByConcertId(CONCERT_ID)).thenReturn((long) SHARD_COUNT);
+        when(counterRepository.decrement(eq(CONCERT_ID), anyInt(), eq(1), any())).thenReturn(1);
+        when(counterRepository.findRemaining(eq(CONCERT_ID), anyInt())).thenReturn(Optional.of(0));
+        when(counterRepository.sumRemaining(CONCERT_ID)).thenReturn(0L);
+        when(concertRepository.markSoldOut(CONCERT_ID)).thenReturn(1);
+
+        // When
+        int result = counter.decrement(CONCERT_ID, 1);
+
+        // Then
+        assertThat(result).isEqualTo(1);
+        verify(concertRepository).markSoldOut(CONCERT_ID);
+        verify(eventPublisher).publishEvent(ConcertChangedEvent.upserted(CONCERT_ID));
+    }
+
+    @Test
+    @DisplayName("모든 카운터가 비었으면 0을 반환한다")
+    void returnsZeroWhenSoldOut() {
+        // Given
+        when(counterRepository.countByConcertId(CONCERT_ID)).thenReturn((long) SHARD_COUNT);
+        when(counterRepository.decrement(eq(CONCERT_ID), anyInt(), eq(1), any())).thenReturn(0);
+
+        // When
+        int result = counter.decrement(CONCERT_ID, 1);
+
+        // Then
+        assertThat(result).isZero();
+        verify(counterRepository, times(SHARD_COUNT)).decrement(eq(CONCERT_ID), anyInt(), eq(1), any());
+    }
+
+    @Test
+    @DisplayName("여러 좌석 차감이 단일 카운터로 부족하면 전체 카운터를 잠그고 나눠 차감한다")
+    void drainsAcrossShardsForBatch() {
+        // Given
+        List<ConcertSeatCounterEntity> counters = List.of(
+                new ConcertSeatCounterEntity(CONCERT_ID, 0, 1),
+                new ConcertSeatCounterEntity(CONCERT_ID, 1, 2),
+                new ConcertSeatCounterEntity(CONCERT_ID, 2, 0),
+                new ConcertSeatCounterEntity(CONCERT_ID, 3, 1));
+        when(counterRepository.countByConcertId(CONCERT_ID)).thenReturn((long) SHARD_COUNT);
+        when(counterRepository.decrement(eq(CONCERT_ID), anyInt(), eq(3), any())).thenReturn(0);
+        when(counterRepository.findAllByConcertIdWithLock(CONCERT_ID)).thenReturn(counters);
+
+        // When
+        int result = counter.decrement(CONCERT_ID, 3);
+
+        // Then
+        assertThat(result).isEqualTo(1);
+        assertThat(counters).extracting(ConcertSeatCounterEntity::getRemaining).containsExactly(0, 0, 0, 1);
+        verify(concertRepository, never()).markSoldOut(any());
+    }
+
+    @Test
+    @DisplayName("동기화 시 합계가 0인 콘서트는 매진 처리하고 나머지는 잔여석을 반영한다")
+    void syncAll() {
+        // Given
+        when(counterRepository.sumRemainingByConcert()).thenReturn(List.of(
+                new Object[]{1L, 0L},
+                new Object[]{2L, 7L}));
+        when(concertRepository.markSoldOut(1L)).thenReturn(1);
+        when(concertRepository.syncAvailableSeats(2L, 7)).thenReturn(1);
+
+        // When
+        int updated = counter.syncAll();
+
+        // Then
+        assertThat(updated).isEqualTo(2);
+        verify(eventPublisher).publishEvent(ConcertChangedEvent.seatsChanged(2L));
+    }
+
+    @Test
+    @DisplayName("첫 동기화 이후에는 카운터가 바뀐 콘서트만 합산한다")
+    void syncAllOnlyChangedConcertsAfterFirstSync() {
+        // Given
+        when(counterRepository.sumRemainingByConcert()).thenReturn(List.of());
+        when(counterRepository.sumRemainingByConcertChangedSince(any()))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, 5L}));
+        when(concertRepository.syncAvailableSeats(2L, 5)).thenReturn(1);
+        counter.syncAll();
+
+        // When
+        int updated = counter.syncAll();
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        verify(counterRepository, times(1)).sumRemainingByConcert();
+        verify(counterRepository).sumRemainingByConcertChangedSince(any());
+    }
+
+    @Test
+    @DisplayName("관리자 잔여석 변경은 카운터 합계에 변경분을 더해 다시 균등 분할한다")
+    void adjustRebalancesCounters() {
+        // Given
+        List<ConcertSeatCounterEntity> counters = List.of(
+                new ConcertSeatCounterEntity(CONCERT_ID, 0, 0),
+                new ConcertSeatCounterEntity(CONCERT_ID, 1, 3),
+                new ConcertSeatCounterEntity(CONCERT_ID, 2, 1),
+                new ConcertSeatCounterEntity(CONCERT_ID, 3, 2));
+        when(counterRepository.findAllByConcertIdWithLock(CONCERT_ID)).thenReturn(counters);
+
+        // When
+        Integer remaining = counter.adjust(CONCERT_ID, 4, 100);
+
+        // Then
+        assertThat(remaining).isEqualTo(10);
+        assertThat(counters).extracting(ConcertSeatCounterEntity::getRemaining).containsExactly(3, 3, 2, 2);
+    }
+
+    @Test
+    @DisplayName("카운터가 아직 없으면 잔여석 변경은 concerts 행에만 남긴다")
+    void adjustWithoutCounters() {
+        // Given
+        when(counterRepository.findAllByConcertIdWithLock(CONCERT_ID)).thenReturn(List.of());
+
+        // When
+        Integer remaining = counter.adjust(CONCERT_ID, -3, 100);
+
+        // Then
+        assertThat(remaining).isNull();
+    }
+}
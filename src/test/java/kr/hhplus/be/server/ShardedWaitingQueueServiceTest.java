@@ -0,0 +1,124 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.service.ShardedWaitingQueueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedWaitingQueueServiceTest {
+
+    private static final String SHARD_0 = "queue:waiting:{1:0}";
+    private static final String SHARD_1 = "queue:waiting:{1:1}";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private ShardedWaitingQueueService queueService;
+
+    @BeforeEach
+    void setUp() {
+        queueService = new ShardedWaitingQueueService(redisTemplate, 2);
+    }
+
+    @Test
+    @DisplayName("입장 후보는 샤드별 head를 스탬프 순으로 병합하고 대기열에서 지우지 않는다")
+    void peekMergesShardHeadsByStamp() {
+        // Given
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeWithScores(SHARD_0, 0, 2))
+                .thenReturn(tuples("10", 1000.0, "11", 3000.0, "12", 5000.0));
+        when(zSetOperations.rangeWithScores(SHARD_1, 0, 2))
+                .thenReturn(tuples("20", 2000.0, "21", 4000.0));
+
+        // When
+        List<Long> candidates = queueService.peek(1L, 3);
+
+        // Then
+        assertThat(candidates).containsExactly(10L, 20L, 11L);
+        verify(zSetOperations, never()).remove(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("입장 처리된 사용자는 자신의 샤드에서 제거한다")
+    void removeDeletesFromOwnShard() {
+        // Given
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        ShardedWaitingQueueService singleShard = new ShardedWaitingQueueService(redisTemplate, 1);
+
+        // When
+        singleShard.remove(1L, List.of(10L, 20L));
+
+        // Then
+        verify(zSetOperations).remove("queue:waiting:{1:0}", "10");
+        verify(zSetOperations).remove("queue:waiting:{1:0}", "20");
+    }
+
+    @Test
+    @DisplayName("새 토큰 진입은 기존 스탬프를 버리고, 재진입 복구는 기존 스탬프를 유지한다")
+    @SuppressWarnings("unchecked")
+    void enqueueResetsOrKeepsStamp() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).thenReturn(1L);
+
+        // When
+        queueService.enqueue(1L, 10L);
+        queueService.enqueueIfAbsent(1L, 10L);
+
+        // Then
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq("10"), anyString(), eq("1"));
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq("10"), anyString(), eq("0"));
+    }
+
+    @Test
+    @DisplayName("대기 순번은 모든 샤드에서 앞선 인원을 합산한다")
+    void positionSumsAheadAcrossShards() {
+        // Given
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.score(anyString(), eq("10"))).thenAnswer(invocation ->
+                invocation.getArgument(0).equals(SHARD_0) || invocation.getArgument(0).equals(SHARD_1)
+                        ? 3000.0 : null);
+        when(zSetOperations.count(eq(SHARD_0), anyDouble(), anyDouble())).thenReturn(2L);
+        when(zSetOperations.count(eq(SHARD_1), anyDouble(), anyDouble())).thenReturn(4L);
+
+        // When
+        Long position = queueService.getPosition(1L, 10L);
+
+        // Then
+        assertThat(position).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("샤드 수가 0 이하이면 생성할 수 없다")
+    void invalidShardCount() {
+        assertThatThrownBy(() -> new ShardedWaitingQueueService(redisTemplate, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("샤드 수는 1 이상이어야 합니다.");
+    }
+
+    private Set<ZSetOperations.TypedTuple<String>> tuples(Object... valueAndScores) {
+        Set<ZSetOperations.TypedTuple<String>> result = new LinkedHashSet<>();
+        for (int i = 0; i < valueAndScores.length; i += 2) {
+            result.add(new DefaultTypedTuple<>((String) valueAndScores[i], (Double) valueAndScores[i + 1]));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,244 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.SingleConnectionPaymentService;
+import kr.hhplus.be.server.application.event.ReservationEventPublisher;
+import kr.hhplus.be.server.application.service.MoneyLedger;
+import kr.hhplus.be.server.application.service.PaymentIdempotencyStore;
+import kr.hhplus.be.server.application.service.SeatConfirmationBatcher;
+import kr.hhplus.be.server.application.service.StripedBalanceService;
+import kr.hhplus.be.server.domain.model.Payment;
+import kr.hhplus.be.server.domain.model.PaymentCompensation;
+import kr.hhplus.be.server.domain.model.SeatReservation;
+import kr.hhplus.be.server.domain.port.in.ProcessPaymentUseCase.ProcessPaymentCommand;
+import kr.hhplus.be.server.domain.port.out.PaymentGateway;
+import kr.hhplus.be.server.domain.repository.ConcertRepository;
+import kr.hhplus.be.server.domain.repository.PaymentCompensationRepository;
+import kr.hhplus.be.server.domain.repository.PaymentRepository;
+import kr.hhplus.be.server.domain.repository.SeatReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SingleConnectionPaymentServiceTest {
+
+    private static final Long RESERVATION_ID = 10L;
+    private static final Long USER_ID = 1L;
+    private static final Long CONCERT_ID = 100L;
+    private static final Long AMOUNT = 50000L;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private PaymentGateway paymentGateway;
+    @Mock
+    private MoneyLedger balanceLedger;
+    @Mock
+    private StripedBalanceService stripedBalanceService;
+    @Mock
+    private SeatReservationRepository seatReservationRepository;
+    @Mock
+    private ConcertRepository concertRepository;
+    @Mock
+    private SeatConfirmationBatcher seatConfirmationBatcher;
+    @Mock
+    private PaymentCompensationRepository compensationRepository;
+    @Mock
+    private ReservationEventPublisher eventPublisher;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private PaymentIdempotencyStore idempotencyStore;
+
+    @InjectMocks
+    private SingleConnectionPaymentService paymentService;
+
+    private final ProcessPaymentCommand command = new ProcessPaymentCommand(RESERVATION_ID, USER_ID, AMOUNT);
+    private boolean inTransaction;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            inTransaction = true;
+            try {
+                return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+            } finally {
+                inTransaction = false;
+            }
+        });
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        LocalDateTime now = LocalDateTime.now();
+        SeatReservation reservation = SeatReservation.createWithTimes(
+                CONCERT_ID, 7, USER_ID, AMOUNT, now, now.plusMinutes(5));
+        reservation.assignId(RESERVATION_ID);
+        when(seatReservationRepository.findByIdForUpdate(RESERVATION_ID)).thenReturn(Optional.of(reservation));
+    }
+
+    @Test
+    @DisplayName("잔액 차감과 승인은 한 트랜잭션에서, 좌석 확정은 배처로 처리한 뒤 결제를 완료한다")
+    void completesWithBatchedSeatConfirmation() {
+        // Given
+        when(balanceLedger.debit(USER_ID, AMOUNT, "잔액 차감")).thenReturn(OptionalLong.of(0L));
+        when(paymentGateway.processPayment(any())).thenAnswer(invocation ->
+                invocation.<Payment>getArgument(0).complete("tx-1"));
+        givenSeatConfirmed(true);
+
+        // When
+        Payment payment = paymentService.processPayment(command);
+
+        // Then
+        assertThat(payment.getStatus()).isEqualTo(Payment.PaymentStatus.COMPLETED);
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(compensationRepository, never()).save(any());
+        verify(seatReservationRepository, never()).confirmSeatConditionally(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("게이트웨이는 차감 트랜잭션 커밋 후 트랜잭션 밖에서 호출한다 (잔액 행 잠금 미점유)")
+    void gatewayIsCalledOutsideTransaction() {
+        // Given
+        when(balanceLedger.debit(USER_ID, AMOUNT, "잔액 차감")).thenReturn(OptionalLong.of(0L));
+        when(paymentGateway.processPayment(any())).thenAnswer(invocation -> {
+            assertThat(inTransaction).as("게이트웨이 호출 중 트랜잭션 점유").isFalse();
+            return invocation.<Payment>getArgument(0).complete("tx-5");
+        });
+        givenSeatConfirmed(true);
+
+        // When
+        Payment payment = paymentService.processPayment(command);
+
+        // Then
+        assertThat(payment.getStatus()).isEqualTo(Payment.PaymentStatus.COMPLETED);
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("게이트웨이 거절 시 환불하고 보상 기록 없이 결제를 실패 처리한다")
+    void declinedPaymentHasNoCompensation() {
+        // Given
+        when(balanceLedger.debit(USER_ID, AMOUNT, "잔액 차감")).thenReturn(OptionalLong.of(0L));
+        when(paymentGateway.processPayment(any())).thenAnswer(invocation ->
+                invocation.<Payment>getArgument(0).fail("결제 거절: 한도 초과"));
+
+        // When
+        Payment payment = paymentService.processPayment(command);
+
+        // Then
+        assertThat(payment.getStatus()).isEqualTo(Payment.PaymentStatus.FAILED);
+        verify(balanceLedger).credit(USER_ID, AMOUNT, "결제 취소 환불");
+        verify(compensationRepository, never()).save(any());
+        verifyNoInteractions(seatConfirmationBatcher);
+    }
+
+    @Test
+    @DisplayName("게이트웨이 승인 이후 좌석 확정이 거절되면 환불하고 승인 취소 보상 기록을 남긴다")
+    void recordsCompensationAfterGatewayApproval() {
+        // Given
+        when(balanceLedger.debit(USER_ID, AMOUNT, "잔액 차감")).thenReturn(OptionalLong.of(0L));
+        when(paymentGateway.processPayment(any())).thenAnswer(invocation ->
+                invocation.<Payment>getArgument(0).complete("tx-2"));
+        givenSeatConfirmed(false);
+
+        // When
+        Payment payment = paymentService.processPayment(command);
+
+        // Then
+        assertThat(payment.getStatus()).isEqualTo(Payment.PaymentStatus.FAILED);
+        ArgumentCaptor<PaymentCompensation> captor = ArgumentCaptor.forClass(PaymentCompensation.class);
+        verify(compensationRepository).save(captor.capture());
+        assertThat(captor.getValue().getType()).isEqualTo(PaymentCompensation.CompensationType.GATEWAY_CANCEL);
+        assertThat(captor.getValue().getTransactionId()).isEqualTo("tx-2");
+        verify(balanceLedger).credit(USER_ID, AMOUNT, "결제 취소 환불");
+    }
+
+    @Test
+    @DisplayName("분할 계정은 본 계좌 잔액이 없으면 같은 트랜잭션에서 분할 계좌로 차감한다")
+    void stripedAccountDeductsFromStripes() {
+        // Given
+        when(balanceLedger.debit(USER_ID, AMOUNT, "잔액 차감")).thenReturn(OptionalLong.empty());
+        when(stripedBalanceService.isStriped(USER_ID)).thenReturn(true);
+        when(paymentGateway.processPayment(any())).thenAnswer(invocation ->
+                invocation.<Payment>getArgument(0).complete("tx-3"));
+        givenSeatConfirmed(true);
+
+        // When
+        Payment payment = paymentService.processPayment(command);
+
+        // Then
+        assertThat(payment.getStatus()).isEqualTo(Payment.PaymentStatus.COMPLETED);
+        verify(stripedBalanceService).deductInCurrentTransaction(USER_ID, AMOUNT);
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 게이트웨이를 호출하지 않는다")
+    void insufficientBalanceSkipsGateway() {
+        // Given
+        when(balanceLedger.debit(USER_ID, AMOUNT, "잔액 차감")).thenReturn(OptionalLong.empty());
+
+        // When
+        Payment payment = paymentService.processPayment(command);
+
+        // Then
+        assertThat(payment.getStatus()).isEqualTo(Payment.PaymentStatus.FAILED);
+        assertThat(payment.getFailureReason()).contains("잔액이 부족합니다.");
+        verify(paymentGateway, never()).processPayment(any());
+    }
+
+    @Test
+    @DisplayName("멱등성 키가 있으면 저장소를 거쳐 처리하고 결제에 키를 남긴다")
+    void idempotencyKeyIsProcessedThroughStore() {
+        // Given
+        when(idempotencyStore.execute(eq(RESERVATION_ID + ":key-1"), eq(USER_ID), any())).thenAnswer(invocation ->
+                invocation.<Supplier<Payment>>getArgument(2).get());
+        when(paymentRepository.findByReservationIdAndIdempotencyKey(RESERVATION_ID, "key-1")).thenReturn(Optional.empty());
+        when(balanceLedger.debit(USER_ID, AMOUNT, "잔액 차감")).thenReturn(OptionalLong.of(0L));
+        when(paymentGateway.processPayment(any())).thenAnswer(invocation ->
+                invocation.<Payment>getArgument(0).complete("tx-4"));
+        givenSeatConfirmed(true);
+
+        // When
+        Payment payment = paymentService.processPayment(command, "key-1");
+
+        // Then
+        assertThat(payment.getStatus()).isEqualTo(Payment.PaymentStatus.COMPLETED);
+        assertThat(payment.getIdempotencyKey()).isEqualTo("key-1");
+    }
+
+    @Test
+    @DisplayName("같은 예약의 결제가 처리 중이면 잔액을 차감하지 않는다")
+    void pendingPaymentBlocksDuplicate() {
+        // Given
+        when(paymentRepository.existsByReservationIdAndStatus(RESERVATION_ID, Payment.PaymentStatus.PENDING))
+                .thenReturn(true);
+
+        // When
+        Payment payment = paymentService.processPayment(command);
+
+        // Then
+        assertThat(payment.getStatus()).isEqualTo(Payment.PaymentStatus.FAILED);
+        assertThat(payment.getFailureReason()).contains("이미 처리 중인 결제입니다.");
+        verifyNoInteractions(balanceLedger, paymentGateway, seatConfirmationBatcher);
+    }
+
+    private void givenSeatConfirmed(boolean confirmed) {
+        when(seatConfirmationBatcher.confirm(CONCERT_ID, 7, USER_ID)).thenReturn(CompletableFuture.completedFuture(confirmed));
+    }
+}
@@ -0,0 +1,163 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.application.service.StripedBalanceService;
+import kr.hhplus.be.server.domain.model.BalanceHistory;
+import kr.hhplus.be.server.domain.model.BalanceStripe;
+import kr.hhplus.be.server.domain.model.TransactionType;
+import kr.hhplus.be.server.domain.model.UserBalance;
+import kr.hhplus.be.server.domain.repository.UserBalanceRepository;
+import kr.hhplus.be.server.domain.repository.UserBalanceStripeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StripedBalanceServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final int STRIPE_COUNT = 4;
+
+    @Mock
+    private UserBalanceRepository userBalanceRepository;
+    @Mock
+    private UserBalanceStripeRepository stripeRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StripedBalanceService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new StripedBalanceService(userBalanceRepository, stripeRepository, transactionManager,
+                STRIPE_COUNT, List.of(), true);
+    }
+
+    @Test
+    @DisplayName("분할 시 본 계좌 잔액을 분할 계좌로 균등 이전한다")
+    void enableStripingSplitsMainBalance() {
+        // Given
+        when(userBalanceRepository.findByUserIdWithLock(USER_ID)).thenReturn(Optional.of(UserBalance.create(USER_ID, 10002L)));
+        when(stripeRepository.findByUserIdForUpdate(USER_ID)).thenReturn(List.of());
+        when(userBalanceRepository.deductBalanceConditionally(USER_ID, 10002L)).thenReturn(true);
+
+        // When
+        int stripeCount = service.enableStriping(USER_ID);
+
+        // Then
+        assertThat(stripeCount).isEqualTo(STRIPE_COUNT);
+        assertThat(service.isKnownStriped(USER_ID)).isTrue();
+        ArgumentCaptor<List<BalanceStripe>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stripeRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(BalanceStripe::getBalance)
+                .containsExactly(2501L, 2501L, 2500L, 2500L);
+    }
+
+    @Test
+    @DisplayName("잔액이 충분한 분할 계좌 하나에서 차감하면 재분배하지 않는다")
+    void deductFromSingleStripe() {
+        // Given
+        when(stripeRepository.countByUserId(USER_ID)).thenReturn(STRIPE_COUNT);
+        when(stripeRepository.deductConditionally(eq(USER_ID), anyInt(), eq(1000L))).thenReturn(true);
+        when(userBalanceRepository.findByUserId(USER_ID)).thenReturn(Optional.of(UserBalance.create(USER_ID, 0L)));
+        when(stripeRepository.sumBalance(USER_ID)).thenReturn(9000L);
+
+        // When
+        UserBalance result = service.deduct(USER_ID, 1000L);
+
+        // Then
+        assertThat(result.getBalance()).isEqualTo(9000L);
+        verify(stripeRepository, times(1)).deductConditionally(eq(USER_ID), anyInt(), eq(1000L));
+        verify(stripeRepository, never()).findByUserIdForUpdate(any());
+        verify(userBalanceRepository).saveHistory(argThat(history ->
+                history.getType() == TransactionType.DEDUCT && history.getBalanceBefore() == 10000L));
+    }
+
+    @Test
+    @DisplayName("모든 분할 계좌가 단독으로 부족하면 본 계좌까지 합쳐 재분배 후 차감한다")
+    void rebalanceWhenNoStripeHasEnough() {
+        // Given
+        when(stripeRepository.countByUserId(USER_ID)).thenReturn(STRIPE_COUNT);
+        when(stripeRepository.deductConditionally(eq(USER_ID), anyInt(), eq(3000L))).thenReturn(false);
+        when(userBalanceRepository.findByUserIdWithLock(USER_ID)).thenReturn(Optional.of(UserBalance.create(USER_ID, 1000L)));
+        when(stripeRepository.findByUserIdForUpdate(USER_ID)).thenReturn(stripes(2000L, 2000L, 2000L, 2000L));
+        when(userBalanceRepository.deductBalanceConditionally(USER_ID, 1000L)).thenReturn(true);
+
+        // When
+        UserBalance result = service.deduct(USER_ID, 3000L);
+
+        // Then
+        assertThat(result.getBalance()).isEqualTo(6000L);
+        verify(stripeRepository, times(STRIPE_COUNT)).deductConditionally(eq(USER_ID), anyInt(), eq(3000L));
+        ArgumentCaptor<List<BalanceStripe>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stripeRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(BalanceStripe::getBalance)
+                .containsExactly(1500L, 1500L, 1500L, 1500L);
+        ArgumentCaptor<BalanceHistory> history = ArgumentCaptor.forClass(BalanceHistory.class);
+        verify(userBalanceRepository).saveHistory(history.capture());
+        assertThat(history.getValue().getBalanceBefore()).isEqualTo(9000L);
+        assertThat(history.getValue().getBalanceAfter()).isEqualTo(6000L);
+    }
+
+    @Test
+    @DisplayName("합계가 부족하면 재분배 없이 예외가 발생한다")
+    void insufficientTotalBalance() {
+        // Given
+        when(stripeRepository.countByUserId(USER_ID)).thenReturn(STRIPE_COUNT);
+        when(stripeRepository.deductConditionally(eq(USER_ID), anyInt(), eq(5000L))).thenReturn(false);
+        when(userBalanceRepository.findByUserIdWithLock(USER_ID)).thenReturn(Optional.of(UserBalance.create(USER_ID, 0L)));
+        when(stripeRepository.findByUserIdForUpdate(USER_ID)).thenReturn(stripes(1000L, 1000L, 1000L, 1000L));
+
+        // When & Then
+        assertThatThrownBy(() -> service.deduct(USER_ID, 5000L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("잔액이 부족합니다. 현재 잔액: 4000, 차감 요청: 5000");
+        verify(stripeRepository, never()).saveAll(any());
+        verify(userBalanceRepository, never()).saveHistory(any());
+    }
+
+    @Test
+    @DisplayName("분할 계정이 아니면 차감할 수 없다")
+    void deductRequiresStripedAccount() {
+        // Given
+        when(stripeRepository.countByUserId(USER_ID)).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> service.deduct(USER_ID, 1000L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(service.isKnownStriped(USER_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("분할 계정 기능이 꺼져 있으면 설정된 계정도 기동 시 분할하지 않는다")
+    void configuredAccountsAreNotStripedWhenDisabled() {
+        // Given
+        StripedBalanceService disabled = new StripedBalanceService(userBalanceRepository, stripeRepository,
+                transactionManager, STRIPE_COUNT, List.of(USER_ID), false);
+
+        // When
+        disabled.enableConfiguredAccounts();
+
+        // Then
+        verifyNoInteractions(userBalanceRepository, stripeRepository, transactionManager);
+        assertThat(disabled.isKnownStriped(USER_ID)).isFalse();
+    }
+
+    private static List<BalanceStripe> stripes(long... balances) {
+        return IntStream.range(0, balances.length)
+                .mapToObj(i -> BalanceStripe.of(USER_ID, i, balances[i]))
+                .toList();
+    }
+}
@@ -0,0 +1,154 @@
+package kr.hhplus.be.server;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import kr.hhplus.be.server.infrastructure.persistence.id.TsidGenerator;
+import kr.hhplus.be.server.infrastructure.persistence.id.TsidId;
+import kr.hhplus.be.server.infrastructure.persistence.id.TsidIdentifierGenerator;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TsidGeneratorTest {
+
+    private static final long NOW = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+
+    @Test
+    @DisplayName("동시에 발급해도 중복 없이 스레드별로 단조 증가한다")
+    void concurrentIdsAreUniqueAndMonotonic() throws Exception {
+        TsidGenerator generator = new TsidGenerator(7, System::currentTimeMillis);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            results.add(executor.submit(() -> {
+                long previous = Long.MIN_VALUE;
+                for (int i = 0; i < 20_000; i++) {
+                    long id = generator.next();
+                    if (id <= previous) {
+                        return false;
+                    }
+                    previous = id;
+                    ids.add(id);
+                }
+                return true;
+            }));
+        }
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        executor.shutdown();
+
+        assertThat(ids).hasSize(8 * 20_000);
+        assertThat(ids).allMatch(id -> id > 0 && TsidGenerator.nodeIdOf(id) == 7);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 시퀀스가 소진되면 다음 밀리초로 넘어가 계속 발급한다")
+    void sequenceOverflowBorrowsNextMillisecond() {
+        TsidGenerator generator = new TsidGenerator(1, () -> NOW);
+
+        long last = 0;
+        for (int i = 0; i < 4096; i++) {
+            last = generator.next();
+        }
+        long overflowed = generator.next();
+
+        assertThat(TsidGenerator.timestampOf(last).toEpochMilli()).isEqualTo(NOW);
+        assertThat(TsidGenerator.timestampOf(overflowed).toEpochMilli()).isEqualTo(NOW + 1);
+        assertThat(overflowed).isGreaterThan(last);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 마지막 시각 기준으로 이어서 발급한다")
+    void clockRollbackStaysMonotonic() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TsidGenerator generator = new TsidGenerator(1, clock::get);
+
+        long before = generator.next();
+        clock.set(NOW - 5_000);
+        long after = generator.next();
+
+        assertThat(after).isGreaterThan(before);
+        assertThat(TsidGenerator.timestampOf(after).toEpochMilli()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("노드가 다르면 같은 시각에도 ID가 겹치지 않고, 노드 ID 범위를 검증한다")
+    void nodesDoNotCollide() {
+        long first = new TsidGenerator(1, () -> NOW).next();
+        long second = new TsidGenerator(2, () -> NOW).next();
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(TsidGenerator.nodeIdOf(second)).isEqualTo(2);
+        assertThatThrownBy(() -> new TsidGenerator(TsidGenerator.MAX_NODE_ID + 1, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("노드 ID 설정이 없으면 기본값 0을 쓰지 않고 기동을 중단한다")
+    void missingNodeIdFailsFast() {
+        assertThatThrownBy(() -> TsidGenerator.forConfiguredNode(null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("id.tsid.node-id");
+        assertThatThrownBy(() -> TsidGenerator.forConfiguredNode(" "))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> TsidGenerator.forConfiguredNode("node-a"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("정수");
+        assertThat(TsidGenerator.forConfiguredNode("3")).isSameAs(TsidGenerator.forNode(3));
+    }
+
+    @Test
+    @DisplayName("@TsidId 엔티티는 설정된 노드 ID로 INSERT 전에 ID를 받는다 (임베디드 H2)")
+    void hibernateAssignsTsidBeforeInsert() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.connection.url", "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1")
+                .applySetting("hibernate.connection.username", "sa")
+                .applySetting("hibernate.hbm2ddl.auto", "create-drop")
+                .applySetting(TsidIdentifierGenerator.NODE_ID_SETTING, "42")
+                .build();
+        try (SessionFactory sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(TsidSample.class)
+                .buildMetadata()
+                .buildSessionFactory()) {
+
+            List<Long> ids = sessionFactory.fromTransaction(session -> {
+                List<TsidSample> samples = List.of(new TsidSample(), new TsidSample(), new TsidSample());
+                samples.forEach(session::persist);
+                return samples.stream().map(sample -> sample.id).toList();
+            });
+
+            assertThat(ids).isSorted().doesNotHaveDuplicates();
+            assertThat(ids).allMatch(id -> TsidGenerator.nodeIdOf(id) == 42);
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+
+    @Entity
+    @Table(name = "tsid_samples")
+    static class TsidSample {
+        @Id
+        @TsidId
+        Long id;
+    }
+}
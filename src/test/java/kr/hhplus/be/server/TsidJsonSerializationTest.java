@@ -0,0 +1,63 @@
+package kr.hhplus.be.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kr.hhplus.be.server.domain.event.ReservationCompletedEvent;
+import kr.hhplus.be.server.domain.model.BalanceHistoryEntry;
+import kr.hhplus.be.server.domain.model.Payment;
+import kr.hhplus.be.server.domain.model.Reservation;
+import kr.hhplus.be.server.domain.model.TransactionType;
+import kr.hhplus.be.server.infrastructure.client.DataPlatformPayload;
+import kr.hhplus.be.server.interfaces.dto.BalanceHistoryResponse;
+import kr.hhplus.be.server.interfaces.web.ReservationController.PaymentResponse;
+import kr.hhplus.be.server.interfaces.web.ReservationController.ReservationResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TSID(2^53 초과) 응답 직렬화 테스트
+ */
+class TsidJsonSerializationTest {
+
+    private static final long TSID = (1L << 53) + 1;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("좌석/결제/잔액 이력 ID는 JSON 문자열로 내보낸다")
+    void tsidsAreWrittenAsStrings() throws Exception {
+        Reservation reservation = Reservation.create(1L, 2L, 3, 50_000L);
+        reservation.assignId(TSID);
+        Payment payment = Payment.create(TSID, 1L, 50_000L);
+        payment.assignId(TSID + 1);
+
+        JsonNode reservationJson = objectMapper.valueToTree(ReservationResponse.from(reservation));
+        JsonNode paymentJson = objectMapper.valueToTree(PaymentResponse.from(payment));
+        JsonNode historyJson = objectMapper.valueToTree(BalanceHistoryResponse.from(
+                new BalanceHistoryEntry(TSID, TransactionType.CHARGE, 1000L, 1000L, LocalDateTime.now())));
+
+        assertThat(reservationJson.get("id").isTextual()).isTrue();
+        assertThat(reservationJson.get("id").asText()).isEqualTo(String.valueOf(TSID));
+        assertThat(reservationJson.get("userId").isNumber()).isTrue();
+        assertThat(paymentJson.get("id").asText()).isEqualTo(String.valueOf(TSID + 1));
+        assertThat(paymentJson.get("reservationId").isTextual()).isTrue();
+        assertThat(historyJson.get("id").asText()).isEqualTo(String.valueOf(TSID));
+    }
+
+    @Test
+    @DisplayName("데이터 플랫폼 전송 payload는 예약 ID를 문자열로 보내고 다시 읽을 수 있다")
+    void dataPlatformPayloadRoundTrips() throws Exception {
+        DataPlatformPayload payload = DataPlatformPayload.from(
+                new ReservationCompletedEvent(TSID, 1L, 2L, 3, 50_000L, "Concert", "tx-1"));
+
+        String json = objectMapper.writeValueAsString(payload);
+
+        assertThat(json).contains("\"reservation_id\":\"" + TSID + "\"");
+        assertThat(objectMapper.readValue(json, DataPlatformPayload.class).reservationId()).isEqualTo(TSID);
+    }
+}
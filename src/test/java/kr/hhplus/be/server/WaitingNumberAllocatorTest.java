@@ -0,0 +1,127 @@
+package kr.hhplus.be.server;
+
+import kr.hhplus.be.server.infrastructure.persistence.QueueTokenJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.WaitingNumberAllocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WaitingNumberAllocatorTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private QueueTokenJpaRepository jpaRepository;
+
+    /** Redis hi 키 (null이면 키 없음) */
+    private Long redisHi;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(jpaRepository.findMaxPosition()).thenReturn(41);
+        lenient().when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> evaluate(invocation.getArgument(0), invocation.getArguments()));
+    }
+
+    /**
+     * Lua 스크립트와 같은 의미로 hi 키를 갱신 (스크립트는 원자적이므로 동기화)
+     */
+    private synchronized Long evaluate(RedisScript<?> script, Object[] arguments) {
+        // arguments: script, keys, blockSize[, DB 최댓값]
+        if (redisHi == null) {
+            if (!script.getScriptAsString().contains("'SET'")) {
+                return null;
+            }
+            redisHi = Long.parseLong((String) arguments[3]);
+        }
+        redisHi += Long.parseLong((String) arguments[2]);
+        return redisHi;
+    }
+
+    @Test
+    @DisplayName("DB 최댓값 이후부터 발급하고 구간 안에서는 Redis를 호출하지 않는다")
+    void allocatesFromLocalBlock() {
+        // Given
+        WaitingNumberAllocator allocator = new WaitingNumberAllocator(redisTemplate, jpaRepository, 10);
+
+        // When
+        long first = allocator.next();
+        for (int i = 0; i < 9; i++) {
+            allocator.next();
+        }
+        long eleventh = allocator.next();
+
+        // Then
+        assertThat(first).isEqualTo(42L);
+        assertThat(eleventh).isEqualTo(52L);
+        verify(jpaRepository, times(1)).findMaxPosition();
+    }
+
+    @Test
+    @DisplayName("hi 키가 유실되면 다음 구간 예약 때 DB 최댓값으로 다시 시드한다")
+    void reseedsWhenHiKeyIsLost() {
+        // Given
+        WaitingNumberAllocator allocator = new WaitingNumberAllocator(redisTemplate, jpaRepository, 10);
+        for (int i = 0; i < 10; i++) {
+            allocator.next();
+        }
+        redisHi = null;
+        when(jpaRepository.findMaxPosition()).thenReturn(500);
+
+        // When
+        long afterLoss = allocator.next();
+
+        // Then
+        assertThat(afterLoss).isEqualTo(501L);
+        verify(jpaRepository, times(2)).findMaxPosition();
+    }
+
+    @Test
+    @DisplayName("여러 노드가 동시에 발급해도 대기 번호가 중복되지 않는다")
+    void allocatesUniqueNumbersAcrossNodes() throws InterruptedException {
+        // Given
+        WaitingNumberAllocator nodeA = new WaitingNumberAllocator(redisTemplate, jpaRepository, 7);
+        WaitingNumberAllocator nodeB = new WaitingNumberAllocator(redisTemplate, jpaRepository, 7);
+        int requests = 1000;
+        Set<Long> issued = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(requests);
+
+        // When
+        for (int i = 0; i < requests; i++) {
+            WaitingNumberAllocator node = i % 2 == 0 ? nodeA : nodeB;
+            executor.submit(() -> {
+                try {
+                    issued.add(node.next());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertThat(issued).hasSize(requests);
+        assertThat(issued).allMatch(number -> number > 41L);
+    }
+}
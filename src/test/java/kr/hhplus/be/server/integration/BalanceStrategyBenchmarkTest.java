@@ -0,0 +1,126 @@
+package kr.hhplus.be.server.integration;
+
+import kr.hhplus.be.server.application.service.BalanceStrategy;
+import kr.hhplus.be.server.application.service.ConditionalUpdateBalanceStrategy;
+import kr.hhplus.be.server.application.service.DistributedLockBalanceStrategy;
+import kr.hhplus.be.server.config.RedisTestContainerConfig;
+import kr.hhplus.be.server.config.TestEventConfig;
+import kr.hhplus.be.server.domain.model.TransactionType;
+import kr.hhplus.be.server.domain.repository.UserBalanceRepository;
+import kr.hhplus.be.server.infrastructure.persistence.BalanceHistoryJpaRepository;
+import kr.hhplus.be.server.infrastructure.persistence.UserBalanceJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 잔액 전략 벤치마크: 한 사용자에 대한 100건 동시 차감
+ *
+ * 분산락 전략과 조건부 UPDATE 전략의 처리 시간/성공 수를 비교한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({RedisTestContainerConfig.class, TestEventConfig.class})
+public class BalanceStrategyBenchmarkTest {
+
+    private static final Long USER_ID = 9001L;
+    private static final int DEDUCTION_COUNT = 100;
+    private static final long DEDUCT_AMOUNT = 100L;
+
+    @Autowired
+    private DistributedLockBalanceStrategy lockStrategy;
+    @Autowired
+    private ConditionalUpdateBalanceStrategy conditionalUpdateStrategy;
+    @Autowired
+    private UserBalanceRepository userBalanceRepository;
+    @Autowired
+    private UserBalanceJpaRepository userBalanceJpaRepository;
+    @Autowired
+    private BalanceHistoryJpaRepository balanceHistoryJpaRepository;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        userBalanceRepository.createInitialBalanceIfNotExists(USER_ID, DEDUCTION_COUNT * DEDUCT_AMOUNT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 전략: 100건 동시 차감이 락 없이 모두 성공하고 히스토리가 남는다")
+    void conditionalUpdateStrategy() throws InterruptedException {
+        BenchmarkResult result = run("conditional-update", conditionalUpdateStrategy);
+
+        assertThat(result.success()).isEqualTo(DEDUCTION_COUNT);
+        assertThat(userBalanceRepository.findByUserId(USER_ID).orElseThrow().getBalance()).isZero();
+        assertThat(userBalanceRepository.findHistoriesByUserIdAndType(USER_ID, TransactionType.DEDUCT))
+                .hasSize(DEDUCTION_COUNT);
+    }
+
+    @Test
+    @DisplayName("분산락 전략: 100건 동시 차감 (락 대기 시간 초과 시 실패 가능)")
+    void distributedLockStrategy() throws InterruptedException {
+        BenchmarkResult result = run("lock", lockStrategy);
+
+        long expectedBalance = (DEDUCTION_COUNT - result.success()) * DEDUCT_AMOUNT;
+        assertThat(userBalanceRepository.findByUserId(USER_ID).orElseThrow().getBalance())
+                .isEqualTo(expectedBalance);
+    }
+
+    private BenchmarkResult run(String name, BalanceStrategy strategy) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(DEDUCTION_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(DEDUCTION_COUNT);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger failure = new AtomicInteger();
+
+        for (int i = 0; i < DEDUCTION_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    strategy.deduct(USER_ID, DEDUCT_AMOUNT);
+                    success.incrementAndGet();
+                } catch (Exception e) {
+                    failure.incrementAndGet();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        startLatch.countDown();
+        boolean finished = doneLatch.await(60, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executor.shutdown();
+
+        assertThat(finished).isTrue();
+        System.out.printf("[%s] 동시 차감 %d건 - 성공: %d, 실패: %d, 소요: %dms%n",
+                name, DEDUCTION_COUNT, success.get(), failure.get(), elapsedMillis);
+        return new BenchmarkResult(success.get(), failure.get(), elapsedMillis);
+    }
+
+    private void cleanUp() {
+        balanceHistoryJpaRepository.deleteAllInBatch();
+        userBalanceJpaRepository.deleteAllInBatch();
+    }
+
+    private record BenchmarkResult(int success, int failure, long elapsedMillis) {
+    }
+}
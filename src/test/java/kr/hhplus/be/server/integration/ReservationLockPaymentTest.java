@@ -1,6 +1,6 @@
 package kr.hhplus.be.server.integration;
 
-import kr.hhplus.be.server.application.ProcessPaymentService;
+import kr.hhplus.be.server.application.SingleConnectionPaymentService;
 import kr.hhplus.be.server.application.service.ConcurrencyUserBalanceService;
 import kr.hhplus.be.server.config.RedisTestContainerConfig;
 import kr.hhplus.be.server.config.TestEventConfig;
@@ -24,16 +24,16 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static org.assertj.core.api.Assertions.*;
 
 /**
- * Redis 분산락을 적용한 결제 처리 동시성 테스트
+ * 결제 처리 동시성 테스트 (예약 행 잠금 + Redis 멱등성 키)
  */
 @SpringBootTest
 @ActiveProfiles("test")
 @Import({RedisTestContainerConfig.class, TestPaymentConfig.class, TestEventConfig.class})
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
-public class DistributedLockPaymentTest {
+public class ReservationLockPaymentTest {
 
     @Autowired
-    private ProcessPaymentService processPaymentService;
+    private SingleConnectionPaymentService processPaymentService;
     @Autowired
     private ConcurrencyUserBalanceService userBalanceService;
     @Autowired
@@ -121,7 +121,7 @@ public class DistributedLockPaymentTest {
 
     @Test
     @Order(1)
-    @DisplayName("분산락 결제 처리: 동일 예약에 10명 동시 결제 시도, 1명만 성공")
+    @DisplayName("예약 락 결제 처리: 동일 예약에 10명 동시 결제 시도, 1명만 성공")
     void shouldAllowOnlyOnePaymentWithDistributedLock() throws InterruptedException {
         // Given: 동일 사용자, 동일 예약
         Long reservationId = this.reservationId;
@@ -162,7 +162,7 @@ public class DistributedLockPaymentTest {
                 .count();
 
         assertThat(successCount)
-                .as("분산락으로 인해 정확히 1건의 결제만 성공해야 함")
+                .as("예약 행 잠금으로 인해 정확히 1건의 결제만 성공해야 함")
                 .isEqualTo(1);
 
         // 최종 잔액 확인: 100,000 - 50,000 = 50,000
@@ -174,7 +174,7 @@ public class DistributedLockPaymentTest {
 
     @Test
     @Order(2)
-    @DisplayName("분산락 멱등성 키 결제: 동일 멱등성 키로 중복 결제 방지")
+    @DisplayName("예약 락 멱등성 키 결제: 동일 멱등성 키로 중복 결제 방지")
     void shouldPreventDuplicatePaymentsWithIdempotencyKey() throws InterruptedException {
         // Given
         String idempotencyKey = "test-idempotency-key-12345";
@@ -199,7 +199,7 @@ public class DistributedLockPaymentTest {
                             reservationId, testUserId, paymentAmount);
 
                     // 멱등성 키를 사용한 결제 처리
-                    Payment payment = processPaymentService.processPaymentIdempotent(
+                    Payment payment = processPaymentService.processPayment(
                             command, idempotencyKey);
 
                     if (payment != null && payment.getId() != null) {
@@ -232,7 +232,7 @@ public class DistributedLockPaymentTest {
         // Then: 결과 검증
         assertThat(finished).isTrue();
 
-        System.out.println("\n=== Redis 분산락 멱등성 키 결제 테스트 결과 ===");
+        System.out.println("\n=== Redis 멱등성 키 결제 테스트 결과 ===");
         System.out.println("완료된 결제 응답: " + completedCount.get() + "건");
         System.out.println("고유 결제 ID 개수: " + paymentIdMap.size());
         paymentIdMap.forEach((id, count) ->
@@ -273,7 +273,7 @@ public class DistributedLockPaymentTest {
 
     @Test
     @Order(3)
-    @DisplayName("분산락 결제: 잔액 부족 시 모두 실패")
+    @DisplayName("예약 락 결제: 잔액 부족 시 모두 실패")
     void shouldFailAllPaymentsWhenInsufficientBalance() throws InterruptedException {
         // Given: 잔액 10,000원, 예약 5개 (각 50,000원)
         Long userId = testUserId;
@@ -351,7 +351,7 @@ public class DistributedLockPaymentTest {
 
     @Test
     @Order(4)
-    @DisplayName("분산락 결제: 락 획득 순서에 따라 순차적으로 실패")
+    @DisplayName("예약 락 결제: 락 획득 순서에 따라 순차적으로 실패")
     void shouldProcessPaymentsSequentiallyWithLock() throws InterruptedException {
         // Given
         int threadCount = 3;
@@ -410,6 +410,6 @@ public class DistributedLockPaymentTest {
         System.out.println("\n=== 순차 처리 테스트 결과 ===");
         System.out.println("실행 순서:");
         executionOrder.forEach(System.out::println);
-        System.out.println("\n✅ 분산락이 정상적으로 순차 처리를 보장합니다!");
+        System.out.println("\n✅ 예약 행 잠금이 정상적으로 순차 처리를 보장합니다!");
     }
 }
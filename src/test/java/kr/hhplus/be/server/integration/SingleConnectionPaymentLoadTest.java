@@ -0,0 +1,184 @@
+package kr.hhplus.be.server.integration;
+
+import kr.hhplus.be.server.application.SingleConnectionPaymentService;
+import kr.hhplus.be.server.config.RedisTestContainerConfig;
+import kr.hhplus.be.server.config.TestEventConfig;
+import kr.hhplus.be.server.config.TestPaymentConfig;
+import kr.hhplus.be.server.domain.model.*;
+import kr.hhplus.be.server.domain.port.in.ProcessPaymentUseCase.ProcessPaymentCommand;
+import kr.hhplus.be.server.domain.repository.*;
+import kr.hhplus.be.server.infrastructure.persistence.*;
+import kr.hhplus.be.server.integration.helper.ConnectionCountingDataSource;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 단일 커넥션 결제 부하 테스트
+ *
+ * 결제 1건이 동시에 점유하는 커넥션 수와 대여 횟수를 확인한다.
+ */
+@SpringBootTest(properties = "seat.confirmation.batch.enabled=false")
+@ActiveProfiles("test")
+@Import({RedisTestContainerConfig.class, TestPaymentConfig.class, TestEventConfig.class,
+        SingleConnectionPaymentLoadTest.CountingDataSourceConfig.class})
+public class SingleConnectionPaymentLoadTest {
+
+    private static final int PAYMENT_COUNT = 40;
+    private static final int THREAD_COUNT = 8;
+    private static final long PRICE = 50000L;
+
+    @Autowired
+    private SingleConnectionPaymentService singleConnectionPaymentService;
+    @Autowired
+    private ConnectionCountingDataSource dataSource;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+    @Autowired
+    private SeatReservationRepository seatReservationRepository;
+    @Autowired
+    private UserBalanceRepository userBalanceRepository;
+    @Autowired
+    private PaymentCompensationRepository compensationRepository;
+
+    @Autowired
+    private PaymentJpaRepository paymentJpaRepository;
+    @Autowired
+    private SeatReservationJpaRepository seatReservationJpaRepository;
+    @Autowired
+    private UserBalanceJpaRepository userBalanceJpaRepository;
+    @Autowired
+    private ConcertJpaRepository concertJpaRepository;
+
+    private Long concertId;
+    private List<Long> reservationIds;
+
+    @TestConfiguration
+    static class CountingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionCountingDataSource)) {
+                        return new ConnectionCountingDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        Concert concert = Concert.create("Load Test Concert", "Artist", "Venue", PAYMENT_COUNT, PRICE);
+        concert.openBooking();
+        concertId = concertRepository.save(concert).getId();
+
+        LocalDateTime now = LocalDateTime.now();
+        reservationIds = new ArrayList<>();
+        for (int i = 1; i <= PAYMENT_COUNT; i++) {
+            long userId = i;
+            userBalanceRepository.save(UserBalance.create(userId, PRICE));
+            SeatReservation reservation = SeatReservation.createWithTimes(
+                    concertId, i, userId, PRICE, now, now.plusMinutes(10));
+            reservationIds.add(seatReservationRepository.save(reservation).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("단일 커넥션 모드: 결제 1건은 커넥션을 동시에 1개만 점유한다")
+    void singleConnectionPerPayment() {
+        long checkoutsBefore = dataSource.getCheckouts();
+
+        for (int i = 0; i < 10; i++) {
+            dataSource.resetPeak();
+
+            Payment payment = singleConnectionPaymentService.processPayment(command(i));
+
+            assertThat(payment.getStatus()).isEqualTo(Payment.PaymentStatus.COMPLETED);
+            assertThat(dataSource.getPeakInUse())
+                    .as("결제 1건의 동시 커넥션 점유 수")
+                    .isEqualTo(1);
+        }
+
+        double checkoutsPerPayment = (dataSource.getCheckouts() - checkoutsBefore) / 10.0;
+        System.out.printf("[단일 커넥션] 결제당 커넥션 대여: %.1f회, 최대 동시 점유: 1개%n", checkoutsPerPayment);
+    }
+
+    @Test
+    @DisplayName("단일 커넥션 모드 동시 결제: 동시 점유 커넥션은 결제 동시성을 넘지 않는다")
+    void concurrentPaymentsStayWithinOneConnectionEach() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Payment>> futures = new ArrayList<>();
+        dataSource.resetPeak();
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < PAYMENT_COUNT; i++) {
+            ProcessPaymentCommand command = command(i);
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                return singleConnectionPaymentService.processPayment(command);
+            }));
+        }
+        startLatch.countDown();
+
+        long completed = futures.stream()
+                .map(this::await)
+                .filter(payment -> payment.getStatus() == Payment.PaymentStatus.COMPLETED)
+                .count();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executor.shutdown();
+
+        System.out.printf("[단일 커넥션 부하] 결제 %d건 / %d스레드, 소요: %dms, 최대 동시 점유: %d개%n",
+                PAYMENT_COUNT, THREAD_COUNT, elapsedMillis, dataSource.getPeakInUse());
+
+        assertThat(completed).isEqualTo(PAYMENT_COUNT);
+        assertThat(dataSource.getPeakInUse()).isLessThanOrEqualTo(THREAD_COUNT);
+        assertThat(concertRepository.findById(concertId).orElseThrow().getAvailableSeats()).isZero();
+        assertThat(compensationRepository.findAll()).isEmpty();
+    }
+
+    private ProcessPaymentCommand command(int index) {
+        return new ProcessPaymentCommand(reservationIds.get(index), (long) index + 1, PRICE);
+    }
+
+    private Payment await(Future<Payment> future) {
+        try {
+            return future.get(30, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void cleanUp() {
+        compensationRepository.deleteAllInBatch();
+        paymentJpaRepository.deleteAllInBatch();
+        seatReservationJpaRepository.deleteAllInBatch();
+        userBalanceJpaRepository.deleteAllInBatch();
+        concertJpaRepository.deleteAllInBatch();
+    }
+}
@@ -0,0 +1,73 @@
+package kr.hhplus.be.server.integration.helper;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커넥션 사용량 측정용 DataSource (부하 테스트용)
+ *
+ * 커넥션 대여 횟수와 동시에 점유 중인 커넥션의 최댓값을 기록한다.
+ */
+public class ConnectionCountingDataSource extends DelegatingDataSource {
+
+    private final AtomicLong checkouts = new AtomicLong();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger peakInUse = new AtomicInteger();
+
+    public ConnectionCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    public long getCheckouts() {
+        return checkouts.get();
+    }
+
+    public int getPeakInUse() {
+        return peakInUse.get();
+    }
+
+    /**
+     * 측정 구간 시작 (최댓값을 현재 점유 수로 초기화)
+     */
+    public void resetPeak() {
+        peakInUse.set(inUse.get());
+    }
+
+    private Connection track(Connection connection) {
+        checkouts.incrementAndGet();
+        peakInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                        inUse.decrementAndGet();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}